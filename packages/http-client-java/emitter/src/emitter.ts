@@ -11,7 +11,7 @@ import { dump } from "js-yaml";
 import { dirname } from "path";
 import { fileURLToPath } from "url";
 import { CodeModelBuilder } from "./code-model-builder.js";
-import { logError } from "./utils.js";
+import { logError, stringifyWithReferences } from "./utils.js";
 
 export interface EmitterOptions {
   namespace?: string;
@@ -55,6 +55,7 @@ export interface DevOptions {
   debug?: boolean;
   loglevel?: "off" | "debug" | "info" | "warn" | "error";
   "java-temp-dir"?: string; // working directory for java codegen, e.g. transformed code-model file
+  "code-model-format"?: "yaml" | "json"; // format of the code-model file, JSON loads faster in java codegen
 }
 
 const EmitterOptionsSchema: JSONSchemaType<EmitterOptions> = {
@@ -132,7 +133,11 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
 
     (options as any)["arm"] = codeModel.arm;
 
-    const codeModelFileName = resolvePath(outputPath, "./code-model.yaml");
+    const jsonCodeModel = options["dev-options"]?.["code-model-format"] === "json";
+    const codeModelFileName = resolvePath(
+      outputPath,
+      jsonCodeModel ? "./code-model.json" : "./code-model.yaml",
+    );
 
     await promises.mkdir(outputPath, { recursive: true }).catch((err) => {
       if (err.code !== "EISDIR" && err.code !== "EEXIST") {
@@ -141,7 +146,10 @@ export async function $onEmit(context: EmitContext<EmitterOptions>) {
       }
     });
 
-    await program.host.writeFile(codeModelFileName, dump(codeModel));
+    await program.host.writeFile(
+      codeModelFileName,
+      jsonCodeModel ? stringifyWithReferences(codeModel) : dump(codeModel),
+    );
 
     program.trace("http-client-java", `Code model file written to ${codeModelFileName}`);
 
@@ -63,3 +63,54 @@ export function removeClientSuffix(clientName: string): string {
   const clientSuffix = "Client";
   return clientName.endsWith(clientSuffix) ? clientName.slice(0, -clientSuffix.length) : clientName;
 }
+
+/**
+ * Serializes the value to JSON, the same as the anchors and aliases of YAML for an object referenced more than once:
+ * the object is written with a leading "$id" field where it first occurs, and as {"$ref": "<id>"} where it recurs.
+ *
+ * @param value the value to serialize, e.g. the code model
+ * @returns the JSON
+ */
+export function stringifyWithReferences(value: any): string {
+  const referenceCounts = new Map<object, number>();
+  const countReferences = (node: any) => {
+    if (node === null || typeof node !== "object") {
+      return;
+    }
+    const count = referenceCounts.get(node) ?? 0;
+    referenceCounts.set(node, count + 1);
+    if (count === 0) {
+      for (const child of Array.isArray(node) ? node : Object.values(node)) {
+        countReferences(child);
+      }
+    }
+  };
+  countReferences(value);
+
+  const ids = new Map<object, string>();
+  const toJsonValue = (node: any): any => {
+    if (node === null || typeof node !== "object") {
+      return node;
+    }
+    if (Array.isArray(node)) {
+      return node.map(toJsonValue);
+    }
+    const id = ids.get(node);
+    if (id) {
+      return { $ref: id };
+    }
+    const result: any = {};
+    if ((referenceCounts.get(node) ?? 0) > 1) {
+      const newId = `ref_${ids.size}`;
+      ids.set(node, newId);
+      result.$id = newId;
+    }
+    for (const [key, child] of Object.entries(node)) {
+      if (child !== undefined && typeof child !== "function") {
+        result[key] = toJsonValue(child);
+      }
+    }
+    return result;
+  };
+  return JSON.stringify(toJsonValue(value));
+}
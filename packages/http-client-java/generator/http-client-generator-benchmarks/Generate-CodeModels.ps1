@@ -0,0 +1,57 @@
+# Use case:
+#
+# The purpose of this script is to generate the code models that the benchmarks run on, from the tsp specs of
+# http-client-generator-test and from the synthetic spec.
+#
+# Run "mvn package -Dbenchmark" (from packages/http-client-java/generator directory) and
+# http-client-generator-test/Setup.ps1 first.
+#
+param (
+  [int] $SyntheticModelCount = 5000
+)
+
+$ErrorActionPreference = "Stop"
+
+$testDirectory = Resolve-Path (Join-Path $PSScriptRoot '..' 'http-client-generator-test')
+$codeModelDirectory = Join-Path $PSScriptRoot 'target' 'code-models'
+$benchmarksJar = Join-Path $PSScriptRoot 'target' 'benchmarks.jar'
+
+New-Item -Path $codeModelDirectory -ItemType Directory -Force | Out-Null
+
+Push-Location $testDirectory
+try {
+  $benchmarkDirectory = "./tsp-output/benchmark"
+  New-Item -Path $benchmarkDirectory -ItemType Directory -Force | Out-Null
+
+  # keep the code model, which the emitter deletes after generating the code
+  $tspConfig = "$benchmarkDirectory/tspconfig.yaml"
+  Set-Content -Path $tspConfig -Value @"
+options:
+  "@typespec/http-client-java":
+    dev-options:
+      generate-code-model: true
+"@
+
+  # the synthetic spec is written under http-client-generator-test, so that it resolves the TypeSpec libraries there
+  $syntheticSpec = "$benchmarkDirectory/synthetic.tsp"
+  java -cp $benchmarksJar com.microsoft.typespec.http.client.generator.benchmarks.SyntheticSpec $syntheticSpec $SyntheticModelCount
+  if ($LASTEXITCODE -ne 0) {
+    exit $LASTEXITCODE
+  }
+
+  $tspFiles = @(Get-ChildItem ./tsp -Filter "*.tsp") + @(Get-Item $syntheticSpec)
+  foreach ($tspFile in $tspFiles) {
+    $name = $tspFile.BaseName
+    $outputDirectory = "$benchmarkDirectory/$name"
+
+    npx --no-install tsp compile $tspFile.FullName --config $tspConfig --option "@typespec/http-client-java.emitter-output-dir={project-root}/tsp-output/benchmark/$name"
+    if ($LASTEXITCODE -ne 0) {
+      exit $LASTEXITCODE
+    }
+
+    Copy-Item -Path "$outputDirectory/code-model.yaml" -Destination (Join-Path $codeModelDirectory "$name.yaml") -Force
+    Write-Host "Code model of $name written to $codeModelDirectory"
+  }
+} finally {
+  Pop-Location
+}
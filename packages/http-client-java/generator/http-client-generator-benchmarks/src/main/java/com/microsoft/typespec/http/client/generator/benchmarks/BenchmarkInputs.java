@@ -0,0 +1,179 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.ReadValueCallback;
+import com.microsoft.typespec.http.client.generator.Main;
+import com.microsoft.typespec.http.client.generator.TypeSpecPlugin;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
+import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import com.microsoft.typespec.http.client.generator.util.CodeModelJsonConverter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Inputs of the benchmarks, which are the code models of the tsp specs of http-client-generator-test, and of the
+ * synthetic spec written by {@link SyntheticSpec}.
+ * <p>
+ * The code models are read from the directory configured by {@code codegen.java.benchmark.code.models}, which
+ * defaults to {@code target/code-models}. The code model of a spec is {@code <spec>.yaml}, and its JSON form
+ * {@code <spec>.json} is converted from it on first use. The code models are generated by
+ * {@code Generate-CodeModels.ps1}.
+ * <p>
+ * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+ */
+public final class BenchmarkInputs {
+    private static final String CODE_MODELS_DIRECTORY = "codegen.java.benchmark.code.models";
+    private static final String DEFAULT_CODE_MODELS_DIRECTORY = "target/code-models";
+
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * Gets the code model file of the spec.
+     *
+     * @param spec the name of the spec
+     * @param format the format of the code model, "yaml" or "json"
+     * @return the code model file
+     */
+    public static Path getCodeModelFile(String spec, String format) {
+        String directory = getConfiguration(CODE_MODELS_DIRECTORY);
+        Path directoryPath
+            = Paths.get((directory == null || directory.isEmpty()) ? DEFAULT_CODE_MODELS_DIRECTORY : directory);
+        Path yamlFile = directoryPath.resolve(spec + ".yaml");
+        if (!Files.exists(yamlFile)) {
+            throw new IllegalStateException(
+                "Code model " + yamlFile.toAbsolutePath() + " not found. Run Generate-CodeModels.ps1 first.");
+        }
+        if ("yaml".equals(format)) {
+            return yamlFile;
+        }
+
+        Path jsonFile = directoryPath.resolve(spec + ".json");
+        if (!Files.exists(jsonFile)) {
+            try (Reader reader = Files.newBufferedReader(yamlFile);
+                OutputStream outputStream = Files.newOutputStream(jsonFile)) {
+                CodeModelJsonConverter.convert(reader, outputStream);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return jsonFile;
+    }
+
+    private static String getConfiguration(String name) {
+        String value = System.getProperty(name);
+        return value == null ? System.getenv(name) : value;
+    }
+
+    /**
+     * Loads the YAML code model of the spec.
+     *
+     * @param spec the name of the spec
+     * @return the code model
+     */
+    public static CodeModel loadCodeModel(String spec) {
+        try {
+            return Main.loadCodeModel(getCodeModelFile(spec, "yaml").toString());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Initializes the settings of the generator for the code model, as the emitter would.
+     * <p>
+     * {@link JavaSettings} is a singleton, hence the benchmarks run each spec in its own fork.
+     *
+     * @param codeModel the code model
+     * @return the plugin
+     */
+    public static TypeSpecPlugin initialize(CodeModel codeModel) {
+        return initialize(codeModel, Collections.emptyMap());
+    }
+
+    /**
+     * Initializes the settings of the generator for the code model, as the emitter would, with the settings
+     * overridden.
+     *
+     * @param codeModel the code model
+     * @param settings the settings overriding those of the emitter, e.g. {@code stream-style-field-switch}
+     * @return the plugin
+     */
+    public static TypeSpecPlugin initialize(CodeModel codeModel, Map<String, Object> settings) {
+        String namespace = codeModel.getLanguage().getJava() == null
+            ? null
+            : codeModel.getLanguage().getJava().getNamespace();
+        String options = "{\"namespace\":\"" + namespace + "\",\"output-dir\":\"" + getOutputDirectory()
+            + "\",\"flavor\":\"azure\"}";
+        try (JsonReader jsonReader = JsonProviders.createReader(options)) {
+            TypeSpecPlugin plugin = new SettingsPlugin(EmitterOptions.fromJson(jsonReader), settings);
+            // the constructor loads the settings before the overridden settings are set
+            JavaSettings.clear();
+            return plugin;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String getOutputDirectory() {
+        try {
+            return Files.createTempDirectory("benchmark-output").toAbsolutePath().toString().replace('\\', '/') + "/";
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Transforms the code model, as {@link TypeSpecPlugin#processClient(CodeModel)} does.
+     *
+     * @param codeModel the code model
+     * @return the transformed code model
+     */
+    public static CodeModel transform(CodeModel codeModel) {
+        return new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+    }
+
+    /**
+     * Maps the transformed code model to the client model, as {@link TypeSpecPlugin#processClient(CodeModel)} does.
+     *
+     * @param codeModel the transformed code model
+     * @return the client model
+     */
+    public static Client map(CodeModel codeModel) {
+        return Mappers.getClientMapper().map(codeModel);
+    }
+
+    private static final class SettingsPlugin extends TypeSpecPlugin {
+        private final Map<String, Object> settings;
+
+        private SettingsPlugin(EmitterOptions options, Map<String, Object> settings) {
+            super(options, true);
+            this.settings = settings;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
+            if (settings != null && settings.containsKey(key)) {
+                return (T) settings.get(key);
+            }
+            return super.getValue(key, converter);
+        }
+    }
+}
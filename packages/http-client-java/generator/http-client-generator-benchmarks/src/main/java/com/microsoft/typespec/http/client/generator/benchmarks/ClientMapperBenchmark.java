@@ -0,0 +1,52 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code ClientMapper.map}.
+ * <p>
+ * The mappers cache their results by code model object, hence each invocation maps a freshly loaded and transformed
+ * code model, and the single shot mode bounds the number of code models kept by the caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ClientMapperBenchmark {
+    private String spec;
+    private CodeModel codeModel;
+
+    @Setup(Level.Trial)
+    public void setupTrial(SpecState specState) {
+        spec = specState.spec;
+        BenchmarkInputs.initialize(BenchmarkInputs.loadCodeModel(spec));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        codeModel = BenchmarkInputs.transform(BenchmarkInputs.loadCodeModel(spec));
+    }
+
+    @Benchmark
+    public Client map() {
+        return BenchmarkInputs.map(codeModel);
+    }
+}
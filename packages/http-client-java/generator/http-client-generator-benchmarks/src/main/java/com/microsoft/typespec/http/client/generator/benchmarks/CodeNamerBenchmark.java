@@ -0,0 +1,88 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ChoiceSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ChoiceValue;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@code CodeNamer} name transforms, on the model, property and enum value names of the spec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CodeNamerBenchmark {
+    private List<String> names;
+    private List<String> enumValues;
+
+    @Setup
+    public void setup(SpecState specState) {
+        CodeModel codeModel = BenchmarkInputs.loadCodeModel(specState.spec);
+        BenchmarkInputs.initialize(codeModel);
+
+        names = new ArrayList<>();
+        for (ObjectSchema objectSchema : codeModel.getSchemas().getObjects()) {
+            names.add(objectSchema.getLanguage().getDefault().getName());
+            for (Property property : objectSchema.getProperties()) {
+                names.add(property.getSerializedName());
+            }
+        }
+        enumValues = new ArrayList<>();
+        Stream.concat(codeModel.getSchemas().getChoices().stream(), codeModel.getSchemas().getSealedChoices().stream())
+            .map(ChoiceSchema::getChoices)
+            .flatMap(List::stream)
+            .map(ChoiceValue::getValue)
+            .forEach(enumValues::add);
+    }
+
+    @Benchmark
+    public void toPascalCase(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(CodeNamer.toPascalCase(name));
+        }
+    }
+
+    @Benchmark
+    public void toCamelCase(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(CodeNamer.toCamelCase(name));
+        }
+    }
+
+    @Benchmark
+    public void getPropertyName(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(CodeNamer.getPropertyName(name));
+        }
+    }
+
+    @Benchmark
+    public void getEnumMemberName(Blackhole blackhole) {
+        for (String value : enumValues) {
+            blackhole.consume(CodeNamer.getEnumMemberName(value));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the two ways stream-style {@code fromJson} of a polymorphic super type finds the type to deserialize:
+ * buffering the JSON object to search for the discriminator, and the dispatch on the discriminator as the first field
+ * written with the {@code stream-style-discriminator-first} option, which buffers the rest of the fields when the
+ * discriminator isn't the first field.
+ * <p>
+ * The reader is the {@code fromJson} of {@code Fish}, discriminated by {@code kind}, with the subtypes {@code Salmon}
+ * and {@code Shark}, itself discriminated by {@code sharktype}. It is generated from the code model of the
+ * nested-enum-discriminator spec with the option off and on by {@link GeneratedModels}. The payload is a
+ * {@code Salmon}, with nested fishes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DiscriminatorFirstBenchmark {
+    private static final String DISCRIMINATOR = "\"kind\":\"salmon\"";
+    private static final String[] FIELDS = {
+        "\"age\":3",
+        "\"friends\":[{\"kind\":\"salmon\",\"age\":2},{\"kind\":\"shark\",\"sharktype\":\"saw\",\"age\":9}]",
+        "\"hate\":{\"shark\":{\"age\":6,\"sharktype\":\"goblin\",\"kind\":\"shark\"}}",
+        "\"partner\":{\"age\":1,\"kind\":\"salmon\"}" };
+
+    /**
+     * The position of the discriminator in the JSON payload. FIRST is the best case of the discriminator-first
+     * dispatch, LAST is the worst case of both readers. The generated toJson of Salmon writes the discriminator after
+     * the inherited age.
+     */
+    @Param({ "FIRST", "LAST" })
+    public String order;
+
+    /**
+     * Whether the reader is generated with the {@code stream-style-discriminator-first} option.
+     */
+    @Param({ "false", "true" })
+    public boolean discriminatorFirst;
+
+    private byte[] json;
+    private MethodHandle fromJson;
+
+    @Setup
+    public void setup() {
+        List<String> fields = new ArrayList<>(List.of(FIELDS));
+        if ("FIRST".equals(order)) {
+            fields.add(0, DISCRIMINATOR);
+        } else {
+            fields.add(DISCRIMINATOR);
+        }
+        json = ("{" + String.join(",", fields) + "}").getBytes(StandardCharsets.UTF_8);
+
+        fromJson = GeneratedModels
+            .generate("nested-enum-discriminator", Map.of("stream-style-discriminator-first", discriminatorFirst))
+            .getFromJson("Fish");
+    }
+
+    @Benchmark
+    public Object fromJson() throws Throwable {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return (Object) fromJson.invokeExact(jsonReader);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the two ways stream-style {@code fromJson} dispatches on the JSON field name: the chain of if / else if
+ * {@code String.equals} checks, and the switch on the field name written with the {@code stream-style-field-switch}
+ * option.
+ * <p>
+ * The reader is the {@code fromJson} of {@code AllPropertiesOptional}, which has 20 properties, generated from the
+ * code model of the optional spec with the option off and on by {@link GeneratedModels}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FieldDispatchBenchmark {
+    private static final String[] FIELDS = {
+        "\"boolean\":true",
+        "\"booleanNullable\":null",
+        "\"booleanRequired\":false",
+        "\"booleanRequiredNullable\":true",
+        "\"string\":\"value\"",
+        "\"stringNullable\":null",
+        "\"stringRequired\":\"required\"",
+        "\"stringRequiredNullable\":\"nullable\"",
+        "\"bytes\":\"aGVsbG8=\"",
+        "\"int\":42",
+        "\"long\":4200000000",
+        "\"float\":1.5",
+        "\"double\":2.25",
+        "\"duration\":\"PT1H\"",
+        "\"dateTime\":\"2024-01-01T00:00:00Z\"",
+        "\"stringList\":[\"a\",\"b\",\"c\"]",
+        "\"bytesDict\":{\"k\":\"aGVsbG8=\"}",
+        "\"epochDateTimeRequiredNullable\":1704067200",
+        "\"epochDateTimeNullable\":null",
+        "\"immutable\":{\"stringReadWriteRequired\":\"immutable\",\"stringReadOnlyOptional\":\"read only\"}" };
+
+    /**
+     * The order of the fields in the JSON payload. DECLARED is the order of the properties in the model, which is the
+     * best case of the if / else if chain, REVERSED is its worst case, and UNKNOWN adds a field not in the model
+     * between each field.
+     */
+    @Param({ "DECLARED", "REVERSED", "UNKNOWN" })
+    public String order;
+
+    /**
+     * Whether the reader is generated with the {@code stream-style-field-switch} option.
+     */
+    @Param({ "false", "true" })
+    public boolean fieldSwitch;
+
+    private byte[] json;
+    private MethodHandle fromJson;
+
+    @Setup
+    public void setup() {
+        List<String> fields = new ArrayList<>(List.of(FIELDS));
+        if ("REVERSED".equals(order)) {
+            Collections.reverse(fields);
+        } else if ("UNKNOWN".equals(order)) {
+            List<String> withUnknown = new ArrayList<>();
+            for (int i = 0; i < fields.size(); i++) {
+                withUnknown.add(fields.get(i));
+                withUnknown.add("\"unknown" + i + "\":\"skipped\"");
+            }
+            fields = withUnknown;
+        }
+        json = ("{" + String.join(",", fields) + "}").getBytes(StandardCharsets.UTF_8);
+
+        fromJson = GeneratedModels.generate("optional", Map.of("stream-style-field-switch", fieldSwitch))
+            .getFromJson("AllPropertiesOptional");
+    }
+
+    @Benchmark
+    public Object fromJson() throws Throwable {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return (Object) fromJson.invokeExact(jsonReader);
+        }
+    }
+}
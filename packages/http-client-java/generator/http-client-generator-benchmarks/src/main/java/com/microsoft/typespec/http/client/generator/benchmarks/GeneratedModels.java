@@ -0,0 +1,119 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.TypeSpecPlugin;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.tools.ToolProvider;
+
+/**
+ * The models of a spec as the generator writes them, for the benchmarks of the generated serialization code.
+ * <p>
+ * The models are generated with the settings of the emitter, overridden by the settings of the benchmark, and compiled
+ * with the system Java compiler against the class path of the benchmarks. {@link JavaSettings} is a singleton, hence
+ * each setting of a benchmark is generated in its own fork.
+ */
+public final class GeneratedModels {
+    private final ClassLoader classLoader;
+    private final String packageName;
+
+    private GeneratedModels(ClassLoader classLoader, String packageName) {
+        this.classLoader = classLoader;
+        this.packageName = packageName;
+    }
+
+    /**
+     * Generates and compiles the models of the spec.
+     *
+     * @param spec the name of the spec
+     * @param settings the settings overriding those of the emitter, e.g. {@code stream-style-field-switch}
+     * @return the compiled models
+     */
+    public static GeneratedModels generate(String spec, Map<String, Object> settings) {
+        return generate(BenchmarkInputs.loadCodeModel(spec), settings);
+    }
+
+    /**
+     * Generates and compiles the models of the code model.
+     *
+     * @param codeModel the code model
+     * @param settings the settings overriding those of the emitter, e.g. {@code stream-style-field-switch}
+     * @return the compiled models
+     */
+    public static GeneratedModels generate(CodeModel codeModel, Map<String, Object> settings) {
+        TypeSpecPlugin plugin = BenchmarkInputs.initialize(codeModel, settings);
+        JavaSettings javaSettings = JavaSettings.getInstance();
+        Client client = plugin.processClient(codeModel);
+        List<JavaFile> javaFiles = plugin.processTemplates(codeModel, client, javaSettings).getJavaFiles();
+
+        String packageName = javaSettings.getPackage(javaSettings.getModelsSubpackage());
+        String directory = "/" + packageName.replace('.', '/') + "/";
+        try {
+            Path sourceDirectory = Files.createTempDirectory("benchmark-models-source");
+            List<String> arguments = new ArrayList<>();
+            for (JavaFile javaFile : javaFiles) {
+                String filePath = javaFile.getFilePath().replace('\\', '/');
+                if (filePath.contains(directory) && filePath.endsWith(".java")) {
+                    Path sourceFile = sourceDirectory.resolve(filePath.substring(filePath.lastIndexOf('/') + 1));
+                    Files.writeString(sourceFile, javaFile.getContents().toString());
+                    arguments.add(sourceFile.toString());
+                }
+            }
+            if (arguments.isEmpty()) {
+                throw new IllegalStateException("No models generated in package " + packageName);
+            }
+
+            Path classDirectory = Files.createTempDirectory("benchmark-models-classes");
+            arguments.addAll(0, Arrays.asList("-nowarn", "-proc:none", "-classpath",
+                System.getProperty("java.class.path"), "-d", classDirectory.toString()));
+            ByteArrayOutputStream errors = new ByteArrayOutputStream();
+            int result = ToolProvider.getSystemJavaCompiler()
+                .run(null, null, errors, arguments.toArray(new String[0]));
+            if (result != 0) {
+                throw new IllegalStateException("Failed to compile the models of " + packageName + ": " + errors);
+            }
+
+            ClassLoader classLoader = new URLClassLoader(new URL[] { classDirectory.toUri().toURL() },
+                GeneratedModels.class.getClassLoader());
+            return new GeneratedModels(classLoader, packageName);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Gets the {@code fromJson} method of the model, typed as {@code (JsonReader)Object}.
+     *
+     * @param modelName the simple name of the model
+     * @return the {@code fromJson} method of the model
+     */
+    public MethodHandle getFromJson(String modelName) {
+        try {
+            Class<?> modelClass = Class.forName(packageName + "." + modelName, true, classLoader);
+            return MethodHandles.publicLookup()
+                .findStatic(modelClass, "fromJson", MethodType.methodType(modelClass, JsonReader.class))
+                .asType(MethodType.methodType(Object.class, JsonReader.class));
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Model " + modelName + " has no fromJson", ex);
+        }
+    }
+}
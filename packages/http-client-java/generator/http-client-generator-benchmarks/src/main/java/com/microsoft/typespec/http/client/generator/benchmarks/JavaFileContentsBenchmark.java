@@ -0,0 +1,63 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building the text of a Java file with {@code JavaFileContents}, through the same calls as the templates:
+ * imports, Javadoc, annotations, and indented blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JavaFileContentsBenchmark {
+    @Param({ "10", "1000" })
+    public int methodCount;
+
+    @Benchmark
+    public String build() {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/benchmark/BenchmarkClient.java");
+        javaFile.declarePackage("com.azure.benchmark");
+        javaFile.declareImport("com.azure.core.annotation.Generated", "com.azure.core.http.rest.RequestOptions",
+            "com.azure.core.http.rest.Response", "com.azure.core.util.BinaryData");
+        javaFile.javadocComment(comment -> comment.description("Initializes a new instance of BenchmarkClient."));
+        javaFile.publicFinalClass("BenchmarkClient", classBlock -> {
+            classBlock.annotation("Generated");
+            classBlock.privateFinalMemberVariable("BenchmarkClientImpl", "serviceClient");
+
+            for (int i = 0; i < methodCount; i++) {
+                String name = "operation" + i;
+                classBlock.javadocComment(comment -> {
+                    comment.description("The " + name + " operation.");
+                    comment.param("requestOptions", "The options to configure the HTTP request before HTTP client "
+                        + "sends it.");
+                    comment.methodReturns("the response body along with {@link Response}.");
+                });
+                classBlock.annotation("Generated");
+                classBlock.publicMethod("Response<BinaryData> " + name + "WithResponse(RequestOptions requestOptions)",
+                    methodBlock -> {
+                        methodBlock.ifBlock("requestOptions == null",
+                            ifBlock -> ifBlock.line("requestOptions = new RequestOptions();"));
+                        methodBlock.methodReturn("this.serviceClient." + name + "WithResponse(requestOptions)");
+                    });
+            }
+        });
+        return javaFile.getContents().toString();
+    }
+}
@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileFactory;
+import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
+import com.microsoft.typespec.http.client.generator.util.ModelUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@code PartialUpdateHandler} on the rendered models of the spec, merging into existing files that have a
+ * manually written method, and into existing files that have only generated members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PartialUpdateBenchmark {
+    private static final String MANUAL_METHOD = "    public void customizedMethod() {\n    }\n}";
+
+    private List<String> generatedFiles;
+    private List<String> customizedFiles;
+
+    @Setup
+    public void setup(SpecState specState) {
+        BenchmarkInputs.initialize(BenchmarkInputs.loadCodeModel(specState.spec));
+        Client client = BenchmarkInputs.map(BenchmarkInputs.transform(BenchmarkInputs.loadCodeModel(specState.spec)));
+
+        JavaFileFactory javaFileFactory = new JavaFileFactory(JavaSettings.getInstance());
+        generatedFiles = new ArrayList<>();
+        customizedFiles = new ArrayList<>();
+        for (ClientModel model : client.getModels()) {
+            if (ModelUtil.isGeneratingModel(model)) {
+                JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackage(), model.getName());
+                Templates.getStreamStyleModelTemplate().write(model, javaFile);
+                String content = javaFile.getContents().toString();
+                int end = content.lastIndexOf('}');
+                generatedFiles.add(content);
+                customizedFiles.add(content.substring(0, end) + MANUAL_METHOD + content.substring(end + 1));
+            }
+        }
+    }
+
+    @Benchmark
+    public void mergeCustomized(Blackhole blackhole) {
+        for (int i = 0; i < generatedFiles.size(); i++) {
+            blackhole.consume(
+                PartialUpdateHandler.handlePartialUpdateForFile(generatedFiles.get(i), customizedFiles.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void mergeGenerated(Blackhole blackhole) {
+        for (String generatedFile : generatedFiles) {
+            blackhole.consume(PartialUpdateHandler.handlePartialUpdateForFile(generatedFile, generatedFile));
+        }
+    }
+}
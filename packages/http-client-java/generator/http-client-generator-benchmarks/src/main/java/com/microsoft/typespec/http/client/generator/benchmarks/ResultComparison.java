@@ -0,0 +1,77 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH results in JSON, e.g. of two commits, and lists the change of the score of each benchmark.
+ * <p>
+ * Run {@code ResultComparison <baseline json> <current json> [threshold percent]}. A benchmark is marked as
+ * regressed when its score, which is a time, increased by more than the threshold, 5% by default. The exit code is 1
+ * if any benchmark regressed.
+ */
+public final class ResultComparison {
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5;
+
+    private ResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, Double> baseline = readScores(Paths.get(args[0]));
+        Map<String, Double> current = readScores(Paths.get(args[1]));
+        double threshold = args.length >= 3 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        boolean regressed = false;
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double baselineScore = baseline.get(entry.getKey());
+            if (baselineScore == null) {
+                System.out.printf("%-100s %12.3f (new)%n", entry.getKey(), entry.getValue());
+                continue;
+            }
+
+            double changePercent = (entry.getValue() - baselineScore) * 100 / baselineScore;
+            boolean isRegression = changePercent > threshold;
+            regressed |= isRegression;
+            System.out.printf("%-100s %12.3f %12.3f %+8.1f%%%s%n", entry.getKey(), baselineScore, entry.getValue(),
+                changePercent, isRegression ? " REGRESSED" : "");
+        }
+
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the score of each benchmark, keyed by the benchmark name and its parameters.
+     *
+     * @param file the JMH result in JSON
+     * @return the scores
+     * @throws IOException if the result cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Double> readScores(Path file) throws IOException {
+        Map<String, Double> scores = new TreeMap<>();
+        try (JsonReader jsonReader = JsonProviders.createReader(Files.newInputStream(file))) {
+            jsonReader.nextToken();
+            for (Object result : (List<Object>) jsonReader.readUntyped()) {
+                Map<String, Object> benchmark = (Map<String, Object>) result;
+                Map<String, Object> params = (Map<String, Object>) benchmark.get("params");
+                String key = benchmark.get("benchmark")
+                    + (params == null ? "" : new TreeMap<>(params).toString());
+                Map<String, Object> primaryMetric = (Map<String, Object>) benchmark.get("primaryMetric");
+                scores.put(key, ((Number) primaryMetric.get("score")).doubleValue());
+            }
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,48 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The spec a benchmark runs on, which is a tsp spec of http-client-generator-test or the synthetic spec.
+ * <p>
+ * The ARM specs are left out, as they are generated by the fluent plugin. Run a subset of the specs with
+ * {@code -p spec=<spec>,<spec>}.
+ */
+@State(Scope.Benchmark)
+public class SpecState {
+    @Param({
+        "builtin",
+        "discriminator-edge-cases",
+        "enum",
+        "error",
+        "flatten",
+        "internal",
+        "literal",
+        "lro",
+        "model",
+        "multipart",
+        "multiple-apiversion",
+        "multiple-content-types",
+        "naming",
+        "nested-enum-discriminator",
+        "optional",
+        "partialupdate",
+        "patch",
+        "protocol-api-convenient-api",
+        "response",
+        "server",
+        "special-chars",
+        "special-headers",
+        "subclient",
+        "union",
+        "versioning",
+        "visibility",
+        "wire-type",
+        SyntheticSpec.NAME })
+    public String spec;
+}
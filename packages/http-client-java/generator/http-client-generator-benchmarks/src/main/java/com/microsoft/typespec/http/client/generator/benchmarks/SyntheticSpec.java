@@ -0,0 +1,100 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes a synthetic tsp spec of the size of a large ARM spec: 5000 models by default, with an enum for every 50
+ * models, and an interface with 4 operations for every 10th model, which refers to the 9 models before it.
+ * <p>
+ * Run {@code SyntheticSpec <tsp file> [model count]}.
+ */
+public final class SyntheticSpec {
+    /**
+     * The name of the synthetic spec.
+     */
+    public static final String NAME = "synthetic";
+
+    private static final int DEFAULT_MODEL_COUNT = 5000;
+    private static final int MODELS_PER_ENUM = 50;
+    private static final int MODELS_PER_RESOURCE = 10;
+
+    private SyntheticSpec() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args[0]);
+        int modelCount = args.length >= 2 ? Integer.parseInt(args[1]) : DEFAULT_MODEL_COUNT;
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, write(modelCount));
+    }
+
+    static String write(int modelCount) {
+        StringBuilder tsp = new StringBuilder();
+        tsp.append("import \"@typespec/http\";\n\n")
+            .append("using TypeSpec.Http;\n\n")
+            .append("@service({\n  title: \"Synthetic\",\n})\n")
+            .append("namespace Benchmark.Synthetic;\n");
+
+        for (int i = 0; i < (modelCount + MODELS_PER_ENUM - 1) / MODELS_PER_ENUM; i++) {
+            tsp.append("\nenum Kind").append(i).append(" {\n");
+            for (int j = 0; j < 5; j++) {
+                tsp.append("  Value").append(j).append(",\n");
+            }
+            tsp.append("}\n");
+        }
+
+        for (int i = 0; i < modelCount; i++) {
+            tsp.append("\n@doc(\"Model ").append(i).append(".\")\n");
+            tsp.append("model Model").append(i).append(" {\n")
+                .append("  @doc(\"The name.\")\n  name: string;\n")
+                .append("  @doc(\"The description.\")\n  description?: string;\n")
+                .append("  @doc(\"The count.\")\n  count?: int32;\n")
+                .append("  @doc(\"The ratio.\")\n  ratio?: float64;\n")
+                .append("  @doc(\"Whether it's enabled.\")\n  enabled?: boolean;\n")
+                .append("  @doc(\"The creation time.\")\n  createdAt?: utcDateTime;\n")
+                .append("  @doc(\"The tags.\")\n  tags?: Record<string>;\n")
+                .append("  @doc(\"The kind.\")\n  kind?: Kind").append(i / MODELS_PER_ENUM).append(";\n");
+            if (isResource(i)) {
+                for (int j = i - MODELS_PER_RESOURCE + 1; j < i; j++) {
+                    tsp.append("  @doc(\"Model ").append(j).append(".\")\n  model").append(j)
+                        .append("?: Model").append(j).append(j % 2 == 0 ? ";\n" : "[];\n");
+                }
+            }
+            tsp.append("}\n");
+
+            if (isResource(i)) {
+                writeInterface(tsp, i);
+            }
+        }
+        return tsp.toString();
+    }
+
+    private static boolean isResource(int index) {
+        return index % MODELS_PER_RESOURCE == MODELS_PER_RESOURCE - 1;
+    }
+
+    private static void writeInterface(StringBuilder tsp, int index) {
+        String model = "Model" + index;
+        tsp.append("\n@route(\"/resources").append(index).append("\")\n")
+            .append("interface Resources").append(index).append(" {\n")
+            .append("  @doc(\"Gets a resource.\")\n")
+            .append("  @get get(@path name: string): ").append(model).append(";\n\n")
+            .append("  @doc(\"Creates or replaces a resource.\")\n")
+            .append("  @put createOrReplace(@path name: string, @body resource: ").append(model).append("): ")
+            .append(model).append(";\n\n")
+            .append("  @doc(\"Deletes a resource.\")\n")
+            .append("  @delete delete(@path name: string): void;\n\n")
+            .append("  @doc(\"Lists the resources.\")\n")
+            .append("  @get list(): ").append(model).append("[];\n")
+            .append("}\n");
+    }
+}
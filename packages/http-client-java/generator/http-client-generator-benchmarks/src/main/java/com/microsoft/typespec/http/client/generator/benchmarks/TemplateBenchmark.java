@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFileFactory;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
+import com.microsoft.typespec.http.client.generator.util.ModelUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks rendering all the models of the spec with {@code StreamSerializationModelTemplate}, and all the client
+ * methods of the spec with {@code ClientMethodTemplate}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TemplateBenchmark {
+    private JavaFileFactory javaFileFactory;
+    private List<ClientModel> models;
+    private List<ClientMethod> clientMethods;
+    private String packageName;
+
+    @Setup
+    public void setup(SpecState specState) {
+        BenchmarkInputs.initialize(BenchmarkInputs.loadCodeModel(specState.spec));
+        Client client = BenchmarkInputs.map(BenchmarkInputs.transform(BenchmarkInputs.loadCodeModel(specState.spec)));
+
+        JavaSettings settings = JavaSettings.getInstance();
+        javaFileFactory = new JavaFileFactory(settings);
+        packageName = settings.getPackage();
+        models = client.getModels().stream().filter(ModelUtil::isGeneratingModel).collect(Collectors.toList());
+        clientMethods = new ArrayList<>();
+        for (ServiceClient serviceClient : client.getServiceClients()) {
+            clientMethods.addAll(serviceClient.getClientMethods());
+            for (MethodGroupClient methodGroupClient : serviceClient.getMethodGroupClients()) {
+                clientMethods.addAll(methodGroupClient.getClientMethods());
+            }
+        }
+    }
+
+    @Benchmark
+    public void streamSerializationModelTemplate(Blackhole blackhole) {
+        for (ClientModel model : models) {
+            JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackage(), model.getName());
+            Templates.getStreamStyleModelTemplate().write(model, javaFile);
+            blackhole.consume(javaFile);
+        }
+    }
+
+    @Benchmark
+    public JavaFile clientMethodTemplate() {
+        JavaFile javaFile = javaFileFactory.createSourceFile(packageName, "BenchmarkClientImpl");
+        javaFile.publicFinalClass("BenchmarkClientImpl", classBlock -> {
+            for (ClientMethod clientMethod : clientMethods) {
+                Templates.getClientMethodTemplate().write(clientMethod, classBlock);
+            }
+        });
+        return javaFile;
+    }
+}
@@ -0,0 +1,50 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.benchmarks;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code Transformer.transform}.
+ * <p>
+ * The transform updates the code model in place, hence each invocation transforms a freshly loaded code model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TransformerBenchmark {
+    private String spec;
+    private CodeModel codeModel;
+
+    @Setup(Level.Trial)
+    public void setupTrial(SpecState specState) {
+        spec = specState.spec;
+        BenchmarkInputs.initialize(BenchmarkInputs.loadCodeModel(spec));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        codeModel = BenchmarkInputs.loadCodeModel(spec);
+    }
+
+    @Benchmark
+    public CodeModel transform() {
+        return BenchmarkInputs.transform(codeModel);
+    }
+}
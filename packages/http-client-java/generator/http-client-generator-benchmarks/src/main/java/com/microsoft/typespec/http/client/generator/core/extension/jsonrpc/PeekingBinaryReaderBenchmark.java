@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading a JSON-RPC message with {@link PeekingBinaryReader}, framed by its JSON value and by its
+ * Content-Length header.
+ * <p>
+ * The benchmark is in the package of {@link PeekingBinaryReader}, as the reader is package-private. The message is
+ * pretty-printed, one JSON field per line, as the line count is what made the previous line-by-line reader quadratic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PeekingBinaryReaderBenchmark {
+    @Param({ "1", "10", "50" })
+    public int sizeInMB;
+
+    private byte[] message;
+    private byte[] headerAndMessage;
+
+    @Setup
+    public void setup() {
+        message = createMessage(sizeInMB * 1024 * 1024);
+        byte[] header = ("Content-Length: " + message.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        headerAndMessage = new byte[header.length + message.length];
+        System.arraycopy(header, 0, headerAndMessage, 0, header.length);
+        System.arraycopy(message, 0, headerAndMessage, header.length, message.length);
+    }
+
+    @Benchmark
+    public String readFramed() throws IOException {
+        return new PeekingBinaryReader(new ByteArrayInputStream(message)).readJsonValue();
+    }
+
+    @Benchmark
+    public String readWithContentLength() throws IOException {
+        PeekingBinaryReader reader = new PeekingBinaryReader(new ByteArrayInputStream(headerAndMessage));
+        String contentLength = reader.readAsciiLine();
+        reader.readAsciiLine();
+        return reader.readString(Integer.parseInt(contentLength.substring("Content-Length: ".length())));
+    }
+
+    private static byte[] createMessage(int size) {
+        StringBuilder json = new StringBuilder(size + 128);
+        json.append("{\n  \"jsonrpc\": \"2.0\",\n  \"method\": \"WriteFile\",\n  \"params\": [\n");
+        int i = 0;
+        while (json.length() < size) {
+            json.append("    { \"name\": \"file")
+                .append(i++)
+                .append(".java\", \"content\": \"{ \\\"a\\\": [1, 2] }\" },\n");
+        }
+        json.append("    null\n  ]\n}\n");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
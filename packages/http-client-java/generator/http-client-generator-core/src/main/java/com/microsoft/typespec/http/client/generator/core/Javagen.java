@@ -41,9 +41,11 @@ import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocess
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.template.android.AndroidTemplateFactory;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -73,6 +75,7 @@ public class Javagen extends NewPlugin {
     @Override
     public boolean processInternal() {
         this.clear();
+        GenerationReport.getInstance().clear();
 
         JavaSettings settings = JavaSettings.getInstance();
         return settings.isAndroid() ? generateAndroid(settings) : generateJava(settings);
@@ -84,30 +87,40 @@ public class Javagen extends NewPlugin {
             CodeModel codeModel = new Preprocessor(this, connection, pluginName, sessionId).processCodeModel();
 
             // Step 2: Map
-            Client client = Mappers.getClientMapper().map(codeModel);
+            Client client;
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("map")) {
+                client = Mappers.getClientMapper().map(codeModel);
+            }
 
             // Step 3: Write to templates
-            JavaPackage javaPackage = writeToTemplates(codeModel, client, settings, true);
+            JavaPackage javaPackage;
+            List<JavaFile> javaFiles;
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("render")) {
+                javaPackage = writeToTemplates(codeModel, client, settings, true);
+                javaFiles = javaPackage.getJavaFiles();
+            }
 
             // Step 4: Print to files
             // Then for each formatted file write the file. This is done synchronously as there is potential race
             // conditions that can lead to deadlocking.
-            new Postprocessor(this).postProcess(javaPackage.getJavaFiles()
-                .stream()
-                .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
+            new Postprocessor(this).postProcess(javaFiles);
 
-            for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
-                writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null);
-            }
-            for (TextFile textFile : javaPackage.getTextFiles()) {
-                writeFile(textFile.getFilePath(), textFile.getContents(), null);
-            }
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("write")) {
+                for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
+                    writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null);
+                }
+                for (TextFile textFile : javaPackage.getTextFiles()) {
+                    writeFile(textFile.getFilePath(), textFile.getContents(), null);
+                }
 
-            String artifactId = ClientModelUtil.getArtifactId();
-            if (!CoreUtils.isNullOrEmpty(artifactId)) {
-                writeFile("src/main/resources/" + artifactId + ".properties",
-                    "name=${project.artifactId}\nversion=${project.version}\n", null);
+                String artifactId = ClientModelUtil.getArtifactId();
+                if (!CoreUtils.isNullOrEmpty(artifactId)) {
+                    writeFile("src/main/resources/" + artifactId + ".properties",
+                        "name=${project.artifactId}\nversion=${project.version}\n", null);
+                }
             }
+            logger.debug("Generation report: {}",
+                GenerationReport.getInstance().toJson(GenerationReport.DEFAULT_TOP_N));
         } catch (Exception ex) {
             logger.error("Failed to generate code.", ex);
             return false;
@@ -192,9 +205,7 @@ public class Javagen extends NewPlugin {
 
             // TODO: POM, Manager
             // Step 4: Print to files
-            new Postprocessor(this).postProcess(javaPackage.getJavaFiles()
-                .stream()
-                .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())));
+            new Postprocessor(this).postProcess(javaPackage.getJavaFiles());
 
             String artifactId = JavaSettings.getInstance().getArtifactId();
             if (!(artifactId == null || artifactId.isEmpty())) {
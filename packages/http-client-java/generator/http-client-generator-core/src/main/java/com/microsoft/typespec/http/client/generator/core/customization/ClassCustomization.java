@@ -3,7 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.core.customization;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.ls.EclipseLanguageClient;
@@ -15,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -64,6 +64,14 @@ public final class ClassCustomization extends CodeCustomization {
         this.className = className;
     }
 
+    private ClassCustomization(Editor editor, EclipseLanguageClient languageClient, String packageName,
+        String className, String fileUri, Supplier<SymbolInformation> classSymbolSupplier) {
+        super(editor, languageClient, fileUri, classSymbolSupplier);
+
+        this.packageName = packageName;
+        this.className = className;
+    }
+
     /**
      * Gets the name of the class this customization is using.
      *
@@ -113,7 +121,7 @@ public final class ClassCustomization extends CodeCustomization {
         }
 
         // the class declaration line
-        int lastSymbolLine = symbol.getLocation().getRange().getStart().getLine();
+        int lastSymbolLine = getSymbol().getLocation().getRange().getStart().getLine();
 
         // Find the last field symbol.
         Optional<SymbolInformation> lastSymbol = languageClient.listDocumentSymbols(fileUri)
@@ -299,7 +307,7 @@ public final class ClassCustomization extends CodeCustomization {
      */
     public JavadocCustomization getJavadoc() {
         return new JavadocCustomization(editor, languageClient, fileUri, fileName,
-            symbol.getLocation().getRange().getStart().getLine());
+            getSymbol().getLocation().getRange().getStart().getLine());
     }
 
     /**
@@ -338,7 +346,7 @@ public final class ClassCustomization extends CodeCustomization {
         // Otherwise place the constructor after the last constructor or field.
         int constructorStartLine;
         if (Utils.isNullOrEmpty(constructorLocationFinder)) {
-            constructorStartLine = symbol.getLocation().getRange().getStart().getLine();
+            constructorStartLine = getSymbol().getLocation().getRange().getStart().getLine();
         } else {
             SymbolInformation symbol = constructorLocationFinder.get(constructorLocationFinder.size() - 1);
 
@@ -469,7 +477,7 @@ public final class ClassCustomization extends CodeCustomization {
      */
     public ClassCustomization rename(String newName) {
         WorkspaceEdit workspaceEdit
-            = languageClient.renameSymbol(fileUri, symbol.getLocation().getRange().getStart(), newName);
+            = languageClient.renameSymbol(fileUri, getSymbol().getLocation().getRange().getStart(), newName);
         List<FileEvent> changes = new ArrayList<>();
         for (Map.Entry<String, List<TextEdit>> edit : workspaceEdit.getChanges().entrySet()) {
             int i = edit.getKey().indexOf("src/main/java/");
@@ -524,7 +532,7 @@ public final class ClassCustomization extends CodeCustomization {
      * in the bitwise OR isn't a valid class {@link Modifier}.
      */
     public ClassCustomization setModifier(int modifiers) {
-        languageClient.listDocumentSymbols(symbol.getLocation().getUri())
+        languageClient.listDocumentSymbols(getSymbol().getLocation().getUri())
             .stream()
             .filter(si -> si.getKind() == SymbolKind.Class && si.getName().equals(className))
             .findFirst()
@@ -589,7 +597,7 @@ public final class ClassCustomization extends CodeCustomization {
      * @return the current class customization for chaining
      */
     public ClassCustomization renameEnumMember(String enumMemberName, String newName) {
-        String fileUri = symbol.getLocation().getUri();
+        String fileUri = getSymbol().getLocation().getUri();
         String lowercaseEnumMemberName = enumMemberName.toLowerCase();
 
         List<WorkspaceEdit> edits = new ArrayList<>();
@@ -611,16 +619,17 @@ public final class ClassCustomization extends CodeCustomization {
      * @return A new ClassCustomization for this class with the abstract syntax tree changes applied.
      */
     public ClassCustomization customizeAst(Consumer<CompilationUnit> astCustomization) {
-        CompilationUnit astToEdit = StaticJavaParser.parse(editor.getFileContent(fileName));
-        astCustomization.accept(astToEdit);
-        editor.replaceFile(fileName, astToEdit.toString());
+        astCustomization.accept(editor.getCompilationUnit(fileName));
+        editor.markCompilationUnitChanged(fileName);
 
         FileEvent fileEvent = new FileEvent();
         fileEvent.setUri(fileUri);
         fileEvent.setType(FileChangeType.Changed);
         languageClient.notifyWatchedFilesChanged(Collections.singletonList(fileEvent));
 
-        return refreshSymbol();
+        // The class symbol is looked up when it's needed, so that AST customizations in a row don't print the file.
+        return new ClassCustomization(editor, languageClient, packageName, className, fileUri,
+            () -> refreshSymbol().getSymbol());
     }
 
     ClassCustomization refreshSymbol() {
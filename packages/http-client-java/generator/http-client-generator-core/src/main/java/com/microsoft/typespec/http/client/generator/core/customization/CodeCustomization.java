@@ -4,6 +4,7 @@
 package com.microsoft.typespec.http.client.generator.core.customization;
 
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.ls.EclipseLanguageClient;
+import java.util.function.Supplier;
 import org.eclipse.lsp4j.SymbolInformation;
 
 /**
@@ -12,17 +13,28 @@ import org.eclipse.lsp4j.SymbolInformation;
 public abstract class CodeCustomization {
     final Editor editor;
     final EclipseLanguageClient languageClient;
-    final SymbolInformation symbol;
     final String fileUri;
     final String fileName;
+    private final Supplier<SymbolInformation> symbolSupplier;
+    private SymbolInformation symbol;
 
     CodeCustomization(Editor editor, EclipseLanguageClient languageClient, SymbolInformation symbol) {
+        this(editor, languageClient, symbol.getLocation().getUri(), null);
+        this.symbol = symbol;
+    }
+
+    /*
+     * Creates a customization whose symbol is looked up when it's first needed, as the lookup reads the current
+     * content of the file.
+     */
+    CodeCustomization(Editor editor, EclipseLanguageClient languageClient, String fileUri,
+        Supplier<SymbolInformation> symbolSupplier) {
         this.editor = editor;
         this.languageClient = languageClient;
-        this.symbol = symbol;
-        this.fileUri = symbol.getLocation().getUri();
-        int i = fileUri.toString().indexOf("src/main/java/");
-        this.fileName = fileUri.toString().substring(i);
+        this.symbolSupplier = symbolSupplier;
+        this.fileUri = fileUri;
+        int i = fileUri.indexOf("src/main/java/");
+        this.fileName = fileUri.substring(i);
     }
 
     /**
@@ -49,6 +61,9 @@ public abstract class CodeCustomization {
      * @return The SymbolInformation.
      */
     public final SymbolInformation getSymbol() {
+        if (symbol == null) {
+            symbol = symbolSupplier.get();
+        }
         return symbol;
     }
 
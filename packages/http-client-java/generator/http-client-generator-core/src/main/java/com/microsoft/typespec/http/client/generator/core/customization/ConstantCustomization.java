@@ -60,7 +60,7 @@ public final class ConstantCustomization extends CodeCustomization {
      */
     public JavadocCustomization getJavadoc() {
         return new JavadocCustomization(editor, languageClient, fileUri, fileName,
-            symbol.getLocation().getRange().getStart().getLine());
+            getSymbol().getLocation().getRange().getStart().getLine());
     }
 
     /**
@@ -80,7 +80,7 @@ public final class ConstantCustomization extends CodeCustomization {
      * included in the bitwise OR isn't a valid constant {@link Modifier}.
      */
     public ConstantCustomization setModifier(int modifiers) {
-        Utils.replaceModifier(symbol, editor, languageClient, "(?:.+ )?(\\w+ )" + constantName + "\\(",
+        Utils.replaceModifier(getSymbol(), editor, languageClient, "(?:.+ )?(\\w+ )" + constantName + "\\(",
             "$1" + constantName + "(", Modifier.fieldModifiers(), Modifier.STATIC | Modifier.FINAL | modifiers);
 
         return refreshCustomization(constantName);
@@ -41,7 +41,7 @@ public final class ConstructorCustomization extends CodeCustomization {
      */
     public JavadocCustomization getJavadoc() {
         return new JavadocCustomization(editor, languageClient, fileUri, fileName,
-            symbol.getLocation().getRange().getStart().getLine());
+            getSymbol().getLocation().getRange().getStart().getLine());
     }
 
     /**
@@ -66,7 +66,8 @@ public final class ConstructorCustomization extends CodeCustomization {
                 .get()
                 .getConstructors()
                 .stream()
-                .filter(ctor -> Utils.declarationContainsSymbol(ctor.getRange().get(), symbol.getLocation().getRange()))
+                .filter(ctor -> Utils.declarationContainsSymbol(ctor.getRange().get(),
+                    getSymbol().getLocation().getRange()))
                 .findFirst()
                 .get()
                 .getAnnotationByName(Utils.cleanAnnotationName(annotation)),
@@ -87,7 +88,7 @@ public final class ConstructorCustomization extends CodeCustomization {
      * included in the bitwise OR isn't a valid constructor {@link Modifier}.
      */
     public ConstructorCustomization setModifier(int modifiers) {
-        Utils.replaceModifier(symbol, editor, languageClient, "(?:.+ )?" + className + "\\(", className + "(",
+        Utils.replaceModifier(getSymbol(), editor, languageClient, "(?:.+ )?" + className + "\\(", className + "(",
             Modifier.constructorModifiers(), modifiers);
 
         return refreshCustomization(constructorSignature);
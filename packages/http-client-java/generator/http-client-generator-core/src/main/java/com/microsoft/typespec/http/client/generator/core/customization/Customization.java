@@ -40,10 +40,9 @@ public abstract class Customization {
             throw new RuntimeException(e);
         }
 
-        // Start language client
+        // Create language client, the language server is started when a customization needs it
         try (EclipseLanguageClient languageClient
-            = new EclipseLanguageClient(null, tempDirWithPrefix.toString(), logger)) {
-            languageClient.initialize();
+            = new EclipseLanguageClient(null, tempDirWithPrefix.toString(), editor, logger)) {
             customize(new LibraryCustomization(editor, languageClient), logger);
             editor.removeFile("pom.xml");
             return editor.getContents();
@@ -3,18 +3,21 @@
 
 package com.microsoft.typespec.http.client.generator.core.customization;
 
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
-import java.io.BufferedWriter;
-import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -23,12 +26,23 @@ import org.eclipse.lsp4j.Range;
 
 /**
  * The raw editor containing the current files being customized.
+ * <p>
+ * The files are kept in memory, and a file is split into lines when its lines are first needed. Edits are applied to
+ * the lines in place. The files changed since the last {@link #flush()} are written to the root directory on the next
+ * flush, which is done before the language server reads them, so a file edited many times is written once.
+ * <p>
+ * The {@link CompilationUnit} of a file is cached for AST customizations. A changed compilation unit is printed, with
+ * {@link LexicalPreservingPrinter}, when the content of its file is next read, so AST customizations in a row parse and
+ * print the file once. Any other edit of the file invalidates the cached compilation unit.
  */
 public final class Editor {
     private final Path rootDir;
     private final Map<String, String> contents;
     private final Map<String, List<String>> lines;
-    private final Map<String, Path> paths;
+    private final Set<String> unflushedFiles = new LinkedHashSet<>();
+    private final Set<String> removedFiles = new LinkedHashSet<>();
+    private final Map<String, CompilationUnit> compilationUnits = new HashMap<>();
+    private final Set<String> unprintedFiles = new LinkedHashSet<>();
 
     /**
      * Creates an editor instance with the file contents and the root directory path.
@@ -39,12 +53,8 @@ public final class Editor {
     public Editor(Map<String, String> contents, Path rootDir) {
         this.contents = new HashMap<>(contents);
         this.lines = new HashMap<>();
-        this.paths = new HashMap<>();
         this.rootDir = rootDir;
-        for (Map.Entry<String, String> content : contents.entrySet()) {
-            addFile(content.getKey(), content.getValue());
-        }
-
+        this.unflushedFiles.addAll(contents.keySet());
     }
 
     /**
@@ -53,6 +63,7 @@ public final class Editor {
      * @return the mapping
      */
     public Map<String, String> getContents() {
+        printCompilationUnits();
         return contents;
     }
 
@@ -77,26 +88,10 @@ public final class Editor {
     }
 
     private void addOrReplaceFile(String name, String content, boolean isReplace) {
-        Path newFilePath = Paths.get(rootDir.toString(), name);
-        File newFile = newFilePath.toFile();
-        if (!newFile.getParentFile().exists()) {
-            newFile.getParentFile().mkdirs();
-        }
-
-        try {
-            boolean fileCreated = newFile.createNewFile();
-
-            try (BufferedWriter writer = Files.newBufferedWriter(newFile.toPath())) {
-                writer.write(content);
-            }
-
-            if (fileCreated || isReplace) {
-                contents.put(name, content);
-                lines.put(name, splitContentIntoLines(content));
-                paths.put(name, newFilePath);
-            }
-        } catch (IOException e) {
-            throw new RuntimeException();
+        if (isReplace || !contents.containsKey(name)) {
+            contents.put(name, content);
+            lines.remove(name);
+            markTextChanged(name);
         }
     }
 
@@ -108,8 +103,10 @@ public final class Editor {
     public void removeFile(String name) {
         contents.remove(name);
         lines.remove(name);
-        paths.get(name).toFile().delete();
-        paths.remove(name);
+        compilationUnits.remove(name);
+        unprintedFiles.remove(name);
+        unflushedFiles.remove(name);
+        removedFiles.add(name);
     }
 
     /**
@@ -119,9 +116,50 @@ public final class Editor {
      * @return the file content
      */
     public String getFileContent(String name) {
+        printCompilationUnit(name);
         return contents.get(name);
     }
 
+    /**
+     * Gets the compilation unit of a file, for an AST customization. Call {@link #markCompilationUnitChanged(String)}
+     * after changing it.
+     * <p>
+     * The ranges of the nodes are those of the content the compilation unit was parsed from, they aren't updated when
+     * it's changed.
+     *
+     * @param name the relative path of a file, starting with "src/main/java"
+     * @return the compilation unit of the file
+     */
+    public CompilationUnit getCompilationUnit(String name) {
+        CompilationUnit compilationUnit = compilationUnits.get(name);
+        if (compilationUnit == null) {
+            compilationUnit = LexicalPreservingPrinter.setup(StaticJavaParser.parse(contents.get(name)));
+            compilationUnits.put(name, compilationUnit);
+        }
+        return compilationUnit;
+    }
+
+    /**
+     * Marks the compilation unit of a file as changed. The content of the file is printed from the compilation unit
+     * when it's next read.
+     *
+     * @param name the relative path of a file, starting with "src/main/java"
+     */
+    public void markCompilationUnitChanged(String name) {
+        unprintedFiles.add(name);
+        lines.remove(name);
+        markChanged(name);
+    }
+
+    /**
+     * Prints the changed compilation units into the contents of their files.
+     */
+    public void printCompilationUnits() {
+        for (String name : new ArrayList<>(unprintedFiles)) {
+            printCompilationUnit(name);
+        }
+    }
+
     /**
      * Gets the file content split into lines.
      *
@@ -129,8 +167,7 @@ public final class Editor {
      * @return the file content split into lines
      */
     public List<String> getFileLines(String name) {
-        return lines.get(name);
-
+        return getLines(name);
     }
 
     /**
@@ -141,7 +178,7 @@ public final class Editor {
      * @return the file content in this line
      */
     public String getFileLine(String name, int line) {
-        return lines.get(name).get(line);
+        return getLines(name).get(line);
     }
 
     /**
@@ -156,7 +193,7 @@ public final class Editor {
         if (!indented) {
             return insertBlankLineWithIndent(fileName, line, 0);
         } else {
-            int indentAmount = Utils.getIndent(lines.get(fileName).get(line)).length();
+            int indentAmount = Utils.getIndent(getLines(fileName).get(line)).length();
 
             return insertBlankLineWithIndent(fileName, line, indentAmount);
         }
@@ -164,8 +201,10 @@ public final class Editor {
 
     public Position insertBlankLineWithIndent(String fileName, int line, int indentAmount) {
         String indentation = IntStream.range(0, indentAmount).mapToObj(ignored -> " ").collect(Collectors.joining());
-        lines.get(fileName).add(line, indentation);
-        contents.put(fileName, joinLinesIntoContent(lines.get(fileName)));
+        List<String> lineContent = getLines(fileName);
+        lineContent.add(line, indentation);
+        contents.put(fileName, joinLinesIntoContent(lineContent));
+        markTextChanged(fileName);
         return new Position(line, indentation.length());
     }
 
@@ -184,46 +223,37 @@ public final class Editor {
     public void replaceWithIndentedContent(String fileName, Position start, Position end, String newContent,
         int newLineIndent) {
         String indent = IntStream.range(0, newLineIndent).mapToObj(ignored -> " ").collect(Collectors.joining());
-        StringBuilder stringBuilder = new StringBuilder(4096);
-        List<String> lineContent = lines.get(fileName);
-
-        // Copy lines until the start of the change is reached.
-        for (int i = 0; i != start.getLine(); i++) {
-            Utils.writeLine(stringBuilder, lineContent.get(i));
-        }
+        List<String> lineContent = getLines(fileName);
 
-        // Copy until the start of the change.
-        stringBuilder.append(lineContent.get(start.getLine()), 0, start.getCharacter());
+        // Keep the text before the start and after the end of the change.
+        String prefix = lineContent.get(start.getLine()).substring(0, start.getCharacter());
+        String suffix = lineContent.get(end.getLine()).substring(end.getCharacter());
 
         List<String> replacementLineContent = splitContentIntoLines(newContent);
 
-        // Add the change.
-        if (replacementLineContent.size() > 0) {
-            for (int i = 0; i != replacementLineContent.size() - 1; i++) {
-                if (i > 0) {
-                    stringBuilder.append(indent);
-                }
-
-                Utils.writeLine(stringBuilder, replacementLineContent.get(i));
+        // Build the lines of the change, the lines after the first one are indented.
+        List<String> changedLines = new ArrayList<>(replacementLineContent.size() + 1);
+        if (replacementLineContent.isEmpty()) {
+            changedLines.add(prefix + suffix);
+        } else {
+            String firstLineStart = prefix;
+            int lastIndex = replacementLineContent.size() - 1;
+            for (int i = 0; i != lastIndex; i++) {
+                changedLines.add(firstLineStart + (i > 0 ? indent : "") + replacementLineContent.get(i));
+                firstLineStart = "";
             }
 
-            stringBuilder.append(indent).append(replacementLineContent.get(replacementLineContent.size() - 1));
+            changedLines.add(firstLineStart + indent + replacementLineContent.get(lastIndex) + suffix);
         }
 
-        Utils.writeLine(stringBuilder, lineContent.get(end.getLine()).substring(end.getCharacter()));
+        // Replace the changed lines in place, rather than splitting the whole content again.
+        lineContent.subList(start.getLine(), end.getLine() + 1).clear();
+        lineContent.addAll(start.getLine(), changedLines);
+        // The replaced content is terminated by a line separator, which ends with an empty line.
+        lineContent.add("");
 
-        // Copy the rest of the file until its end.
-        for (int i = end.getLine() + 1; i != lineContent.size(); i++) {
-            Utils.writeLine(stringBuilder, lineContent.get(i));
-        }
-
-        contents.put(fileName, stringBuilder.toString());
-        lines.put(fileName, splitContentIntoLines(contents.get(fileName)));
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(paths.get(fileName))) {
-            fileWriter.write(contents.get(fileName));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        contents.put(fileName, joinLinesIntoContent(lineContent));
+        markTextChanged(fileName);
     }
 
     /**
@@ -233,12 +263,38 @@ public final class Editor {
      * @param newName the new relative path of the file, starting with "src/main/java"
      */
     public void renameFile(String fileName, String newName) {
+        printCompilationUnit(fileName);
+        compilationUnits.remove(fileName);
         contents.put(newName, contents.remove(fileName));
-        lines.put(newName, lines.remove(fileName));
-        Path path = paths.remove(fileName);
-        Path newPath = Paths.get(rootDir.toString(), newName);
-        path.toFile().renameTo(newPath.toFile());
-        paths.put(newName, newPath);
+        List<String> lineContent = lines.remove(fileName);
+        if (lineContent != null) {
+            lines.put(newName, lineContent);
+        }
+        unflushedFiles.remove(fileName);
+        removedFiles.add(fileName);
+        markChanged(newName);
+    }
+
+    /**
+     * Writes the files changed since the last flush to the root directory, and deletes the removed files from it.
+     */
+    public void flush() {
+        printCompilationUnits();
+        try {
+            for (String name : removedFiles) {
+                Files.deleteIfExists(rootDir.resolve(name));
+            }
+            removedFiles.clear();
+
+            for (String name : unflushedFiles) {
+                Path path = rootDir.resolve(name);
+                Files.createDirectories(path.getParent());
+                Files.writeString(path, contents.get(name));
+            }
+            unflushedFiles.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -249,12 +305,13 @@ public final class Editor {
      * @return the list of ranges containing the occurrences
      */
     public List<Range> searchText(String fileName, String text) {
-        if (!lines.containsKey(fileName)) {
+        List<String> lineContent = getLines(fileName);
+        if (lineContent == null) {
             return null;
         } else {
             List<Range> occurrences = new ArrayList<>();
-            for (int i = 0; i != lines.get(fileName).size(); i++) {
-                String line = lines.get(fileName).get(i);
+            for (int i = 0; i != lineContent.size(); i++) {
+                String line = lineContent.get(i);
                 if (line.contains(text)) {
                     int start = line.indexOf(text);
                     while (start != -1) {
@@ -343,6 +400,47 @@ public final class Editor {
         return stringBuilder.toString();
     }
 
+    private void markChanged(String name) {
+        unflushedFiles.add(name);
+        removedFiles.remove(name);
+    }
+
+    private void markTextChanged(String name) {
+        compilationUnits.remove(name);
+        unprintedFiles.remove(name);
+        markChanged(name);
+    }
+
+    private void printCompilationUnit(String name) {
+        if (!unprintedFiles.remove(name)) {
+            return;
+        }
+
+        // The printed content is parsed again for the next AST customization, as the node ranges are out of date.
+        CompilationUnit compilationUnit = compilationUnits.remove(name);
+        String content;
+        try {
+            content = LexicalPreservingPrinter.print(compilationUnit);
+        } catch (RuntimeException e) {
+            // Lexical preserving printing doesn't support every change of the AST.
+            content = compilationUnit.toString();
+        }
+        contents.put(name, content);
+    }
+
+    private List<String> getLines(String name) {
+        printCompilationUnit(name);
+        List<String> lineContent = lines.get(name);
+        if (lineContent == null) {
+            String content = contents.get(name);
+            if (content != null) {
+                lineContent = splitContentIntoLines(content);
+                lines.put(name, lineContent);
+            }
+        }
+        return lineContent;
+    }
+
     private static List<String> splitContentIntoLines(String content) {
         List<String> res = new ArrayList<>();
         Scanner scanner = new Scanner(content);
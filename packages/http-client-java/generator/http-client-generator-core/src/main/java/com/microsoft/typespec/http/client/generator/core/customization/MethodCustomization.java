@@ -60,7 +60,7 @@ public final class MethodCustomization extends CodeCustomization {
      */
     public JavadocCustomization getJavadoc() {
         return new JavadocCustomization(editor, languageClient, fileUri, fileName,
-            symbol.getLocation().getRange().getStart().getLine());
+            getSymbol().getLocation().getRange().getStart().getLine());
     }
 
     /**
@@ -71,7 +71,8 @@ public final class MethodCustomization extends CodeCustomization {
      * @return the current method customization for chaining
      */
     public MethodCustomization rename(String newName) {
-        WorkspaceEdit edit = languageClient.renameSymbol(fileUri, symbol.getLocation().getRange().getStart(), newName);
+        WorkspaceEdit edit
+            = languageClient.renameSymbol(fileUri, getSymbol().getLocation().getRange().getStart(), newName);
         Utils.applyWorkspaceEdit(edit, editor, languageClient);
 
         return refreshCustomization(methodSignature.replace(methodName + "(", newName + "("));
@@ -98,7 +99,8 @@ public final class MethodCustomization extends CodeCustomization {
             .get()
             .getMethodsByName(methodName)
             .stream()
-            .filter(method -> Utils.declarationContainsSymbol(method.getRange().get(), symbol.getLocation().getRange()))
+            .filter(method -> Utils.declarationContainsSymbol(method.getRange().get(),
+                getSymbol().getLocation().getRange()))
             .findFirst()
             .get()
             .getAnnotationByName(Utils.cleanAnnotationName(annotation)), () -> refreshCustomization(methodSignature));
@@ -118,7 +120,7 @@ public final class MethodCustomization extends CodeCustomization {
      * included in the bitwise OR isn't a valid method {@link Modifier}.
      */
     public MethodCustomization setModifier(int modifiers) {
-        Utils.replaceModifier(symbol, editor, languageClient, "(?:.+ )?(\\w+ )" + methodName + "\\(",
+        Utils.replaceModifier(getSymbol(), editor, languageClient, "(?:.+ )?(\\w+ )" + methodName + "\\(",
             "$1" + methodName + "(", Modifier.methodModifiers(), modifiers);
 
         return refreshCustomization(methodSignature);
@@ -223,7 +225,7 @@ public final class MethodCustomization extends CodeCustomization {
         boolean replaceReturnStatement) {
         List<TextEdit> edits = new ArrayList<>();
 
-        int line = symbol.getLocation().getRange().getStart().getLine();
+        int line = getSymbol().getLocation().getRange().getStart().getLine();
         Position start = new Position(line, 0);
         String oldLineContent = editor.getFileLine(fileName, line);
         Position end = new Position(line, oldLineContent.length());
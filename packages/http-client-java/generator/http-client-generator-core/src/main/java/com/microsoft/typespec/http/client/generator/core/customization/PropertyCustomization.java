@@ -120,7 +120,7 @@ public final class PropertyCustomization extends CodeCustomization {
      */
     public PropertyCustomization generateGetterAndSetter() {
         Optional<CodeAction> generateAccessors = languageClient
-            .listCodeActions(fileUri, symbol.getLocation().getRange(),
+            .listCodeActions(fileUri, getSymbol().getLocation().getRange(),
                 JavaCodeActionKind.SOURCE_GENERATE_ACCESSORS.toString())
             .stream()
             .filter(ca -> ca.getKind().equals(JavaCodeActionKind.SOURCE_GENERATE_ACCESSORS.toString()))
@@ -152,7 +152,7 @@ public final class PropertyCustomization extends CodeCustomization {
      */
     public PropertyCustomization setModifier(int modifiers) {
         String target = " *(?:(?:public|protected|private|static|final|transient|volatile) ?)*(.* )";
-        languageClient.listDocumentSymbols(symbol.getLocation().getUri())
+        languageClient.listDocumentSymbols(getSymbol().getLocation().getUri())
             .stream()
             .filter(si -> si.getKind() == SymbolKind.Field && si.getName().equals(propertyName))
             .findFirst()
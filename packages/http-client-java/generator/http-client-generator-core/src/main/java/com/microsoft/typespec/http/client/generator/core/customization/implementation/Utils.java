@@ -3,7 +3,6 @@
 
 package com.microsoft.typespec.http.client.generator.core.customization.implementation;
 
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.microsoft.typespec.http.client.generator.core.customization.ClassCustomization;
@@ -336,12 +335,12 @@ public class Utils {
         Editor editor = codeCustomization.getEditor();
         String fileName = codeCustomization.getFileName();
 
-        CompilationUnit compilationUnit = StaticJavaParser.parse(editor.getFileContent(fileName));
+        CompilationUnit compilationUnit = editor.getCompilationUnit(fileName);
         Optional<AnnotationExpr> potentialAnnotation = annotationRetriever.apply(compilationUnit);
 
         if (potentialAnnotation.isPresent()) {
             potentialAnnotation.get().remove();
-            editor.replaceFile(fileName, compilationUnit.toString());
+            editor.markCompilationUnitChanged(fileName);
             Utils.sendFilesChangeNotification(codeCustomization.getLanguageClient(), codeCustomization.getFileUri());
             return refreshedCustomizationSupplier.get();
         } else {
@@ -5,16 +5,22 @@ package com.microsoft.typespec.http.client.generator.core.customization.implemen
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.microsoft.typespec.http.client.generator.core.customization.Editor;
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.ls.models.JavaCodeActionKind;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import java.io.File;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.lsp4j.ClientCapabilities;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionCapabilities;
@@ -24,7 +30,9 @@ import org.eclipse.lsp4j.CodeActionKindCapabilities;
 import org.eclipse.lsp4j.CodeActionLiteralSupportCapabilities;
 import org.eclipse.lsp4j.CodeActionParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
 import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.InitializeResult;
@@ -45,25 +53,134 @@ import org.eclipse.lsp4j.WindowShowMessageRequestCapabilities;
 import org.eclipse.lsp4j.WorkspaceClientCapabilities;
 import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.WorkspaceFoldersChangeEvent;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
 import org.slf4j.Logger;
 
+/**
+ * Client of the customization requests.
+ * <p>
+ * Symbol lookups are answered in-process by {@link JavaParserSymbolProvider}. The Eclipse JDT language server is only
+ * started on the first request that needs it, such as a rename across files or a code action. It then indexes the
+ * workspace directory, which holds the current content of the files, and gets notified of the later changes.
+ * <p>
+ * File changes are synced with the server before each request to it: the editor flushes the changed files to the
+ * workspace directory, and the changes notified since the previous request are sent in one notification.
+ */
 public class EclipseLanguageClient implements AutoCloseable {
     private static final Gson GSON = new MessageJsonHandler(null).getDefaultGsonBuilder().create();
 
     private static final Type LIST_SYMBOL_INFORMATION = createParameterizedType(List.class, SymbolInformation.class);
     private static final Type LIST_CODE_ACTION = createParameterizedType(List.class, CodeAction.class);
+    private static final long WORKSPACE_INDEX_TIMEOUT_IN_MILLIS = 10000;
 
-    private final EclipseLanguageServerFacade server;
-    private final Connection connection;
+    private final String pathToLanguageServerPlugin;
     private final String workspaceDir;
+    private final String workspaceName;
+    private final Editor editor;
+    private final Map<String, String> files;
+    private final Logger logger;
+    private final JavaParserSymbolProvider symbolProvider;
+    private final Map<String, FileEvent> pendingChanges = new LinkedHashMap<>();
+
+    private EclipseLanguageServerFacade server;
+    private Connection connection;
+    private final LanguageServerPool pool;
+    private LanguageServerPool.PooledServer pooledServer;
+
+    /**
+     * Creates a client of the customization requests.
+     *
+     * @param pathToLanguageServerPlugin the path to the language server, or null to download it
+     * @param workspaceDir the workspace directory, which the editor flushes the files to
+     * @param editor the editor of the files
+     * @param logger the logger
+     */
+    public EclipseLanguageClient(String pathToLanguageServerPlugin, String workspaceDir, Editor editor,
+        Logger logger) {
+        this(pathToLanguageServerPlugin, workspaceDir, editor, logger, LanguageServerPool.getInstance());
+    }
+
+    /**
+     * Creates a client of the customization requests, which takes its language server from the given pool.
+     *
+     * @param pathToLanguageServerPlugin the path to the language server, or null to download it
+     * @param workspaceDir the workspace directory, which the editor flushes the files to
+     * @param editor the editor of the files
+     * @param logger the logger
+     * @param pool the pool of language servers, or null to start a server for this client only
+     */
+    EclipseLanguageClient(String pathToLanguageServerPlugin, String workspaceDir, Editor editor, Logger logger,
+        LanguageServerPool pool) {
+        this.pathToLanguageServerPlugin = pathToLanguageServerPlugin;
+        this.workspaceDir = new File(workspaceDir).toURI().toString();
+        this.workspaceName = new File(workspaceDir).getName();
+        this.editor = editor;
+        this.files = editor.getContents();
+        this.logger = logger;
+        this.symbolProvider = new JavaParserSymbolProvider(Paths.get(workspaceDir), files);
+        this.pool = pool;
+    }
+
+    /**
+     * Starts and initializes the language server, if it isn't started yet.
+     */
+    public void initialize() {
+        getConnection();
+    }
+
+    private Connection getConnection() {
+        // The server reads the files from the workspace directory.
+        editor.flush();
+        if (connection == null) {
+            startServer();
+            // The server started with the current files.
+            pendingChanges.clear();
+        } else {
+            sendPendingChanges();
+        }
+        return connection;
+    }
+
+    private void startServer() {
+        if (pool == null) {
+            EclipseLanguageServerFacade server = startFacade();
+            this.server = server;
+
+            WorkspaceFolder workspaceFolder = new WorkspaceFolder(workspaceDir, "root");
+            Connection connection = initializeServer(server, workspaceDir, workspaceFolder);
+            try {
+                Thread.sleep(2500);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            this.connection = connection;
+            return;
+        }
 
-    public EclipseLanguageClient(String pathToLanguageServerPlugin, String workspaceDir, Logger logger) {
+        String key = LanguageServerPool.getKey(pathToLanguageServerPlugin);
+        LanguageServerPool.PooledServer pooledServer = pool.acquire(key);
+        if (pooledServer == null) {
+            EclipseLanguageServerFacade server = startFacade();
+            this.server = server;
+            pooledServer = new LanguageServerPool.PooledServer(key, server,
+                initializeServer(server, pool.getRootUri(), null));
+        } else {
+            logger.info("Reusing pooled Eclipse JDT language server");
+        }
+        this.pooledServer = pooledServer;
+        this.server = pooledServer.getFacade();
+
+        changeWorkspaceFolder(pooledServer.getConnection(), true);
+        waitForWorkspaceIndexed(pooledServer.getConnection());
+        this.connection = pooledServer.getConnection();
+    }
+
+    private EclipseLanguageServerFacade startFacade() {
+        EclipseLanguageServerFacade server;
         try {
-            this.workspaceDir = new File(workspaceDir).toURI().toString();
-            this.server = new EclipseLanguageServerFacade(pathToLanguageServerPlugin, logger);
-            this.connection = new Connection(server.getOutputStream(), server.getInputStream());
+            server = new EclipseLanguageServerFacade(pathToLanguageServerPlugin, logger);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -73,19 +190,22 @@ public class EclipseLanguageClient implements AutoCloseable {
             logger.error("Language server failed to start: " + server.getServerError());
             throw new RuntimeException("Language server failed to start: " + server.getServerError());
         }
+        return server;
     }
 
-    public void initialize() {
+    private static Connection initializeServer(EclipseLanguageServerFacade server, String rootUri,
+        WorkspaceFolder workspaceFolder) {
+        Connection connection = new Connection(server.getOutputStream(), server.getInputStream());
+
         int pid = (int) ProcessHandle.current().pid();
 
         InitializeParams initializeParams = new InitializeParams();
         initializeParams.setProcessId(pid);
-        initializeParams.setRootUri(workspaceDir);
+        initializeParams.setRootUri(rootUri);
         initializeParams.setWorkspaceFolders(new ArrayList<>());
-        WorkspaceFolder workspaceFolder = new WorkspaceFolder();
-        workspaceFolder.setName("root");
-        workspaceFolder.setUri(workspaceDir);
-        initializeParams.getWorkspaceFolders().add(workspaceFolder);
+        if (workspaceFolder != null) {
+            initializeParams.getWorkspaceFolders().add(workspaceFolder);
+        }
         initializeParams.setTrace("message");
         initializeParams.setCapabilities(new ClientCapabilities());
 
@@ -117,19 +237,78 @@ public class EclipseLanguageClient implements AutoCloseable {
 
         sendRequest(connection, "initialize", initializeParams, InitializeResult.class);
         connection.notifyWithSerializedObject("initialized", "null");
+        return connection;
+    }
+
+    private void changeWorkspaceFolder(Connection connection, boolean add) {
+        List<WorkspaceFolder> folders = Collections.singletonList(new WorkspaceFolder(workspaceDir, "root"));
+        WorkspaceFoldersChangeEvent event = add
+            ? new WorkspaceFoldersChangeEvent(folders, Collections.emptyList())
+            : new WorkspaceFoldersChangeEvent(Collections.emptyList(), folders);
+        connection.notifyWithSerializedObject("workspace/didChangeWorkspaceFolders",
+            GSON.toJson(new DidChangeWorkspaceFoldersParams(event)));
+    }
+
+    /*
+     * The project of an added workspace folder is imported asynchronously. Waits, for a bounded time, until a type of
+     * the workspace can be found.
+     */
+    private void waitForWorkspaceIndexed(Connection connection) {
+        Optional<String> typeName = files.keySet()
+            .stream()
+            .filter(fileName -> fileName.startsWith("src/main/java/") && fileName.endsWith(".java"))
+            .findFirst()
+            .map(fileName -> fileName.substring(fileName.lastIndexOf('/') + 1, fileName.length() - ".java".length()));
+        if (typeName.isEmpty()) {
+            return;
+        }
+
+        WorkspaceSymbolParams workspaceSymbolParams = new WorkspaceSymbolParams(typeName.get());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WORKSPACE_INDEX_TIMEOUT_IN_MILLIS);
         try {
-            Thread.sleep(2500);
+            while (System.nanoTime() < deadline) {
+                List<SymbolInformation> symbols
+                    = sendRequest(connection, "workspace/symbol", workspaceSymbolParams, LIST_SYMBOL_INFORMATION);
+                if (symbols != null
+                    && symbols.stream().anyMatch(si -> si.getLocation().getUri().contains(workspaceName))) {
+                    return;
+                }
+                Thread.sleep(100);
+            }
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
+        logger.warn("Workspace {} isn't indexed by the language server after {} ms", workspaceDir,
+            WORKSPACE_INDEX_TIMEOUT_IN_MILLIS);
     }
 
+    /**
+     * Notifies the server of changed files. The notification is deferred until the next request to the server.
+     *
+     * @param changes the file changes
+     */
     public void notifyWatchedFilesChanged(List<FileEvent> changes) {
-        if (changes == null || changes.isEmpty()) {
+        // Without a started server there is no one to notify, the server reads the current files when it starts.
+        if (changes == null || connection == null) {
+            return;
+        }
+
+        for (FileEvent change : changes) {
+            // A file created or deleted since the previous request stays so, whatever its later changes.
+            FileEvent pendingChange = pendingChanges.get(change.getUri());
+            if (pendingChange == null || change.getType() != FileChangeType.Changed) {
+                pendingChanges.put(change.getUri(), change);
+            }
+        }
+    }
+
+    private void sendPendingChanges() {
+        if (pendingChanges.isEmpty()) {
             return;
         }
 
-        DidChangeWatchedFilesParams params = new DidChangeWatchedFilesParams(changes);
+        DidChangeWatchedFilesParams params = new DidChangeWatchedFilesParams(new ArrayList<>(pendingChanges.values()));
+        pendingChanges.clear();
         connection.notifyWithSerializedObject("workspace/didChangeWatchedFiles", GSON.toJson(params));
         try {
             // Wait for a moment as notify requests don't have a response. So, they're effectively fire and forget,
@@ -141,17 +320,32 @@ public class EclipseLanguageClient implements AutoCloseable {
     }
 
     public List<SymbolInformation> findWorkspaceSymbol(String query) {
+        // Symbols are located in the printed content of the files.
+        editor.printCompilationUnits();
+        List<SymbolInformation> symbols = symbolProvider.findWorkspaceSymbol(query);
+        if (symbols != null) {
+            return symbols;
+        }
+
         WorkspaceSymbolParams workspaceSymbolParams = new WorkspaceSymbolParams();
         workspaceSymbolParams.setQuery(query);
 
-        return sendRequest(connection, "workspace/symbol", workspaceSymbolParams, LIST_SYMBOL_INFORMATION);
+        return sendRequest(getConnection(), "workspace/symbol", workspaceSymbolParams, LIST_SYMBOL_INFORMATION);
     }
 
     public List<SymbolInformation> listDocumentSymbols(String fileUri) {
+        // Symbols are located in the printed content of the files.
+        editor.printCompilationUnits();
+        List<SymbolInformation> symbols = symbolProvider.listDocumentSymbols(fileUri);
+        if (symbols != null) {
+            return symbols;
+        }
+
         DocumentSymbolParams documentSymbolParams = new DocumentSymbolParams();
         documentSymbolParams.setTextDocument(new TextDocumentIdentifier(fileUri));
 
-        return sendRequest(connection, "textDocument/documentSymbol", documentSymbolParams, LIST_SYMBOL_INFORMATION);
+        return sendRequest(getConnection(), "textDocument/documentSymbol", documentSymbolParams,
+            LIST_SYMBOL_INFORMATION);
     }
 
     public WorkspaceEdit renameSymbol(String fileUri, Position symbolPosition, String newName) {
@@ -160,16 +354,24 @@ public class EclipseLanguageClient implements AutoCloseable {
         renameParams.setPosition(symbolPosition);
         renameParams.setNewName(newName);
 
-        return replaceTabsWithSpaces(sendRequest(connection, "textDocument/rename", renameParams, WorkspaceEdit.class));
+        return replaceTabsWithSpaces(
+            sendRequest(getConnection(), "textDocument/rename", renameParams, WorkspaceEdit.class));
     }
 
     public List<CodeAction> listCodeActions(String fileUri, Range range, String codeActionKind) {
+        // Organizing imports only matters for a type that needs a new import, removing and sorting imports is done by
+        // the formatting after customization.
+        editor.printCompilationUnits();
+        if (CodeActionKind.SourceOrganizeImports.equals(codeActionKind) && symbolProvider.resolvesAllTypes(fileUri)) {
+            return Collections.emptyList();
+        }
+
         CodeActionContext context = new CodeActionContext(Collections.emptyList());
         context.setOnly(Collections.singletonList(codeActionKind));
         CodeActionParams codeActionParams = new CodeActionParams(new TextDocumentIdentifier(fileUri), range, context);
 
         List<CodeAction> codeActions
-            = sendRequest(connection, "textDocument/codeAction", codeActionParams, LIST_CODE_ACTION);
+            = sendRequest(getConnection(), "textDocument/codeAction", codeActionParams, LIST_CODE_ACTION);
         for (CodeAction codeAction : codeActions) {
             if (codeAction.getEdit() != null) {
                 continue;
@@ -199,6 +401,25 @@ public class EclipseLanguageClient implements AutoCloseable {
     }
 
     public void close() {
+        if (pooledServer != null) {
+            // The server is kept for the next run, without this run's workspace.
+            if (connection != null) {
+                changeWorkspaceFolder(connection, false);
+                pool.release(pooledServer);
+            } else {
+                server.shutdown();
+            }
+            return;
+        }
+
+        if (connection == null) {
+            // The server was never started, or failed to initialize.
+            if (server != null) {
+                server.shutdown();
+            }
+            return;
+        }
+
         try {
             connection.request("shutdown");
             connection.notifyWithSerializedObject("exit", "null");
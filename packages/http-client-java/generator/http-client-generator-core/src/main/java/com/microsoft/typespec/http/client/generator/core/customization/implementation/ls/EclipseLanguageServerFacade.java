@@ -30,6 +30,15 @@ public class EclipseLanguageServerFacade {
 
     private final Process server;
 
+    /**
+     * Wraps a started language server process.
+     *
+     * @param server the language server process
+     */
+    EclipseLanguageServerFacade(Process server) {
+        this.server = server;
+    }
+
     public EclipseLanguageServerFacade(String pathToLanguageServerPlugin, Logger logger) {
         Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
         try {
@@ -0,0 +1,346 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization.implementation.ls;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.PackageDeclaration;
+import com.github.javaparser.ast.body.AnnotationMemberDeclaration;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.CallableDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.EnumConstantDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithSimpleName;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.TypeParameter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.SymbolKind;
+
+/**
+ * Answers the symbol requests of the customizations from JavaParser ASTs of the files being customized, in-process.
+ * <p>
+ * The symbols mirror those of Eclipse JDT language server: a flat list in source order, located at the name of the
+ * declaration, with the parameter types in the names of methods and constructors, and static final fields as
+ * {@link SymbolKind#Constant}. A parsed {@link CompilationUnit} is cached until the content of its file changes.
+ * <p>
+ * The provider returns {@code null} when a file can't be parsed, for the caller to fall back to the language server.
+ */
+final class JavaParserSymbolProvider {
+    private static final String SOURCE_ROOT = "src/main/java/";
+
+    private final Path workspaceDir;
+    private final Map<String, String> files;
+    private final JavaParser parser = new JavaParser();
+    private final Map<String, ParsedFile> parsedFiles = new HashMap<>();
+
+    /**
+     * Creates a symbol provider.
+     *
+     * @param workspaceDir the directory the files are written to, which the file URIs are resolved against
+     * @param files the live mapping from file relative paths (starting with "src/main/java") to file contents
+     */
+    JavaParserSymbolProvider(Path workspaceDir, Map<String, String> files) {
+        this.workspaceDir = workspaceDir;
+        this.files = files;
+    }
+
+    /**
+     * Finds the types whose simple name contains the query, ignoring case. The query "*" matches all types.
+     *
+     * @param query the query
+     * @return the type symbols, or {@code null} if a candidate file can't be parsed
+     */
+    List<SymbolInformation> findWorkspaceSymbol(String query) {
+        boolean matchAll = query == null || query.isEmpty() || "*".equals(query);
+
+        List<SymbolInformation> symbols = new ArrayList<>();
+        // Sorted, for the result to not depend on the iteration order of the files.
+        for (String fileName : new TreeSet<>(files.keySet())) {
+            String content = files.get(fileName);
+            // A type can only match if its name, hence the query, is in the file.
+            if (!isJavaSource(fileName) || (!matchAll && !containsIgnoreCase(content, query))) {
+                continue;
+            }
+
+            CompilationUnit compilationUnit = parse(fileName, content);
+            if (compilationUnit == null) {
+                return null;
+            }
+
+            String packageName = compilationUnit.getPackageDeclaration()
+                .map(PackageDeclaration::getNameAsString)
+                .orElse("");
+            String uri = toUri(fileName);
+            for (TypeDeclaration<?> type : compilationUnit.getTypes()) {
+                addTypeSymbols(type, packageName, uri, matchAll ? null : query, symbols);
+            }
+        }
+        return symbols;
+    }
+
+    /**
+     * Lists the symbols declared in a file, in source order.
+     *
+     * @param fileUri the URI of the file
+     * @return the symbols, or {@code null} if the file can't be parsed
+     */
+    List<SymbolInformation> listDocumentSymbols(String fileUri) {
+        String fileName = toFileName(fileUri);
+        String content = fileName == null ? null : files.get(fileName);
+        if (content == null) {
+            return new ArrayList<>();
+        }
+
+        CompilationUnit compilationUnit = parse(fileName, content);
+        if (compilationUnit == null) {
+            return null;
+        }
+
+        String packageName = compilationUnit.getPackageDeclaration()
+            .map(PackageDeclaration::getNameAsString)
+            .orElse("");
+        List<SymbolInformation> symbols = new ArrayList<>();
+        for (TypeDeclaration<?> type : compilationUnit.getTypes()) {
+            addDocumentSymbols(type, packageName, fileUri, symbols);
+        }
+        return symbols;
+    }
+
+    /**
+     * Checks whether every type referenced in a file resolves without adding an import, in which case organizing
+     * imports only removes or sorts imports, which the formatting after customization does as well.
+     * <p>
+     * A type resolves if it's qualified by its package, imported by a single-type import, declared in the file, a
+     * type parameter, in the same package, or in java.lang. Files with on-demand imports never resolve, as which
+     * types they import is only known to the language server.
+     *
+     * @param fileUri the URI of the file
+     * @return whether every referenced type resolves
+     */
+    boolean resolvesAllTypes(String fileUri) {
+        String fileName = toFileName(fileUri);
+        String content = fileName == null ? null : files.get(fileName);
+        CompilationUnit compilationUnit = content == null ? null : parse(fileName, content);
+        if (compilationUnit == null) {
+            return false;
+        }
+
+        Set<String> knownNames = new HashSet<>();
+        for (ImportDeclaration importDeclaration : compilationUnit.getImports()) {
+            if (importDeclaration.isAsterisk()) {
+                return false;
+            }
+            knownNames.add(importDeclaration.getName().getIdentifier());
+        }
+        compilationUnit.findAll(TypeDeclaration.class).forEach(type -> knownNames.add(type.getNameAsString()));
+        compilationUnit.findAll(TypeParameter.class).forEach(type -> knownNames.add(type.getNameAsString()));
+        // Variables, so that a scope such as "LOGGER.info(...)" isn't taken for a type.
+        compilationUnit.findAll(VariableDeclarator.class)
+            .forEach(variable -> knownNames.add(variable.getNameAsString()));
+        compilationUnit.findAll(Parameter.class).forEach(parameter -> knownNames.add(parameter.getNameAsString()));
+        compilationUnit.findAll(EnumConstantDeclaration.class)
+            .forEach(constant -> knownNames.add(constant.getNameAsString()));
+
+        String packagePath = SOURCE_ROOT + compilationUnit.getPackageDeclaration()
+            .map(declaration -> declaration.getNameAsString().replace('.', '/') + "/")
+            .orElse("");
+
+        Set<String> referencedNames = new HashSet<>();
+        for (ClassOrInterfaceType type : compilationUnit.findAll(ClassOrInterfaceType.class)) {
+            ClassOrInterfaceType root = type;
+            while (root.getScope().isPresent()) {
+                root = root.getScope().get();
+            }
+            // "com.azure.Foo" is qualified by its package, "Map.Entry" needs "Map" to resolve.
+            if (root == type || Character.isUpperCase(root.getName().getIdentifier().charAt(0))) {
+                referencedNames.add(root.getName().getIdentifier());
+            }
+        }
+        for (AnnotationExpr annotation : compilationUnit.findAll(AnnotationExpr.class)) {
+            Name root = annotation.getName();
+            while (root.getQualifier().isPresent()) {
+                root = root.getQualifier().get();
+            }
+            if (root == annotation.getName() || Character.isUpperCase(root.getIdentifier().charAt(0))) {
+                referencedNames.add(root.getIdentifier());
+            }
+        }
+        // Static member access such as "Arrays.asList(...)" references "Arrays" through an expression.
+        compilationUnit.findAll(MethodCallExpr.class)
+            .forEach(call -> call.getScope().ifPresent(scope -> addTypeLikeName(scope, referencedNames)));
+        compilationUnit.findAll(FieldAccessExpr.class)
+            .forEach(access -> addTypeLikeName(access.getScope(), referencedNames));
+
+        for (String name : referencedNames) {
+            if (!knownNames.contains(name)
+                && !files.containsKey(packagePath + name + ".java")
+                && !isJavaLangType(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CompilationUnit parse(String fileName, String content) {
+        ParsedFile parsedFile = parsedFiles.get(fileName);
+        if (parsedFile != null && (parsedFile.content == content || parsedFile.content.equals(content))) {
+            return parsedFile.compilationUnit;
+        }
+
+        ParseResult<CompilationUnit> result = parser.parse(content);
+        CompilationUnit compilationUnit
+            = result.isSuccessful() && result.getResult().isPresent() ? result.getResult().get() : null;
+        parsedFiles.put(fileName, new ParsedFile(content, compilationUnit));
+        return compilationUnit;
+    }
+
+    private static void addTypeSymbols(TypeDeclaration<?> type, String containerName, String uri, String query,
+        List<SymbolInformation> symbols) {
+        String name = type.getNameAsString();
+        if (query == null || containsIgnoreCase(name, query)) {
+            symbols.add(createSymbol(name, getTypeKind(type), type, uri, containerName));
+        }
+
+        String nestedContainerName = containerName.isEmpty() ? name : containerName + "." + name;
+        for (BodyDeclaration<?> member : type.getMembers()) {
+            if (member instanceof TypeDeclaration) {
+                addTypeSymbols((TypeDeclaration<?>) member, nestedContainerName, uri, query, symbols);
+            }
+        }
+    }
+
+    private static void addDocumentSymbols(TypeDeclaration<?> type, String containerName, String uri,
+        List<SymbolInformation> symbols) {
+        String typeName = type.getNameAsString();
+        symbols.add(createSymbol(typeName, getTypeKind(type), type, uri, containerName));
+
+        if (type instanceof EnumDeclaration) {
+            for (EnumConstantDeclaration constant : ((EnumDeclaration) type).getEntries()) {
+                symbols.add(createSymbol(constant.getNameAsString(), SymbolKind.EnumMember, constant, uri, typeName));
+            }
+        }
+
+        for (BodyDeclaration<?> member : type.getMembers()) {
+            if (member instanceof FieldDeclaration) {
+                FieldDeclaration field = (FieldDeclaration) member;
+                SymbolKind kind = field.isStatic() && field.isFinal() ? SymbolKind.Constant : SymbolKind.Field;
+                for (VariableDeclarator variable : field.getVariables()) {
+                    symbols.add(createSymbol(variable.getNameAsString(), kind, variable, uri, typeName));
+                }
+            } else if (member instanceof CallableDeclaration) {
+                CallableDeclaration<?> callable = (CallableDeclaration<?>) member;
+                SymbolKind kind = callable.isConstructorDeclaration() ? SymbolKind.Constructor : SymbolKind.Method;
+                symbols.add(createSymbol(getCallableName(callable), kind, callable, uri, typeName));
+            } else if (member instanceof AnnotationMemberDeclaration) {
+                AnnotationMemberDeclaration annotationMember = (AnnotationMemberDeclaration) member;
+                symbols.add(createSymbol(annotationMember.getNameAsString() + "()", SymbolKind.Method,
+                    annotationMember, uri, typeName));
+            } else if (member instanceof TypeDeclaration) {
+                addDocumentSymbols((TypeDeclaration<?>) member, typeName, uri, symbols);
+            }
+        }
+    }
+
+    private static SymbolKind getTypeKind(TypeDeclaration<?> type) {
+        if (type.isEnumDeclaration()) {
+            return SymbolKind.Enum;
+        } else if (type.isAnnotationDeclaration()
+            || (type instanceof ClassOrInterfaceDeclaration && ((ClassOrInterfaceDeclaration) type).isInterface())) {
+            return SymbolKind.Interface;
+        } else {
+            return SymbolKind.Class;
+        }
+    }
+
+    private static String getCallableName(CallableDeclaration<?> callable) {
+        return callable.getParameters()
+            .stream()
+            .map(parameter -> parameter.getType().asString() + (parameter.isVarArgs() ? "..." : ""))
+            .collect(Collectors.joining(", ", callable.getNameAsString() + "(", ")"));
+    }
+
+    private static SymbolInformation createSymbol(String name, SymbolKind kind, NodeWithSimpleName<?> declaration,
+        String uri, String containerName) {
+        // JavaParser lines and columns are 1-based with an inclusive end, LSP ones are 0-based with an exclusive end.
+        com.github.javaparser.Range nameRange = declaration.getName().getRange().get();
+        Range range = new Range(new Position(nameRange.begin.line - 1, nameRange.begin.column - 1),
+            new Position(nameRange.end.line - 1, nameRange.end.column));
+        return new SymbolInformation(name, kind, new Location(uri, range), containerName);
+    }
+
+    private static void addTypeLikeName(Expression scope, Set<String> names) {
+        if (scope instanceof NameExpr) {
+            String name = ((NameExpr) scope).getNameAsString();
+            if (Character.isUpperCase(name.charAt(0))) {
+                names.add(name);
+            }
+        }
+    }
+
+    private static boolean isJavaLangType(String name) {
+        try {
+            Class.forName("java.lang." + name, false, JavaParserSymbolProvider.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean isJavaSource(String fileName) {
+        return fileName.startsWith(SOURCE_ROOT) && fileName.endsWith(".java");
+    }
+
+    private static boolean containsIgnoreCase(String text, String term) {
+        for (int i = 0; i <= text.length() - term.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String toUri(String fileName) {
+        return workspaceDir.resolve(fileName).toUri().toString();
+    }
+
+    private static String toFileName(String fileUri) {
+        int i = fileUri.indexOf(SOURCE_ROOT);
+        return i < 0 ? null : fileUri.substring(i);
+    }
+
+    private static final class ParsedFile {
+        private final String content;
+        private final CompilationUnit compilationUnit;
+
+        private ParsedFile(String content, CompilationUnit compilationUnit) {
+            this.content = content;
+            this.compilationUnit = compilationUnit;
+        }
+    }
+}
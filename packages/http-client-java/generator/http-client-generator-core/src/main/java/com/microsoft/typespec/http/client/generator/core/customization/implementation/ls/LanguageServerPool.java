@@ -0,0 +1,263 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization.implementation.ls;
+
+import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of initialized Eclipse JDT language servers, reused by the customization runs in the same JVM.
+ * <p>
+ * The pool doesn't outlive the JVM, and the servers aren't shared across processes. The generator process started by
+ * the emitter generates a single library and exits, so it doesn't reuse a server. The reuse is for a JVM that runs the
+ * customization of several libraries, one after the other, through {@code Customization.run}, such as a tool that
+ * regenerates the libraries of a repository. The first run starts and initializes a server, and the later runs only
+ * switch the workspace folder of that server.
+ * <p>
+ * The pool is enabled by setting {@code codegen.java.customization.languageserver.pool.size} to the maximum number of
+ * idle servers kept per Java version and language server path. An idle server is shut down after
+ * {@code codegen.java.customization.languageserver.pool.idle.timeout} seconds, which defaults to 300. Before a server
+ * is reused, it's checked to be alive and to answer a request.
+ * <p>
+ * A pooled server is initialized with an empty root folder owned by the pool. Each run adds its own workspace folder
+ * with {@code workspace/didChangeWorkspaceFolders}, and removes it when it releases the server. When the JVM shuts
+ * down, the idle servers are shut down and the root folder is deleted.
+ * <p>
+ * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+ */
+final class LanguageServerPool {
+    private static final String POOL_SIZE = "codegen.java.customization.languageserver.pool.size";
+    private static final String IDLE_TIMEOUT = "codegen.java.customization.languageserver.pool.idle.timeout";
+    private static final long DEFAULT_IDLE_TIMEOUT_IN_SECONDS = 300;
+    private static final long HEALTH_CHECK_TIMEOUT_IN_MILLIS = 5000;
+
+    private final int maxIdleServers;
+    private final long idleTimeoutNanos;
+    private final Path rootDir;
+    private final Map<String, Deque<PooledServer>> idleServers = new HashMap<>();
+    // Guarded by idleServers.
+    private boolean shutdown;
+    private final ScheduledExecutorService evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "language-server-pool-eviction");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Health checks run on their own threads, as a request to an unresponsive server never completes.
+    private final ExecutorService healthCheckExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "language-server-pool-health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    LanguageServerPool(int maxIdleServers, long idleTimeoutInSeconds, Path rootDir) {
+        this.maxIdleServers = maxIdleServers;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutInSeconds);
+        this.rootDir = rootDir;
+    }
+
+    /**
+     * Gets the pool configured by the environment.
+     *
+     * @return The pool, or null if pooling isn't enabled.
+     */
+    static LanguageServerPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static LanguageServerPool fromEnvironment() {
+        String poolSize = getConfiguration(POOL_SIZE);
+        if (poolSize == null || poolSize.isEmpty() || Integer.parseInt(poolSize) <= 0) {
+            return null;
+        }
+
+        String idleTimeout = getConfiguration(IDLE_TIMEOUT);
+        long idleTimeoutInSeconds = (idleTimeout == null || idleTimeout.isEmpty())
+            ? DEFAULT_IDLE_TIMEOUT_IN_SECONDS
+            : Long.parseLong(idleTimeout);
+
+        LanguageServerPool pool;
+        try {
+            pool = new LanguageServerPool(Integer.parseInt(poolSize), idleTimeoutInSeconds,
+                FileUtils.createTempDirectory("language-server-root"));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "language-server-pool-shutdown"));
+        return pool;
+    }
+
+    private static String getConfiguration(String name) {
+        String value = System.getProperty(name);
+        return value == null ? System.getenv(name) : value;
+    }
+
+    /**
+     * Gets the key of the servers that can be shared, as the server version depends on the Java version.
+     *
+     * @param pathToLanguageServerPlugin the path to the language server, or null if it's downloaded
+     * @return the key
+     */
+    static String getKey(String pathToLanguageServerPlugin) {
+        return Runtime.version().feature() + "|" + Objects.toString(pathToLanguageServerPlugin, "");
+    }
+
+    /**
+     * Gets the URI of the empty root folder that pooled servers are initialized with.
+     *
+     * @return the URI of the root folder
+     */
+    String getRootUri() {
+        return rootDir.toUri().toString();
+    }
+
+    /**
+     * Takes a healthy idle server. Servers found unhealthy are shut down.
+     *
+     * @param key the key of the server
+     * @return the server, or null if there is no healthy idle server
+     */
+    PooledServer acquire(String key) {
+        while (true) {
+            PooledServer server;
+            synchronized (idleServers) {
+                Deque<PooledServer> servers = idleServers.get(key);
+                server = servers == null ? null : servers.pollFirst();
+            }
+
+            if (server == null) {
+                return null;
+            } else if (isHealthy(server)) {
+                return server;
+            } else {
+                server.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns a server to the pool, or shuts it down if it's no longer alive or the pool is full.
+     *
+     * @param server the server
+     */
+    void release(PooledServer server) {
+        if (server.facade.isAlive()) {
+            server.idleSinceNanos = System.nanoTime();
+            synchronized (idleServers) {
+                Deque<PooledServer> servers = idleServers.computeIfAbsent(server.key, ignored -> new ArrayDeque<>());
+                if (!shutdown && servers.size() < maxIdleServers) {
+                    // Most recently used first, so the least used servers are the ones that time out.
+                    servers.addFirst(server);
+                    evictionExecutor.schedule(this::evictIdleServers, idleTimeoutNanos, TimeUnit.NANOSECONDS);
+                    return;
+                }
+            }
+        }
+        server.shutdown();
+    }
+
+    /**
+     * Shuts down the idle servers and deletes the root folder. A server released afterward is shut down.
+     */
+    void shutdown() {
+        List<PooledServer> servers = new ArrayList<>();
+        synchronized (idleServers) {
+            shutdown = true;
+            idleServers.values().forEach(servers::addAll);
+            idleServers.clear();
+        }
+        evictionExecutor.shutdownNow();
+        healthCheckExecutor.shutdownNow();
+        servers.forEach(PooledServer::shutdown);
+        Utils.deleteDirectory(rootDir.toFile());
+    }
+
+    private void evictIdleServers() {
+        List<PooledServer> evicted = new ArrayList<>();
+        long now = System.nanoTime();
+        synchronized (idleServers) {
+            for (Deque<PooledServer> servers : idleServers.values()) {
+                Iterator<PooledServer> iterator = servers.iterator();
+                while (iterator.hasNext()) {
+                    PooledServer server = iterator.next();
+                    if (now - server.idleSinceNanos >= idleTimeoutNanos) {
+                        iterator.remove();
+                        evicted.add(server);
+                    }
+                }
+            }
+        }
+        evicted.forEach(PooledServer::shutdown);
+    }
+
+    private boolean isHealthy(PooledServer server) {
+        if (!server.facade.isAlive()) {
+            return false;
+        }
+
+        try {
+            CompletableFuture.supplyAsync(
+                () -> server.connection.requestWithSerializedObject("workspace/symbol", "{\"query\":\"\"}"),
+                healthCheckExecutor).get(HEALTH_CHECK_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * An initialized language server, owned by one customization run at a time.
+     */
+    static final class PooledServer {
+        private final String key;
+        private final EclipseLanguageServerFacade facade;
+        private final Connection connection;
+        private volatile long idleSinceNanos;
+
+        PooledServer(String key, EclipseLanguageServerFacade facade, Connection connection) {
+            this.key = key;
+            this.facade = facade;
+            this.connection = connection;
+        }
+
+        EclipseLanguageServerFacade getFacade() {
+            return facade;
+        }
+
+        Connection getConnection() {
+            return connection;
+        }
+
+        private void shutdown() {
+            // No "shutdown" request, as its response never comes from an unresponsive server.
+            try {
+                connection.notifyWithSerializedObject("exit", "null");
+                connection.stop();
+            } catch (RuntimeException e) {
+                // The server is destroyed below anyway.
+            }
+            facade.shutdown();
+        }
+    }
+
+    private static final class Holder {
+        private static final LanguageServerPool INSTANCE = fromEnvironment();
+    }
+}
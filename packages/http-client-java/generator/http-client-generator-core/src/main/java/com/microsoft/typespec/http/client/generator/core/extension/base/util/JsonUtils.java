@@ -2,16 +2,70 @@
 // Licensed under the MIT License.
 package com.microsoft.typespec.http.client.generator.core.extension.base.util;
 
+import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import com.azure.json.ReadValueCallback;
 import com.azure.json.WriteValueCallback;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 /**
  * Utility classes that help simplify repetitive code with {@code azure-json}.
  */
 public final class JsonUtils {
+    // Objects by "$id", when reading with references.
+    private static final ThreadLocal<Map<String, Object>> REFERENCES = new ThreadLocal<>();
+
+    /**
+     * Reads a value from the passed {@code jsonReader}, resolving references between the JSON objects.
+     * <p>
+     * This is the JSON form of YAML anchors and aliases. A JSON object read by {@link #readObject} with a
+     * {@code "$id"} field is registered under that id, and a JSON object with a {@code "$ref"} field is read as the
+     * object registered under the referenced id. The {@code "$id"} field should be the first field of the JSON object,
+     * so that references from its children, in case of cycles, resolve to the object being read.
+     *
+     * @param jsonReader The JSON reader to read the value from.
+     * @param valueReader The callback that reads the value.
+     * @return The value read.
+     * @param <T> The type of value to read.
+     * @throws IOException If an error occurs while reading the value.
+     */
+    public static <T> T readWithReferences(JsonReader jsonReader, ReadValueCallback<JsonReader, T> valueReader)
+        throws IOException {
+        Map<String, Object> previousReferences = REFERENCES.get();
+        REFERENCES.set(new HashMap<>());
+        try {
+            return valueReader.read(jsonReader);
+        } finally {
+            if (previousReferences == null) {
+                REFERENCES.remove();
+            } else {
+                REFERENCES.set(previousReferences);
+            }
+        }
+    }
+
+    /**
+     * Gets the object registered under the {@code "$id"}, when reading with {@link #readWithReferences}.
+     *
+     * @param id The id of the object.
+     * @return The object registered under the id.
+     * @throws IllegalStateException If no object is registered under the id.
+     */
+    public static Object getReference(String id) {
+        Map<String, Object> references = REFERENCES.get();
+        Object object = references == null ? null : references.get(id);
+        if (object == null) {
+            throw new IllegalStateException("Unresolved JSON reference '" + id + "'.");
+        }
+        return object;
+    }
+
     /**
      * Reads a JSON object from the passed {@code jsonReader} and creates an object of type {@code T} using the passed
      * {@code objectCreator}. The {@code callback} is then called for each field in the JSON object to read the field
@@ -26,11 +80,116 @@ public final class JsonUtils {
      */
     public static <T> T readObject(JsonReader jsonReader, Supplier<T> objectCreator, ReadObjectCallback<T> callback)
         throws IOException {
-        return jsonReader.readObject(reader -> {
-            T object = objectCreator.get();
-            fieldReaderLoop(reader, (fieldName, r) -> callback.read(object, fieldName, r));
+        return readObject(jsonReader, null, objectCreator, callback);
+    }
+
+    /**
+     * Reads a JSON object, of which the caller may have read the leading fields, from the passed {@code jsonReader}
+     * and creates an object of type {@code T} using the passed {@code objectCreator}. The {@code callback} is then
+     * called for each remaining field in the JSON object to read the field value and set it on the object.
+     * <p>
+     * If {@code partialObject} is null, this is {@link #readObject(JsonReader, Supplier, ReadObjectCallback)}.
+     * Otherwise, see {@link PartialObject} for where the {@code jsonReader} is.
+     *
+     * @param jsonReader The JSON reader to read the object from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @param objectCreator The supplier that creates a new instance of the object.
+     * @param callback The callback that reads the field value and sets it on the object.
+     * @return The object created from the JSON object.
+     * @param <T> The type of object to create.
+     * @throws IOException If an error occurs while reading the JSON object.
+     */
+    public static <T> T readObject(JsonReader jsonReader, PartialObject partialObject, Supplier<T> objectCreator,
+        ReadObjectCallback<T> callback) throws IOException {
+        Map<String, Object> references = REFERENCES.get();
+        if (partialObject == null) {
+            return jsonReader.readObject(reader -> readFields(reader, objectCreator.get(), null, references, callback));
+        }
+
+        T object = objectCreator.get();
+        if (partialObject.id != null && references != null) {
+            references.put(partialObject.id, object);
+        }
+        if (partialObject.fieldName == null) {
+            return jsonReader.readObject(reader -> readFields(reader, object, null, references, callback));
+        }
+        return readFields(jsonReader, object, partialObject.fieldName, references, callback);
+    }
+
+    /**
+     * Buffers the rest of the JSON object the passed {@code jsonReader} is in, from the field name or the end of the
+     * object it's at, to a new JSON object.
+     * <p>
+     * This is {@link JsonReader#bufferObject()} called at a field name, which in azure-json 1.3.0 ends the buffered
+     * JSON object at the end of the first nested object.
+     *
+     * @param jsonReader The JSON reader at a field name, or at the end of the object.
+     * @return A JSON reader of a JSON object with the rest of the fields.
+     * @throws IOException If an error occurs while reading the JSON object.
+     */
+    public static JsonReader bufferRemainingFields(JsonReader jsonReader) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            jsonWriter.writeStartObject();
+            while (jsonReader.currentToken() != JsonToken.END_OBJECT) {
+                jsonWriter.writeFieldName(jsonReader.getFieldName());
+                switch (jsonReader.nextToken()) {
+                    case START_OBJECT:
+                    case START_ARRAY:
+                        jsonWriter.writeRawValue(jsonReader.readChildren());
+                        break;
+
+                    case STRING:
+                        jsonWriter.writeString(jsonReader.getString());
+                        break;
+
+                    case BOOLEAN:
+                        jsonWriter.writeBoolean(jsonReader.getBoolean());
+                        break;
+
+                    case NULL:
+                        jsonWriter.writeNull();
+                        break;
+
+                    default:
+                        jsonWriter.writeRawValue(jsonReader.getRawText());
+                        break;
+                }
+                jsonReader.nextToken();
+            }
+            jsonWriter.writeEndObject();
+        }
+        return JsonProviders.createReader(outputStream.toByteArray());
+    }
+
+    private static <T> T readFields(JsonReader reader, T object, String fieldName, Map<String, Object> references,
+        ReadObjectCallback<T> callback) throws IOException {
+        if (references == null) {
+            if (fieldName != null) {
+                callback.read(object, fieldName, reader);
+            }
+            fieldReaderLoop(reader, (name, r) -> callback.read(object, name, r));
             return object;
-        });
+        }
+
+        Object[] referencedObject = new Object[1];
+        WriteValueCallback<String, JsonReader> fieldConsumer = (name, r) -> {
+            if ("$id".equals(name)) {
+                references.put(r.getString(), object);
+            } else if ("$ref".equals(name)) {
+                referencedObject[0] = getReference(r.getString());
+            } else {
+                callback.read(object, name, r);
+            }
+        };
+        if (fieldName != null) {
+            fieldConsumer.write(fieldName, reader);
+        }
+        fieldReaderLoop(reader, fieldConsumer);
+
+        @SuppressWarnings("unchecked")
+        T result = referencedObject[0] == null ? object : (T) referencedObject[0];
+        return result;
     }
 
     /**
@@ -68,6 +227,48 @@ public final class JsonUtils {
         void read(T object, String fieldName, JsonReader jsonReader) throws IOException;
     }
 
+    /**
+     * Callback for reading a JSON object, of which the caller may have read the leading fields.
+     *
+     * @param <T> The type of the object being read.
+     */
+    public interface ReadPartialObjectCallback<T> {
+        /**
+         * Reads the JSON object.
+         *
+         * @param jsonReader The JSON reader to read the object from.
+         * @param partialObject The leading fields read by the caller, or null if none were read.
+         * @return The object read.
+         * @throws IOException If an error occurs while reading the JSON object.
+         */
+        T read(JsonReader jsonReader, PartialObject partialObject) throws IOException;
+    }
+
+    /**
+     * The leading fields of a JSON object, read by the caller before it knew the type of the object, for example to
+     * find its "type".
+     * <p>
+     * If the field name isn't null, the JSON reader is at the value of that field, and reading the object
+     * continues from that field to the end of the JSON object. Otherwise, the JSON reader is at the start of a JSON
+     * object with the rest of the fields.
+     */
+    public static final class PartialObject {
+        private final String id;
+        private final String fieldName;
+
+        /**
+         * Creates the leading fields of a JSON object.
+         *
+         * @param id The "$id" field, or null. The object read is registered under it, when reading with
+         * {@link JsonUtils#readWithReferences}.
+         * @param fieldName The name of the field the JSON reader is at the value of, or null.
+         */
+        public PartialObject(String id, String fieldName) {
+            this.id = id;
+            this.fieldName = fieldName;
+        }
+    }
+
     /**
      * Helper method to iterate over the field of a JSON object.
      * <p>
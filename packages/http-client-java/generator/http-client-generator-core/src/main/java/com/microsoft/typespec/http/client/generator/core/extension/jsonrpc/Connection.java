@@ -12,14 +12,18 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -27,17 +31,37 @@ import java.util.function.Supplier;
 
 /**
  * Represents a connection.
+ * <p>
+ * Outgoing messages are queued and written by a dedicated writer thread, which writes all queued messages before
+ * flushing the output stream, so the sending thread doesn't block on the pipe. The queue is bounded by the size of the
+ * queued messages, sending blocks when the queue is full. {@link #flush()} waits until all messages sent before it are
+ * written.
+ * <p>
+ * Messages can be sent from any thread, such as the template rendering threads. Each message is framed on the sending
+ * thread and queued as a whole, so the frames of concurrent messages never interleave.
  */
 public class Connection {
+    // Maximum total size of the queued outgoing messages, in bytes.
+    private static final int MAX_QUEUED_BYTES = 16 * 1024 * 1024;
+    // Maximum number of queued messages written in one batch, before the output stream is flushed.
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final Object STOP = new Object();
+
     private OutputStream writer;
     private PeekingBinaryReader reader;
     private boolean isDisposed = false;
     private final AtomicInteger requestId;
     private final Map<Integer, CompletableFuture<String>> tasks = new ConcurrentHashMap<>();
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final ExecutorService executorService = createDispatchExecutor();
     private final CompletableFuture<Void> loop;
     private final Map<String, Function<String, String>> dispatch = new ConcurrentHashMap<>();
 
+    // Queued byte[] messages, CompletableFuture flush barriers, or STOP.
+    private final BlockingQueue<Object> outgoing = new LinkedBlockingQueue<>();
+    private final Semaphore outgoingBytes = new Semaphore(MAX_QUEUED_BYTES);
+    private final Thread writerThread;
+    private volatile IOException writeError;
+
     /**
      * Create a new Connection.
      *
@@ -47,46 +71,49 @@ public class Connection {
     public Connection(OutputStream writer, InputStream input) {
         this.writer = writer;
         this.reader = new PeekingBinaryReader(input);
+        this.writerThread = new Thread(this::writeLoop, "jsonrpc-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
         this.loop = CompletableFuture.runAsync(this::listen);
         this.requestId = new AtomicInteger(0);
     }
 
+    /**
+     * Creates the executor of the dispatched messages, using virtual threads when the runtime supports them.
+     * <p>
+     * The executor isn't bounded, as a dispatched method can send a request and wait for its response, which is itself
+     * processed by the executor.
+     *
+     * @return The executor of the dispatched messages.
+     */
+    private static ExecutorService createDispatchExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
     private volatile boolean isAlive = true;
 
     /**
-     * Stops the connection.
+     * Stops the connection, after the queued outgoing messages are written.
      */
     public void stop() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // The output stream failed, nothing more can be written.
+        }
         isAlive = false;
         loop.cancel(true);
     }
 
     private String readJson() {
-        String jsonText = "";
-        while (true) {
-            try {
-                jsonText += reader.readAsciiLine(); // + "\n";
-            } catch (IOException e) {
-                throw new RuntimeException("Cannot read JSON input");
-            }
-            try {
-                validateJsonText(jsonText);
-                return jsonText;
-            } catch (IOException e) {
-                // not enough text?
-            }
-        }
-    }
-
-    /**
-     * Tests that the passed {@code jsonText} is valid JSON.
-     *
-     * @param jsonText The JSON text to validate.
-     * @throws IOException If the JSON text is invalid.
-     */
-    private static void validateJsonText(String jsonText) throws IOException {
-        try (JsonReader jsonReader = JsonProviders.createReader(jsonText)) {
-            jsonReader.readUntyped();
+        try {
+            return reader.readJsonValue();
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot read JSON input", e);
         }
     }
 
@@ -146,7 +173,7 @@ public class Connection {
 
     private String readJson(int contentLength) {
         try {
-            return new String(reader.readBytes(contentLength), StandardCharsets.UTF_8);
+            return reader.readString(contentLength);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -309,6 +336,12 @@ public class Connection {
             isDisposed = true;
             tasks.forEach((ignored, future) -> future.cancel(true));
 
+            outgoing.add(STOP);
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
             writer.close();
             writer = null;
             reader.close();
@@ -322,14 +355,110 @@ public class Connection {
         byte[] buffer = new byte[header.length + data.length];
         System.arraycopy(header, 0, buffer, 0, header.length);
         System.arraycopy(data, 0, buffer, header.length, data.length);
+
+        throwIfWriteFailed();
+        try {
+            // Back-pressure, a message larger than the queue only waits for the queue to be empty.
+            outgoingBytes.acquire(permits(buffer));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        outgoing.add(buffer);
+    }
+
+    /**
+     * Waits until all messages sent before this call are written to the output stream and flushed.
+     */
+    public void flush() {
+        if (!writerThread.isAlive()) {
+            throwIfWriteFailed();
+            return;
+        }
+
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        outgoing.add(barrier);
+        try {
+            barrier.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(outgoing.take());
+                outgoing.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+                int writtenBytes = 0;
+                boolean stop = false;
+                List<CompletableFuture<Void>> barriers = new ArrayList<>();
+                for (Object item : batch) {
+                    if (item instanceof byte[]) {
+                        byte[] buffer = (byte[]) item;
+                        if (writeError == null) {
+                            writeMessage(buffer);
+                        }
+                        writtenBytes += permits(buffer);
+                    } else if (item == STOP) {
+                        stop = true;
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        CompletableFuture<Void> barrier = (CompletableFuture<Void>) item;
+                        barriers.add(barrier);
+                    }
+                }
+                batch.clear();
+
+                if (writeError == null) {
+                    try {
+                        writer.flush();
+                    } catch (IOException e) {
+                        writeError = e;
+                    }
+                }
+                outgoingBytes.release(writtenBytes);
+                for (CompletableFuture<Void> barrier : barriers) {
+                    if (writeError == null) {
+                        barrier.complete(null);
+                    } else {
+                        barrier.completeExceptionally(writeError);
+                    }
+                }
+
+                if (stop) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeMessage(byte[] buffer) {
         try {
             writer.write(buffer);
-            writer.flush();
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            writeError = e;
+        }
+    }
+
+    private void throwIfWriteFailed() {
+        IOException error = writeError;
+        if (error != null) {
+            throw new RuntimeException(error);
         }
     }
 
+    private static int permits(byte[] buffer) {
+        return Math.min(buffer.length, MAX_QUEUED_BYTES);
+    }
+
     /**
      * Sends an error.
      *
@@ -4,49 +4,129 @@
 package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+/**
+ * Buffered reader of the JSON-RPC input.
+ * <p>
+ * Messages are read into a frame buffer that is reused across messages, and decoded to a String once. A JSON message
+ * without Content-Length header is framed in a single pass, by tracking the nesting depth of the JSON value.
+ * <p>
+ * The reader isn't thread-safe, it's used by the listening thread of the {@link Connection}.
+ */
 class PeekingBinaryReader implements Closeable {
-    Integer lastByte;
-    InputStream input;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // The frame buffer isn't kept for reuse above this size, so a single large message doesn't hold the memory.
+    private static final int MAX_RETAINED_FRAME_SIZE = 16 * 1024 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private byte[] frame = new byte[BUFFER_SIZE];
 
     PeekingBinaryReader(InputStream input) {
-        this.lastByte = null;
         this.input = input;
     }
 
     int readByte() throws IOException {
-        if (lastByte != null) {
-            int result = lastByte;
-            lastByte = null;
-            return result;
+        if (position == limit && !fill()) {
+            return -1;
         }
-        return input.read();
+        return buffer[position++] & 0xFF;
     }
 
     int peekByte() throws IOException {
-        if (lastByte != null) {
-            return lastByte;
+        if (position == limit && !fill()) {
+            return -1;
         }
-        int result = readByte();
-        if (result != -1) {
-            lastByte = result;
+        return buffer[position] & 0xFF;
+    }
+
+    /**
+     * Reads the given number of bytes and decodes them as UTF-8.
+     *
+     * @param count The number of bytes.
+     * @return The decoded String.
+     * @throws IOException If the input ends before the given number of bytes.
+     */
+    String readString(int count) throws IOException {
+        ensureFrameCapacity(count);
+        int read = Math.min(count, limit - position);
+        System.arraycopy(buffer, position, frame, 0, read);
+        position += read;
+        while (read < count) {
+            // Read the rest directly into the frame, bypassing the buffer.
+            int n = input.read(frame, read, count - read);
+            if (n < 0) {
+                throw new EOFException("Unexpected end of input, expected " + count + " bytes but got " + read + ".");
+            }
+            read += n;
         }
-        return result;
+        return releaseFrame(count);
     }
 
-    byte[] readBytes(int count) throws IOException {
-        byte[] buffer = new byte[count];
-        int read = 0;
-        if (count > 0 && lastByte != null) {
-            buffer[read++] = (byte) (int) lastByte;
-            lastByte = null;
+    /**
+     * Reads a JSON object or array, starting at the next byte.
+     * <p>
+     * The end of the value is found by tracking the nesting depth of objects and arrays, outside of JSON strings.
+     * The value isn't validated. A line break directly following the value is consumed.
+     *
+     * @return The JSON text.
+     * @throws IOException If the input ends before the end of the value.
+     */
+    String readJsonValue() throws IOException {
+        int length = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean complete = false;
+        while (!complete) {
+            if (position == limit && !fill()) {
+                throw new EOFException("Unexpected end of input in JSON message.");
+            }
+
+            int i = position;
+            for (; i < limit; i++) {
+                byte b = buffer[i];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    i++;
+                    complete = true;
+                    break;
+                }
+            }
+
+            int count = i - position;
+            ensureFrameCapacity(length + count);
+            System.arraycopy(buffer, position, frame, length, count);
+            length += count;
+            position = i;
         }
-        while (read < count) {
-            read += input.read(buffer, read, count - read);
+
+        if (peekByte() == '\r') {
+            readByte();
+        }
+        if (peekByte() == '\n') {
+            readByte();
         }
-        return buffer;
+        return releaseFrame(length);
     }
 
     String readAsciiLine() throws IOException {
@@ -68,4 +148,32 @@ class PeekingBinaryReader implements Closeable {
     public void close() throws IOException {
         input.close();
     }
+
+    private boolean fill() throws IOException {
+        int n;
+        do {
+            n = input.read(buffer, 0, buffer.length);
+        } while (n == 0);
+
+        if (n < 0) {
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    private void ensureFrameCapacity(int capacity) {
+        if (capacity > frame.length) {
+            frame = Arrays.copyOf(frame, Math.max(capacity, (int) Math.min(frame.length * 2L, Integer.MAX_VALUE - 8)));
+        }
+    }
+
+    private String releaseFrame(int length) {
+        String text = new String(frame, 0, length, StandardCharsets.UTF_8);
+        if (frame.length > MAX_RETAINED_FRAME_SIZE) {
+            frame = new byte[BUFFER_SIZE];
+        }
+        return text;
+    }
 }
@@ -102,7 +102,19 @@ public class AndSchema extends ComplexSchema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static AndSchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, AndSchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes an AndSchema instance from the JSON data, of which the caller may have read the leading fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return An AndSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static AndSchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, AndSchema::new, (schema, fieldName, reader) -> {
             if (schema.tryConsumeParentProperties(schema, fieldName, reader)) {
                 return;
             }
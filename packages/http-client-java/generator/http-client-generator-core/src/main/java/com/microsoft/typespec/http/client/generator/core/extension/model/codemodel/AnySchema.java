@@ -32,7 +32,19 @@ public class AnySchema extends Schema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static AnySchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, AnySchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes an AnySchema instance from the JSON data, of which the caller may have read the leading fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return An AnySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static AnySchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, AnySchema::new, (schema, fieldName, reader) -> {
             if (!schema.tryConsumeParentProperties(schema, fieldName, reader)) {
                 reader.skipChildren();
             }
@@ -8,6 +8,7 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -23,7 +24,7 @@ import java.util.Objects;
  * <p>
  * - semver-range style (ie, '^1.0.0' or '~1.0.0' )
  */
-public class ApiVersion implements JsonSerializable<ApiVersion> {
+public class ApiVersion implements JsonSerializable<ApiVersion>, Serializable {
     private String version;
     private ApiVersion.Range range;
 
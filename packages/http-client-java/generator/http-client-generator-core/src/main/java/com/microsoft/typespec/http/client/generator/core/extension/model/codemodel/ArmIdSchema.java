@@ -32,7 +32,19 @@ public class ArmIdSchema extends PrimitiveSchema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static ArmIdSchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, ArmIdSchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes an ArmIdSchema instance from the JSON data, of which the caller may have read the leading fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return An ArmIdSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static ArmIdSchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, ArmIdSchema::new, (schema, fieldName, reader) -> {
             if (!schema.tryConsumeParentProperties(schema, fieldName, reader)) {
                 reader.skipChildren();
             }
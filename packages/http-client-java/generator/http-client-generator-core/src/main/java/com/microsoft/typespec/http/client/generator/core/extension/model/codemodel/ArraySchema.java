@@ -143,7 +143,19 @@ public class ArraySchema extends ValueSchema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static ArraySchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, ArraySchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes an ArraySchema instance from the JSON data, of which the caller may have read the leading fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return An ArraySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static ArraySchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, ArraySchema::new, (schema, fieldName, reader) -> {
             if (schema.tryConsumeParentProperties(schema, fieldName, reader)) {
                 return;
             }
@@ -32,7 +32,19 @@ public class BinarySchema extends Schema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static BinarySchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, BinarySchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes a BinarySchema instance from the JSON data, of which the caller may have read the leading fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return A BinarySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static BinarySchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, BinarySchema::new, (schema, fieldName, reader) -> {
             if (!schema.tryConsumeParentProperties(schema, fieldName, reader)) {
                 reader.skipChildren();
             }
@@ -8,11 +8,12 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents the C# language.
  */
-public class CSharpLanguage implements JsonSerializable<CSharpLanguage> {
+public class CSharpLanguage implements JsonSerializable<CSharpLanguage>, Serializable {
 
     /**
      * Creates a new instance of the CSharpLanguage class.
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents a choice value.
  */
-public class ChoiceValue implements JsonSerializable<ChoiceValue> {
+public class ChoiceValue implements JsonSerializable<ChoiceValue>, Serializable {
     private Languages language;
     private String value;
     private DictionaryAny extensions;
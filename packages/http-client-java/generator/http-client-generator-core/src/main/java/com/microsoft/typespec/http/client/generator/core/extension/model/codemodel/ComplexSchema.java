@@ -32,10 +32,12 @@ public class ComplexSchema extends Schema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static ComplexSchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, ComplexSchema::new, (schema, fieldName, reader) -> {
-            if (!schema.tryConsumeParentProperties(schema, fieldName, reader)) {
-                reader.skipChildren();
-            }
-        });
+        return (ComplexSchema) Schema.fromJsonByType(jsonReader,
+            (reader, partialObject) -> JsonUtils.readObject(reader, partialObject, ComplexSchema::new,
+                (schema, fieldName, r) -> {
+                    if (!schema.tryConsumeParentProperties(schema, fieldName, r)) {
+                        r.skipChildren();
+                    }
+                }));
     }
 }
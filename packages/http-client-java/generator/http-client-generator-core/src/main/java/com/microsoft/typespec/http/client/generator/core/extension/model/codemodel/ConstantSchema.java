@@ -74,7 +74,23 @@ public class ConstantSchema extends Schema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static ConstantSchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, ConstantSchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes a ConstantSchema instance from the JSON data, of which the caller may have read the leading fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return A ConstantSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static ConstantSchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, ConstantSchema::new, (schema, fieldName, reader) -> {
+            if (schema.tryConsumeParentProperties(schema, fieldName, reader)) {
+                return;
+            }
+
             if ("valueType".equals(fieldName)) {
                 schema.valueType = Schema.fromJson(reader);
             } else if ("value".equals(fieldName)) {
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents a constant value.
  */
-public class ConstantValue implements JsonSerializable<ConstantValue> {
+public class ConstantValue implements JsonSerializable<ConstantValue>, Serializable {
     private Languages language;
     private Object value;
     private DictionaryAny extensions;
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents a contact.
  */
-public class Contact implements JsonSerializable<Contact> {
+public class Contact implements JsonSerializable<Contact>, Serializable {
     private String name;
     private String url;
     private String email;
@@ -123,7 +123,24 @@ public class CredentialSchema extends PrimitiveSchema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static CredentialSchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, CredentialSchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes a CredentialSchema instance from the JSON data, of which the caller may have read the leading
+     * fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return A CredentialSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static CredentialSchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, CredentialSchema::new, (schema, fieldName, reader) -> {
+            if (schema.tryConsumeParentProperties(schema, fieldName, reader)) {
+                return;
+            }
+
             if ("maxLength".equals(fieldName)) {
                 schema.maxLength = reader.getDouble();
             } else if ("minLength".equals(fieldName)) {
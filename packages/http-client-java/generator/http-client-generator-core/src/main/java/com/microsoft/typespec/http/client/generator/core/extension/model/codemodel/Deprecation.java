@@ -8,6 +8,7 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -15,7 +16,7 @@ import java.util.Objects;
 /**
  * Represents deprecation information.
  */
-public class Deprecation implements JsonSerializable<Deprecation> {
+public class Deprecation implements JsonSerializable<Deprecation>, Serializable {
     private String message;
     private List<ApiVersion> apiVersions = new ArrayList<>();
 
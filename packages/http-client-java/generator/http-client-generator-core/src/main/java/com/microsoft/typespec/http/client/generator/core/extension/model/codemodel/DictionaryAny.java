@@ -8,11 +8,12 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents a dictionary of any type.
  */
-public class DictionaryAny implements JsonSerializable<DictionaryAny> {
+public class DictionaryAny implements JsonSerializable<DictionaryAny>, Serializable {
 
     /**
      * Creates a new instance of the DictionaryAny class.
@@ -8,11 +8,12 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents the version of the dictionary API.
  */
-public class DictionaryApiVersion implements JsonSerializable<DictionaryApiVersion> {
+public class DictionaryApiVersion implements JsonSerializable<DictionaryApiVersion>, Serializable {
 
     /**
      * Creates a new instance of the DictionaryApiVersion class.
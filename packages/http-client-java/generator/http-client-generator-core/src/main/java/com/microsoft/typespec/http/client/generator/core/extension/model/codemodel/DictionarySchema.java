@@ -101,7 +101,24 @@ public class DictionarySchema extends ComplexSchema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static DictionarySchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, DictionarySchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes a DictionarySchema instance from the JSON data, of which the caller may have read the leading
+     * fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return A DictionarySchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static DictionarySchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject) throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, DictionarySchema::new, (schema, fieldName, reader) -> {
+            if (schema.tryConsumeParentProperties(schema, fieldName, reader)) {
+                return;
+            }
+
             if ("elementType".equals(fieldName)) {
                 schema.elementType = Schema.fromJson(reader);
             } else if ("nullableItems".equals(fieldName)) {
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Map;
 
 /**
  * Represents a discriminator for polymorphic types.
  */
-public class Discriminator implements JsonSerializable<Discriminator> {
+public class Discriminator implements JsonSerializable<Discriminator>, Serializable {
     private Property property;
     private Map<String, ComplexSchema> immediate;
     private Map<String, ComplexSchema> all;
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents a reference to external documentation.
  */
-public class ExternalDocumentation implements JsonSerializable<ExternalDocumentation> {
+public class ExternalDocumentation implements JsonSerializable<ExternalDocumentation>, Serializable {
     private String description;
     private String url;
     private DictionaryAny extensions;
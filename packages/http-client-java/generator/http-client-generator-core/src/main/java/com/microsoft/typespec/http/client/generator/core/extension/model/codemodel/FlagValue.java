@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents a flag value.
  */
-public class FlagValue implements JsonSerializable<FlagValue> {
+public class FlagValue implements JsonSerializable<FlagValue>, Serializable {
     private Languages language;
     private double value;
     private DictionaryAny extensions;
@@ -9,11 +9,12 @@ import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents a header.
  */
-public class Header implements JsonSerializable<Header> {
+public class Header implements JsonSerializable<Header>, Serializable {
     private String header;
     private Schema schema;
     private XmsExtensions extensions;
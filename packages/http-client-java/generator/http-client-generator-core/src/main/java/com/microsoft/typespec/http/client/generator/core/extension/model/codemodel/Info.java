@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents code model info.
  */
-public class Info implements JsonSerializable<Info> {
+public class Info implements JsonSerializable<Info>, Serializable {
     private String title;
     private String description;
     private String termsOfService;
@@ -9,11 +9,12 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents the per-language metadata.
  */
-public class Language implements JsonSerializable<Language> {
+public class Language implements JsonSerializable<Language>, Serializable {
     private String name;
     private String serializedName;
     private String description;
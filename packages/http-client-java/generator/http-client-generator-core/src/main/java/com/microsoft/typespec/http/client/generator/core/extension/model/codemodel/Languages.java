@@ -9,12 +9,13 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents all languages.
  */
-public class Languages implements JsonSerializable<Languages> {
+public class Languages implements JsonSerializable<Languages>, Serializable {
     private Language _default;
     private CSharpLanguage csharp;
     private Language python;
@@ -334,7 +335,7 @@ public class Languages implements JsonSerializable<Languages> {
      */
     public static Languages fromJson(JsonReader jsonReader) throws IOException {
         return readObject(jsonReader, Languages::new, (languages, fieldName, reader) -> {
-            if ("_default".equals(fieldName)) {
+            if ("default".equals(fieldName) || "_default".equals(fieldName)) {
                 languages._default = Language.fromJson(reader);
             } else if ("csharp".equals(fieldName)) {
                 languages.csharp = CSharpLanguage.fromJson(reader);
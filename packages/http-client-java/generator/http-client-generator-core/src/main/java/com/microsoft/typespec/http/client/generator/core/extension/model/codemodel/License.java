@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents license information.
  */
-public class License implements JsonSerializable<License> {
+public class License implements JsonSerializable<License>, Serializable {
     private String name;
     private String url;
     private DictionaryAny extensions;
@@ -8,11 +8,12 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents the metadata for long-running operations.
  */
-public class LongRunningMetadata implements JsonSerializable<LongRunningMetadata> {
+public class LongRunningMetadata implements JsonSerializable<LongRunningMetadata>, Serializable {
     private ObjectSchema pollResultType;
     private ObjectSchema finalResultType;
     private Metadata pollingStrategy;
@@ -9,11 +9,12 @@ import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents metadata.
  */
-public class Metadata implements JsonSerializable<Metadata> {
+public class Metadata implements JsonSerializable<Metadata>, Serializable {
     private Languages language;
     private Protocols protocol;
     private XmsExtensions extensions;
@@ -81,12 +81,31 @@ public class ParameterGroupSchema extends ComplexSchema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static ParameterGroupSchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, ParameterGroupSchema::new, (relations, fieldName, reader) -> {
-            if ("parameters".equals(fieldName)) {
-                relations.parameters = reader.readArray(Parameter::fromJson);
-            } else {
-                reader.skipChildren();
-            }
-        });
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes a ParameterGroupSchema instance from the JSON data, of which the caller may have read the leading
+     * fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return A ParameterGroupSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static ParameterGroupSchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject)
+        throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, ParameterGroupSchema::new,
+            (relations, fieldName, reader) -> {
+                if (relations.tryConsumeParentProperties(relations, fieldName, reader)) {
+                    return;
+                }
+
+                if ("parameters".equals(fieldName)) {
+                    relations.parameters = reader.readArray(Parameter::fromJson);
+                } else {
+                    reader.skipChildren();
+                }
+            });
     }
 }
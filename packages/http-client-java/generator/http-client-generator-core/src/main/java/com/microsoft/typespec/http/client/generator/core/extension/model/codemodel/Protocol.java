@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents the per-protocol metadata on a given aspect.
  */
-public class Protocol implements JsonSerializable<Protocol> {
+public class Protocol implements JsonSerializable<Protocol>, Serializable {
     private RequestParameterLocation in;
     private String path;
     private String uri;
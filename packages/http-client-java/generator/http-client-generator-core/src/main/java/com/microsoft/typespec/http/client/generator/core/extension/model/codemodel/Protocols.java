@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents custom extensible metadata for individual protocols (ie, HTTP, etc),
  */
-public class Protocols implements JsonSerializable<Protocols> {
+public class Protocols implements JsonSerializable<Protocols>, Serializable {
     private Protocol http;
     private Protocol amqp;
     private Protocol mqtt;
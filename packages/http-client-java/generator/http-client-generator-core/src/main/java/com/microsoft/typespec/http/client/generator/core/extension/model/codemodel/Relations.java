@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents relations between schemas.
  */
-public class Relations implements JsonSerializable<Relations> {
+public class Relations implements JsonSerializable<Relations>, Serializable {
     private List<Schema> all;
     private List<Schema> immediate;
 
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Map;
 
 /**
  * Represents a step in a scenario.
  */
-public class ScenarioStep implements JsonSerializable<ScenarioStep> {
+public class ScenarioStep implements JsonSerializable<ScenarioStep>, Serializable {
     private TestScenarioStepType type;
     private String operationId;
     private String exampleFile;
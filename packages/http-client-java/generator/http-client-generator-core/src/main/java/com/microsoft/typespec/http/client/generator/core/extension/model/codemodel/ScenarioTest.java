@@ -8,6 +8,7 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -19,7 +20,7 @@ import java.util.Map;
  * Api Scenario Definition Reference
  * </a>
  */
-public class ScenarioTest implements JsonSerializable<ScenarioTest> {
+public class ScenarioTest implements JsonSerializable<ScenarioTest>, Serializable {
     private String filePath;
     private List<String> requiredVariables;
     private Map<String, String> requiredVariablesDefault;
@@ -4,6 +4,7 @@
 package com.microsoft.typespec.http.client.generator.core.extension.model.codemodel;
 
 import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
@@ -302,13 +303,183 @@ public class Schema extends Metadata {
      * @throws IOException If an error occurs during deserialization.
      */
     public static Schema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, Schema::new, (schema, fieldName, reader) -> {
-            if (!schema.tryConsumeParentProperties(schema, fieldName, reader)) {
-                reader.skipChildren();
+        return fromJsonByType(jsonReader,
+            (reader, partialObject) -> JsonUtils.readObject(reader, partialObject, Schema::new,
+                (schema, fieldName, r) -> {
+                    if (!schema.tryConsumeParentProperties(schema, fieldName, r)) {
+                        r.skipChildren();
+                    }
+                }));
+    }
+
+    /**
+     * Deserializes a schema from the JSON data, as the subtype indicated by its "type", the same as the YAML
+     * {@link CodeModelCustomConstructor}.
+     * <p>
+     * The "type" is dispatched on without buffering the JSON object when it's one of the leading fields, after the
+     * "$id", as the JSON code model is written. Otherwise, the rest of the JSON object is buffered to find the "type"
+     * before it's deserialized. A JSON object with a "$ref" is resolved to the schema it references.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param defaultReader The reader used if the "type" isn't known.
+     * @return The schema deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static Schema fromJsonByType(JsonReader jsonReader,
+        JsonUtils.ReadPartialObjectCallback<? extends Schema> defaultReader) throws IOException {
+        return jsonReader.readObject(reader -> {
+            String id = null;
+            while (reader.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = reader.getFieldName();
+                if ("$id".equals(fieldName)) {
+                    reader.nextToken();
+                    id = reader.getString();
+                } else if ("$ref".equals(fieldName)) {
+                    reader.nextToken();
+                    Schema schema = (Schema) JsonUtils.getReference(reader.getString());
+                    JsonUtils.fieldReaderLoop(reader, (name, r) -> r.skipChildren());
+                    return schema;
+                } else if ("type".equals(fieldName)) {
+                    reader.nextToken();
+                    String type = reader.getString();
+                    return readSchema(type, reader, new JsonUtils.PartialObject(id, fieldName), defaultReader);
+                } else {
+                    break;
+                }
+            }
+
+            // The "type" isn't a leading field, buffer the rest of the JSON object to search for it.
+            try (JsonReader bufferedReader = JsonUtils.bufferRemainingFields(reader)) {
+                String type = null;
+                String reference = null;
+                bufferedReader.nextToken();
+                while (bufferedReader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = bufferedReader.getFieldName();
+                    bufferedReader.nextToken();
+                    if ("type".equals(fieldName)) {
+                        type = bufferedReader.getString();
+                        break;
+                    } else if ("$ref".equals(fieldName)) {
+                        reference = bufferedReader.getString();
+                        break;
+                    } else {
+                        bufferedReader.skipChildren();
+                    }
+                }
+
+                if (reference != null) {
+                    return (Schema) JsonUtils.getReference(reference);
+                }
+
+                return readSchema(type, bufferedReader.reset(), new JsonUtils.PartialObject(id, null), defaultReader);
             }
         });
     }
 
+    private static Schema readSchema(String type, JsonReader reader, JsonUtils.PartialObject partialObject,
+        JsonUtils.ReadPartialObjectCallback<? extends Schema> defaultReader) throws IOException {
+        Schema.AllSchemaTypes schemaType = type == null ? null : AllSchemaTypes.CONSTANTS.get(type);
+        if (schemaType == null) {
+            return defaultReader.read(reader, partialObject);
+        }
+        switch (schemaType) {
+            case ANY:
+            case ANY_OBJECT:
+                return AnySchema.fromJson(reader, partialObject);
+
+            case AND:
+                return AndSchema.fromJson(reader, partialObject);
+
+            case ARM_ID:
+                return ArmIdSchema.fromJson(reader, partialObject);
+
+            case ARRAY:
+                return ArraySchema.fromJson(reader, partialObject);
+
+            case BINARY:
+                return BinarySchema.fromJson(reader, partialObject);
+
+            case BOOLEAN:
+                return BooleanSchema.fromJson(reader, partialObject);
+
+            case BYTE_ARRAY:
+                return ByteArraySchema.fromJson(reader, partialObject);
+
+            case CHAR:
+                return CharSchema.fromJson(reader, partialObject);
+
+            case CHOICE:
+                return ChoiceSchema.fromJson(reader, partialObject);
+
+            case CONSTANT:
+                return ConstantSchema.fromJson(reader, partialObject);
+
+            case CREDENTIAL:
+                return CredentialSchema.fromJson(reader, partialObject);
+
+            case DATE:
+                return DateSchema.fromJson(reader, partialObject);
+
+            case DATE_TIME:
+                return DateTimeSchema.fromJson(reader, partialObject);
+
+            case DICTIONARY:
+                return DictionarySchema.fromJson(reader, partialObject);
+
+            case DURATION:
+                return DurationSchema.fromJson(reader, partialObject);
+
+            case FLAG:
+                return FlagSchema.fromJson(reader, partialObject);
+
+            case GROUP:
+                return ObjectSchema.fromJson(reader, partialObject);
+
+            case PARAMETER_GROUP:
+                return ParameterGroupSchema.fromJson(reader, partialObject);
+
+            case INTEGER:
+            case NUMBER:
+                return NumberSchema.fromJson(reader, partialObject);
+
+            case NOT:
+                return NotSchema.fromJson(reader, partialObject);
+
+            case OBJECT:
+                return ObjectSchema.fromJson(reader, partialObject);
+
+            case ODATA_QUERY:
+                return ODataQuerySchema.fromJson(reader, partialObject);
+
+            case OR:
+                return OrSchema.fromJson(reader, partialObject);
+
+            case SEALED_CHOICE:
+                return SealedChoiceSchema.fromJson(reader, partialObject);
+
+            case STRING:
+                return StringSchema.fromJson(reader, partialObject);
+
+            case TIME:
+                return TimeSchema.fromJson(reader, partialObject);
+
+            case UNIXTIME:
+                return UnixTimeSchema.fromJson(reader, partialObject);
+
+            case URI:
+                return UriSchema.fromJson(reader, partialObject);
+
+            case UUID:
+                return UuidSchema.fromJson(reader, partialObject);
+
+            case XOR:
+                return XorSchema.fromJson(reader, partialObject);
+
+            default:
+                return defaultReader.read(reader, partialObject);
+        }
+    }
+
     boolean tryConsumeParentProperties(Schema schema, String fieldName, JsonReader reader) throws IOException {
         if (super.tryConsumeParentProperties(schema, fieldName, reader)) {
             return true;
@@ -8,13 +8,14 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents the full set of schemas for a given service, categorized into convenient collections.
  */
-public class Schemas implements JsonSerializable<Schemas> {
+public class Schemas implements JsonSerializable<Schemas>, Serializable {
     private List<ArraySchema> arrays = new ArrayList<>();
     private List<DictionarySchema> dictionaries = new ArrayList<>();
     private List<BinarySchema> binaries = new ArrayList<>();
@@ -653,6 +654,10 @@ public class Schemas implements JsonSerializable<Schemas> {
                 schemas.unknowns = reader.readArray(Schema::fromJson);
             } else if ("parameterGroups".equals(fieldName)) {
                 schemas.parameterGroups = reader.readArray(ParameterGroupSchema::fromJson);
+            } else if ("any".equals(fieldName) || "anyObjects".equals(fieldName) || "armIds".equals(fieldName)
+                || "times".equals(fieldName)) {
+                // Not kept, but still read, as they define the "$id" of schemas referenced elsewhere in the code model.
+                reader.readArray(Schema::fromJson);
             } else {
                 reader.skipChildren();
             }
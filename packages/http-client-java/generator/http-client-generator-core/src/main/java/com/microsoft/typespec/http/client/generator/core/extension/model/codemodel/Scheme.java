@@ -8,6 +8,7 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -15,7 +16,7 @@ import java.util.Set;
 /**
  * Represents a security scheme.
  */
-public class Scheme implements JsonSerializable<Scheme> {
+public class Scheme implements JsonSerializable<Scheme>, Serializable {
     private Scheme.SecuritySchemeType type;
     // OAuth2
     private Set<String> scopes = new HashSet<>();
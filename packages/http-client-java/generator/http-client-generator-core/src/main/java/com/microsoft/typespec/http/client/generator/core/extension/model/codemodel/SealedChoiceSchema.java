@@ -55,7 +55,21 @@ public class SealedChoiceSchema extends ChoiceSchema {
      * @throws IOException If an error occurs during deserialization.
      */
     public static SealedChoiceSchema fromJson(JsonReader jsonReader) throws IOException {
-        return JsonUtils.readObject(jsonReader, SealedChoiceSchema::new, (schema, fieldName, reader) -> {
+        return fromJson(jsonReader, null);
+    }
+
+    /**
+     * Deserializes a SealedChoiceSchema instance from the JSON data, of which the caller may have read the leading
+     * fields.
+     *
+     * @param jsonReader The JSON reader to deserialize from.
+     * @param partialObject The leading fields read by the caller, or null if none were read.
+     * @return A SealedChoiceSchema instance deserialized from the JSON data.
+     * @throws IOException If an error occurs during deserialization.
+     */
+    static SealedChoiceSchema fromJson(JsonReader jsonReader, JsonUtils.PartialObject partialObject)
+        throws IOException {
+        return JsonUtils.readObject(jsonReader, partialObject, SealedChoiceSchema::new, (schema, fieldName, reader) -> {
             if (!schema.tryConsumeParentProperties(schema, fieldName, reader)) {
                 reader.skipChildren();
             }
@@ -8,13 +8,14 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents security information.
  */
-public class Security implements JsonSerializable<Security> {
+public class Security implements JsonSerializable<Security>, Serializable {
     private boolean authenticationRequired;
     private List<Scheme> schemes = new ArrayList<>();
 
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents a serialization format.
  */
-public class SerializationFormat implements JsonSerializable<SerializationFormat> {
+public class SerializationFormat implements JsonSerializable<SerializationFormat>, Serializable {
     private DictionaryAny extensions;
 
     /**
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents individual serialization formats.
  */
-public class SerializationFormats implements JsonSerializable<SerializationFormats> {
+public class SerializationFormats implements JsonSerializable<SerializationFormats>, Serializable {
     private SerializationFormat json;
     private XmlSerializationFormat xml;
     private SerializationFormat protobuf;
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents a server.
  */
-public class Server implements JsonSerializable<Server> {
+public class Server implements JsonSerializable<Server>, Serializable {
     private String url;
     private Languages language;
     private List<Value> variables;
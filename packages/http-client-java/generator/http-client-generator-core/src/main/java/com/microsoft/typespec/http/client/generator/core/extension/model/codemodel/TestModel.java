@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents a test model.
  */
-public class TestModel implements JsonSerializable<TestModel> {
+public class TestModel implements JsonSerializable<TestModel>, Serializable {
     private List<ScenarioTest> scenarioTests;
 
     /**
@@ -8,13 +8,14 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Represents a test scenario.
  */
-public class TestScenario implements JsonSerializable<TestScenario> {
+public class TestScenario implements JsonSerializable<TestScenario>, Serializable {
     private String description;
     private List<String> requiredVariables;
     private Map<String, String> requiredVariablesDefault;
@@ -9,12 +9,13 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents a resource that is allowed to be accessed.
  */
-public class AllowedResource implements JsonSerializable<AllowedResource> {
+public class AllowedResource implements JsonSerializable<AllowedResource>, Serializable {
     private List<String> scopes;
     private String type;
 
@@ -9,12 +9,13 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents the details of an ARM ID.
  */
-public class XmsArmIdDetails implements JsonSerializable<XmsArmIdDetails> {
+public class XmsArmIdDetails implements JsonSerializable<XmsArmIdDetails>, Serializable {
     private List<AllowedResource> allowedResources;
 
     /**
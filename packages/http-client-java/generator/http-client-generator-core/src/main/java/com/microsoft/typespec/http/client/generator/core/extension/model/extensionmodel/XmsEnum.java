@@ -9,12 +9,13 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents an enum.
  */
-public class XmsEnum implements JsonSerializable<XmsEnum> {
+public class XmsEnum implements JsonSerializable<XmsEnum>, Serializable {
     private String name;
     private boolean modelAsString = false;
     private List<Value> values;
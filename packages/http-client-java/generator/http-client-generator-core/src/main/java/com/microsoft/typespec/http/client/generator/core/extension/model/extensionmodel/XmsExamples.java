@@ -9,12 +9,13 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Map;
 
 /**
  * Represents the examples of a model.
  */
-public class XmsExamples implements JsonSerializable<XmsExamples> {
+public class XmsExamples implements JsonSerializable<XmsExamples>, Serializable {
     private Map<String, Object> examples;
 
     /**
@@ -8,12 +8,13 @@ import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Represents the x-ms-extensions of a model.
  */
-public class XmsExtensions implements JsonSerializable<XmsExtensions> {
+public class XmsExtensions implements JsonSerializable<XmsExtensions>, Serializable {
     private XmsEnum xmsEnum;
     private String xmsClientName;
     private XmsPageable xmsPageable;
@@ -350,6 +351,8 @@ public class XmsExtensions implements JsonSerializable<XmsExtensions> {
 
     /**
      * Deserializes an XmsExtensions instance from the JSON data.
+     * <p>
+     * Both the names written by {@link #toJson(JsonWriter)}, and the "x-ms-" names of the code model, are read.
      *
      * @param jsonReader The JSON reader to deserialize from.
      * @return An XmsExtensions instance deserialized from the JSON data.
@@ -361,33 +364,36 @@ public class XmsExtensions implements JsonSerializable<XmsExtensions> {
                 extensions.xmsEnum = XmsEnum.fromJson(reader);
             } else if ("xmsClientName".equals(fieldName)) {
                 extensions.xmsClientName = reader.getString();
-            } else if ("xmsPageable".equals(fieldName)) {
+            } else if ("xmsPageable".equals(fieldName) || "x-ms-pageable".equals(fieldName)) {
                 extensions.xmsPageable = XmsPageable.fromJson(reader);
-            } else if ("xmsSkipUrlEncoding".equals(fieldName)) {
+            } else if ("xmsSkipUrlEncoding".equals(fieldName) || "x-ms-skip-url-encoding".equals(fieldName)) {
                 extensions.xmsSkipUrlEncoding = reader.getBoolean();
-            } else if ("xmsClientFlatten".equals(fieldName)) {
+            } else if ("xmsClientFlatten".equals(fieldName) || "x-ms-client-flatten".equals(fieldName)) {
                 extensions.xmsClientFlatten = reader.getBoolean();
-            } else if ("xmsLongRunningOperation".equals(fieldName)) {
+            } else if ("xmsLongRunningOperation".equals(fieldName) || "x-ms-long-running-operation".equals(fieldName)) {
                 extensions.xmsLongRunningOperation = reader.getBoolean();
-            } else if ("xmsLongRunningOperationOptions".equals(fieldName)) {
+            } else if ("xmsLongRunningOperationOptions".equals(fieldName)
+                || "x-ms-long-running-operation-options".equals(fieldName)) {
                 extensions.xmsLongRunningOperationOptions = XmsLongRunningOperationOptions.fromJson(reader);
-            } else if ("xmsFlattened".equals(fieldName)) {
+            } else if ("xmsFlattened".equals(fieldName) || "x-ms-flattened".equals(fieldName)) {
                 extensions.xmsFlattened = reader.getBoolean();
-            } else if ("xmsAzureResource".equals(fieldName)) {
+            } else if ("xmsAzureResource".equals(fieldName) || "x-ms-azure-resource".equals(fieldName)) {
                 extensions.xmsAzureResource = reader.getBoolean();
-            } else if ("xmsMutability".equals(fieldName)) {
+            } else if ("xmsMutability".equals(fieldName) || "x-ms-mutability".equals(fieldName)) {
                 extensions.xmsMutability = reader.readArray(JsonReader::getString);
-            } else if ("xmsHeaderCollectionPrefix".equals(fieldName)) {
+            } else if ("xmsHeaderCollectionPrefix".equals(fieldName)
+                || "x-ms-header-collection-prefix".equals(fieldName)) {
                 extensions.xmsHeaderCollectionPrefix = reader.getString();
-            } else if ("xmsInternalAutorestAnonymousSchema".equals(fieldName)) {
+            } else if ("xmsInternalAutorestAnonymousSchema".equals(fieldName)
+                || "x-internal-autorest-anonymous-schema".equals(fieldName)) {
                 extensions.xmsInternalAutorestAnonymousSchema = XmsInternalAutorestAnonymousSchema.fromJson(reader);
-            } else if ("xmsArmIdDetails".equals(fieldName)) {
+            } else if ("xmsArmIdDetails".equals(fieldName) || "x-ms-arm-id-details".equals(fieldName)) {
                 extensions.xmsArmIdDetails = XmsArmIdDetails.fromJson(reader);
-            } else if ("xmsExamples".equals(fieldName)) {
+            } else if ("xmsExamples".equals(fieldName) || "x-ms-examples".equals(fieldName)) {
                 extensions.xmsExamples = XmsExamples.fromJson(reader);
-            } else if ("xmsSecret".equals(fieldName)) {
+            } else if ("xmsSecret".equals(fieldName) || "x-ms-secret".equals(fieldName)) {
                 extensions.xmsSecret = reader.getNullable(JsonReader::getBoolean);
-            } else if ("xmsVersioningAdded".equals(fieldName)) {
+            } else if ("xmsVersioningAdded".equals(fieldName) || "x-ms-versioning-added".equals(fieldName)) {
                 extensions.xmsVersioningAdded = reader.readArray(JsonReader::getString);
             } else {
                 reader.skipChildren();
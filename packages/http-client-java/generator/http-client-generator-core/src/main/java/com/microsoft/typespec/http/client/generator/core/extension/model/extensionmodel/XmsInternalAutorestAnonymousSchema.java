@@ -9,11 +9,13 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents an anonymous schema.
  */
-public class XmsInternalAutorestAnonymousSchema implements JsonSerializable<XmsInternalAutorestAnonymousSchema> {
+public class XmsInternalAutorestAnonymousSchema
+    implements JsonSerializable<XmsInternalAutorestAnonymousSchema>, Serializable {
     private boolean anonymous = true;
 
     /**
@@ -9,11 +9,12 @@ import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents the options for a long-running operation.
  */
-public class XmsLongRunningOperationOptions implements JsonSerializable<XmsLongRunningOperationOptions> {
+public class XmsLongRunningOperationOptions implements JsonSerializable<XmsLongRunningOperationOptions>, Serializable {
     // azure-async-operation
     // location
     // original-uri
@@ -57,7 +58,7 @@ public class XmsLongRunningOperationOptions implements JsonSerializable<XmsLongR
      */
     public static XmsLongRunningOperationOptions fromJson(JsonReader jsonReader) throws IOException {
         return readObject(jsonReader, XmsLongRunningOperationOptions::new, (lroOptions, fieldName, reader) -> {
-            if ("finalStateVia".equals(fieldName)) {
+            if ("finalStateVia".equals(fieldName) || "final-state-via".equals(fieldName)) {
                 lroOptions.finalStateVia = reader.getString();
             } else {
                 reader.skipChildren();
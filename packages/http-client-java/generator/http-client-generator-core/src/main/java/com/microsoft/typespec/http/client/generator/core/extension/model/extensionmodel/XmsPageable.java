@@ -9,11 +9,12 @@ import com.azure.json.JsonWriter;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Represents the pageable settings of a model.
  */
-public class XmsPageable implements JsonSerializable<XmsPageable> {
+public class XmsPageable implements JsonSerializable<XmsPageable>, Serializable {
     private String itemName = "value";
     private String nextLinkName;
     private String operationName;
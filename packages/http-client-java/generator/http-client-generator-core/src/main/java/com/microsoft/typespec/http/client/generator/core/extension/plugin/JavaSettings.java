@@ -26,7 +26,7 @@ import org.slf4j.Logger;
  */
 public class JavaSettings {
     private static final String VERSION = "4.0.0";
-    private static JavaSettings instance;
+    private static volatile JavaSettings instance;
     private static NewPlugin host;
     private static String header;
     private static final Map<String, Object> SIMPLE_JAVA_SETTINGS = new HashMap<>();
@@ -317,6 +317,18 @@ public class JavaSettings {
         // Whether to handle partial updates.
         this.handlePartialUpdate = getBooleanValue(host, "partial-update", false);
 
+        // The formatter used on generated Java files.
+        this.codeFormatter = CodeFormatterMode.fromValue(getStringValue(host, "code-formatter", "in-process"));
+
+        // If set to true, generated Java files only declare the imports their code uses.
+        this.preciseImports = getBooleanValue(host, "precise-imports", false);
+
+        // The number of threads rendering templates into Java files. 1 renders serially, 0 uses one thread per
+        // available processor.
+        int renderingThreads = Integer.parseInt(getStringValue(host, "rendering-threads", "1"));
+        this.renderingThreads
+            = renderingThreads <= 0 ? Runtime.getRuntime().availableProcessors() : renderingThreads;
+
         // If set to true, responses will only use Response, ResponseBase, PagedResponse, and PagedResponseBase types
         // with generics instead of creating a specific named type that extends one of those types.
         // If fluent default to false, this is because the automated test generation ends up with invalid code.
@@ -327,6 +339,19 @@ public class JavaSettings {
         // relying on Jackson Databind.
         this.streamStyleSerialization = getBooleanValue(host, "stream-style-serialization", true);
 
+        // If set to true, stream-style deserialization dispatches on the JSON field name with a switch statement
+        // instead of a chain of if / else if String.equals checks.
+        this.streamStyleFieldSwitch = getBooleanValue(host, "stream-style-field-switch", false);
+
+        // If set to true, stream-style deserialization of polymorphic super types dispatches on the discriminator
+        // without buffering the JSON object when the discriminator is the first field of the object.
+        this.streamStyleDiscriminatorFirst = getBooleanValue(host, "stream-style-discriminator-first", false);
+
+        // If set to true, convenience methods convert JSON request and response bodies with the stream-style fromJson
+        // and toJson of the models, instead of BinaryData.fromObject and BinaryData.toObject.
+        this.streamStyleConvenienceSerialization
+            = getBooleanValue(host, "stream-style-convenience-serialization", false);
+
         // If set to true, sync methods are generated using sync stack. i.e these methods do not use sync-over-async
         // stack.
         this.syncStackEnabled = getBooleanValue(host, "enable-sync-stack", false);
@@ -1496,6 +1521,81 @@ public class JavaSettings {
         return handlePartialUpdate;
     }
 
+    /**
+     * Represents the formatter used on generated Java files.
+     */
+    public enum CodeFormatterMode {
+        /**
+         * Format in the generator process, using the Eclipse formatter and JavaParser based import cleanup.
+         */
+        IN_PROCESS,
+
+        /**
+         * Format by running Spotless in a Maven subprocess.
+         */
+        SPOTLESS;
+
+        /**
+         * Convert the string value to the enum value.
+         *
+         * @param value The string value.
+         * @return The enum value.
+         * @throws IllegalArgumentException If the string value isn't "in-process" or "spotless".
+         */
+        public static CodeFormatterMode fromValue(String value) {
+            if (value == null) {
+                return null;
+            } else if (value.equals("in-process")) {
+                return IN_PROCESS;
+            } else if (value.equals("spotless")) {
+                return SPOTLESS;
+            }
+            throw new IllegalArgumentException(
+                "Unknown code-formatter '" + value + "', accepted values are 'in-process' and 'spotless'.");
+        }
+    }
+
+    private final CodeFormatterMode codeFormatter;
+
+    /**
+     * Gets the formatter used on generated Java files.
+     * <p>
+     * Defaults to {@link CodeFormatterMode#IN_PROCESS}. {@link CodeFormatterMode#SPOTLESS} remains available as a
+     * fallback, it requires a Maven installation.
+     *
+     * @return The formatter used on generated Java files.
+     */
+    public CodeFormatterMode getCodeFormatter() {
+        return codeFormatter == null ? CodeFormatterMode.IN_PROCESS : codeFormatter;
+    }
+
+    private final boolean preciseImports;
+
+    /**
+     * Whether generated Java files only declare the imports their code uses.
+     * <p>
+     * Imports declared by templates are kept only if their simple name is referenced by the code of the file, so the
+     * formatter can skip the removal of unused imports.
+     *
+     * @return Whether generated Java files only declare the imports their code uses.
+     */
+    public boolean isPreciseImports() {
+        return preciseImports;
+    }
+
+    private final int renderingThreads;
+
+    /**
+     * Gets the number of threads rendering templates into Java files.
+     * <p>
+     * The output is the same for any number of threads.
+     *
+     * @return The number of threads rendering templates into Java files.
+     */
+    public int getRenderingThreads() {
+        return renderingThreads;
+    }
+
     private final boolean genericResponseTypes;
 
     /**
@@ -1520,6 +1620,48 @@ public class JavaSettings {
         return streamStyleSerialization;
     }
 
+    private final boolean streamStyleFieldSwitch;
+
+    /**
+     * Whether stream-style deserialization dispatches on the JSON field name with a switch statement instead of a chain
+     * of if / else if checks.
+     *
+     * @return Whether stream-style deserialization uses a switch on the JSON field name.
+     */
+    public boolean isStreamStyleFieldSwitch() {
+        return streamStyleFieldSwitch;
+    }
+
+    private final boolean streamStyleDiscriminatorFirst;
+
+    /**
+     * Whether stream-style deserialization of polymorphic super types dispatches on the discriminator without
+     * buffering the JSON object, when the discriminator is the first field of the object.
+     * <p>
+     * The JSON object is still buffered when the discriminator isn't the first field. It only takes effect for branded
+     * clients.
+     *
+     * @return Whether stream-style deserialization of polymorphic super types checks the first field for the
+     * discriminator.
+     */
+    public boolean isStreamStyleDiscriminatorFirst() {
+        return streamStyleDiscriminatorFirst && isBranded();
+    }
+
+    private final boolean streamStyleConvenienceSerialization;
+
+    /**
+     * Whether convenience methods convert JSON request and response bodies with the stream-style fromJson and toJson
+     * of the models, instead of BinaryData.fromObject and BinaryData.toObject.
+     * <p>
+     * It only takes effect for branded clients with stream-style serialization.
+     *
+     * @return Whether convenience methods use stream-style serialization on the JSON bodies.
+     */
+    public boolean isStreamStyleConvenienceSerialization() {
+        return streamStyleConvenienceSerialization && streamStyleSerialization && isBranded();
+    }
+
     private final boolean isInputStreamForBinary;
 
     /**
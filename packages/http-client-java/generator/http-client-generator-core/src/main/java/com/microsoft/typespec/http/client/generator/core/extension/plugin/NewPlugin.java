@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.extension.plugin;
 
 import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
 import com.azure.json.ReadValueCallback;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.Message;
@@ -17,10 +18,12 @@ import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -52,6 +55,10 @@ public abstract class NewPlugin {
      */
     protected final String sessionId;
 
+    private volatile String settingsJson;
+    private volatile Map<String, String> settingsSnapshot;
+    private final AtomicInteger settingsSnapshotLookups = new AtomicInteger();
+
     /**
      * Reads the content of a file.
      *
@@ -100,9 +107,139 @@ public abstract class NewPlugin {
     }
 
     private String getValueString(String key) {
+        Map<String, String> snapshot = settingsSnapshot;
+        if (snapshot != null) {
+            settingsSnapshotLookups.incrementAndGet();
+            return getSnapshotValue(snapshot, key);
+        }
+
         return connection.request("GetValue", sessionId, key);
     }
 
+    private static String getSnapshotValue(Map<String, String> snapshot, String key) {
+        String value = snapshot.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        // Same as a GetValue request, a dotted key is the path to a value in nested objects, e.g.
+        // "pipeline.fluentgen.naming.override". The parent keys may contain dots themselves.
+        for (int dot = key.indexOf('.'); dot > 0; dot = key.indexOf('.', dot + 1)) {
+            String parent = snapshot.get(key.substring(0, dot));
+            if (parent != null && parent.startsWith("{")) {
+                try (JsonReader jsonReader = JsonProviders.createReader(parent)) {
+                    jsonReader.nextToken();
+                    value = readNestedSettingValue(jsonReader, key.substring(dot + 1));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String readNestedSettingValue(JsonReader reader, String path) throws IOException {
+        while (reader.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = reader.getFieldName();
+            reader.nextToken();
+            String value;
+            if (fieldName.equals(path)) {
+                value = readSettingValue(reader);
+            } else if (reader.currentToken() == JsonToken.START_OBJECT && path.startsWith(fieldName + ".")) {
+                value = readNestedSettingValue(reader, path.substring(fieldName.length() + 1));
+            } else {
+                reader.skipChildren();
+                value = null;
+            }
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    // Same representation as the result of a GetValue request on the key.
+    private static String readSettingValue(JsonReader reader) throws IOException {
+        if (reader.isStartArrayOrObject()) {
+            return reader.readChildren();
+        } else if (reader.currentToken() != JsonToken.NULL) {
+            return reader.getString();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Fetches the whole configuration with a single GetValue request on the root, so that later lookups by
+     * {@link #getValue}, {@link #getStringValue} or {@link #getBooleanValue} are served from an immutable snapshot
+     * instead of one GetValue request each. A dotted key is looked up in the nested objects of the snapshot.
+     * <p>
+     * If the root value isn't a JSON object, no snapshot is taken and lookups keep requesting each key.
+     *
+     * @return Whether the snapshot was taken.
+     */
+    public boolean prefetchSettings() {
+        String root = getSettingsJson();
+        if (root == null) {
+            return false;
+        }
+
+        try (JsonReader jsonReader = JsonProviders.createReader(root)) {
+            Map<String, String> snapshot = new HashMap<>();
+            jsonReader.readObject(reader -> {
+                while (reader.nextToken() != JsonToken.END_OBJECT) {
+                    String key = reader.getFieldName();
+                    reader.nextToken();
+                    String value = readSettingValue(reader);
+                    if (value != null) {
+                        snapshot.put(key, value);
+                    }
+                }
+                return null;
+            });
+            settingsJson = root;
+            settingsSnapshot = Collections.unmodifiableMap(snapshot);
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the whole configuration as JSON, the result of a GetValue request on the root.
+     * <p>
+     * Unlike the settings read into {@link JavaSettings}, this includes every setting, such as the JSON objects of
+     * "modelerfour" or "polling" and the settings read on demand.
+     *
+     * @return The configuration as JSON, or null if the root value isn't a JSON object.
+     */
+    public String getSettingsJson() {
+        String root = settingsJson;
+        if (root != null) {
+            return root;
+        }
+
+        try {
+            root = connection.request("GetValue", sessionId, "");
+        } catch (RuntimeException ex) {
+            return null;
+        }
+        return (root == null || !root.startsWith("{")) ? null : root;
+    }
+
+    /**
+     * Gets the number of setting lookups served from the snapshot taken by {@link #prefetchSettings()}, which is the
+     * number of GetValue requests saved.
+     *
+     * @return The number of setting lookups served from the snapshot.
+     */
+    public int getSettingsSnapshotLookups() {
+        return settingsSnapshotLookups.get();
+    }
+
     /**
      * Gets the value of a key.
      *
@@ -320,11 +457,21 @@ public abstract class NewPlugin {
      */
     public boolean process() {
         try {
+            boolean prefetched = prefetchSettings();
             JavaSettings.setHost(this);
-            return processInternal();
+            boolean result = processInternal();
+            if (prefetched) {
+                new PluginLogger(this, NewPlugin.class).info(
+                    "Served {} setting lookups from the configuration snapshot, saving {} GetValue requests.",
+                    getSettingsSnapshotLookups(), getSettingsSnapshotLookups() - 1);
+            }
+            return result;
         } catch (Throwable t) {
             message(MessageChannel.FATAL, "Unhandled error: " + t.getMessage(), t, List.of(getClass().getSimpleName()));
             return false;
+        } finally {
+            // WriteFile and Message notifications are written asynchronously, make sure they are all written.
+            connection.flush();
         }
     }
 
@@ -55,6 +55,7 @@ import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.serializer.JsonSerializer;
 import com.azure.core.util.serializer.SerializerAdapter;
 import com.azure.core.util.serializer.TypeReference;
+import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
@@ -200,6 +201,7 @@ public class ClassType implements IType {
     public static final ClassType JSON_WRITER = getClassTypeBuilder(JsonWriter.class).build();
     public static final ClassType JSON_READER = getClassTypeBuilder(JsonReader.class).build();
     public static final ClassType JSON_TOKEN = getClassTypeBuilder(JsonToken.class).build();
+    public static final ClassType JSON_PROVIDERS = getClassTypeBuilder(JsonProviders.class).build();
 
     public static final ClassType VOID = new ClassType.Builder(false).knownClass(Void.class).build();
 
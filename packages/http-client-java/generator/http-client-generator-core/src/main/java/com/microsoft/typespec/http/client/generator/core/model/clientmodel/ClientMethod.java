@@ -450,6 +450,12 @@ public class ClientMethod {
                     imports.add("java.util.List");
                     imports.add("java.util.Map");
                     ClassType.BINARY_DATA.addImportsTo(imports, includeImplementationImports);
+
+                    // for reading the page in a single pass
+                    imports.add("java.io.IOException");
+                    imports.add("com.azure.json.JsonProviders");
+                    imports.add("com.azure.json.JsonReader");
+                    imports.add("com.azure.json.JsonToken");
                 }
             }
 
@@ -11,6 +11,9 @@ import java.util.Map;
 
 /**
  * The collection of all client models stored for inheritance lookup.
+ * <p>
+ * Models are added while mapping the code model, which completes before templates are rendered. Rendering only reads
+ * the collection, and may do so from multiple threads.
  */
 public class ClientModels {
     private static final ClientModels INSTANCE = new ClientModels();
@@ -18,8 +18,12 @@ public class JavaFile implements JavaContext {
     private final JavaFileContents contents;
 
     public JavaFile(String filePath) {
+        this(filePath, false);
+    }
+
+    public JavaFile(String filePath, boolean preciseImports) {
         this.filePath = filePath;
-        this.contents = new JavaFileContents();
+        this.contents = new JavaFileContents(preciseImports);
     }
 
     public final String getFilePath() {
@@ -4,8 +4,8 @@
 package com.microsoft.typespec.http.client.generator.core.model.javamodel;
 
 import com.azure.core.util.CoreUtils;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -15,17 +15,32 @@ import java.util.stream.Collectors;
 public class JavaFileContents {
     private static final String SINGLE_INDENT = "    ";
 
-    private final List<String> contents;
+    // All text is written into a single buffer. Completed lines are terminated by '\n' and the current line is the
+    // text after 'currentLineStart'. The '\n' terminating the last completed line isn't part of the output when the
+    // current line is empty, matching the lines being joined by '\n'.
+    private final StringBuilder buffer;
+    private int currentLineStart;
+    private int lineCount;
 
-    private String currentLine;
-    private String linePrefix;
+    private final StringBuilder linePrefix;
+    private boolean linePrefixBlank = true;
 
     private CurrentLineType currentLineType = CurrentLineType.Empty;
 
+    // With precise imports, declared imports are held back and only the used ones are written into the contents, at
+    // the line where the first import was declared, when the file is converted to a string.
+    private final boolean preciseImports;
+    private final Set<String> declaredImports = new LinkedHashSet<>();
+    private int importsOffset = -1;
+
     public JavaFileContents() {
-        this.currentLine = "";
-        this.linePrefix = "";
-        this.contents = new ArrayList<>();
+        this(false);
+    }
+
+    public JavaFileContents(boolean preciseImports) {
+        this.buffer = new StringBuilder(4096);
+        this.linePrefix = new StringBuilder(32);
+        this.preciseImports = preciseImports;
     }
 
     private static String toString(List<JavaModifier> modifiers) {
@@ -34,24 +49,85 @@ public class JavaFileContents {
 
     @Override
     public String toString() {
-        return String.join("\n", contents) + currentLine;
+        if (importsOffset < 0) {
+            return contentsWithoutImports();
+        }
+
+        String imports = usedImports();
+        return appendTo(new StringBuilder(buffer.length() + imports.length()), imports).toString();
+    }
+
+    private String contentsWithoutImports() {
+        if (lineCount == 0 || currentLineStart == buffer.length()) {
+            return buffer.substring(0, lineCount == 0 ? buffer.length() : buffer.length() - 1);
+        }
+
+        return appendTo(new StringBuilder(buffer.length()), "").toString();
+    }
+
+    private String usedImports() {
+        JavaImportScanner scanner = JavaImportScanner.scan(contentsWithoutImports());
+        Set<String> usedImports = new TreeSet<>(new JavaImportComparer());
+        for (String declaredImport : declaredImports) {
+            if (JavaImportScanner.isUsed(declaredImport, scanner.getPackageName(), scanner.getReferencedNames())) {
+                usedImports.add(declaredImport);
+            }
+        }
+
+        StringBuilder imports = new StringBuilder();
+        for (String usedImport : usedImports) {
+            imports.append("import ").append(usedImport).append(";\n");
+        }
+        return imports.toString();
+    }
+
+    /**
+     * Appends the output text to the builder, with the imports inserted at {@link #importsOffset} and the '\n'
+     * terminating the last completed line dropped.
+     */
+    private StringBuilder appendTo(StringBuilder builder, String imports) {
+        int start = 0;
+        if (importsOffset >= 0) {
+            builder.append(buffer, 0, importsOffset).append(imports);
+            start = importsOffset;
+        }
+
+        if (lineCount == 0) {
+            builder.append(buffer, start, buffer.length());
+        } else {
+            builder.append(buffer, start, currentLineStart - 1).append(buffer, currentLineStart, buffer.length());
+        }
+        return builder;
     }
 
     public boolean contains(String str) {
-        return contents.stream().anyMatch(line -> line.contains(str));
+        if (lineCount == 0 || str.indexOf('\n') >= 0) {
+            return false;
+        }
+
+        // Only completed lines are searched, the '\n' terminating the last one excluded.
+        int index = buffer.indexOf(str);
+        return index >= 0 && index + str.length() <= currentLineStart - 1;
     }
 
     public final void addToPrefix(String toAdd) {
-        linePrefix += toAdd;
+        linePrefix.append(toAdd);
+        linePrefixBlank = isBlank(linePrefix, 0, linePrefix.length());
     }
 
     private void removeFromPrefix(String toRemove) {
-        int toRemoveLength = toRemove.length();
-        if (linePrefix.length() <= toRemoveLength) {
-            linePrefix = "";
-        } else {
-            linePrefix = linePrefix.substring(0, linePrefix.length() - toRemoveLength);
+        linePrefix.setLength(Math.max(0, linePrefix.length() - toRemove.length()));
+        linePrefixBlank = isBlank(linePrefix, 0, linePrefix.length());
+    }
+
+    private static boolean isBlank(CharSequence text, int start, int end) {
+        // Same as 'trim().isEmpty()'.
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
         }
+        return true;
     }
 
     public final void indent(Runnable action) {
@@ -69,36 +145,35 @@ public class JavaFileContents {
     }
 
     private void text(String text, boolean addPrefix, boolean completeLastLine) {
-        String prefix = addPrefix ? linePrefix : null;
-
         if (text == null || text.isEmpty()) {
-            handleLine("", prefix, true, completeLastLine);
+            handleLine("", 0, 0, addPrefix, true, completeLastLine);
         } else {
             int lineStartIndex = 0;
             int textLength = text.length();
             while (lineStartIndex < textLength) {
                 int newLineCharacterIndex = text.indexOf('\n', lineStartIndex);
                 if (newLineCharacterIndex == -1) {
-                    handleLine(text.substring(lineStartIndex), prefix, true, completeLastLine);
+                    handleLine(text, lineStartIndex, textLength, addPrefix, true, completeLastLine);
                     break;
                 } else {
-                    handleLine(text.substring(lineStartIndex, newLineCharacterIndex), prefix, false, completeLastLine);
+                    handleLine(text, lineStartIndex, newLineCharacterIndex, addPrefix, false, completeLastLine);
                     lineStartIndex = newLineCharacterIndex + 1;
                 }
             }
         }
     }
 
-    private void handleLine(String line, String prefix, boolean lastLine, boolean completeLastLine) {
-        if (prefix != null
-            && (!prefix.trim().isEmpty() || (!prefix.isEmpty() && line != null && !line.trim().isEmpty()))) {
-            currentLine += prefix;
+    private void handleLine(String text, int start, int end, boolean addPrefix, boolean lastLine,
+        boolean completeLastLine) {
+        if (addPrefix && (!linePrefixBlank || (linePrefix.length() > 0 && !isBlank(text, start, end)))) {
+            buffer.append(linePrefix);
         }
 
-        currentLine += line;
+        buffer.append(text, start, end);
         if (!lastLine || completeLastLine) {
-            contents.add(currentLine);
-            currentLine = "";
+            buffer.append('\n');
+            currentLineStart = buffer.length();
+            lineCount++;
         }
     }
 
@@ -158,7 +233,9 @@ public class JavaFileContents {
     }
 
     public void declareImport(List<String> imports) {
-        if (imports != null && !imports.isEmpty()) {
+        if (preciseImports) {
+            declarePreciseImport(imports);
+        } else if (imports != null && !imports.isEmpty()) {
             Set<String> importSet = new TreeSet<>(new JavaImportComparer());
             importSet.addAll(imports);
             for (String toImport : importSet) {
@@ -170,6 +247,23 @@ public class JavaFileContents {
         }
     }
 
+    private void declarePreciseImport(List<String> imports) {
+        if (imports == null || imports.isEmpty()) {
+            return;
+        }
+
+        if (importsOffset < 0) {
+            // All imports go into a single block, followed by the blank line written here.
+            importsOffset = currentLineStart;
+            line();
+        }
+        for (String toImport : imports) {
+            if (toImport != null && !toImport.isEmpty()) {
+                declaredImports.add(toImport);
+            }
+        }
+    }
+
     public void lineComment(String text) {
         lineComment(comment -> comment.line(text));
     }
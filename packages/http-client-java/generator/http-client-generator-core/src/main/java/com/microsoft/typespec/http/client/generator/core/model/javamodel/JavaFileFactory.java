@@ -22,7 +22,7 @@ public class JavaFileFactory {
             .toString()
             .replace('\\', '/')
             .replace("//", "/");
-        return new JavaFile(filePath);
+        return new JavaFile(filePath, settings.isPreciseImports());
     }
 
     public final JavaFile createSourceFile(String packageKeyword, String fileNameWithoutExtension) {
@@ -41,7 +41,7 @@ public class JavaFileFactory {
             .toString()
             .replace('\\', '/')
             .replace("//", "/");
-        JavaFile javaFile = new JavaFile(filePath);
+        JavaFile javaFile = new JavaFile(filePath, settings.isPreciseImports());
 
         addCommentAndPackage(javaFile, packageKeyword);
 
@@ -56,7 +56,7 @@ public class JavaFileFactory {
             .toString()
             .replace('\\', '/')
             .replace("//", "/");
-        JavaFile javaFile = new JavaFile(filePath);
+        JavaFile javaFile = new JavaFile(filePath, settings.isPreciseImports());
 
         addCommentAndPackage(javaFile, packageKeyword);
 
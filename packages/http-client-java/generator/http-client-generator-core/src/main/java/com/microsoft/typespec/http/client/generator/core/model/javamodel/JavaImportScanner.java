@@ -0,0 +1,286 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lexical scanner that finds the import declarations of Java code and the names the code references.
+ * <p>
+ * The scanner doesn't parse the code. It skips string and character literals and comments, and records every
+ * identifier that isn't qualified by a preceding {@code .}, as only the left-most identifier of a reference can come
+ * from an import. References in Javadoc, such as {@code {@link Foo#bar(Baz)}} or {@code @throws Foo}, are recorded as
+ * well. The referenced names are therefore a superset of the names resolved through imports, which is enough to
+ * determine which imports are used.
+ */
+public final class JavaImportScanner {
+    private static final Pattern JAVADOC_INLINE_REFERENCE = Pattern.compile("\\{@(?:link|linkplain|value)\\s+([^}]*)}");
+    private static final Pattern JAVADOC_BLOCK_REFERENCE = Pattern.compile("@(?:see|throws|exception)\\s+([^\\n]*)");
+
+    private final List<String> imports = new ArrayList<>();
+    private final Set<String> referencedNames = new HashSet<>();
+    private String packageName;
+    private int firstImportLine;
+    private int lastImportLine;
+
+    private JavaImportScanner() {
+    }
+
+    /**
+     * Scans the Java code.
+     *
+     * @param code The Java code.
+     * @return The result of the scan.
+     */
+    public static JavaImportScanner scan(String code) {
+        JavaImportScanner scanner = new JavaImportScanner();
+        scanner.scanCode(code);
+        return scanner;
+    }
+
+    /**
+     * Gets the import declarations, e.g. {@code java.util.List}, {@code java.util.*} or
+     * {@code static java.util.Objects.requireNonNull}.
+     *
+     * @return The import declarations.
+     */
+    public List<String> getImports() {
+        return Collections.unmodifiableList(imports);
+    }
+
+    /**
+     * Gets the names referenced by the code, outside of the package and import declarations.
+     *
+     * @return The referenced names.
+     */
+    public Set<String> getReferencedNames() {
+        return Collections.unmodifiableSet(referencedNames);
+    }
+
+    /**
+     * Gets the package of the code.
+     *
+     * @return The package of the code, or null if there is no package declaration.
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * Gets the 1-based line of the first import declaration.
+     *
+     * @return The line of the first import declaration, or 0 if there are no imports.
+     */
+    public int getFirstImportLine() {
+        return firstImportLine;
+    }
+
+    /**
+     * Gets the 1-based line of the last import declaration.
+     *
+     * @return The line of the last import declaration, or 0 if there are no imports.
+     */
+    public int getLastImportLine() {
+        return lastImportLine;
+    }
+
+    /**
+     * Checks whether the import is used.
+     * <p>
+     * Imports from {@code java.lang} or from the package itself are never used. Wildcard imports are always used.
+     * Other imports are used if their simple name is referenced.
+     *
+     * @param importDeclaration The import declaration, as returned by {@link #getImports()}.
+     * @param packageName The package of the code.
+     * @param referencedNames The names referenced by the code.
+     * @return Whether the import is used.
+     */
+    public static boolean isUsed(String importDeclaration, String packageName, Set<String> referencedNames) {
+        String importName
+            = importDeclaration.startsWith("static ") ? importDeclaration.substring(7) : importDeclaration;
+        int lastPeriod = importName.lastIndexOf('.');
+        String qualifier = lastPeriod < 0 ? "" : importName.substring(0, lastPeriod);
+        String simpleName = importName.substring(lastPeriod + 1);
+
+        if ("java.lang".equals(qualifier) || qualifier.equals(packageName)) {
+            return false;
+        }
+
+        return "*".equals(simpleName) || referencedNames.contains(simpleName);
+    }
+
+    /**
+     * Adds the names referenced by the Javadoc, such as {@code {@link Foo#bar(Baz)}} or {@code @throws Foo}.
+     *
+     * @param javadoc The Javadoc text.
+     * @param referencedNames The set the names are added to.
+     */
+    public static void addJavadocReferences(String javadoc, Set<String> referencedNames) {
+        addJavadocReferences(JAVADOC_INLINE_REFERENCE.matcher(javadoc), referencedNames);
+        addJavadocReferences(JAVADOC_BLOCK_REFERENCE.matcher(javadoc), referencedNames);
+    }
+
+    private static void addJavadocReferences(Matcher matcher, Set<String> referencedNames) {
+        while (matcher.find()) {
+            String reference = matcher.group(1).trim();
+            int parametersStart = reference.indexOf('(');
+            int parametersEnd = reference.indexOf(')');
+            if (parametersStart >= 0 && parametersEnd > parametersStart) {
+                for (String parameter : reference.substring(parametersStart + 1, parametersEnd).split(",")) {
+                    addLeadingIdentifier(parameter.trim(), referencedNames);
+                }
+                reference = reference.substring(0, parametersStart);
+            }
+
+            addLeadingIdentifier(reference, referencedNames);
+        }
+    }
+
+    private static void addLeadingIdentifier(String reference, Set<String> referencedNames) {
+        if (reference.isEmpty() || !Character.isJavaIdentifierStart(reference.charAt(0))) {
+            return;
+        }
+
+        int end = 1;
+        while (end < reference.length() && Character.isJavaIdentifierPart(reference.charAt(end))) {
+            end++;
+        }
+        referencedNames.add(reference.substring(0, end));
+    }
+
+    private void scanCode(String code) {
+        int length = code.length();
+        int line = 1;
+        int depth = 0;
+        // The last character of the previous token, used to skip identifiers qualified by a '.'.
+        char previous = 0;
+
+        int i = 0;
+        while (i < length) {
+            char c = code.charAt(i);
+            if (c == '\n') {
+                line++;
+                i++;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '/' && i + 1 < length && code.charAt(i + 1) == '/') {
+                i = indexOrEnd(code, "\n", i + 2);
+            } else if (c == '/' && i + 1 < length && code.charAt(i + 1) == '*') {
+                int end = indexOrEnd(code, "*/", i + 2);
+                String comment = code.substring(i, end);
+                if (comment.startsWith("/**")) {
+                    addJavadocReferences(comment, referencedNames);
+                }
+                line += countLines(comment);
+                i = Math.min(end + 2, length);
+            } else if (c == '"' || c == '\'') {
+                int end = skipLiteral(code, i);
+                line += countLines(code.substring(i, end));
+                i = end;
+                previous = c;
+            } else if (Character.isDigit(c)) {
+                // Skip number literals, such as 1.0e5 or 0x1F, so their letters aren't taken as identifiers.
+                i++;
+                while (i < length && (Character.isLetterOrDigit(code.charAt(i)) || code.charAt(i) == '.'
+                    || code.charAt(i) == '_')) {
+                    i++;
+                }
+                previous = '0';
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                i++;
+                while (i < length && Character.isJavaIdentifierPart(code.charAt(i))) {
+                    i++;
+                }
+                String identifier = code.substring(start, i);
+
+                if (depth == 0 && previous != '.' && previous != '@'
+                    && ("import".equals(identifier) || "package".equals(identifier))) {
+                    int end = indexOrEnd(code, ";", i);
+                    String declaration = code.substring(i, end).replaceAll("\\s+", " ").trim();
+                    if ("import".equals(identifier)) {
+                        declaration = declaration.replace(" .", ".").replace(". ", ".");
+                        imports.add(declaration);
+                        if (firstImportLine == 0) {
+                            firstImportLine = line;
+                        }
+                        line += countLines(code.substring(start, end));
+                        lastImportLine = line;
+                    } else {
+                        packageName = declaration.replace(" ", "");
+                        line += countLines(code.substring(start, end));
+                    }
+                    i = Math.min(end + 1, length);
+                    previous = ';';
+                } else {
+                    if (previous != '.') {
+                        referencedNames.add(identifier);
+                    }
+                    previous = 'a';
+                }
+            } else {
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth--;
+                }
+                previous = c;
+                i++;
+            }
+        }
+    }
+
+    private static int skipLiteral(String code, int start) {
+        char quote = code.charAt(start);
+        int length = code.length();
+        if (quote == '"' && code.startsWith("\"\"\"", start)) {
+            // Text block.
+            int i = start + 3;
+            while (i < length) {
+                if (code.charAt(i) == '\\') {
+                    i += 2;
+                } else if (code.startsWith("\"\"\"", i)) {
+                    return i + 3;
+                } else {
+                    i++;
+                }
+            }
+            return length;
+        }
+
+        int i = start + 1;
+        while (i < length) {
+            char c = code.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote || c == '\n') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static int indexOrEnd(String code, String str, int fromIndex) {
+        int index = code.indexOf(str, fromIndex);
+        return index < 0 ? code.length() : index;
+    }
+
+    private static int countLines(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
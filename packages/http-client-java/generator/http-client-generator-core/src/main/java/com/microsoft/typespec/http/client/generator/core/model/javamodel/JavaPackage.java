@@ -39,6 +39,7 @@ import com.microsoft.typespec.http.client.generator.core.template.SwaggerReadmeT
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.template.TestProxyAssetsTemplate;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import com.microsoft.typespec.http.client.generator.core.util.PossibleCredentialException;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -50,6 +51,9 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 
 public class JavaPackage {
@@ -64,12 +68,18 @@ public class JavaPackage {
 
     private final Set<String> filePaths = new HashSet<>();
 
+    // Java files are added to javaFiles in call order, only the template writing their content may run on the pool.
+    private final int renderingThreads;
+    private ForkJoinPool renderingPool;
+    private final List<ForkJoinTask<?>> pendingRenders = new ArrayList<>();
+
     public JavaPackage(NewPlugin host) {
         this.settings = JavaSettings.getInstance();
         this.javaFiles = new ArrayList<>();
         this.xmlFiles = new ArrayList<>();
         this.javaFileFactory = new JavaFileFactory(settings);
         this.logger = new PluginLogger(host, JavaPackage.class);
+        this.renderingThreads = settings.getRenderingThreads();
     }
 
     protected JavaFileFactory getJavaFileFactory() {
@@ -77,6 +87,7 @@ public class JavaPackage {
     }
 
     public List<JavaFile> getJavaFiles() {
+        awaitRendering();
         return javaFiles;
     }
 
@@ -90,13 +101,14 @@ public class JavaPackage {
 
     public final void addServiceClient(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientTemplate().write(model, javaFile);
+        render("ServiceClientTemplate", javaFile, file -> Templates.getServiceClientTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addAsyncServiceClient(String packageKeyWord, AsyncSyncClient asyncClient) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyWord, asyncClient.getClassName());
-        Templates.getServiceAsyncClientTemplate().write(asyncClient, javaFile);
+        render("ServiceAsyncClientTemplate", javaFile,
+            file -> Templates.getServiceAsyncClientTemplate().write(asyncClient, file));
         addJavaFile(javaFile);
     }
 
@@ -110,49 +122,55 @@ public class JavaPackage {
         ServiceSyncClientTemplate template = syncClientWrapAsync
             ? Templates.getServiceSyncClientWrapAsyncClientTemplate()
             : Templates.getServiceSyncClientTemplate();
-        template.write(syncClient, javaFile);
+        render(template.getClass().getSimpleName(), javaFile, file -> template.write(syncClient, file));
         addJavaFile(javaFile);
     }
 
     public final void addServiceClientInterface(String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
+        render("ServiceClientInterfaceTemplate", javaFile,
+            file -> Templates.getServiceClientInterfaceTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addServiceClientInterface(String packageKeyword, String name, ServiceClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getServiceClientInterfaceTemplate().write(model, javaFile);
+        render("ServiceClientInterfaceTemplate", javaFile,
+            file -> Templates.getServiceClientInterfaceTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addServiceClientBuilder(ClientBuilder model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackageName(), model.getClassName());
-        Templates.getServiceClientBuilderTemplate().write(model, javaFile);
+        render("ServiceClientBuilderTemplate", javaFile,
+            file -> Templates.getServiceClientBuilderTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addServiceVersion(String packageKeyword, ServiceVersion serviceVersion) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, serviceVersion.getClassName());
-        Templates.getServiceVersionTemplate().write(serviceVersion, javaFile);
+        render("ServiceVersionTemplate", javaFile,
+            file -> Templates.getServiceVersionTemplate().write(serviceVersion, file));
         addJavaFile(javaFile);
     }
 
     public final void addMethodGroup(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupTemplate().write(model, javaFile);
+        render("MethodGroupTemplate", javaFile, file -> Templates.getMethodGroupTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addMethodGroupInterface(String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(settings.getPackage(), name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
+        render("MethodGroupInterfaceTemplate", javaFile,
+            file -> Templates.getMethodGroupInterfaceTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addMethodGroupInterface(String packageKeyword, String name, MethodGroupClient model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getMethodGroupInterfaceTemplate().write(model, javaFile);
+        render("MethodGroupInterfaceTemplate", javaFile,
+            file -> Templates.getMethodGroupInterfaceTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
@@ -160,9 +178,10 @@ public class JavaPackage {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
 
         if (settings.isStreamStyleSerialization()) {
-            Templates.getStreamStyleModelTemplate().write(model, javaFile);
+            render("StreamStyleModelTemplate", javaFile,
+                file -> Templates.getStreamStyleModelTemplate().write(model, file));
         } else {
-            Templates.getModelTemplate().write(model, javaFile);
+            render("ModelTemplate", javaFile, file -> Templates.getModelTemplate().write(model, file));
         }
 
         addJavaFile(javaFile);
@@ -170,43 +189,44 @@ public class JavaPackage {
 
     public final void addException(String packageKeyword, String name, ClientException model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getExceptionTemplate().write(model, javaFile);
+        render("ExceptionTemplate", javaFile, file -> Templates.getExceptionTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addEnum(String packageKeyword, String name, EnumType model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getEnumTemplate().write(model, javaFile);
+        render("EnumTemplate", javaFile, file -> Templates.getEnumTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addClientResponse(String packageKeyword, String name, ClientResponse model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getResponseTemplate().write(model, javaFile);
+        render("ResponseTemplate", javaFile, file -> Templates.getResponseTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addXmlSequenceWrapper(String packageKeyword, String name, XmlSequenceWrapper model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(packageKeyword, name);
-        Templates.getXmlSequenceWrapperTemplate().write(model, javaFile);
+        render("XmlSequenceWrapperTemplate", javaFile,
+            file -> Templates.getXmlSequenceWrapperTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addUnionModel(UnionModel model) {
         JavaFile javaFile = javaFileFactory.createSourceFile(model.getPackage(), model.getName());
-        Templates.getUnionModelTemplate().write(model, javaFile);
+        render("UnionModelTemplate", javaFile, file -> Templates.getUnionModelTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addPackageInfo(String packageKeyword, String name, PackageInfo model) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile(packageKeyword, name);
-        Templates.getPackageInfoTemplate().write(model, javaFile);
+        render("PackageInfoTemplate", javaFile, file -> Templates.getPackageInfoTemplate().write(model, file));
         addJavaFile(javaFile);
     }
 
     public final void addModuleInfo(ModuleInfo moduleInfo) {
         JavaFile javaFile = javaFileFactory.createEmptySourceFile("", "module-info");
-        Templates.getModuleInfoTemplate().write(moduleInfo, javaFile);
+        render("ModuleInfoTemplate", javaFile, file -> Templates.getModuleInfoTemplate().write(moduleInfo, file));
         addJavaFile(javaFile);
     }
 
@@ -235,6 +255,58 @@ public class JavaPackage {
         addJavaFile(javaFile);
     }
 
+    /**
+     * Writes the content of the Java file.
+     * <p>
+     * With more than one rendering thread configured, the content is written on a fork/join pool and this method
+     * returns immediately. The Java file is still added to the package by the caller, so the order of files is the
+     * same as with serial rendering. {@link #getJavaFiles()} waits for all pending rendering to complete.
+     * <p>
+     * The rendering is measured in the {@link GenerationReport}.
+     *
+     * @param templateName The name of the template, for the {@link GenerationReport}.
+     * @param javaFile The Java file.
+     * @param renderer The action writing the content of the Java file.
+     */
+    protected final void render(String templateName, JavaFile javaFile, Consumer<JavaFile> renderer) {
+        Runnable measuredRenderer = () -> {
+            try (GenerationReport.Timer ignored
+                = GenerationReport.getInstance().startTemplate(templateName, javaFile.getFilePath())) {
+                renderer.accept(javaFile);
+            }
+        };
+
+        if (renderingThreads <= 1) {
+            measuredRenderer.run();
+        } else {
+            if (renderingPool == null) {
+                renderingPool = new ForkJoinPool(renderingThreads);
+            }
+            pendingRenders.add(renderingPool.submit(measuredRenderer));
+        }
+    }
+
+    /**
+     * Waits for the pending rendering of Java files to complete.
+     * <p>
+     * The first failure of a template is rethrown.
+     */
+    protected final void awaitRendering() {
+        if (pendingRenders.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (ForkJoinTask<?> pendingRender : pendingRenders) {
+                pendingRender.join();
+            }
+        } finally {
+            pendingRenders.clear();
+            renderingPool.shutdown();
+            renderingPool = null;
+        }
+    }
+
     protected void addJavaFile(JavaFile javaFile) {
         this.checkDuplicateFile(javaFile.getFilePath());
         filePaths.add(javaFile.getFilePath());
@@ -244,7 +316,8 @@ public class JavaPackage {
     public void addProtocolExamples(ProtocolExample protocolExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), protocolExample.getFilename());
-        Templates.getProtocolSampleTemplate().write(protocolExample, javaFile);
+        render("ProtocolSampleTemplate", javaFile,
+            file -> Templates.getProtocolSampleTemplate().write(protocolExample, file));
         this.checkDuplicateFile(javaFile.getFilePath());
         javaFiles.add(javaFile);
     }
@@ -252,7 +325,8 @@ public class JavaPackage {
     public void addClientMethodExamples(ClientMethodExample clientMethodExample) {
         JavaFile javaFile
             = javaFileFactory.createSampleFile(settings.getPackage("generated"), clientMethodExample.getFilename());
-        Templates.getClientMethodSampleTemplate().write(clientMethodExample, javaFile);
+        render("ClientMethodSampleTemplate", javaFile,
+            file -> Templates.getClientMethodSampleTemplate().write(clientMethodExample, file));
         this.checkDuplicateFile(javaFile.getFilePath());
         javaFiles.add(javaFile);
     }
@@ -275,7 +349,7 @@ public class JavaPackage {
     public void addProtocolTest(TestContext<ProtocolExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ProtocolTestTemplate.getInstance().write(testContext, javaFile);
+        render("ProtocolTestTemplate", javaFile, file -> ProtocolTestTemplate.getInstance().write(testContext, file));
         this.checkDuplicateFile(javaFile.getFilePath());
         javaFiles.add(javaFile);
     }
@@ -283,7 +357,8 @@ public class JavaPackage {
     public void addClientMethodTest(TestContext<ClientMethodExample> testContext) {
         String className = testContext.getTestCase().getFilename() + "Tests";
         JavaFile javaFile = javaFileFactory.createTestFile(testContext.getPackageName(), className);
-        ClientMethodTestTemplate.getInstance().write(testContext, javaFile);
+        render("ClientMethodTestTemplate", javaFile,
+            file -> ClientMethodTestTemplate.getInstance().write(testContext, file));
         this.checkDuplicateFile(javaFile.getFilePath());
         javaFiles.add(javaFile);
     }
@@ -356,7 +431,8 @@ public class JavaPackage {
         JavaFile javaFile
             = javaFileFactory.createSourceFile(settings.getPackage(settings.getImplementationSubpackage()),
                 ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
-        Templates.getJsonMergePatchHelperTemplate().write(models, javaFile);
+        render("JsonMergePatchHelperTemplate", javaFile,
+            file -> Templates.getJsonMergePatchHelperTemplate().write(models, file));
         this.checkDuplicateFile(javaFile.getFilePath());
         javaFiles.add(javaFile);
     }
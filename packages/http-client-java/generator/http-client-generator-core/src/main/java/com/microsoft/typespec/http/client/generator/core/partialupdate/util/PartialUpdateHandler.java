@@ -128,6 +128,50 @@ public class PartialUpdateHandler {
         return generatedFileContent;
     }
 
+    /**
+     * Checks, without parsing the files, whether the existing file needs to be merged with the generated file.
+     * <p>
+     * The merge isn't needed when the existing file is identical to the generated file, or when the generated class or
+     * interface file has no {@code @Generated} annotation, which means the file is not in scope of partial update. In
+     * both cases {@link #handlePartialUpdateForFile(String, String)} would return the generated file content, after
+     * validating it. A file that isn't merged is to be validated by {@link #validateGeneratedFile(String)}.
+     *
+     * @param fileName the name of the file
+     * @param generatedFileContent the newly generated file content
+     * @param existingFileContent the existing file content that contains user's manual update code
+     * @return whether the existing file needs to be merged with the generated file
+     */
+    public static boolean isPartialUpdateNeeded(String fileName, String generatedFileContent,
+        String existingFileContent) {
+        if (generatedFileContent.equals(existingFileContent)) {
+            return false;
+        }
+
+        // package-info.java and module-info.java are merged regardless of @Generated annotation
+        if (fileName.endsWith("package-info.java") || fileName.endsWith("module-info.java")) {
+            return true;
+        }
+        return generatedFileContent.contains("@Generated");
+    }
+
+    /**
+     * Validates the generated class or interface file, the same as {@link #handlePartialUpdateForFile(String, String)}
+     * does before merging, for a file that isn't merged, see {@link #isPartialUpdateNeeded(String, String, String)}.
+     *
+     * @param generatedFileContent the newly generated file content
+     * @throws RuntimeException if the generated file has duplicate methods, or more than 1 static initializer
+     */
+    public static void validateGeneratedFile(String generatedFileContent) {
+        CompilationUnit compilationUnitForGeneratedFile = StaticJavaParser.parse(generatedFileContent);
+        if (isClassOrInterfaceFile(compilationUnitForGeneratedFile)) {
+            ClassOrInterfaceDeclaration generatedClazz
+                = getClassOrInterfaceDeclaration(compilationUnitForGeneratedFile);
+            if (generatedClazz != null) {
+                validateGeneratedClassOrInterface(generatedClazz.getMembers());
+            }
+        }
+    }
+
     /**
      * <p>Handle partial update for class or interface file steps:
      * <ul>
@@ -10,8 +10,11 @@ import com.microsoft.typespec.http.client.generator.core.extension.base.util.Fil
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.partialupdate.util.PartialUpdateHandler;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CustomizationClassCompiler;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
@@ -20,13 +23,19 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 
 public class Postprocessor {
+    private static final String OUTPUT_BATCH_SIZE = "codegen.java.output.batch.size";
+    private static final int DEFAULT_OUTPUT_BATCH_SIZE = 256;
+
     protected final NewPlugin plugin;
     private final Logger logger;
 
@@ -35,6 +44,37 @@ public class Postprocessor {
         this.logger = new PluginLogger(plugin, Postprocessor.class);
     }
 
+    /**
+     * Post-processes the Java files and writes them with the plugin.
+     * <p>
+     * Without customization, the files flow through rendering, partial update, formatting and writing in batches of
+     * {@code codegen.java.output.batch.size} files, which defaults to 256, and are released once their batch is
+     * written. A batch size of 0 processes all files in a single batch. Customization needs to see all files, hence
+     * with customization all files are rendered and processed by {@link #postProcess(Map)}.
+     * <p>
+     * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+     *
+     * @param javaFiles The Java files. The list is cleared, as its files are released once written.
+     */
+    public void postProcess(List<JavaFile> javaFiles) {
+        if (JavaSettings.getInstance().getCustomizationClass() != null) {
+            Map<String, String> fileContents;
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("render")) {
+                fileContents = toFileContents(javaFiles);
+            }
+            javaFiles.clear();
+            postProcess(fileContents);
+            return;
+        }
+
+        try {
+            writeToFiles(javaFiles, plugin, logger);
+        } catch (Exception e) {
+            logger.error("Failed to complete postprocessing.", e);
+            throw new RuntimeException("Failed to complete postprocessing.", e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public void postProcess(Map<String, String> fileContents) {
         String jarPath = JavaSettings.getInstance().getCustomizationJarPath();
@@ -98,7 +138,9 @@ public class Postprocessor {
             try {
                 Customization customization = customizationClass.getConstructor().newInstance();
                 logger.info("Running customization, this may take a while...");
-                fileContents = customization.run(fileContents, logger);
+                try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("customization")) {
+                    fileContents = customization.run(fileContents, logger);
+                }
             } catch (Exception e) {
                 logger.error("Unable to complete customization", e);
                 throw new RuntimeException("Unable to complete customization", e);
@@ -115,7 +157,14 @@ public class Postprocessor {
     public static void writeToFiles(Map<String, String> javaFiles, NewPlugin plugin, Logger logger) {
         JavaSettings settings = JavaSettings.getInstance();
         if (settings.isHandlePartialUpdate()) {
-            handlePartialUpdate(javaFiles, plugin, logger);
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("partial-update")) {
+                logger.info("Begin handle partial update...");
+                AtomicInteger mergedCount = new AtomicInteger();
+                AtomicInteger skippedCount = new AtomicInteger();
+                handlePartialUpdate(javaFiles, getProjectBaseDirectory(plugin), mergedCount, skippedCount, logger);
+                logger.info("Finish handle partial update: {} files merged, {} skipped.", mergedCount.get(),
+                    skippedCount.get());
+            }
         }
 
         try {
@@ -125,6 +174,74 @@ public class Postprocessor {
         }
     }
 
+    /**
+     * Renders, partially updates, formats and writes the Java files in batches, see {@link #postProcess(List)}.
+     *
+     * @param javaFiles The Java files. The list is cleared, as its files are released once written.
+     * @param plugin The plugin to use to write the files.
+     * @param logger The logger.
+     */
+    public static void writeToFiles(List<JavaFile> javaFiles, NewPlugin plugin, Logger logger) {
+        String baseDirectoryPath
+            = JavaSettings.getInstance().isHandlePartialUpdate() ? getProjectBaseDirectory(plugin) : null;
+        AtomicInteger mergedCount = new AtomicInteger();
+        AtomicInteger skippedCount = new AtomicInteger();
+        if (baseDirectoryPath != null) {
+            logger.info("Begin handle partial update...");
+        }
+
+        try (CodeFormatterUtil.BatchFormatter formatter = new CodeFormatterUtil.BatchFormatter(plugin)) {
+            int fileCount = javaFiles.size();
+            int batchSize = formatter.requiresSingleBatch() ? 0 : getBatchSize();
+            if (batchSize <= 0) {
+                batchSize = Math.max(1, fileCount);
+            }
+
+            for (int start = 0; start < fileCount; start += batchSize) {
+                List<JavaFile> batch = javaFiles.subList(start, Math.min(fileCount, start + batchSize));
+                Map<String, String> fileContents;
+                try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("render")) {
+                    fileContents = toFileContents(batch);
+                }
+                // Release the files of the batch, only their contents are kept until the batch is written.
+                Collections.fill(batch, null);
+
+                if (baseDirectoryPath != null) {
+                    try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("partial-update")) {
+                        handlePartialUpdate(fileContents, baseDirectoryPath, mergedCount, skippedCount, logger);
+                    }
+                }
+                formatter.formatAndWrite(fileContents);
+            }
+        }
+        javaFiles.clear();
+
+        if (baseDirectoryPath != null) {
+            logger.info("Finish handle partial update: {} files merged, {} skipped.", mergedCount.get(),
+                skippedCount.get());
+        }
+    }
+
+    private static Map<String, String> toFileContents(List<JavaFile> javaFiles) {
+        Map<String, String> fileContents = new ConcurrentHashMap<>();
+        javaFiles.parallelStream().forEach(javaFile -> {
+            if (fileContents.putIfAbsent(javaFile.getFilePath(), javaFile.getContents().toString()) != null) {
+                throw new IllegalStateException("Duplicate key " + javaFile.getFilePath());
+            }
+        });
+        return fileContents;
+    }
+
+    private static int getBatchSize() {
+        String batchSize = getConfiguration(OUTPUT_BATCH_SIZE);
+        return (batchSize == null || batchSize.isEmpty()) ? DEFAULT_OUTPUT_BATCH_SIZE : Integer.parseInt(batchSize);
+    }
+
+    private static String getConfiguration(String name) {
+        String value = System.getProperty(name);
+        return value == null ? System.getenv(name) : value;
+    }
+
     private static String getReadme(NewPlugin plugin) {
         List<String> configurationFiles = plugin.getValueWithJsonReader("configurationFiles",
             jsonReader -> jsonReader.readArray(JsonReader::getString));
@@ -163,8 +280,22 @@ public class Postprocessor {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public static Class<? extends Customization> loadCustomizationClass(String className, String code) {
+        CustomizationClassCompiler compiler = CustomizationClassCompilerHolder.INSTANCE;
+        if (compiler != null) {
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("customization-compile")) {
+                return compiler.loadClass(className, code);
+            } catch (ClassNotFoundException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        // The Java runtime has no system Java compiler, compile with Maven.
+        return loadCustomizationClassWithMaven(className, code);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Customization> loadCustomizationClassWithMaven(String className, String code) {
         Path customizationCompile = null;
         try {
             customizationCompile = FileUtils.createTempDirectory("customizationCompile" + UUID.randomUUID());
@@ -192,39 +323,56 @@ public class Postprocessor {
         }
     }
 
-    private static void handlePartialUpdate(Map<String, String> fileContents, NewPlugin plugin, Logger logger) {
-        logger.info("Begin handle partial update...");
+    private static String getProjectBaseDirectory(NewPlugin plugin) {
+        // get existing file path
+        // use output-folder from autorest, if exists and is absolute path
+        String projectBaseDirectoryPath = null;
+        String outputFolderPath = JavaSettings.getInstance().getAutorestSettings().getOutputFolder();
+        if (Paths.get(outputFolderPath).isAbsolute()) {
+            projectBaseDirectoryPath = outputFolderPath;
+        }
+        if (projectBaseDirectoryPath == null || !(new File(projectBaseDirectoryPath).isDirectory())) {
+            // use parent directory of swagger/readme.md
+            projectBaseDirectoryPath = new File(getBaseDirectory(plugin)).getParent();
+        }
+        return projectBaseDirectoryPath;
+    }
+
+    private static void handlePartialUpdate(Map<String, String> fileContents, String baseDirectoryPath,
+        AtomicInteger mergedCount, AtomicInteger skippedCount, Logger logger) {
         // handle partial update
         // currently only support add additional interface or overload a generated method in sync and async client
-        fileContents.replaceAll((path, generatedFileContent) -> {
-            if (path.endsWith(".java")) { // only handle for .java file
-                // get existing file path
-                // use output-folder from autorest, if exists and is absolute path
-                String projectBaseDirectoryPath = null;
-                String outputFolderPath = JavaSettings.getInstance().getAutorestSettings().getOutputFolder();
-                if (Paths.get(outputFolderPath).isAbsolute()) {
-                    projectBaseDirectoryPath = outputFolderPath;
-                }
-                if (projectBaseDirectoryPath == null || !(new File(projectBaseDirectoryPath).isDirectory())) {
-                    // use parent directory of swagger/readme.md
-                    projectBaseDirectoryPath = new File(getBaseDirectory(plugin)).getParent();
-                }
-                Path existingFilePath = Paths.get(projectBaseDirectoryPath, path);
-                // check if existingFile exists, if not, no need to handle partial update
-                if (Files.exists(existingFilePath)) {
-                    try {
-                        String existingFileContent = Files.readString(existingFilePath);
-                        return PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent,
-                            existingFileContent);
-                    } catch (Exception e) {
-                        logger.error("Unable to get content from file path", e);
-                        throw new RuntimeException(e);
+
+        // JavaParser parses each file with its own parser, hence the files can be merged in parallel
+        Map<String, String> mergedFileContents = new ConcurrentHashMap<>();
+        fileContents.entrySet().parallelStream().forEach(entry -> {
+            String path = entry.getKey();
+            String generatedFileContent = entry.getValue();
+            if (!path.endsWith(".java")) { // only handle for .java file
+                return;
+            }
+
+            Path existingFilePath = Paths.get(baseDirectoryPath, path);
+            // check if existingFile exists, if not, no need to handle partial update
+            if (Files.exists(existingFilePath)) {
+                try {
+                    String existingFileContent = Files.readString(existingFilePath);
+                    if (PartialUpdateHandler.isPartialUpdateNeeded(path, generatedFileContent, existingFileContent)) {
+                        mergedFileContents.put(path,
+                            PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent,
+                                existingFileContent));
+                        mergedCount.incrementAndGet();
+                    } else {
+                        PartialUpdateHandler.validateGeneratedFile(generatedFileContent);
+                        skippedCount.incrementAndGet();
                     }
+                } catch (Exception e) {
+                    logger.error("Unable to get content from file path", e);
+                    throw new RuntimeException(e);
                 }
             }
-            return generatedFileContent;
         });
-        logger.info("Finish handle partial update.");
+        fileContents.putAll(mergedFileContents);
     }
 
     private static void attemptMavenInstall(Path pomPath) {
@@ -249,4 +397,8 @@ public class Postprocessor {
             throw new RuntimeException("Failed to run compile on generated code.", ex);
         }
     }
+
+    private static final class CustomizationClassCompilerHolder {
+        private static final CustomizationClassCompiler INSTANCE = CustomizationClassCompiler.fromEnvironment();
+    }
 }
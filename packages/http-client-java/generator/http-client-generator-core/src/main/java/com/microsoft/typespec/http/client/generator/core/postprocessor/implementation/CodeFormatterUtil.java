@@ -5,7 +5,10 @@ package com.microsoft.typespec.http.client.generator.core.postprocessor.implemen
 
 import com.microsoft.typespec.http.client.generator.core.customization.implementation.Utils;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -17,8 +20,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import org.slf4j.Logger;
 
 /**
  * Utility class that handles code formatting.
@@ -26,13 +31,17 @@ import java.util.stream.Collectors;
 public final class CodeFormatterUtil {
     /**
      * Formats the given files by removing unused imports and applying Eclipse code formatting.
+     * <p>
+     * Formatting runs in-process, unless {@link JavaSettings#getCodeFormatter()} selects Spotless in a Maven
+     * subprocess. If {@code codegen.java.format.cache.directory} is configured, files whose unformatted content was
+     * formatted before are taken from the persistent format cache.
      *
      * @param files The files to format.
      * @param plugin The plugin to use to write the formatted files.
      */
     public static void formatCode(Map<String, String> files, NewPlugin plugin) {
-        for (Map.Entry<String, String> file : formatCodeInternal(files.entrySet())) {
-            plugin.writeFile(file.getKey(), file.getValue(), null);
+        try (BatchFormatter formatter = new BatchFormatter(plugin)) {
+            formatter.formatAndWrite(files);
         }
     }
 
@@ -44,10 +53,135 @@ public final class CodeFormatterUtil {
      * @throws Exception If code formatting fails.
      */
     public static List<String> formatCode(Collection<Map.Entry<String, String>> files) throws Exception {
-        return formatCodeInternal(files).stream().map(Map.Entry::getValue).collect(Collectors.toList());
+        JavaSettings.CodeFormatterMode mode = JavaSettings.getInstance().getCodeFormatter();
+        FormattedCodeCache cache = createCache(mode);
+        List<String> formattedFiles = formatCodeInternal(files, mode, cache).stream()
+            .map(Map.Entry::getValue)
+            .collect(Collectors.toList());
+        if (cache != null) {
+            cache.evict();
+        }
+        return formattedFiles;
+    }
+
+    /**
+     * Formats and writes files in batches, so that the files of a batch can be released once written.
+     * <p>
+     * The persistent format cache, if configured, is shared by the batches and evicted when the formatter is closed.
+     */
+    public static final class BatchFormatter implements AutoCloseable {
+        private final NewPlugin plugin;
+        private final Logger logger;
+        private final JavaSettings.CodeFormatterMode mode;
+        private final FormattedCodeCache cache;
+
+        /**
+         * Creates a formatter.
+         *
+         * @param plugin The plugin to use to write the formatted files.
+         */
+        public BatchFormatter(NewPlugin plugin) {
+            this.plugin = plugin;
+            this.logger = new PluginLogger(plugin, CodeFormatterUtil.class);
+            this.mode = JavaSettings.getInstance().getCodeFormatter();
+            this.cache = createCache(mode);
+        }
+
+        /**
+         * Whether the formatter should get all files in a single batch. Spotless runs a Maven subprocess per batch.
+         *
+         * @return Whether the formatter should get all files in a single batch.
+         */
+        public boolean requiresSingleBatch() {
+            return mode == JavaSettings.CodeFormatterMode.SPOTLESS;
+        }
+
+        /**
+         * Formats the given files and writes them with the plugin.
+         *
+         * @param files The files to format. The entry is filename and content.
+         */
+        public void formatAndWrite(Map<String, String> files) {
+            List<Map.Entry<String, String>> formattedFiles;
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("format")) {
+                formattedFiles = formatCodeInternal(files.entrySet(), mode, cache);
+            }
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("write")) {
+                for (Map.Entry<String, String> file : formattedFiles) {
+                    plugin.writeFile(file.getKey(), file.getValue(), null);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (cache != null) {
+                int evicted = cache.evict();
+                logger.info("Format cache: {} hits, {} misses, {} entries evicted.", cache.getHits(),
+                    cache.getMisses(), evicted);
+            }
+        }
+    }
+
+    private static FormattedCodeCache createCache(JavaSettings.CodeFormatterMode mode) {
+        boolean preciseImports = JavaSettings.getInstance().isPreciseImports();
+        return FormattedCodeCache
+            .fromEnvironment(mode + ";" + preciseImports + ";" + JavaFormatter.getInstance().getVersion());
+    }
+
+    private static List<Map.Entry<String, String>> formatCodeInternal(Collection<Map.Entry<String, String>> files,
+        JavaSettings.CodeFormatterMode mode, FormattedCodeCache cache) {
+        if (cache == null) {
+            return formatCodeWithMode(files, mode);
+        }
+
+        // Files with a cache hit skip formatting, only the misses are formatted and added to the cache.
+        Map<String, String> formattedFiles = new ConcurrentHashMap<>();
+        List<Map.Entry<String, String>> misses = files.parallelStream().filter(javaFile -> {
+            String formatted = cache.get(javaFile.getValue());
+            if (formatted != null) {
+                formattedFiles.put(javaFile.getKey(), formatted);
+                return false;
+            }
+            return true;
+        }).collect(Collectors.toList());
+
+        if (!misses.isEmpty()) {
+            List<Map.Entry<String, String>> formattedMisses = formatCodeWithMode(misses, mode);
+            for (int i = 0; i < misses.size(); i++) {
+                String formatted = formattedMisses.get(i).getValue();
+                cache.put(misses.get(i).getValue(), formatted);
+                formattedFiles.put(misses.get(i).getKey(), formatted);
+            }
+        }
+
+        return files.stream()
+            .<Map.Entry<String, String>>map(
+                javaFile -> new AbstractMap.SimpleEntry<>(javaFile.getKey(), formattedFiles.get(javaFile.getKey())))
+            .collect(Collectors.toList());
+    }
+
+    private static List<Map.Entry<String, String>> formatCodeWithMode(Collection<Map.Entry<String, String>> files,
+        JavaSettings.CodeFormatterMode mode) {
+        if (mode == JavaSettings.CodeFormatterMode.SPOTLESS) {
+            return formatCodeWithSpotless(files);
+        }
+
+        return formatCodeInProcess(files, JavaSettings.getInstance().isPreciseImports());
+    }
+
+    private static List<Map.Entry<String, String>> formatCodeInProcess(Collection<Map.Entry<String, String>> files,
+        boolean preciseImports) {
+        JavaFormatter formatter = JavaFormatter.getInstance();
+
+        // Files are independent, format them in parallel. The ordered collect keeps the order of the input.
+        return files.parallelStream().<Map.Entry<String, String>>map(javaFile -> {
+            String formatted = formatter.format(javaFile.getKey(), javaFile.getValue(), preciseImports);
+            return new AbstractMap.SimpleEntry<>(javaFile.getKey(), formatted);
+        }).collect(Collectors.toList());
     }
 
-    private static List<Map.Entry<String, String>> formatCodeInternal(Collection<Map.Entry<String, String>> files) {
+    private static List<Map.Entry<String, String>> formatCodeWithSpotless(Collection<Map.Entry<String, String>> files) {
         Path tmpDir = null;
         try {
             tmpDir = FileUtils.createTempDirectory("spotless" + UUID.randomUUID());
@@ -0,0 +1,324 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.microsoft.typespec.http.client.generator.core.customization.Customization;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles a customization class given as Java source, in-process with {@link JavaCompiler} against the classpath of
+ * the generator, and caches the compiled classes.
+ * <p>
+ * Cache entries are keyed by the hash of the generator version, the class name and the source, so a customization
+ * that hasn't changed is loaded without compiling it. The cache directory is configured by
+ * {@code codegen.java.customization.cache.directory}, which defaults to {@code typespec-java-customization} in the
+ * temporary directory of the system.
+ * <p>
+ * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+ */
+public final class CustomizationClassCompiler {
+    private static final String CACHE_DIRECTORY = "codegen.java.customization.cache.directory";
+    private static final String DEFAULT_CACHE_DIRECTORY_NAME = "typespec-java-customization";
+    private static final String ENTRY_EXTENSION = ".classes";
+
+    private final JavaCompiler compiler;
+    private final Path cacheDirectory;
+    private final String generatorVersion;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    CustomizationClassCompiler(JavaCompiler compiler, Path cacheDirectory, String generatorVersion) {
+        this.compiler = compiler;
+        this.cacheDirectory = cacheDirectory;
+        this.generatorVersion = generatorVersion;
+    }
+
+    /**
+     * Creates the compiler configured by the environment.
+     *
+     * @return The compiler, or null if the Java runtime doesn't provide a system Java compiler.
+     */
+    public static CustomizationClassCompiler fromEnvironment() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            return null;
+        }
+
+        String directory = getConfiguration(CACHE_DIRECTORY);
+        Path directoryPath = (directory == null || directory.isEmpty())
+            ? Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_CACHE_DIRECTORY_NAME)
+            : Paths.get(directory);
+        try {
+            return new CustomizationClassCompiler(compiler, Files.createDirectories(directoryPath),
+                getGeneratorVersion());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String getConfiguration(String name) {
+        String value = System.getProperty(name);
+        return value == null ? System.getenv(name) : value;
+    }
+
+    /**
+     * Gets the version of the generator, which identifies the classes the customization is compiled against.
+     * <p>
+     * The implementation version isn't set in development builds, hence the location, size and last modified time of
+     * the generator classes are part of the version too.
+     *
+     * @return The version of the generator.
+     */
+    static String getGeneratorVersion() {
+        StringBuilder version = new StringBuilder()
+            .append(Runtime.version().feature())
+            .append('|')
+            .append(Customization.class.getPackage().getImplementationVersion());
+        File location = getCodeSourceLocation();
+        if (location != null) {
+            version.append('|')
+                .append(location.getAbsolutePath())
+                .append('|')
+                .append(location.length())
+                .append('|')
+                .append(location.lastModified());
+        }
+        return version.toString();
+    }
+
+    private static File getCodeSourceLocation() {
+        CodeSource codeSource = Customization.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+        try {
+            return new File(codeSource.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the customization class, from the cache or by compiling its source.
+     *
+     * @param className The fully qualified name of the customization class.
+     * @param code The source of the customization class.
+     * @return The customization class.
+     * @throws RuntimeException If the source fails to compile.
+     * @throws ClassNotFoundException If the source doesn't define the class.
+     */
+    @SuppressWarnings("unchecked")
+    public Class<? extends Customization> loadClass(String className, String code) throws ClassNotFoundException {
+        Path entry = cacheDirectory.resolve(FormattedCodeCache.hash(generatorVersion, className, code)
+            + ENTRY_EXTENSION);
+
+        Map<String, byte[]> classes = readEntry(entry);
+        if (classes == null) {
+            misses.incrementAndGet();
+            classes = compile(className, code);
+            writeEntry(entry, classes);
+        } else {
+            hits.incrementAndGet();
+        }
+
+        return (Class<? extends Customization>) Class.forName(className, true,
+            new CompiledClassLoader(classes, Customization.class.getClassLoader()));
+    }
+
+    /**
+     * Gets the number of cache hits.
+     *
+     * @return The number of cache hits.
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses.
+     *
+     * @return The number of cache misses.
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    private Map<String, byte[]> compile(String className, String code) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-proc:none", "-classpath", getClasspath());
+        JavaFileObject source = new SourceFileObject(className, code);
+
+        try (InMemoryFileManager fileManager
+            = new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, Locale.ROOT, null))) {
+            boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, List.of(source)).call();
+            if (!success) {
+                String errors = diagnostics.getDiagnostics()
+                    .stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> "line " + diagnostic.getLineNumber() + ": "
+                        + diagnostic.getMessage(Locale.ROOT))
+                    .collect(Collectors.joining(System.lineSeparator()));
+                throw new RuntimeException(
+                    "Failed to compile customization class " + className + "." + System.lineSeparator() + errors);
+            }
+            return fileManager.getClasses();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String getClasspath() {
+        String classpath = System.getProperty("java.class.path");
+        // The generator may have been loaded by a class loader other than the application class loader.
+        File location = getCodeSourceLocation();
+        if (location != null) {
+            classpath = classpath + File.pathSeparator + location.getAbsolutePath();
+        }
+        return classpath;
+    }
+
+    private static Map<String, byte[]> readEntry(Path entry) {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(entry))) {
+            int count = input.readInt();
+            Map<String, byte[]> classes = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String name = input.readUTF();
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                classes.put(name, bytes);
+            }
+            return classes;
+        } catch (IOException ex) {
+            // A missing or unreadable entry is a miss, the entry will be (re)written after compiling.
+            return null;
+        }
+    }
+
+    private void writeEntry(Path entry, Map<String, byte[]> classes) {
+        try {
+            // Write to a temporary file and move it, so concurrent generations never read a partial entry.
+            Path tempFile = Files.createTempFile(cacheDirectory, "entry", ".tmp");
+            try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(tempFile))) {
+                output.writeInt(classes.size());
+                for (Map.Entry<String, byte[]> compiledClass : classes.entrySet()) {
+                    output.writeUTF(compiledClass.getKey());
+                    output.writeInt(compiledClass.getValue().length);
+                    output.write(compiledClass.getValue());
+                }
+            }
+            try {
+                Files.move(tempFile, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static final class SourceFileObject extends SimpleJavaFileObject {
+        private final String code;
+
+        private SourceFileObject(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    private static final class ClassFileObject extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private ClassFileObject(String className) {
+            super(URI.create("bytes:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+    }
+
+    /**
+     * Keeps the compiled classes in memory, rather than writing them to the output directory.
+     */
+    private static final class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String, ClassFileObject> classFiles = new HashMap<>();
+
+        private InMemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(JavaFileManager.Location location, String className,
+            JavaFileObject.Kind kind, FileObject sibling) {
+            ClassFileObject classFile = new ClassFileObject(className);
+            classFiles.put(className, classFile);
+            return classFile;
+        }
+
+        private Map<String, byte[]> getClasses() {
+            Map<String, byte[]> classes = new HashMap<>(classFiles.size() * 2);
+            classFiles.forEach((name, classFile) -> classes.put(name, classFile.bytes.toByteArray()));
+            return classes;
+        }
+    }
+
+    /**
+     * Defines the compiled classes, including nested and anonymous classes of the customization.
+     */
+    private static final class CompiledClassLoader extends ClassLoader {
+        private final Map<String, byte[]> classes;
+
+        private CompiledClassLoader(Map<String, byte[]> classes, ClassLoader parent) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
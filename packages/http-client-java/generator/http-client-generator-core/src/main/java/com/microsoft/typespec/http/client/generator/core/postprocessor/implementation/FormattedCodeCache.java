@@ -0,0 +1,214 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Persistent, content-addressed cache of formatted Java code.
+ * <p>
+ * Entries are keyed by the hash of the formatter version and the unformatted file content, so a change to the
+ * formatter profile or engine never returns stale output. Each entry is a file in the cache directory, which can be
+ * kept between runs, e.g. on CI agents.
+ * <p>
+ * The cache is enabled by setting {@code codegen.java.format.cache.directory} to a directory path. The maximum size
+ * of the cache in megabytes is configured by {@code codegen.java.format.cache.max.size}, which defaults to 256. Reading
+ * an entry refreshes its last modified time, and {@link #evict()} removes the least recently used entries once the
+ * cache exceeds the maximum size.
+ * <p>
+ * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+ */
+final class FormattedCodeCache {
+    private static final String CACHE_DIRECTORY = "codegen.java.format.cache.directory";
+    private static final String CACHE_MAX_SIZE = "codegen.java.format.cache.max.size";
+    private static final long DEFAULT_MAX_SIZE_IN_MB = 256;
+    private static final String ENTRY_EXTENSION = ".java";
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final String formatterVersion;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    FormattedCodeCache(Path directory, long maxSizeInBytes, String formatterVersion) {
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.formatterVersion = formatterVersion;
+    }
+
+    /**
+     * Creates the cache configured by the environment.
+     *
+     * @param formatterVersion The version of the formatter, part of every cache key.
+     * @return The cache, or null if no cache directory is configured.
+     */
+    static FormattedCodeCache fromEnvironment(String formatterVersion) {
+        String directory = getConfiguration(CACHE_DIRECTORY);
+        if (directory == null || directory.isEmpty()) {
+            return null;
+        }
+
+        String maxSize = getConfiguration(CACHE_MAX_SIZE);
+        long maxSizeInMB = (maxSize == null || maxSize.isEmpty()) ? DEFAULT_MAX_SIZE_IN_MB : Long.parseLong(maxSize);
+
+        try {
+            Path directoryPath = Files.createDirectories(Paths.get(directory));
+            return new FormattedCodeCache(directoryPath, maxSizeInMB * 1024 * 1024, formatterVersion);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String getConfiguration(String name) {
+        String value = System.getProperty(name);
+        return value == null ? System.getenv(name) : value;
+    }
+
+    /**
+     * Gets the formatted content of the unformatted content.
+     *
+     * @param content The unformatted content.
+     * @return The formatted content, or null if it isn't in the cache.
+     */
+    String get(String content) {
+        Path entry = getEntryPath(content);
+        try {
+            String formatted = Files.readString(entry);
+            // Refresh the last modified time, which is used as the last access time for eviction.
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.incrementAndGet();
+            return formatted;
+        } catch (IOException ex) {
+            // A missing or unreadable entry is a miss, the entry will be (re)written by put.
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Puts the formatted content of the unformatted content into the cache.
+     *
+     * @param content The unformatted content.
+     * @param formatted The formatted content.
+     */
+    void put(String content, String formatted) {
+        Path entry = getEntryPath(content);
+        try {
+            // Write to a temporary file and move it, so concurrent generations never read a partial entry.
+            Path tempFile = Files.createTempFile(directory, "entry", ".tmp");
+            Files.writeString(tempFile, formatted);
+            try {
+                Files.move(tempFile, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Removes the least recently used entries until the cache is within its maximum size.
+     *
+     * @return The number of entries removed.
+     */
+    int evict() {
+        Map<Path, BasicFileAttributes> entries = new HashMap<>();
+        long totalSize = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(ENTRY_EXTENSION)) {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.put(file, attributes);
+                    totalSize += attributes.size();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (totalSize <= maxSizeInBytes) {
+            return 0;
+        }
+
+        List<Path> leastRecentlyUsedFirst = new ArrayList<>(entries.keySet());
+        leastRecentlyUsedFirst.sort(Comparator.comparing(entry -> entries.get(entry).lastModifiedTime()));
+
+        int removed = 0;
+        for (Path entry : leastRecentlyUsedFirst) {
+            if (totalSize <= maxSizeInBytes) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(entry);
+                totalSize -= entries.get(entry).size();
+                removed++;
+            } catch (IOException ex) {
+                // The entry may be in use by a concurrent generation, skip it.
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the number of cache hits.
+     *
+     * @return The number of cache hits.
+     */
+    long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cache misses.
+     *
+     * @return The number of cache misses.
+     */
+    long getMisses() {
+        return misses.get();
+    }
+
+    private Path getEntryPath(String content) {
+        return directory.resolve(hash(formatterVersion, content) + ENTRY_EXTENSION);
+    }
+
+    static String hash(String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                // Separator, so that different splits of the same text don't collide.
+                digest.update((byte) 0);
+            }
+
+            byte[] bytes = digest.digest();
+            StringBuilder hex = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
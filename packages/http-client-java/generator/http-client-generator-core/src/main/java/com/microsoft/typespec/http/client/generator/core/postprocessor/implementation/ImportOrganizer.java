@@ -0,0 +1,196 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaImportScanner;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Removes unused imports and orders the remaining imports.
+ * <p>
+ * This mirrors the {@code removeUnusedImports} and {@code importOrder} steps of the Spotless configuration: an import
+ * is unused when its simple name isn't referenced by the code or by a Javadoc reference, imports from
+ * {@code java.lang} or from the file's own package are always removed, and the remaining imports are written as a
+ * lexicographically sorted static group followed by a lexicographically sorted non-static group.
+ * <p>
+ * Code generated with precise imports only declares the imports it uses. For such code a lexical scan is tried first,
+ * and if it finds every import used, the imports are only ordered, without parsing the code.
+ */
+final class ImportOrganizer {
+    private ImportOrganizer() {
+    }
+
+    /**
+     * Removes unused imports from the Java file content and orders the remaining imports.
+     *
+     * @param content The Java file content.
+     * @return The Java file content with organized imports.
+     */
+    static String organizeImports(String content) {
+        return organizeImports(content, false);
+    }
+
+    /**
+     * Removes unused imports from the Java file content and orders the remaining imports.
+     *
+     * @param content The Java file content.
+     * @param lexicalScanFirst Whether to try a lexical scan for unused imports before parsing the code.
+     * @return The Java file content with organized imports.
+     */
+    static String organizeImports(String content, boolean lexicalScanFirst) {
+        if (!content.contains("import ")) {
+            // Fast path, there is nothing to organize.
+            return content;
+        }
+
+        if (lexicalScanFirst) {
+            JavaImportScanner scanner = JavaImportScanner.scan(content);
+            List<String> scannedImports = scanner.getImports();
+            if (scannedImports.isEmpty()) {
+                return content;
+            }
+
+            boolean allUsed = scannedImports.stream()
+                .allMatch(i -> JavaImportScanner.isUsed(i, scanner.getPackageName(), scanner.getReferencedNames()));
+            if (allUsed) {
+                Set<String> staticImports = new TreeSet<>();
+                Set<String> nonStaticImports = new TreeSet<>();
+                for (String importName : scannedImports) {
+                    if (importName.startsWith("static ")) {
+                        staticImports.add(importName.substring(7));
+                    } else {
+                        nonStaticImports.add(importName);
+                    }
+                }
+
+                return replaceLines(content, scanner.getFirstImportLine(), scanner.getLastImportLine(),
+                    buildImportBlock(staticImports, nonStaticImports));
+            }
+        }
+
+        CompilationUnit compilationUnit = StaticJavaParser.parse(content);
+        List<ImportDeclaration> imports = compilationUnit.getImports();
+        if (imports.isEmpty()) {
+            return content;
+        }
+
+        String packageName = compilationUnit.getPackageDeclaration().map(p -> p.getNameAsString()).orElse(null);
+        Set<String> usedNames = collectUsedNames(compilationUnit);
+
+        Set<String> staticImports = new TreeSet<>();
+        Set<String> nonStaticImports = new TreeSet<>();
+        int firstImportLine = Integer.MAX_VALUE;
+        int lastImportLine = 0;
+        for (ImportDeclaration importDeclaration : imports) {
+            firstImportLine = Math.min(firstImportLine, importDeclaration.getBegin().get().line);
+            lastImportLine = Math.max(lastImportLine, importDeclaration.getEnd().get().line);
+
+            if (isUnused(importDeclaration, packageName, usedNames)) {
+                continue;
+            }
+
+            String importName = importDeclaration.getNameAsString() + (importDeclaration.isAsterisk() ? ".*" : "");
+            if (importDeclaration.isStatic()) {
+                staticImports.add(importName);
+            } else {
+                nonStaticImports.add(importName);
+            }
+        }
+
+        return replaceLines(content, firstImportLine, lastImportLine,
+            buildImportBlock(staticImports, nonStaticImports));
+    }
+
+    private static String buildImportBlock(Set<String> staticImports, Set<String> nonStaticImports) {
+        StringBuilder importBlock = new StringBuilder();
+        for (String staticImport : staticImports) {
+            importBlock.append("import static ").append(staticImport).append(";\n");
+        }
+        if (!staticImports.isEmpty() && !nonStaticImports.isEmpty()) {
+            importBlock.append('\n');
+        }
+        for (String nonStaticImport : nonStaticImports) {
+            importBlock.append("import ").append(nonStaticImport).append(";\n");
+        }
+        return importBlock.toString();
+    }
+
+    private static boolean isUnused(ImportDeclaration importDeclaration, String packageName, Set<String> usedNames) {
+        Name name = importDeclaration.getName();
+        String qualifier = importDeclaration.isAsterisk()
+            ? name.asString()
+            : name.getQualifier().map(Name::asString).orElse("");
+        if ("java.lang".equals(qualifier) || qualifier.equals(packageName)) {
+            return true;
+        }
+
+        // Wildcard imports can't be checked by simple name.
+        return !importDeclaration.isAsterisk() && !usedNames.contains(name.getIdentifier());
+    }
+
+    private static Set<String> collectUsedNames(CompilationUnit compilationUnit) {
+        Set<String> usedNames = new HashSet<>();
+
+        // Only the left-most identifier of a reference can come from an import, qualified references don't use it.
+        compilationUnit.walk(node -> {
+            if (node instanceof NameExpr) {
+                usedNames.add(((NameExpr) node).getNameAsString());
+            } else if (node instanceof ClassOrInterfaceType) {
+                ClassOrInterfaceType type = (ClassOrInterfaceType) node;
+                if (type.getScope().isEmpty()) {
+                    usedNames.add(type.getNameAsString());
+                }
+            } else if (node instanceof AnnotationExpr) {
+                Name name = ((AnnotationExpr) node).getName();
+                while (name.getQualifier().isPresent()) {
+                    name = name.getQualifier().get();
+                }
+                usedNames.add(name.getIdentifier());
+            } else if (node instanceof MethodCallExpr) {
+                MethodCallExpr methodCall = (MethodCallExpr) node;
+                if (methodCall.getScope().isEmpty()) {
+                    usedNames.add(methodCall.getNameAsString());
+                }
+            }
+        });
+
+        // References in Javadoc, such as {@link Foo#bar(Baz)} or @throws Foo, keep the import as well.
+        compilationUnit.getAllComments()
+            .stream()
+            .filter(comment -> comment.isJavadocComment())
+            .forEach(comment -> {
+                JavaImportScanner.addJavadocReferences(comment.getContent(), usedNames);
+            });
+
+        return usedNames;
+    }
+
+    private static String replaceLines(String content, int firstLine, int lastLine, String replacement) {
+        String[] lines = content.split("\n", -1);
+        StringBuilder result = new StringBuilder(content.length());
+        for (int i = 0; i < firstLine - 1; i++) {
+            result.append(lines[i]).append('\n');
+        }
+        result.append(replacement);
+        for (int i = lastLine; i < lines.length; i++) {
+            result.append(lines[i]);
+            if (i < lines.length - 1) {
+                result.append('\n');
+            }
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,157 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jdt.internal.formatter.DefaultCodeFormatter;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.text.edits.TextEdit;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * In-process Java formatter.
+ * <p>
+ * Applies the same steps as the Spotless configuration of the generated project, without a Maven subprocess: unused
+ * imports are removed, imports are ordered, then the Eclipse JDT formatter is run with the
+ * {@code eclipse-format-azure-sdk-for-java.xml} profile.
+ * <p>
+ * Instances are thread-safe. The Eclipse formatter itself isn't, so each thread uses its own formatter instance.
+ */
+public final class JavaFormatter {
+    private static final String FORMATTER_PROFILE = "readme/eclipse-format-azure-sdk-for-java.xml";
+    private static final int FORMAT_KIND = CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS;
+    private static final String LINE_SEPARATOR = "\n";
+
+    // Version of the formatting steps, change it whenever a change to the steps may change the output.
+    private static final String ENGINE_VERSION = "eclipse-jdt-3.27.0;import-organizer-1";
+
+    private static JavaFormatter instance;
+
+    private final ThreadLocal<CodeFormatter> codeFormatter;
+    private final String version;
+
+    /**
+     * Creates a formatter using the given Eclipse formatter settings.
+     *
+     * @param formatterSettings The Eclipse formatter settings.
+     */
+    public JavaFormatter(Map<String, String> formatterSettings) {
+        Map<String, String> settings = Collections.unmodifiableMap(new HashMap<>(formatterSettings));
+        this.codeFormatter = ThreadLocal.withInitial(() -> new DefaultCodeFormatter(settings));
+
+        StringBuilder profile = new StringBuilder(ENGINE_VERSION);
+        new TreeMap<>(settings).forEach((key, value) -> profile.append(';').append(key).append('=').append(value));
+        this.version = FormattedCodeCache.hash(profile.toString());
+    }
+
+    /**
+     * Gets the version of the formatter.
+     * <p>
+     * The version identifies the formatting steps and the formatter settings. Formatting the same content with
+     * formatters of the same version gives the same output.
+     *
+     * @return The version of the formatter.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the formatter using the {@code eclipse-format-azure-sdk-for-java.xml} profile on the classpath.
+     *
+     * @return The formatter.
+     */
+    public static synchronized JavaFormatter getInstance() {
+        if (instance == null) {
+            try (InputStream profile = JavaFormatter.class.getClassLoader().getResourceAsStream(FORMATTER_PROFILE)) {
+                if (profile == null) {
+                    throw new IllegalStateException("Formatter profile " + FORMATTER_PROFILE + " not found.");
+                }
+                instance = new JavaFormatter(loadProfile(profile));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Loads the settings from an Eclipse formatter profile.
+     *
+     * @param profile The Eclipse formatter profile XML.
+     * @return The formatter settings.
+     */
+    public static Map<String, String> loadProfile(InputStream profile) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            NodeList settingNodes = factory.newDocumentBuilder().parse(profile).getElementsByTagName("setting");
+
+            Map<String, String> settings = new HashMap<>();
+            for (int i = 0; i < settingNodes.getLength(); i++) {
+                Element setting = (Element) settingNodes.item(i);
+                settings.put(setting.getAttribute("id"), setting.getAttribute("value"));
+            }
+            return settings;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to load formatter profile.", ex);
+        }
+    }
+
+    /**
+     * Formats the Java file content by removing unused imports, ordering imports and applying Eclipse formatting.
+     *
+     * @param fileName The name of the file, used in the error message.
+     * @param content The Java file content.
+     * @return The formatted Java file content.
+     */
+    public String format(String fileName, String content) {
+        return format(fileName, content, false);
+    }
+
+    /**
+     * Formats the Java file content by removing unused imports, ordering imports and applying Eclipse formatting.
+     * <p>
+     * If {@code preciseImports} is true, the content is expected to only import what it uses, and unused imports are
+     * first looked for by a lexical scan, which avoids parsing the code when no import is unused.
+     *
+     * @param fileName The name of the file, used in the error message.
+     * @param content The Java file content.
+     * @param preciseImports Whether the content was generated with precise imports.
+     * @return The formatted Java file content.
+     */
+    public String format(String fileName, String content, boolean preciseImports) {
+        String source = content.indexOf('\r') >= 0 ? content.replace("\r\n", "\n").replace('\r', '\n') : content;
+
+        try {
+            source = ImportOrganizer.organizeImports(source, preciseImports);
+        } catch (RuntimeException ex) {
+            throw new IllegalStateException("Failed to organize imports of " + fileName, ex);
+        }
+
+        TextEdit edit = codeFormatter.get().format(FORMAT_KIND, source, 0, source.length(), 0, LINE_SEPARATOR);
+        if (edit == null) {
+            throw new IllegalStateException("Invalid Java syntax for formatting of " + fileName);
+        }
+
+        IDocument document = new Document(source);
+        try {
+            edit.apply(document);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to format " + fileName, ex);
+        }
+        return document.get();
+    }
+}
@@ -0,0 +1,286 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.preprocessor;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persistent cache of binary snapshots of the transformed {@link CodeModel}.
+ * <p>
+ * The key of a snapshot is the SHA-256 hash of the input code model, the JSON of the whole configuration and the
+ * generator build, so a snapshot is only reused for the same input, generated with the same settings by the same
+ * generator. The cache is disabled if the configuration isn't available as JSON. A snapshot is
+ * the GZIP compressed Java serialization of the code model, which keeps the references between its objects. The
+ * serialization of the code model classes is part of the snapshot, a snapshot written by a different version of the
+ * classes fails to load and is a miss.
+ * <p>
+ * The cache is enabled by setting {@code codegen.java.codemodel.cache.directory} to a directory path. The maximum
+ * number of snapshots is configured by {@code codegen.java.codemodel.cache.max.entries}, which defaults to 16. Reading
+ * a snapshot refreshes its last modified time, and the least recently used snapshots are removed when a snapshot is
+ * added.
+ * <p>
+ * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+ */
+final class CodeModelSnapshotCache {
+    private static final String CACHE_DIRECTORY = "codegen.java.codemodel.cache.directory";
+    private static final String CACHE_MAX_ENTRIES = "codegen.java.codemodel.cache.max.entries";
+    private static final int DEFAULT_MAX_ENTRIES = 16;
+    private static final String ENTRY_EXTENSION = ".bin";
+
+    // Java serialization recurses along the references of the code model, which needs a deeper stack than the
+    // default one of a thread.
+    private static final long SERIALIZATION_STACK_SIZE = 256L * 1024 * 1024;
+
+    private static final String CODE_MODEL_PACKAGE = CodeModel.class.getPackageName();
+    private static final String EXTENSION_MODEL_PACKAGE
+        = CODE_MODEL_PACKAGE.substring(0, CODE_MODEL_PACKAGE.lastIndexOf('.')) + ".extensionmodel";
+
+    private final Path directory;
+    private final int maxEntries;
+    private final Path entry;
+
+    CodeModelSnapshotCache(Path directory, int maxEntries, String key) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.entry = directory.resolve(key + ENTRY_EXTENSION);
+    }
+
+    /**
+     * Creates the cache configured by the environment, for the snapshot of the input code model.
+     *
+     * @param input The input code model.
+     * @param settingsJson The whole configuration as JSON, see {@link NewPlugin#getSettingsJson()}.
+     * @return The cache, or null if no cache directory is configured or the configuration is null.
+     */
+    static CodeModelSnapshotCache fromEnvironment(String input, String settingsJson) {
+        String directory = getConfiguration(CACHE_DIRECTORY);
+        if (directory == null || directory.isEmpty() || settingsJson == null) {
+            return null;
+        }
+
+        String maxEntries = getConfiguration(CACHE_MAX_ENTRIES);
+        int maxEntriesCount
+            = (maxEntries == null || maxEntries.isEmpty()) ? DEFAULT_MAX_ENTRIES : Integer.parseInt(maxEntries);
+
+        try {
+            Path directoryPath = Files.createDirectories(Paths.get(directory));
+            return new CodeModelSnapshotCache(directoryPath, maxEntriesCount,
+                hash(getGeneratorBuild() + "\n" + settingsJson + "\n" + input));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String getConfiguration(String name) {
+        String value = System.getProperty(name);
+        return value == null ? System.getenv(name) : value;
+    }
+
+    /**
+     * Gets the snapshot of the code model.
+     *
+     * @return The code model, or null if there is no usable snapshot.
+     */
+    CodeModel get() {
+        if (Files.notExists(entry)) {
+            return null;
+        }
+
+        CodeModel codeModel = runWithDeepStack(() -> {
+            try (InputStream inputStream = Files.newInputStream(entry);
+                ObjectInputStream objectInputStream
+                    = new ObjectInputStream(new GZIPInputStream(new BufferedInputStream(inputStream)))) {
+                objectInputStream.setObjectInputFilter(CodeModelSnapshotCache::filterClass);
+                return (CodeModel) objectInputStream.readObject();
+            }
+        });
+
+        if (codeModel != null) {
+            try {
+                // Refresh the last modified time, which is used as the last access time for eviction.
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (IOException ex) {
+                // The snapshot is read, failing to refresh its access time only affects eviction.
+            }
+        }
+        return codeModel;
+    }
+
+    /**
+     * Puts the snapshot of the code model into the cache.
+     *
+     * @param codeModel The transformed code model.
+     * @return Whether the snapshot is written.
+     */
+    boolean put(CodeModel codeModel) {
+        Boolean written = runWithDeepStack(() -> {
+            // Write to a temporary file and move it, so concurrent generations never read a partial snapshot.
+            Path tempFile = Files.createTempFile(directory, "snapshot", ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(tempFile);
+                    ObjectOutputStream objectOutputStream
+                        = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(outputStream)))) {
+                    objectOutputStream.writeObject(codeModel);
+                }
+                try {
+                    Files.move(tempFile, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return true;
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        });
+
+        if (written == null) {
+            return false;
+        }
+        evict();
+        return true;
+    }
+
+    private void evict() {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files.filter(file -> file.getFileName().toString().endsWith(ENTRY_EXTENSION))
+                .collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(CodeModelSnapshotCache::getLastModifiedTime));
+        for (Path file : entries.subList(0, entries.size() - maxEntries)) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                // The snapshot may be in use by a concurrent generation, it'll be removed by a later eviction.
+            }
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (NoSuchFileException ex) {
+            return FileTime.fromMillis(0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static ObjectInputFilter.Status filterClass(ObjectInputFilter.FilterInfo filterInfo) {
+        Class<?> serialClass = filterInfo.serialClass();
+        if (serialClass == null) {
+            return ObjectInputFilter.Status.UNDECIDED;
+        }
+
+        while (serialClass.isArray()) {
+            serialClass = serialClass.getComponentType();
+        }
+        String packageName = serialClass.getPackageName();
+        return serialClass.isPrimitive()
+            || packageName.equals(CODE_MODEL_PACKAGE)
+            || packageName.equals(EXTENSION_MODEL_PACKAGE)
+            || packageName.equals("java.lang")
+            || packageName.equals("java.util")
+            || packageName.equals("java.math")
+            || packageName.equals("java.time")
+                ? ObjectInputFilter.Status.ALLOWED
+                : ObjectInputFilter.Status.REJECTED;
+    }
+
+    /**
+     * Runs the serialization on a thread with a deep stack.
+     *
+     * @return The result, or null if the serialization fails.
+     */
+    private static <T> T runWithDeepStack(SerializationAction<T> action) {
+        AtomicReference<T> result = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> {
+            try {
+                result.set(action.run());
+            } catch (Exception | StackOverflowError ex) {
+                // A snapshot that can't be read or written is a miss.
+            }
+        }, "codemodel-snapshot", SERIALIZATION_STACK_SIZE);
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return result.get();
+    }
+
+    @FunctionalInterface
+    private interface SerializationAction<T> {
+        T run() throws Exception;
+    }
+
+    private static String getGeneratorBuild() {
+        // The generator JAR changes with every build, its size and last modified time identify the build.
+        CodeSource codeSource = CodeModelSnapshotCache.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                File location = new File(codeSource.getLocation().toURI());
+                if (location.isFile()) {
+                    return location.getName() + ";" + location.length() + ";" + location.lastModified();
+                }
+            } catch (URISyntaxException | IllegalArgumentException ex) {
+                // Not a file location, fall back to the implementation version.
+            }
+        }
+        return String.valueOf(CodeModelSnapshotCache.class.getPackage().getImplementationVersion());
+    }
+
+    private static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
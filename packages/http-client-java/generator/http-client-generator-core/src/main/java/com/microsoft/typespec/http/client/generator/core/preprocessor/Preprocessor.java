@@ -7,6 +7,7 @@ import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
 import com.azure.json.ReadValueCallback;
 import com.microsoft.typespec.http.client.generator.core.extension.base.util.FileUtils;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
 import com.microsoft.typespec.http.client.generator.core.extension.model.Message;
 import com.microsoft.typespec.http.client.generator.core.extension.model.MessageChannel;
@@ -21,6 +22,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSe
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.NewPlugin;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.PluginLogger;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -45,6 +47,8 @@ import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.representer.Representer;
 
 public class Preprocessor extends NewPlugin {
+    private static final String CODE_MODEL_DUMP = "codegen.java.codemodel.dump";
+
     private final NewPlugin wrappedPlugin;
     private final Logger logger;
     protected static Preprocessor instance;
@@ -69,29 +73,81 @@ public class Preprocessor extends NewPlugin {
         }
         String file = readFile(files.get(0));
 
-        Path codeModelFolder;
+        Path codeModelFolder = isCodeModelDumpEnabled() ? createCodeModelFolder() : null;
+        if (codeModelFolder != null) {
+            try {
+                Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
+            } catch (Exception e) {
+                //
+            }
+        }
+
+        CodeModelSnapshotCache snapshotCache = CodeModelSnapshotCache.fromEnvironment(file, getSettingsJson());
+        CodeModel codeModel = null;
+        if (snapshotCache != null) {
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("load-snapshot")) {
+                codeModel = snapshotCache.get();
+            }
+            logger.info("Code model snapshot {}.", codeModel == null ? "miss" : "hit");
+        }
+
+        if (codeModel == null) {
+            codeModel = loadAndTransform(file);
+            if (snapshotCache != null) {
+                try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("write-snapshot")) {
+                    if (!snapshotCache.put(codeModel)) {
+                        logger.warn("Failed to write the code model snapshot.");
+                    }
+                }
+            }
+        }
+
+        if (codeModelFolder != null) {
+            String output = createYaml().dump(codeModel);
+            try {
+                Files.writeString(codeModelFolder.resolve("code-model-processed-no-tags.yaml"), output);
+            } catch (Exception e) {
+                logger.error("Failed to pre-process the code model.", e);
+                throw new RuntimeException("Failed to pre-process the code model.", e);
+            }
+        }
+
+        return codeModel;
+    }
+
+    /**
+     * Whether the input and processed code models are dumped as YAML to a temp directory, for debugging.
+     * <p>
+     * The dump is enabled by setting {@code codegen.java.codemodel.dump} to {@code true}.
+     * {@link System#getProperty(String)} is checked before {@link System#getenv(String)}.
+     *
+     * @return Whether the code models are dumped.
+     */
+    protected static boolean isCodeModelDumpEnabled() {
+        String dump = System.getProperty(CODE_MODEL_DUMP);
+        return Boolean.parseBoolean(dump == null ? System.getenv(CODE_MODEL_DUMP) : dump);
+    }
+
+    private Path createCodeModelFolder() {
         try {
-            codeModelFolder = FileUtils.createTempDirectory("code-model" + UUID.randomUUID());
+            Path codeModelFolder = FileUtils.createTempDirectory("code-model" + UUID.randomUUID());
             logger.info("Created temp directory for code model: {}", codeModelFolder);
+            return codeModelFolder;
         } catch (IOException ex) {
             logger.error("Failed to create temp directory for code model.", ex);
             throw new RuntimeException("Failed to create temp directory for code model.", ex);
         }
+    }
 
-        try {
-            Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
-        } catch (Exception e) {
-            //
-        }
-
+    private CodeModel loadAndTransform(String file) {
         CodeModel codeModel;
-        try {
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("load")) {
             if (!file.startsWith("{")) {
                 // YAML
                 codeModel = yamlMapper.loadAs(file, CodeModel.class);
             } else {
                 try (JsonReader jsonReader = JsonProviders.createReader(file)) {
-                    codeModel = CodeModel.fromJson(jsonReader);
+                    codeModel = JsonUtils.readWithReferences(jsonReader, CodeModel::fromJson);
                 }
             }
         } catch (Exception e) {
@@ -100,10 +156,16 @@ public class Preprocessor extends NewPlugin {
             throw new RuntimeException("Cannot parse input into code model.", e);
         }
 
-        performPretransformUpdates(codeModel);
-        codeModel = new Transformer().transform(codeModel);
-        performPosttransformUpdates(codeModel);
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("transform")) {
+            performPretransformUpdates(codeModel);
+            codeModel = new Transformer().transform(codeModel);
+            performPosttransformUpdates(codeModel);
+        }
+
+        return codeModel;
+    }
 
+    private static Yaml createYaml() {
         Representer representer = new Representer(new DumperOptions()) {
             @Override
             protected NodeTuple representJavaBeanProperty(Object javaBean, Property property, Object propertyValue,
@@ -120,17 +182,7 @@ public class Preprocessor extends NewPlugin {
         loaderOptions.setCodePointLimit(50 * 1024 * 1024);
         loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
         loaderOptions.setTagInspector(new TrustedTagInspector());
-        Yaml newYaml = new Yaml(new Constructor(loaderOptions), representer, new DumperOptions(), loaderOptions);
-        String output = newYaml.dump(codeModel);
-
-        try {
-            Files.writeString(codeModelFolder.resolve("code-model-processed-no-tags.yaml"), output);
-        } catch (Exception e) {
-            logger.error("Failed to pre-process the code model.", e);
-            throw new RuntimeException("Failed to pre-process the code model.", e);
-        }
-
-        return codeModel;
+        return new Yaml(new Constructor(loaderOptions), representer, new DumperOptions(), loaderOptions);
     }
 
     private CodeModel performPosttransformUpdates(CodeModel codeModel) {
@@ -317,6 +369,11 @@ public class Preprocessor extends NewPlugin {
         wrappedPlugin.writeFile(fileName, content, sourceMap, artifactType);
     }
 
+    @Override
+    public String getSettingsJson() {
+        return wrappedPlugin.getSettingsJson();
+    }
+
     @Override
     public void protectFiles(String path) {
         wrappedPlugin.protectFiles(path);
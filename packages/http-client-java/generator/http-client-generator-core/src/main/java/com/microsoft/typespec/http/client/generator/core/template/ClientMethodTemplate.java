@@ -19,6 +19,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Gener
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IterableType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodPageDetails;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodTransformationDetail;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterMapping;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ParameterSynthesizedOrigin;
@@ -768,24 +769,18 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
             String serviceMethodCall
                 = checkAndReplaceParamNameCollision(clientMethod, restAPIMethod, requestOptionsLocal, settings);
             function.line(String.format("%s res = %s;", restAPIMethod.getReturnType(), serviceMethodCall));
+            if (settings.isDataPlaneClient()) {
+                function.line("return " + readPageExpression(clientMethod) + ";");
+                return;
+            }
             function.line("return new PagedResponseBase<>(");
             function.line("res.getRequest(),");
             function.line("res.getStatusCode(),");
             function.line("res.getHeaders(),");
-            if (settings.isDataPlaneClient()) {
-                function.line("getValues(res.getValue(), \"%s\"),",
-                    clientMethod.getMethodPageDetails().getSerializedItemName());
-            } else {
-                function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
-                    .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-            }
+            function.line("res.getValue().%s(),",
+                CodeNamer.getModelNamer().modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
             if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-                if (settings.isDataPlaneClient()) {
-                    function.line("getNextLink(res.getValue(), \"%s\"),",
-                        clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-                } else {
-                    function.line(nextLinkLine(clientMethod));
-                }
+                function.line(nextLinkLine(clientMethod));
             } else {
                 function.line("null,");
             }
@@ -1220,25 +1215,19 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
                 function.line("return FluxUtil.withContext(context -> " + serviceMethodCall + ")");
             }
             function.indent(() -> {
+                if (settings.isDataPlaneClient()) {
+                    function.line(".map(res -> " + readPageExpression(clientMethod) + ");");
+                    return;
+                }
                 function.line(".map(res -> new PagedResponseBase<>(");
                 function.indent(() -> {
                     function.line("res.getRequest(),");
                     function.line("res.getStatusCode(),");
                     function.line("res.getHeaders(),");
-                    if (settings.isDataPlaneClient()) {
-                        function.line("getValues(res.getValue(), \"%s\"),",
-                            clientMethod.getMethodPageDetails().getSerializedItemName());
-                    } else {
-                        function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
-                            .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
-                    }
+                    function.line("res.getValue().%s(),", CodeNamer.getModelNamer()
+                        .modelPropertyGetterName(clientMethod.getMethodPageDetails().getItemName()));
                     if (clientMethod.getMethodPageDetails().nonNullNextLink()) {
-                        if (settings.isDataPlaneClient()) {
-                            function.line("getNextLink(res.getValue(), \"%s\"),",
-                                clientMethod.getMethodPageDetails().getSerializedNextLinkName());
-                        } else {
-                            function.line(nextLinkLine(clientMethod));
-                        }
+                        function.line(nextLinkLine(clientMethod));
                     } else {
                         function.line("null,");
                     }
@@ -1253,6 +1242,20 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
         });
     }
 
+    /**
+     * Gets the expression reading the paged response of a protocol method, see the {@code readPage} helper written by
+     * {@link TemplateUtil#writeClientMethodsAndHelpers}.
+     *
+     * @param clientMethod the paging client method.
+     * @return the expression reading the paged response from {@code res}.
+     */
+    private static String readPageExpression(ClientMethod clientMethod) {
+        MethodPageDetails pageDetails = clientMethod.getMethodPageDetails();
+        String nextLinkName
+            = pageDetails.nonNullNextLink() ? "\"" + pageDetails.getSerializedNextLinkName() + "\"" : "null";
+        return "readPage(res, \"" + pageDetails.getSerializedItemName() + "\", " + nextLinkName + ")";
+    }
+
     protected static String nextLinkLine(ClientMethod clientMethod) {
         return nextLinkLine(clientMethod, "getValue()");
     }
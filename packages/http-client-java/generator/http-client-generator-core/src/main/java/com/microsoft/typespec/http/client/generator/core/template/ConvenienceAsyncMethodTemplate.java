@@ -162,11 +162,15 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
 
             default:
                 // JSON etc.
+                String fromJsonExpression = expressionFromJson("protocolMethodData", responseBodyType);
                 if (responseBodyType instanceof EnumType) {
                     // enum
                     mapExpression
                         = String.format("protocolMethodData -> %1$s.from%2$s(protocolMethodData.toObject(%2$s.class))",
                             responseBodyType, ((EnumType) responseBodyType).getElementType());
+                } else if (fromJsonExpression != null) {
+                    // model, list or map, via stream-style fromJson
+                    mapExpression = "protocolMethodData -> " + fromJsonExpression;
                 } else if (responseBodyType instanceof GenericType) {
                     // generic, e.g. list, map
                     typeReferenceStaticClasses.add((GenericType) responseBodyType);
@@ -401,6 +401,13 @@ abstract class ConvenienceMethodTemplateBase {
         // JsonMergePatchHelper class
         imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
             + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
+
+        // JsonSerializationHelper class
+        if (settings.isStreamStyleConvenienceSerialization()) {
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME);
+            ClassType.JSON_READER.addImportsTo(imports, false);
+        }
     }
 
     protected void addGeneratedAnnotation(JavaType typeBlock) {
@@ -543,12 +550,130 @@ abstract class ConvenienceMethodTemplateBase {
                         return "BinaryData.fromObject(" + name + " == null ? null : " + name + "."
                             + ((EnumType) type).getToMethodName() + "())";
                     } else {
-                        return "BinaryData.fromObject(" + name + ")";
+                        String toJsonExpression = expressionToJson(name, type);
+                        return toJsonExpression != null ? toJsonExpression : "BinaryData.fromObject(" + name + ")";
                     }
                 }
         }
     }
 
+    /**
+     * Gets the expression that serializes the value to JSON BinaryData via the stream-style {@code toJson} of the
+     * models, if {@link JavaSettings#isStreamStyleConvenienceSerialization()} and the type is supported.
+     *
+     * @param name the name of the value.
+     * @param type the type of the value.
+     * @return the expression, or null if the value should be serialized by {@code BinaryData.fromObject}.
+     */
+    protected static String expressionToJson(String name, IType type) {
+        if (!JavaSettings.getInstance().isStreamStyleConvenienceSerialization()
+            || !(isStreamStyleJsonModel(type) || type instanceof IterableType || type instanceof MapType)) {
+            return null;
+        }
+
+        String writerFunction = jsonWriterFunction(type, 0);
+        return writerFunction == null
+            ? null
+            : ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME + ".toJson(" + name + ", " + writerFunction + ")";
+    }
+
+    /**
+     * Gets the expression that deserializes the JSON BinaryData via the stream-style {@code fromJson} of the models,
+     * if {@link JavaSettings#isStreamStyleConvenienceSerialization()} and the type is supported.
+     *
+     * @param binaryDataExpression the expression of the BinaryData.
+     * @param type the type of the value.
+     * @return the expression, or null if the value should be deserialized by {@code BinaryData.toObject}.
+     */
+    protected static String expressionFromJson(String binaryDataExpression, IType type) {
+        if (!JavaSettings.getInstance().isStreamStyleConvenienceSerialization()
+            || !(isStreamStyleJsonModel(type) || type instanceof ListType || type instanceof MapType)) {
+            return null;
+        }
+
+        String readerFunction = jsonReaderFunction(type, 0);
+        return readerFunction == null
+            ? null
+            : ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME + ".fromJson(" + binaryDataExpression + ", "
+                + readerFunction + ")";
+    }
+
+    /**
+     * Gets the function that reads the value from a JsonReader, e.g.
+     * {@code jsonReader -> jsonReader.readArray(Model::fromJson)} for a List of models.
+     *
+     * @param type the type of the value.
+     * @param depth the depth of the container types, used to name the lambda parameters.
+     * @return the function, or null if the type is not supported.
+     */
+    private static String jsonReaderFunction(IType type, int depth) {
+        if (isStreamStyleJsonModel(type)) {
+            return type + "::fromJson";
+        }
+
+        String readerName = depth == 0 ? "jsonReader" : "jsonReader" + depth;
+        if (type instanceof ListType || type instanceof MapType) {
+            // Assumption is that the key type for the Map is a String.
+            boolean isList = type instanceof ListType;
+            String elementReaderFunction = jsonReaderFunction(
+                isList ? ((ListType) type).getElementType() : ((MapType) type).getValueType(), depth + 1);
+            return elementReaderFunction == null
+                ? null
+                : readerName + " -> " + readerName + (isList ? ".readArray(" : ".readMap(") + elementReaderFunction
+                    + ")";
+        } else if (isStreamStyleJsonValue(type)) {
+            return readerName + " -> " + type.jsonDeserializationMethod(readerName);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the function that writes the value to a JsonWriter, e.g.
+     * {@code (jsonWriter, jsonValue) -> jsonWriter.writeArray(jsonValue, ...)} for a List.
+     *
+     * @param type the type of the value.
+     * @param depth the depth of the container types, used to name the lambda parameters.
+     * @return the function, or null if the type is not supported.
+     */
+    private static String jsonWriterFunction(IType type, int depth) {
+        String writerName = depth == 0 ? "jsonWriter" : "jsonWriter" + depth;
+        String valueName = depth == 0 ? "jsonValue" : "jsonValue" + depth;
+        String lambdaParameters = "(" + writerName + ", " + valueName + ") -> ";
+        if (type instanceof IterableType || type instanceof MapType) {
+            boolean isIterable = type instanceof IterableType;
+            String elementWriterFunction = jsonWriterFunction(
+                isIterable ? ((IterableType) type).getElementType() : ((MapType) type).getValueType(), depth + 1);
+            return elementWriterFunction == null
+                ? null
+                : lambdaParameters + writerName + (isIterable ? ".writeArray(" : ".writeMap(") + valueName + ", "
+                    + elementWriterFunction + ")";
+        } else if (isStreamStyleJsonModel(type) || isStreamStyleJsonValue(type)) {
+            return lambdaParameters + type.jsonSerializationMethodCall(writerName, null, valueName, false);
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isStreamStyleJsonModel(IType type) {
+        if (!ClientModelUtil.isClientModel(type)) {
+            return false;
+        }
+        ClientModel model = ClientModelUtil.getClientModel(((ClassType) type).getName());
+        return model.getXmlName() == null && !model.isStronglyTypedHeader();
+    }
+
+    private static boolean isStreamStyleJsonValue(IType type) {
+        // nullable types that have the same representation in client and on wire
+        return type == ClassType.STRING
+            || type == ClassType.BOOLEAN
+            || type == ClassType.INTEGER
+            || type == ClassType.LONG
+            || type == ClassType.FLOAT
+            || type == ClassType.DOUBLE
+            || (type instanceof EnumType && ((EnumType) type).getElementType() == ClassType.STRING);
+    }
+
     private static void writeHeader(MethodParameter parameter, JavaBlock methodBlock) {
         Consumer<JavaBlock> writeLine
             = javaBlock -> javaBlock.line(String.format("requestOptions.setHeader(%1$s, %2$s);",
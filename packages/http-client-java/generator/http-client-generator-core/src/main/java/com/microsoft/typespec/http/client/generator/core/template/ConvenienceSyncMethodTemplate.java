@@ -210,11 +210,15 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
 
             default:
                 // JSON etc.
+                String fromJsonExpression = expressionFromJson(invocationExpression, responseBodyType);
                 if (responseBodyType instanceof EnumType) {
                     // enum
                     IType elementType = ((EnumType) responseBodyType).getElementType();
                     return String.format("%1$s.from%2$s(%3$s.toObject(%2$s.class))", responseBodyType, elementType,
                         invocationExpression);
+                } else if (fromJsonExpression != null) {
+                    // model, List or Map, via stream-style fromJson
+                    return fromJsonExpression;
                 } else if (responseBodyType instanceof GenericType) {
                     // generic, e.g. List, Map
                     typeReferenceStaticClasses.add((GenericType) responseBodyType);
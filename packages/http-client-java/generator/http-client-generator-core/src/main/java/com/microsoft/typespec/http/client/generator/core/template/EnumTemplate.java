@@ -11,6 +11,7 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Clien
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaContext;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaEnum;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
@@ -18,7 +19,9 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJav
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaModifier;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -181,6 +184,9 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 if (elementType.isNullable()) {
                     function.ifBlock("value == null", ifAction -> ifAction.methodReturn("null"));
                 }
+                if (elementType == ClassType.STRING) {
+                    writeExactStringSwitch(enumType, function);
+                }
                 function.line(enumName + "[] items = " + enumName + ".values();");
                 function.block("for (" + enumName + " item : items)", foreachBlock -> foreachBlock
                     .ifBlock(createEnumJsonCreatorIfCheck(enumType), ifBlock -> ifBlock.methodReturn("item")));
@@ -208,6 +214,33 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
         });
     }
 
+    /**
+     * Writes a switch on the exact values of a String enum, so that the common case of a value with the same case as
+     * the enum value is found without iterating over the enum values.
+     * <p>
+     * A value that differs in case from an earlier value isn't in the switch, so that the case-insensitive loop
+     * afterwards still returns the first matching enum value.
+     *
+     * @param enumType The enum type.
+     * @param function The fromString method.
+     */
+    private static void writeExactStringSwitch(EnumType enumType, JavaBlock function) {
+        List<ClientEnumValue> switchValues = new ArrayList<>();
+        for (ClientEnumValue enumValue : enumType.getValues()) {
+            if (switchValues.stream().noneMatch(v -> v.getValue().equalsIgnoreCase(enumValue.getValue()))) {
+                switchValues.add(enumValue);
+            }
+        }
+
+        function.block("switch (value)", switchBlock -> {
+            for (ClientEnumValue enumValue : switchValues) {
+                switchBlock.block("case " + ClassType.STRING.defaultValueExpression(enumValue.getValue()) + ":",
+                    caseBlock -> caseBlock.methodReturn(enumValue.getName()));
+            }
+            switchBlock.block("default:", defaultBlock -> defaultBlock.line("break;"));
+        });
+    }
+
     private void writeExpandableEnumInterface(EnumType enumType, JavaFile javaFile, JavaSettings settings) {
         Set<String> imports = new HashSet<>();
         imports.add("java.util.Collection");
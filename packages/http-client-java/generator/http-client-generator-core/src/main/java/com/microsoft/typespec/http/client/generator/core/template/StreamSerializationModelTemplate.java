@@ -32,10 +32,12 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJav
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +90,10 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             ClassType.JSON_WRITER.addImportsTo(imports, false);
             ClassType.JSON_READER.addImportsTo(imports, false);
             ClassType.JSON_TOKEN.addImportsTo(imports, false);
+            if (settings.isStreamStyleDiscriminatorFirst()) {
+                ClassType.JSON_PROVIDERS.addImportsTo(imports, false);
+                imports.add(StringWriter.class.getName());
+            }
         }
 
         ClassType.CORE_UTILS.addImportsTo(imports, false);
@@ -450,6 +456,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     readJsonObject(classBlock, false, this::writeFromJsonDeserialization);
                 }
 
+                if (isDiscriminatorFirst() && propertiesManager.getDiscriminatorProperty() != null
+                    && !isManagementErrorSubclass.test(model)) {
+                    writeFromJsonAfterDiscriminator(classBlock);
+                }
+
                 if (isManagementErrorSubclass.test(model)) {
                     addGeneratedAnnotation.accept(classBlock);
                     classBlock.staticMethod(JavaVisibility.Private,
@@ -970,86 +981,251 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             // a setter or for setting a field, unlike in the actual deserialization method where it needs to be the
             // same
             // type as the field.
+            if (isDiscriminatorFirst() && canDispatchDiscriminatorFirst(model, isManagementErrorSubclass)) {
+                readJsonObject(classBlock, false,
+                    methodBlock -> methodBlock.methodReturn("fromJsonDiscriminatorFirst(reader)"));
+
+                addGeneratedAnnotation.accept(classBlock);
+                classBlock.staticMethod(JavaVisibility.PackagePrivate,
+                    model.getName() + " fromJsonDiscriminatorFirst(JsonReader reader) throws IOException",
+                    methodBlock -> {
+                        writeDiscriminatorFirstDispatch(methodBlock);
+
+                        // The discriminator isn't the first field, buffer the rest of the object to search for it.
+                        writeBufferedDiscriminatorDispatch(methodBlock, "bufferRemainingFields(reader)");
+                    });
+                writeBufferRemainingFields(classBlock);
+            } else {
+                readJsonObject(classBlock, false,
+                    methodBlock -> writeBufferedDiscriminatorDispatch(methodBlock, "reader.bufferObject()"));
+            }
+
+            readJsonObject(classBlock, true, this::writeFromJsonDeserialization);
+        }
+
+        /**
+         * Writes the private {@code bufferRemainingFields(JsonReader)} method, which buffers the rest of the JSON
+         * object from the field name, or the end of the object, the reader is at.
+         * <p>
+         * {@code JsonReader.bufferObject()} isn't used, as at a field name it ends the buffered JSON object at the end
+         * of the first field's value when that value is an object or array. The reader is at the end of the object
+         * when the discriminator of a parent type was the only field, and has been consumed.
+         *
+         * @param classBlock The class having {@code bufferRemainingFields(JsonReader)} written to it.
+         */
+        private void writeBufferRemainingFields(JavaClass classBlock) {
+            addGeneratedAnnotation.accept(classBlock);
+            classBlock.staticMethod(JavaVisibility.Private,
+                "JsonReader bufferRemainingFields(JsonReader reader) throws IOException", methodBlock -> {
+                    methodBlock.line("StringWriter remainingFields = new StringWriter();");
+                    methodBlock.tryBlock("JsonWriter jsonWriter = JsonProviders.createWriter(remainingFields)",
+                        tryBlock -> {
+                            tryBlock.line("jsonWriter.writeStartObject();");
+                            tryBlock.line("while (reader.currentToken() != JsonToken.END_OBJECT) {");
+                            tryBlock.indent(() -> {
+                                tryBlock.line("String fieldName = reader.getFieldName();");
+                                tryBlock.line("reader.nextToken();");
+                                tryBlock
+                                    .ifBlock("reader.isStartArrayOrObject()",
+                                        ifBlock -> ifBlock
+                                            .line("jsonWriter.writeRawField(fieldName, reader.readChildren());"))
+                                    .elseIfBlock("reader.currentToken() == JsonToken.STRING",
+                                        ifBlock -> ifBlock
+                                            .line("jsonWriter.writeStringField(fieldName, reader.getString());"))
+                                    .elseBlock(elseBlock -> elseBlock
+                                        .line("jsonWriter.writeRawField(fieldName, reader.getRawText());"));
+                                tryBlock.line("reader.nextToken();");
+                            });
+                            tryBlock.line("}");
+                            tryBlock.line("jsonWriter.writeEndObject();");
+                        });
+                    methodBlock.methodReturn("JsonProviders.createReader(remainingFields.toString())");
+                });
+        }
+
+        /**
+         * Writes the search for the discriminator in the buffered JSON object, and the deserialization of the type
+         * determined by the discriminator value.
+         *
+         * @param methodBlock The method reading the polymorphic type.
+         * @param bufferExpression The expression creating the buffered JsonReader of the JSON object.
+         */
+        private void writeBufferedDiscriminatorDispatch(JavaBlock methodBlock, String bufferExpression) {
+            // TODO (alzimmer): Need to handle non-string wire type discriminator types.
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
             ClientModelPropertyWithMetadata discriminatorProperty = propertiesManager.getDiscriminatorProperty();
-            readJsonObject(classBlock, false, methodBlock -> {
-                // For now, reading polymorphic types will always buffer the current object.
-                // In the future this can be enhanced to switch if the first property is the discriminator field and to
-                // use
-                // a Map to contain all properties found while searching for the discriminator field.
-                // TODO (alzimmer): Need to handle non-string wire type discriminator types.
-                methodBlock.line("String discriminatorValue = null;");
-                methodBlock.tryBlock("JsonReader readerToUse = reader.bufferObject()", tryStatement -> {
-                    tryStatement.line("readerToUse.nextToken(); // Prepare for reading");
-                    tryStatement.line("while (readerToUse.nextToken() != JsonToken.END_OBJECT) {");
-                    tryStatement.increaseIndent();
-                    tryStatement.line("String " + fieldNameVariableName + " = readerToUse.getFieldName();");
-                    tryStatement.line("readerToUse.nextToken();");
-                    tryStatement.ifBlock("\"" + discriminatorProperty.getProperty().getSerializedName() + "\".equals("
-                        + fieldNameVariableName + ")", ifStatement -> {
-                            ifStatement.line("discriminatorValue = readerToUse.getString();");
-                            ifStatement.line("break;");
-                        }).elseBlock(elseBlock -> elseBlock.line("readerToUse.skipChildren();"));
-
-                    tryStatement.decreaseIndent();
-                    tryStatement.line("}");
-
-                    tryStatement
-                        .line("// Use the discriminator value to determine which subtype should be deserialized.");
-
-                    // Add deserialization for the super type itself.
-                    JavaIfBlock ifBlock = null;
+            methodBlock.line("String discriminatorValue = null;");
+            methodBlock.tryBlock("JsonReader readerToUse = " + bufferExpression, tryStatement -> {
+                tryStatement.line("readerToUse.nextToken(); // Prepare for reading");
+                tryStatement.line("while (readerToUse.nextToken() != JsonToken.END_OBJECT) {");
+                tryStatement.increaseIndent();
+                tryStatement.line("String " + fieldNameVariableName + " = readerToUse.getFieldName();");
+                tryStatement.line("readerToUse.nextToken();");
+                tryStatement.ifBlock("\"" + discriminatorProperty.getProperty().getSerializedName() + "\".equals("
+                    + fieldNameVariableName + ")", ifStatement -> {
+                        ifStatement.line("discriminatorValue = readerToUse.getString();");
+                        ifStatement.line("break;");
+                    }).elseBlock(elseBlock -> elseBlock.line("readerToUse.skipChildren();"));
+
+                tryStatement.decreaseIndent();
+                tryStatement.line("}");
+
+                tryStatement
+                    .line("// Use the discriminator value to determine which subtype should be deserialized.");
 
-                    // Add deserialization for all child types.
-                    List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
-                    for (ClientModel childType : childTypes) {
-                        // Determine which serialization method to use based on whether the child type is also a
-                        // polymorphic
-                        // parent and the child shares the same polymorphic discriminator as this model.
-                        // If the child and parent have different discriminator names then the child will need to be
-                        // deserialized checking the multi-level polymorphic discriminator.
-                        // Using the nested discriminator sample, there is
-                        // Fish : kind
-                        // - Salmon : kind
-                        // - Shark : sharktype
-                        // - Sawshark : sharktype
-                        // So, if deserialization enters Fish and the "kind" is "Shark" then it needs to check the
-                        // "sharktype" to determine if it's a Sawshark or another subtype of Shark.
-                        boolean sameDiscriminator = Objects.equals(childType.getPolymorphicDiscriminatorName(),
-                            model.getPolymorphicDiscriminatorName());
-
-                        if (!sameDiscriminator && !Objects.equals(childType.getParentModelName(), model.getName())) {
-                            // Child model and parent model don't share the same discriminator and the child isn't a
-                            // direct
-                            // child of the parent model, so skip this child model. This is done as the child model
-                            // should
-                            // be deserialized by the subtype that defines the different polymorphic discriminator.
-                            // Using
-                            // the sample above, Fish can't use "kind" to deserialize to a Shark subtype, it needs to
-                            // use
-                            // "sharktype".
-                            continue;
-                        }
-
-                        String deserializationMethod = (isSuperTypeWithDiscriminator(childType) && sameDiscriminator)
-                            ? ".fromJsonKnownDiscriminator(readerToUse.reset())"
-                            : ".fromJson(readerToUse.reset())";
+                // Add deserialization for the super type itself.
+                JavaIfBlock ifBlock = null;
 
-                        ifBlock = ifOrElseIf(tryStatement, ifBlock,
-                            "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
-                            ifStatement -> ifStatement.methodReturn(childType.getName() + deserializationMethod));
+                // Add deserialization for all child types.
+                List<ClientModel> childTypes = getAllChildTypes(model, new ArrayList<>());
+                for (ClientModel childType : childTypes) {
+                    // Determine which serialization method to use based on whether the child type is also a
+                    // polymorphic
+                    // parent and the child shares the same polymorphic discriminator as this model.
+                    // If the child and parent have different discriminator names then the child will need to be
+                    // deserialized checking the multi-level polymorphic discriminator.
+                    // Using the nested discriminator sample, there is
+                    // Fish : kind
+                    // - Salmon : kind
+                    // - Shark : sharktype
+                    // - Sawshark : sharktype
+                    // So, if deserialization enters Fish and the "kind" is "Shark" then it needs to check the
+                    // "sharktype" to determine if it's a Sawshark or another subtype of Shark.
+                    boolean sameDiscriminator = Objects.equals(childType.getPolymorphicDiscriminatorName(),
+                        model.getPolymorphicDiscriminatorName());
+
+                    if (!sameDiscriminator && !Objects.equals(childType.getParentModelName(), model.getName())) {
+                        // Child model and parent model don't share the same discriminator and the child isn't a
+                        // direct
+                        // child of the parent model, so skip this child model. This is done as the child model
+                        // should
+                        // be deserialized by the subtype that defines the different polymorphic discriminator.
+                        // Using
+                        // the sample above, Fish can't use "kind" to deserialize to a Shark subtype, it needs to
+                        // use
+                        // "sharktype".
+                        continue;
                     }
 
-                    if (ifBlock == null) {
-                        tryStatement.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())");
-                    } else {
-                        ifBlock.elseBlock(
-                            elseBlock -> elseBlock.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())"));
+                    String deserializationMethod = (isSuperTypeWithDiscriminator(childType) && sameDiscriminator)
+                        ? ".fromJsonKnownDiscriminator(readerToUse.reset())"
+                        : ".fromJson(readerToUse.reset())";
+
+                    ifBlock = ifOrElseIf(tryStatement, ifBlock,
+                        "\"" + childType.getSerializedName() + "\".equals(discriminatorValue)",
+                        ifStatement -> ifStatement.methodReturn(childType.getName() + deserializationMethod));
+                }
+
+                if (ifBlock == null) {
+                    tryStatement.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())");
+                } else {
+                    ifBlock.elseBlock(
+                        elseBlock -> elseBlock.methodReturn("fromJsonKnownDiscriminator(readerToUse.reset())"));
+                }
+            });
+        }
+
+        /**
+         * Writes the dispatch on the discriminator value when the discriminator is the first field of the JSON object,
+         * which doesn't need to buffer the JSON object.
+         * <p>
+         * The reader is passed on the discriminator value to {@code fromJsonAfterDiscriminator} of the type determined
+         * by the discriminator value, or to {@code fromJsonDiscriminatorFirst} of a direct child type that has a
+         * different discriminator.
+         *
+         * @param methodBlock The method reading the polymorphic type.
+         */
+        private void writeDiscriminatorFirstDispatch(JavaBlock methodBlock) {
+            String discriminatorName = propertiesManager.getDiscriminatorProperty().getProperty().getSerializedName();
+
+            // Same child types as the buffered dispatch, the first child type having the discriminator value wins.
+            Map<String, String> dispatchedTypes = new LinkedHashMap<>();
+            for (ClientModel childType : getAllChildTypes(model, new ArrayList<>())) {
+                boolean sameDiscriminator = Objects.equals(childType.getPolymorphicDiscriminatorName(),
+                    model.getPolymorphicDiscriminatorName());
+                if (!sameDiscriminator && !Objects.equals(childType.getParentModelName(), model.getName())) {
+                    continue;
+                }
+
+                String deserializationMethod = sameDiscriminator
+                    ? ".fromJsonAfterDiscriminator(reader)"
+                    : ".fromJsonDiscriminatorFirst(reader)";
+                dispatchedTypes.putIfAbsent(childType.getSerializedName(), childType.getName() + deserializationMethod);
+            }
+
+            methodBlock.ifBlock("reader.nextToken() == JsonToken.FIELD_NAME && \"" + discriminatorName
+                + "\".equals(reader.getFieldName())", ifAction -> {
+                    ifAction.line("reader.nextToken();");
+                    ifAction.line("String discriminatorValue = reader.getString();");
+                    if (!dispatchedTypes.isEmpty()) {
+                        ifAction.ifBlock("discriminatorValue != null",
+                            ifDiscriminator -> ifDiscriminator.block("switch (discriminatorValue)", switchBlock -> {
+                                dispatchedTypes.forEach((discriminatorValue, deserialization) -> switchBlock.block(
+                                    "case " + ClassType.STRING.defaultValueExpression(discriminatorValue) + ":",
+                                    caseBlock -> caseBlock.methodReturn(deserialization)));
+                                switchBlock.block("default:", defaultBlock -> defaultBlock.line("break;"));
+                            }));
                     }
+                    ifAction.methodReturn("fromJsonAfterDiscriminator(reader)");
                 });
-            });
+        }
 
-            readJsonObject(classBlock, true, this::writeFromJsonDeserialization);
+        /**
+         * Writes the package-private {@code fromJsonAfterDiscriminator(JsonReader)} method, which reads the rest of the
+         * JSON object when the reader is on the value of the discriminator, the first field of the JSON object.
+         *
+         * @param classBlock The class having {@code fromJsonAfterDiscriminator(JsonReader)} written to it.
+         */
+        private void writeFromJsonAfterDiscriminator(JavaClass classBlock) {
+            addGeneratedAnnotation.accept(classBlock);
+            classBlock.staticMethod(JavaVisibility.PackagePrivate,
+                model.getName() + " fromJsonAfterDiscriminator(JsonReader reader) throws IOException",
+                methodBlock -> writeFromJsonDeserialization0(methodBlock, true));
+        }
+
+        /**
+         * Whether polymorphic types are read with the discriminator-first dispatch, which relies on package-private
+         * methods of all types in the hierarchy.
+         *
+         * @return Whether polymorphic types are read with the discriminator-first dispatch.
+         */
+        private boolean isDiscriminatorFirst() {
+            return settings.isStreamStyleDiscriminatorFirst()
+                && !settings.isShareJsonSerializableCode()
+                && model.isAllPolymorphicModelsInSamePackage();
+        }
+
+        /**
+         * Whether all types the super type dispatches to have the methods used by the discriminator-first dispatch.
+         * <p>
+         * A direct child type with a different discriminator needs to be a super type itself, as only the super types
+         * have {@code fromJsonDiscriminatorFirst}.
+         *
+         * @param superType The super type.
+         * @param isManagementErrorSubclass Whether a type is a management error, which is read differently.
+         * @return Whether the super type can use the discriminator-first dispatch.
+         */
+        private static boolean canDispatchDiscriminatorFirst(ClientModel superType,
+            Predicate<ClientModel> isManagementErrorSubclass) {
+            if (isManagementErrorSubclass.test(superType)) {
+                return false;
+            }
+
+            for (ClientModel childType : getAllChildTypes(superType, new ArrayList<>())) {
+                boolean sameDiscriminator = Objects.equals(childType.getPolymorphicDiscriminatorName(),
+                    superType.getPolymorphicDiscriminatorName());
+                if (sameDiscriminator) {
+                    if (isManagementErrorSubclass.test(childType)) {
+                        return false;
+                    }
+                } else if (Objects.equals(childType.getParentModelName(), superType.getName())
+                    && !(isSuperTypeWithDiscriminator(childType)
+                        && canDispatchDiscriminatorFirst(childType, isManagementErrorSubclass))) {
+                    return false;
+                }
+            }
+
+            return true;
         }
 
         private static List<ClientModel> getAllChildTypes(ClientModel model, List<ClientModel> childTypes) {
@@ -1096,12 +1272,22 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
         }
 
         private void writeFromJsonDeserialization0(JavaBlock methodBlock) {
+            writeFromJsonDeserialization0(methodBlock, false);
+        }
+
+        /**
+         * Writes the deserialization of the JSON object into the model.
+         *
+         * @param methodBlock The method handling deserialization.
+         * @param afterDiscriminator Whether the reader is on the value of the discriminator, the first field of the
+         * JSON object, instead of on the start of the JSON object.
+         */
+        private void writeFromJsonDeserialization0(JavaBlock methodBlock, boolean afterDiscriminator) {
             // Initialize local variables to track what has been deserialized.
             initializeLocalVariables(methodBlock, false);
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
 
-            // Add the outermost while loop to read the JSON object.
-            addReaderWhileLoop(methodBlock, true, false, whileBlock -> {
+            Consumer<JavaBlock> fieldDeserialization = whileBlock -> {
                 if (useFromJsonShared && model.isPolymorphicParent()) {
                     // If we can use 'fromJsonShared' and this model is a super type, then we can use a customized
                     // 'fromJson' / 'fromJsonKnownDiscriminator' method to handle deserialization.
@@ -1112,16 +1298,15 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     // }
                     String ifBlockCondition = "!" + model.getName() + ".fromJsonShared(reader, " + fieldNameVariableName
                         + ", " + propertiesManager.getDeserializedModelName() + ")";
-                    methodBlock.ifBlock(ifBlockCondition, ifBlock -> generateUnknownFieldLogic(ifBlock, null));
+                    methodBlock.ifBlock(ifBlockCondition, getUnknownFieldLogic());
                     return;
                 }
 
                 // Loop over all properties and generate their deserialization handling.
-                AtomicReference<JavaIfBlock> ifBlockReference = new AtomicReference<>(null);
+                FieldNameDispatch dispatch = createFieldNameDispatch();
 
                 BiConsumer<ClientModelProperty, Boolean> consumer
-                    = (property, fromSuper) -> handleJsonPropertyDeserialization(property, whileBlock, ifBlockReference,
-                        fromSuper, false);
+                    = (property, fromSuper) -> handleJsonPropertyDeserialization(property, dispatch, fromSuper, false);
 
                 Map<String, ClientModelProperty> modelPropertyMap = new HashMap<>();
                 for (ClientModelProperty parentProperty : ClientModelUtil.getParentProperties(model)) {
@@ -1136,7 +1321,7 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     // deserialization of the parent model(s) in 'fromJson' call to the parent class's 'fromJsonShared'.
                     String ifBlockCondition = model.getParentModelName() + ".fromJsonShared(reader, "
                         + fieldNameVariableName + ", " + propertiesManager.getDeserializedModelName() + ")";
-                    ifBlockReference.set(methodBlock.ifBlock(ifBlockCondition, ifBlock -> ifBlock.line("continue;")));
+                    dispatch.addCondition(ifBlockCondition, ifBlock -> ifBlock.line("continue;"));
                 } else {
                     // Child classes may contain properties that shadow parents' ones.
                     // Thus, we only take the shadowing ones, not the ones shadowed.
@@ -1159,20 +1344,38 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     superSettersToDeserialized.values().forEach(property -> consumer.accept(property, true));
                 }
 
-                generateThisFromJson(ifBlockReference, consumer, methodBlock, false, useFromJsonShared);
+                generateThisFromJson(dispatch, consumer, false, useFromJsonShared);
 
                 // All properties have been checked for, add an else block that will either ignore unknown properties
                 // or add them into an additional properties bag.
-                generateUnknownFieldLogic(whileBlock, ifBlockReference.get());
-            });
+                dispatch.write(whileBlock, getUnknownFieldLogic());
+            };
+
+            if (afterDiscriminator) {
+                // The discriminator field is deserialized first, then the loop moves to the next field itself.
+                methodBlock.line("String " + fieldNameVariableName + " = "
+                    + ClassType.STRING.defaultValueExpression(
+                        propertiesManager.getDiscriminatorProperty().getProperty().getSerializedName())
+                    + ";");
+                methodBlock.block("while (true)", whileBlock -> {
+                    fieldDeserialization.accept(whileBlock);
+                    whileBlock.line("");
+                    whileBlock.ifBlock("reader.nextToken() == JsonToken.END_OBJECT",
+                        ifAction -> ifAction.line("break;"));
+                    whileBlock.line(fieldNameVariableName + " = reader.getFieldName();");
+                    whileBlock.line("reader.nextToken();");
+                });
+            } else {
+                // Add the outermost while loop to read the JSON object.
+                addReaderWhileLoop(methodBlock, true, false, fieldDeserialization);
+            }
 
             // Add the validation and return logic.
             handleReadReturn(methodBlock);
         }
 
-        private void generateThisFromJson(AtomicReference<JavaIfBlock> ifBlockReference,
-            BiConsumer<ClientModelProperty, Boolean> consumer, JavaBlock methodBlock, boolean isFromJsonShared,
-            boolean usingFromJsonShared) {
+        private void generateThisFromJson(FieldNameDispatch dispatch, BiConsumer<ClientModelProperty, Boolean> consumer,
+            boolean isFromJsonShared, boolean usingFromJsonShared) {
             propertiesManager.forEachRequiredProperty(property -> {
                 if (property.isConstant()) {
                     return;
@@ -1192,13 +1395,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 consumer.accept(property, false);
             });
 
-            JavaIfBlock ifBlock = ifBlockReference.get();
-
             // Add flattened properties if we aren't using 'fromJsonShared' or some of the flattened properties are
             // defined
             // by this model.
             if (!usingFromJsonShared || !propertiesManager.isAllFlattenedPropertiesFromParent()) {
-                handleFlattenedPropertiesDeserialization(methodBlock, ifBlock, isFromJsonShared);
+                handleFlattenedPropertiesDeserialization(dispatch, isFromJsonShared);
             }
         }
 
@@ -1211,9 +1412,14 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 && !model.isPolymorphicDiscriminatorDefinedByModel();
         }
 
-        private void generateUnknownFieldLogic(JavaBlock whileBlock, JavaIfBlock ifBlock) {
+        private Consumer<JavaBlock> getUnknownFieldLogic() {
             ClientModelProperty additionalProperty = getAdditionalPropertiesPropertyInModelOrFromSuper();
-            handleUnknownJsonFieldDeserialization(whileBlock, ifBlock, additionalProperty);
+            return getUnknownJsonFieldDeserialization(additionalProperty);
+        }
+
+        private FieldNameDispatch createFieldNameDispatch() {
+            return new FieldNameDispatch(propertiesManager.getJsonReaderFieldNameVariableName(),
+                settings.isStreamStyleFieldSwitch());
         }
 
         /**
@@ -1273,19 +1479,19 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     + modelName + " " + modelDeserializedName + ") throws IOException";
                 addGeneratedAnnotation.accept(classBlock);
                 classBlock.staticMethod(JavaVisibility.PackagePrivate, methodDefinition, methodBlock -> {
-                    AtomicReference<JavaIfBlock> ifBlockReference = new AtomicReference<>();
+                    FieldNameDispatch dispatch = createFieldNameDispatch();
                     if (!CoreUtils.isNullOrEmpty(model.getParentModelName())) {
                         String callToSuperFromJsonShared = model.getParentModelName() + ".fromJsonShared(reader, "
                             + propertiesManager.getJsonReaderFieldNameVariableName() + ", "
                             + propertiesManager.getDeserializedModelName() + ")";
-                        ifBlockReference.set(
-                            methodBlock.ifBlock(callToSuperFromJsonShared, ifBlock -> ifBlock.methodReturn("true")));
+                        dispatch.addCondition(callToSuperFromJsonShared, ifBlock -> ifBlock.methodReturn("true"));
                     }
 
                     BiConsumer<ClientModelProperty, Boolean> consumer
-                        = (property, fromSuper) -> handleJsonPropertyDeserialization(property, methodBlock,
-                            ifBlockReference, fromSuper, true);
-                    generateThisFromJson(ifBlockReference, consumer, methodBlock, true, false);
+                        = (property, fromSuper) -> handleJsonPropertyDeserialization(property, dispatch, fromSuper,
+                            true);
+                    generateThisFromJson(dispatch, consumer, true, false);
+                    dispatch.write(methodBlock, null);
 
                     methodBlock.methodReturn("false");
                 });
@@ -1433,78 +1639,66 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             });
         }
 
-        private void handleJsonPropertyDeserialization(ClientModelProperty property, JavaBlock methodBlock,
-            AtomicReference<JavaIfBlock> ifBlockReference, boolean fromSuper, boolean isFromJsonShared) {
+        private void handleJsonPropertyDeserialization(ClientModelProperty property, FieldNameDispatch dispatch,
+            boolean fromSuper, boolean isFromJsonShared) {
             // Property will be handled later by flattened deserialization.
             if (property.getNeedsFlatten()) {
                 return;
             }
 
-            JavaIfBlock ifBlock = ifBlockReference.get();
-            ifBlock = handleJsonPropertyDeserialization(property, methodBlock, ifBlock, fromSuper, isFromJsonShared);
-
-            ifBlockReference.set(ifBlock);
-        }
-
-        private JavaIfBlock handleJsonPropertyDeserialization(ClientModelProperty property, JavaBlock methodBlock,
-            JavaIfBlock ifBlock, boolean fromSuper, boolean isFromJsonShared) {
             String jsonPropertyName = property.getSerializedName();
             if (CoreUtils.isNullOrEmpty(jsonPropertyName)) {
-                return ifBlock;
+                return;
             }
 
-            return ifOrElseIf(methodBlock, ifBlock,
-                "\"" + jsonPropertyName + "\".equals(" + propertiesManager.getJsonReaderFieldNameVariableName() + ")",
-                deserializationBlock -> {
-                    generateJsonDeserializationLogic(deserializationBlock, property, fromSuper);
-                    if (isFromJsonShared) {
-                        deserializationBlock.methodReturn("true");
-                    }
-                });
+            dispatch.addField(jsonPropertyName, null, deserializationBlock -> {
+                generateJsonDeserializationLogic(deserializationBlock, property, fromSuper);
+                if (isFromJsonShared) {
+                    deserializationBlock.methodReturn("true");
+                }
+            }, isFromJsonShared);
         }
 
-        private void handleFlattenedPropertiesDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
-            boolean isFromJsonShared) {
+        private void handleFlattenedPropertiesDeserialization(FieldNameDispatch dispatch, boolean isFromJsonShared) {
             // The initial call to handle flattened properties is using the base node which is just a holder.
             for (JsonFlattenedPropertiesTree structure : propertiesManager.getJsonFlattenedPropertiesTree()
                 .getChildrenNodes()
                 .values()) {
-                handleFlattenedPropertiesDeserializationHelper(structure, methodBlock, ifBlock, isFromJsonShared, 0);
+                handleFlattenedPropertiesDeserializationHelper(structure, dispatch, isFromJsonShared, 0);
             }
         }
 
-        private JavaIfBlock handleFlattenedPropertiesDeserializationHelper(
-            JsonFlattenedPropertiesTree flattenedProperties, JavaBlock methodBlock, JavaIfBlock ifBlock,
-            boolean isFromJsonShared, int depth) {
-            String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
+        private void handleFlattenedPropertiesDeserializationHelper(JsonFlattenedPropertiesTree flattenedProperties,
+            FieldNameDispatch dispatch, boolean isFromJsonShared, int depth) {
             ClientModelPropertyWithMetadata propertyWithMetadata = flattenedProperties.getProperty();
             if (propertyWithMetadata != null) {
                 // This is a terminal location, so only need to handle checking for the property name.
-                return ifOrElseIf(methodBlock, ifBlock,
-                    "\"" + flattenedProperties.getNodeName() + "\".equals(" + fieldNameVariableName + ")",
+                dispatch.addField(flattenedProperties.getNodeName(), null,
                     deserializationBlock -> generateJsonDeserializationLogic(deserializationBlock,
-                        propertyWithMetadata.getProperty(), propertyWithMetadata.isFromSuperClass()));
+                        propertyWithMetadata.getProperty(), propertyWithMetadata.isFromSuperClass()),
+                    false);
             } else {
                 // Otherwise this is an intermediate location and a while loop reader needs to be added.
-                return ifOrElseIf(methodBlock, ifBlock, "\"" + flattenedProperties.getNodeName() + "\".equals("
-                    + fieldNameVariableName + ") && reader.currentToken() == JsonToken.START_OBJECT", ifAction -> {
+                boolean returns = isFromJsonShared && depth == 0;
+                dispatch.addField(flattenedProperties.getNodeName(), "reader.currentToken() == JsonToken.START_OBJECT",
+                    ifAction -> {
                         addReaderWhileLoop(ifAction, false, false, whileBlock -> {
-                            JavaIfBlock innerIfBlock = null;
+                            FieldNameDispatch innerDispatch = createFieldNameDispatch();
                             for (JsonFlattenedPropertiesTree structure : flattenedProperties.getChildrenNodes()
                                 .values()) {
-                                innerIfBlock = handleFlattenedPropertiesDeserializationHelper(structure, methodBlock,
-                                    innerIfBlock, isFromJsonShared, depth + 1);
+                                handleFlattenedPropertiesDeserializationHelper(structure, innerDispatch,
+                                    isFromJsonShared, depth + 1);
                             }
 
-                            handleUnknownJsonFieldDeserialization(whileBlock, innerIfBlock,
-                                propertiesManager.getAdditionalProperties());
+                            innerDispatch.write(whileBlock,
+                                getUnknownJsonFieldDeserialization(propertiesManager.getAdditionalProperties()));
                         });
 
-                        if (isFromJsonShared && depth == 0) {
+                        if (returns) {
                             // Flattening will handle skipping and additional properties itself.
                             ifAction.methodReturn("true");
                         }
-                    });
+                    }, returns);
             }
         }
 
@@ -1699,10 +1893,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 : wireType.jsonDeserializationMethod(readerName);
         }
 
-        private void handleUnknownJsonFieldDeserialization(JavaBlock methodBlock, JavaIfBlock ifBlock,
-            ClientModelProperty additionalProperties) {
+        private Consumer<JavaBlock> getUnknownJsonFieldDeserialization(ClientModelProperty additionalProperties) {
             String fieldNameVariableName = propertiesManager.getJsonReaderFieldNameVariableName();
-            Consumer<JavaBlock> unknownFieldConsumer = javaBlock -> {
+            return javaBlock -> {
                 if (additionalProperties != null) {
                     javaBlock.ifBlock(additionalProperties.getName() + " == null",
                         ifAction -> ifAction.line(additionalProperties.getName() + " = new LinkedHashMap<>();"));
@@ -1732,12 +1925,6 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     javaBlock.line("reader.skipChildren();");
                 }
             };
-
-            if (ifBlock == null) {
-                unknownFieldConsumer.accept(methodBlock);
-            } else {
-                ifBlock.elseBlock(unknownFieldConsumer);
-            }
         }
 
         /**
@@ -2525,4 +2712,144 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
     }
+
+    /**
+     * Dispatch on the JSON field name being deserialized.
+     * <p>
+     * The cases are written either as a chain of if / else if checks, comparing the field name to each case, or as a
+     * switch on the field name. A switch is only written when every field name is unique, otherwise the chain is
+     * written as the later cases with a field name depend on the additional conditions of the earlier ones.
+     */
+    private static final class FieldNameDispatch {
+        private final String fieldNameVariableName;
+        private final boolean useSwitch;
+        private final List<String> conditions = new ArrayList<>();
+        private final List<Consumer<JavaBlock>> conditionActions = new ArrayList<>();
+        private final List<FieldCase> fieldCases = new ArrayList<>();
+
+        private FieldNameDispatch(String fieldNameVariableName, boolean useSwitch) {
+            this.fieldNameVariableName = fieldNameVariableName;
+            this.useSwitch = useSwitch;
+        }
+
+        /**
+         * Adds a check that runs before the checks on the field name.
+         *
+         * @param condition The conditional statement.
+         * @param action The conditional action, which must end with a {@code continue} or {@code return} statement.
+         */
+        private void addCondition(String condition, Consumer<JavaBlock> action) {
+            conditions.add(condition);
+            conditionActions.add(action);
+        }
+
+        /**
+         * Adds a check on the field name.
+         *
+         * @param fieldName The JSON field name.
+         * @param additionalCondition An additional conditional statement, or null.
+         * @param action The action for the field.
+         * @param returns Whether the action ends with a {@code return} statement.
+         */
+        private void addField(String fieldName, String additionalCondition, Consumer<JavaBlock> action,
+            boolean returns) {
+            fieldCases.add(new FieldCase(fieldName, additionalCondition, action, returns));
+        }
+
+        /**
+         * Writes the dispatch.
+         *
+         * @param block The block where the dispatch is written.
+         * @param fallback The action for a field name matching no case, or null.
+         */
+        private void write(JavaBlock block, Consumer<JavaBlock> fallback) {
+            if (useSwitch && !fieldCases.isEmpty() && hasUniqueFieldNames()) {
+                writeSwitch(block, fallback);
+            } else {
+                writeIfChain(block, fallback);
+            }
+        }
+
+        private boolean hasUniqueFieldNames() {
+            Set<String> fieldNames = new HashSet<>();
+            for (FieldCase fieldCase : fieldCases) {
+                if (!fieldNames.add(fieldCase.fieldName)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void writeIfChain(JavaBlock block, Consumer<JavaBlock> fallback) {
+            JavaIfBlock ifBlock = null;
+            for (int i = 0; i < conditions.size(); i++) {
+                ifBlock = StreamSerializationGenerator.ifOrElseIf(block, ifBlock, conditions.get(i),
+                    conditionActions.get(i));
+            }
+            for (FieldCase fieldCase : fieldCases) {
+                String condition = "\"" + fieldCase.fieldName + "\".equals(" + fieldNameVariableName + ")";
+                if (fieldCase.additionalCondition != null) {
+                    condition += " && " + fieldCase.additionalCondition;
+                }
+                ifBlock = StreamSerializationGenerator.ifOrElseIf(block, ifBlock, condition, fieldCase.action);
+            }
+
+            if (fallback != null) {
+                if (ifBlock == null) {
+                    fallback.accept(block);
+                } else {
+                    ifBlock.elseBlock(fallback);
+                }
+            }
+        }
+
+        private void writeSwitch(JavaBlock block, Consumer<JavaBlock> fallback) {
+            // The checks before the field name end the iteration when they match, so they don't need to be chained.
+            for (int i = 0; i < conditions.size(); i++) {
+                block.ifBlock(conditions.get(i), conditionActions.get(i));
+            }
+
+            // Each case is a block, as the cases of a switch share the scope of their local variables.
+            block.block("switch (" + fieldNameVariableName + ")", switchBlock -> {
+                for (FieldCase fieldCase : fieldCases) {
+                    switchBlock.block("case \"" + fieldCase.fieldName + "\":", caseBlock -> {
+                        if (fieldCase.additionalCondition == null) {
+                            fieldCase.action.accept(caseBlock);
+                            if (!fieldCase.returns) {
+                                caseBlock.line("break;");
+                            }
+                        } else {
+                            JavaIfBlock ifBlock = caseBlock.ifBlock(fieldCase.additionalCondition, fieldCase.action);
+                            if (fallback != null) {
+                                ifBlock.elseBlock(fallback);
+                            }
+                            caseBlock.line("break;");
+                        }
+                    });
+                }
+
+                if (fallback != null) {
+                    switchBlock.block("default:", defaultBlock -> {
+                        fallback.accept(defaultBlock);
+                        defaultBlock.line("break;");
+                    });
+                }
+            });
+        }
+
+        private static final class FieldCase {
+            private final String fieldName;
+            private final String additionalCondition;
+            private final Consumer<JavaBlock> action;
+            private final boolean returns;
+
+            private FieldCase(String fieldName, String additionalCondition, Consumer<JavaBlock> action,
+                boolean returns) {
+                this.fieldName = fieldName;
+                this.additionalCondition = additionalCondition;
+                this.action = action;
+                this.returns = returns;
+            }
+        }
+    }
 }
@@ -8,7 +8,7 @@ package com.microsoft.typespec.http.client.generator.core.template;
  */
 public class Templates {
 
-    private static TemplateFactory factory = new DefaultTemplateFactory();
+    private static volatile TemplateFactory factory = new DefaultTemplateFactory();
 
     public static void setFactory(TemplateFactory templateFactory) {
         factory = templateFactory;
@@ -59,6 +59,8 @@ public class ClientModelUtil {
 
     public static final String JSON_MERGE_PATCH_HELPER_CLASS_NAME = "JsonMergePatchHelper";
 
+    public static final String JSON_SERIALIZATION_HELPER_CLASS_NAME = "JsonSerializationHelper";
+
     public static final String OPERATION_LOCATION_POLLING_STRATEGY = "OperationLocationPollingStrategy";
     public static final String SYNC_OPERATION_LOCATION_POLLING_STRATEGY = "SyncOperationLocationPollingStrategy";
     public static final String POLLING_UTILS = "PollingUtils";
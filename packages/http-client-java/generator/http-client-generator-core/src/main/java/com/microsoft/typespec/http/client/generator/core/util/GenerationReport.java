@@ -0,0 +1,317 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Records the wall time, CPU time and allocated bytes of the phases of a generation run, and of each template
+ * rendering.
+ * <p>
+ * CPU time and allocated bytes are those of the measuring thread, from {@link ThreadMXBean}. A phase that runs work on
+ * other threads, such as parallel template rendering, only accounts its own thread, while each template rendering is
+ * measured on the thread that runs it. Allocated bytes are -1 if the JVM doesn't support the measurement.
+ * <p>
+ * The peak heap usage is the largest used heap sampled when a phase ends. As the Java files are written in batches,
+ * each batch ends phases, so the heap is sampled at the batch boundaries. The peaks of the heap memory pools are also
+ * reported, added up, since the report was cleared. The pools don't peak at the same time, so their sum is an upper
+ * bound of the peak heap usage, which may largely overstate it.
+ * <pre>{@code
+ * try (GenerationReport.Timer timer = GenerationReport.getInstance().startPhase("transform")) {
+ *     codeModel = new Transformer().transform(codeModel);
+ * }
+ * }</pre>
+ */
+public final class GenerationReport {
+    /**
+     * The default number of slowest templates and files included in the report.
+     */
+    public static final int DEFAULT_TOP_N = 20;
+
+    private static final GenerationReport INSTANCE = new GenerationReport();
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = isAllocationSupported();
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans()
+        .stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+        .collect(Collectors.toList());
+
+    private final Map<String, Statistics> phases = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> templates = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<FileRendering> fileRenderings = new ConcurrentLinkedQueue<>();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private volatile long startNanos = System.nanoTime();
+
+    private GenerationReport() {
+    }
+
+    /**
+     * Gets the report of the current generation run.
+     *
+     * @return The report of the current generation run.
+     */
+    public static GenerationReport getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Clears the report, at the start of a generation run.
+     */
+    public void clear() {
+        phases.clear();
+        templates.clear();
+        fileRenderings.clear();
+        HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+        peakHeapBytes.set(0);
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring a phase. Measurements of phases with the same name are added up.
+     * <p>
+     * The used heap is sampled when the phase ends.
+     *
+     * @param phase The name of the phase.
+     * @return The timer, which records the measurement when closed.
+     */
+    public Timer startPhase(String phase) {
+        return new Timer(measurement -> {
+            phases.computeIfAbsent(phase, Statistics::new).add(measurement);
+            sampleHeapUsage();
+        });
+    }
+
+    /**
+     * Samples the used heap, for the peak heap usage.
+     */
+    public void sampleHeapUsage() {
+        peakHeapBytes.accumulateAndGet(MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    /**
+     * Starts measuring the rendering of a file by a template.
+     *
+     * @param template The name of the template.
+     * @param fileName The name of the file.
+     * @return The timer, which records the measurement when closed.
+     */
+    public Timer startTemplate(String template, String fileName) {
+        return new Timer(measurement -> {
+            templates.computeIfAbsent(template, Statistics::new).add(measurement);
+            fileRenderings.add(new FileRendering(template, fileName, measurement));
+        });
+    }
+
+    /**
+     * Writes the report as JSON to the file.
+     *
+     * @param file The report file.
+     * @param topN The number of slowest templates and files to include.
+     */
+    public void write(Path file, int topN) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (OutputStream outputStream = Files.newOutputStream(file);
+                JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+                writeJson(jsonWriter, topN);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the report as JSON.
+     *
+     * @param topN The number of slowest templates and files to include.
+     * @return The report as JSON.
+     */
+    public String toJson(int topN) {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            writeJson(jsonWriter, topN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stringWriter.toString();
+    }
+
+    private void writeJson(JsonWriter jsonWriter, int topN) throws IOException {
+        List<Statistics> slowestTemplates = templates.values()
+            .stream()
+            .sorted(Comparator.comparingLong((Statistics statistics) -> statistics.wallNanos).reversed())
+            .limit(topN)
+            .collect(Collectors.toList());
+        List<FileRendering> slowestFiles = fileRenderings.stream()
+            .sorted(Comparator.comparingLong((FileRendering rendering) -> rendering.measurement.wallNanos).reversed())
+            .limit(topN)
+            .collect(Collectors.toList());
+        List<Statistics> phasesInOrder = new ArrayList<>(phases.values());
+        phasesInOrder.sort(Comparator.comparingLong(statistics -> statistics.firstRecordedNanos));
+
+        jsonWriter.writeStartObject()
+            .writeLongField("totalWallMillis", toMillis(System.nanoTime() - startNanos))
+            .writeBooleanField("allocationSupported", ALLOCATION_SUPPORTED)
+            .writeLongField("peakHeapBytes", peakHeapBytes.get())
+            .writeLongField("heapPoolPeaksSumBytes", getHeapPoolPeaksSumBytes())
+            .writeArrayField("phases", phasesInOrder, GenerationReport::writeStatistics)
+            .writeArrayField("slowestTemplates", slowestTemplates, GenerationReport::writeStatistics)
+            .writeArrayField("slowestFiles", slowestFiles, (writer, rendering) -> {
+                writer.writeStartObject()
+                    .writeStringField("template", rendering.template)
+                    .writeStringField("file", rendering.fileName);
+                writeMeasurement(writer, rendering.measurement);
+                writer.writeEndObject();
+            })
+            .writeEndObject()
+            .flush();
+    }
+
+    private static void writeStatistics(JsonWriter jsonWriter, Statistics statistics) throws IOException {
+        Measurement total;
+        int count;
+        synchronized (statistics) {
+            total = new Measurement(statistics.wallNanos, statistics.cpuNanos, statistics.allocatedBytes);
+            count = statistics.count;
+        }
+        jsonWriter.writeStartObject().writeStringField("name", statistics.name).writeIntField("count", count);
+        writeMeasurement(jsonWriter, total);
+        jsonWriter.writeEndObject();
+    }
+
+    private static void writeMeasurement(JsonWriter jsonWriter, Measurement measurement) throws IOException {
+        jsonWriter.writeLongField("wallMillis", toMillis(measurement.wallNanos))
+            .writeLongField("cpuMillis", toMillis(measurement.cpuNanos))
+            .writeLongField("allocatedBytes", ALLOCATION_SUPPORTED ? measurement.allocatedBytes : -1);
+    }
+
+    private static long getHeapPoolPeaksSumBytes() {
+        long heapPoolPeaksSumBytes = 0;
+        for (MemoryPoolMXBean pool : HEAP_POOLS) {
+            MemoryUsage peakUsage = pool.getPeakUsage();
+            if (peakUsage != null) {
+                heapPoolPeaksSumBytes += peakUsage.getUsed();
+            }
+        }
+        return heapPoolPeaksSumBytes;
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static boolean isAllocationSupported() {
+        try {
+            if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+                if (threadMXBean.isThreadAllocatedMemorySupported()) {
+                    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+                    return threadMXBean.isThreadAllocatedMemoryEnabled();
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // com.sun.management isn't available on this JVM.
+        }
+        return false;
+    }
+
+    private static long currentThreadCpuNanos() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static long currentThreadAllocatedBytes() {
+        return ALLOCATION_SUPPORTED
+            ? ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN)
+                .getThreadAllocatedBytes(Thread.currentThread().getId())
+            : 0;
+    }
+
+    /**
+     * Measures from its creation until it's closed, on the same thread.
+     */
+    public static final class Timer implements AutoCloseable {
+        private final Consumer<Measurement> recorder;
+        private final long wallStart = System.nanoTime();
+        private final long cpuStart = currentThreadCpuNanos();
+        private final long allocatedStart = currentThreadAllocatedBytes();
+
+        private Timer(Consumer<Measurement> recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void close() {
+            recorder.accept(new Measurement(System.nanoTime() - wallStart, currentThreadCpuNanos() - cpuStart,
+                currentThreadAllocatedBytes() - allocatedStart));
+        }
+    }
+
+    private static final class Measurement {
+        private final long wallNanos;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+
+        private Measurement(long wallNanos, long cpuNanos, long allocatedBytes) {
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+
+    private static final class Statistics {
+        private final String name;
+        private final long firstRecordedNanos = System.nanoTime();
+        private int count;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+
+        private Statistics(String name) {
+            this.name = name;
+        }
+
+        private synchronized void add(Measurement measurement) {
+            count++;
+            wallNanos += measurement.wallNanos;
+            cpuNanos += measurement.cpuNanos;
+            allocatedBytes += measurement.allocatedBytes;
+        }
+    }
+
+    private static final class FileRendering {
+        private final String template;
+        private final String fileName;
+        private final Measurement measurement;
+
+        private FileRendering(String template, String fileName, Measurement measurement) {
+            this.template = template;
+            this.fileName = fileName;
+            this.measurement = measurement;
+        }
+    }
+}
@@ -240,23 +240,42 @@ public class TemplateUtil {
 
     /**
      * Helper function to write helper methods for LLC paging
+     * <p>
+     * The page is read in a single pass, the JSON objects and arrays of the items are sliced as raw JSON and the next
+     * link is read in the same pass.
      *
      * @param classBlock Java class block
      */
     private static void writePagingHelperMethods(JavaClass classBlock) {
-        classBlock.privateMethod("List<BinaryData> getValues(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("List<?> values = (List<?>) obj.get(path);");
-            block.line("return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
-        classBlock.privateMethod("String getNextLink(BinaryData binaryData, String path)", block -> {
-            block.line("try {");
-            block.line("Map<?, ?> obj = binaryData.toObject(Map.class);");
-            block.line("return (String) obj.get(path);");
-            block.line("} catch (RuntimeException e) { return null; }");
-        });
+        classBlock.privateMethod(
+            "PagedResponse<BinaryData> readPage(Response<BinaryData> res, String itemName, String nextLinkName)",
+            block -> {
+                block.line("List<BinaryData> values = null;");
+                block.line("String nextLink = null;");
+                block.line("try (JsonReader reader = JsonProviders.createReader(res.getValue().toBytes())) {");
+                block.line("if (reader.nextToken() == JsonToken.START_OBJECT) {");
+                block.line("while (reader.nextToken() != JsonToken.END_OBJECT) {");
+                block.line("String fieldName = reader.getFieldName();");
+                block.line("reader.nextToken();");
+                block.line("if (itemName.equals(fieldName) && reader.currentToken() == JsonToken.START_ARRAY) {");
+                block.line("values = reader.readArray(itemReader -> itemReader.isStartArrayOrObject()");
+                block.line("? BinaryData.fromString(itemReader.readChildren())");
+                block.line(": BinaryData.fromObject(itemReader.readUntyped()));");
+                block.line("} else if (fieldName.equals(nextLinkName) && reader.currentToken() == JsonToken.STRING) {");
+                block.line("nextLink = reader.getString();");
+                block.line("} else {");
+                block.line("reader.skipChildren();");
+                block.line("}");
+                block.line("}");
+                block.line("}");
+                block.line("} catch (IOException | RuntimeException e) {");
+                block.line("values = null;");
+                block.line("nextLink = null;");
+                block.line("}");
+                block.line(
+                    "return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, "
+                        + "nextLink, null);");
+            });
     }
 
     /**
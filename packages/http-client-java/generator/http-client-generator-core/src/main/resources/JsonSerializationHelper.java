@@ -0,0 +1,59 @@
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import com.azure.json.ReadValueCallback;
+import com.azure.json.WriteValueCallback;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// DO NOT modify this helper class
+
+public final class JsonSerializationHelper {
+
+    private JsonSerializationHelper() {
+    }
+
+    /**
+     * Deserializes the JSON content of the BinaryData with the reader function, such as the {@code fromJson} method of
+     * a model.
+     *
+     * @param binaryData the JSON content
+     * @param readerFunc the function that reads the value from the JsonReader
+     * @return the deserialized value
+     * @param <T> the type of the value
+     * @throws UncheckedIOException If an error occurs while reading the JSON content.
+     */
+    public static <T> T fromJson(BinaryData binaryData, ReadValueCallback<JsonReader, T> readerFunc) {
+        try (JsonReader jsonReader = JsonProviders.createReader(binaryData.toBytes())) {
+            return readerFunc.read(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serializes the value to JSON content with the writer function, such as the {@code toJson} method of a model.
+     *
+     * @param value the value
+     * @param writerFunc the function that writes the value to the JsonWriter
+     * @return the JSON content as BinaryData
+     * @param <T> the type of the value
+     * @throws UncheckedIOException If an error occurs while writing the JSON content.
+     */
+    public static <T> BinaryData toJson(T value, WriteValueCallback<JsonWriter, T> writerFunc) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            if (value == null) {
+                jsonWriter.writeNull();
+            } else {
+                writerFunc.write(jsonWriter, value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return BinaryData.fromBytes(outputStream.toByteArray());
+    }
+}
@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,8 +29,20 @@ public class MockUnitJavagen extends Javagen {
         }
     }
 
+    private final Map<String, Object> settingsOverrides;
+
     public MockUnitJavagen() {
+        this(Collections.emptyMap());
+    }
+
+    /**
+     * Creates the mock host, with settings which replace or add to the default settings.
+     *
+     * @param settingsOverrides the settings which replace or add to the default settings.
+     */
+    public MockUnitJavagen(Map<String, Object> settingsOverrides) {
         super(new MockConnection(), "dummy", "dummy");
+        this.settingsOverrides = settingsOverrides;
         JavaSettingsAccessor.setHost(this);
     }
 
@@ -52,13 +65,20 @@ public class MockUnitJavagen extends Javagen {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) getSetting(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getValueWithJsonReader(String key, ReadValueCallback<JsonReader, T> converter) {
-        return (T) SETTINGS_MAP.get(key);
+        return (T) getSetting(key);
+    }
+
+    private Object getSetting(String key) {
+        // the settings are read by the constructor of the super class, before the overrides are set
+        return settingsOverrides != null && settingsOverrides.containsKey(key)
+            ? settingsOverrides.get(key)
+            : SETTINGS_MAP.get(key);
     }
 
     @Override
@@ -0,0 +1,51 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Compiles generated code in tests, against the class path of the tests, so that the tests can run it.
+ */
+public final class TestCompiler {
+
+    private TestCompiler() {
+    }
+
+    /**
+     * Compiles the Java files, failing the test on a compile error.
+     *
+     * @param directory the directory the Java files and the classes are written to.
+     * @param sources the contents of the Java files, by file name.
+     * @return the class loader of the compiled classes, whose parent is the class loader of the tests.
+     * @throws IOException if the Java files can't be written.
+     */
+    public static ClassLoader compile(Path directory, Map<String, String> sources) throws IOException {
+        List<String> arguments = new ArrayList<>(Arrays.asList("-proc:none", "-classpath",
+            System.getProperty("java.class.path"), "-d", directory.toString()));
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = directory.resolve(source.getKey());
+            Files.writeString(file, source.getValue());
+            arguments.add(file.toString());
+        }
+
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = ToolProvider.getSystemJavaCompiler()
+            .run(null, null, errors, arguments.toArray(new String[0]));
+        Assertions.assertEquals(0, result, errors::toString);
+
+        return new URLClassLoader(new URL[] { directory.toUri().toURL() }, TestCompiler.class.getClassLoader());
+    }
+}
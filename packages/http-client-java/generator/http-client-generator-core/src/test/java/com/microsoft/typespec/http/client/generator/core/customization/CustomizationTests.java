@@ -0,0 +1,61 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CustomizationTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomizationTests.class);
+    private static final String MODEL_FILE = "src/main/java/com/azure/foo/models/Widget.java";
+    private static final String MODEL = String.join("\n", "package com.azure.foo.models;", "",
+        "public final class Widget {", "    private String name;", "", "    public String getName() {",
+        "        return this.name;", "    }", "}", "");
+
+    @Test
+    public void testCustomizeWithoutLanguageServer() {
+        // None of these customizations needs the language server, which isn't available in the test environment.
+        Map<String, String> files = new Customization() {
+            @Override
+            public void customize(LibraryCustomization libraryCustomization, Logger logger) {
+                ClassCustomization widget = libraryCustomization.getClass("com.azure.foo.models", "Widget");
+                widget.getMethod("getName").replaceBody("return this.name == null ? \"\" : this.name;");
+                widget.addMethod("public boolean hasName() {\n    return this.name != null;\n}")
+                    .addAnnotation("Deprecated");
+                widget.getProperty("name").setModifier(Modifier.PRIVATE | Modifier.FINAL);
+            }
+        }.run(Collections.singletonMap(MODEL_FILE, MODEL), LOGGER);
+
+        String widget = files.get(MODEL_FILE);
+        Assertions.assertTrue(widget.contains("return this.name == null ? \"\" : this.name;"), widget);
+        Assertions.assertTrue(widget.contains("@Deprecated"), widget);
+        Assertions.assertTrue(widget.contains("public boolean hasName() {"), widget);
+        Assertions.assertTrue(widget.contains("private final String name;"), widget);
+        Assertions.assertFalse(files.containsKey("pom.xml"));
+    }
+
+    @Test
+    public void testChainedAstCustomizations() {
+        Map<String, String> files = new Customization() {
+            @Override
+            public void customize(LibraryCustomization libraryCustomization, Logger logger) {
+                libraryCustomization.getClass("com.azure.foo.models", "Widget")
+                    .customizeAst(ast -> ast.getClassByName("Widget").get().addField("int", "size"))
+                    .customizeAst(ast -> ast.getClassByName("Widget").get().addMethod("getSize"))
+                    .getMethod("getName")
+                    .replaceBody("return \"widget\";");
+            }
+        }.run(Collections.singletonMap(MODEL_FILE, MODEL), LOGGER);
+
+        String widget = files.get(MODEL_FILE);
+        Assertions.assertTrue(widget.contains("int size;"), widget);
+        Assertions.assertTrue(widget.contains("void getSize()"), widget);
+        Assertions.assertTrue(widget.contains("return \"widget\";"), widget);
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization;
+
+import com.github.javaparser.ast.CompilationUnit;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.eclipse.lsp4j.Position;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EditorTests {
+    private static final String FILE = "src/main/java/com/azure/foo/Foo.java";
+    private static final String NEW_LINE = System.lineSeparator();
+
+    @Test
+    public void testReplaceInMemory(@TempDir Path rootDir) {
+        Editor editor = new Editor(Collections.singletonMap(FILE, String.join(NEW_LINE, "class Foo {",
+            "    void bar() {", "        int a = 1;", "    }", "}", "")), rootDir);
+
+        // replace the body of the method with indented content
+        editor.replaceWithIndentedContent(FILE, new Position(2, 8), new Position(2, 18),
+            "int a = 2;\nint b = 3;\nint c = 4;", 8);
+        Assertions.assertEquals(String.join(NEW_LINE, "class Foo {", "    void bar() {", "        int a = 2;",
+            "        int b = 3;", "        int c = 4;", "    }", "}", "", ""), editor.getFileContent(FILE));
+        Assertions.assertEquals("        int c = 4;", editor.getFileLine(FILE, 4));
+
+        // replace within a line, and across lines
+        editor.replace(FILE, new Position(1, 9), new Position(1, 12), "baz");
+        editor.replace(FILE, new Position(3, 16), new Position(4, 16), "");
+        Assertions.assertEquals(Arrays.asList("class Foo {", "    void baz() {", "        int a = 2;",
+            "        int b = 4;", "    }", "}", "", "", "", ""), editor.getFileLines(FILE));
+        Assertions.assertEquals(String.join(NEW_LINE, editor.getFileLines(FILE)), editor.getFileContent(FILE));
+
+        // nothing is written until the editor is flushed
+        Assertions.assertFalse(Files.exists(rootDir.resolve(FILE)));
+    }
+
+    @Test
+    public void testFlush(@TempDir Path rootDir) throws IOException {
+        Editor editor = new Editor(Collections.singletonMap(FILE, "class Foo {}"), rootDir);
+        editor.flush();
+        Assertions.assertEquals("class Foo {}", Files.readString(rootDir.resolve(FILE)));
+
+        editor.replace(FILE, new Position(0, 6), new Position(0, 9), "Bar");
+        editor.renameFile(FILE, "src/main/java/com/azure/foo/Bar.java");
+        editor.addFile("pom.xml", "<project/>");
+        editor.removeFile("pom.xml");
+        Assertions.assertTrue(Files.exists(rootDir.resolve(FILE)));
+
+        editor.flush();
+        Assertions.assertFalse(Files.exists(rootDir.resolve(FILE)));
+        Assertions.assertFalse(Files.exists(rootDir.resolve("pom.xml")));
+        Assertions.assertEquals("class Bar {}" + NEW_LINE,
+            Files.readString(rootDir.resolve("src/main/java/com/azure/foo/Bar.java")));
+    }
+
+    @Test
+    public void testCompilationUnitCache(@TempDir Path rootDir) {
+        Editor editor = new Editor(Collections.singletonMap(FILE,
+            String.join(NEW_LINE, "class Foo {", "    // keep me", "    int  a;", "}", "")), rootDir);
+
+        CompilationUnit compilationUnit = editor.getCompilationUnit(FILE);
+        compilationUnit.getClassByName("Foo").get().addField("int", "b");
+        editor.markCompilationUnitChanged(FILE);
+        // AST customizations in a row share the compilation unit
+        Assertions.assertSame(compilationUnit, editor.getCompilationUnit(FILE));
+        compilationUnit.getClassByName("Foo").get().addField("int", "c");
+        editor.markCompilationUnitChanged(FILE);
+
+        // the content is printed when it's read, preserving the original formatting
+        String content = editor.getFileContent(FILE);
+        Assertions.assertTrue(content.contains("// keep me"), content);
+        Assertions.assertTrue(content.contains("int  a;"), content);
+        Assertions.assertTrue(content.contains("int b;"), content);
+        Assertions.assertTrue(content.contains("int c;"), content);
+
+        // a text edit invalidates the compilation unit
+        CompilationUnit printed = editor.getCompilationUnit(FILE);
+        Assertions.assertNotSame(compilationUnit, printed);
+        editor.replace(FILE, new Position(0, 6), new Position(0, 9), "Bar");
+        Assertions.assertTrue(editor.getCompilationUnit(FILE).getClassByName("Bar").isPresent());
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization.implementation.ls;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.SymbolKind;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaParserSymbolProviderTests {
+    private static final Path WORKSPACE = Paths.get("workspace").toAbsolutePath();
+    private static final String MODEL_FILE = "src/main/java/com/azure/foo/models/Widget.java";
+    private static final String MODEL = String.join("\n", "package com.azure.foo.models;", "",
+        "import java.util.List;", "", "/** A widget. */", "public final class Widget {",
+        "    private static final String KIND = \"widget\";", "", "    private String name;", "",
+        "    public Widget(String name) {", "        this.name = name;", "    }", "",
+        "    public Widget setTags(List<String> tags, int... counts) {", "        return this;", "    }", "",
+        "    public enum Color {", "        RED, BLUE", "    }", "}", "");
+
+    @Test
+    public void testDocumentSymbols() {
+        JavaParserSymbolProvider provider = createProvider(MODEL);
+
+        List<SymbolInformation> symbols = provider.listDocumentSymbols(uri(MODEL_FILE));
+        Assertions.assertEquals(List.of("Widget", "KIND", "name", "Widget(String)", "setTags(List<String>, int...)",
+            "Color", "RED", "BLUE"), symbols.stream().map(SymbolInformation::getName).collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(SymbolKind.Class, SymbolKind.Constant, SymbolKind.Field,
+            SymbolKind.Constructor, SymbolKind.Method, SymbolKind.Enum, SymbolKind.EnumMember, SymbolKind.EnumMember),
+            symbols.stream().map(SymbolInformation::getKind).collect(Collectors.toList()));
+
+        // Located at the name, 0-based.
+        SymbolInformation field = symbols.get(2);
+        Assertions.assertEquals(8, field.getLocation().getRange().getStart().getLine());
+        Assertions.assertEquals(19, field.getLocation().getRange().getStart().getCharacter());
+        Assertions.assertEquals(23, field.getLocation().getRange().getEnd().getCharacter());
+        Assertions.assertEquals("Widget", field.getContainerName());
+    }
+
+    @Test
+    public void testWorkspaceSymbols() {
+        JavaParserSymbolProvider provider = createProvider(MODEL);
+
+        List<SymbolInformation> symbols = provider.findWorkspaceSymbol("widget");
+        Assertions.assertEquals(1, symbols.size());
+        Assertions.assertEquals("com.azure.foo.models", symbols.get(0).getContainerName());
+        Assertions.assertTrue(symbols.get(0).getLocation().getUri().endsWith("com/azure/foo/models/Widget.java"));
+
+        Assertions.assertEquals(List.of("Widget", "Color"),
+            provider.findWorkspaceSymbol("*").stream().map(SymbolInformation::getName).collect(Collectors.toList()));
+        Assertions.assertTrue(provider.findWorkspaceSymbol("Gadget").isEmpty());
+    }
+
+    @Test
+    public void testUnparsableFile() {
+        JavaParserSymbolProvider provider = createProvider(MODEL.replace("public final class", "public final clas"));
+
+        Assertions.assertNull(provider.listDocumentSymbols(uri(MODEL_FILE)));
+        Assertions.assertNull(provider.findWorkspaceSymbol("Widget"));
+    }
+
+    @Test
+    public void testResolvesAllTypes() {
+        Assertions.assertTrue(createProvider(MODEL.replace("/** A widget. */", "@Deprecated"))
+            .resolvesAllTypes(uri(MODEL_FILE)));
+        Assertions.assertFalse(createProvider(MODEL.replace("/** A widget. */", "@JsonIgnore"))
+            .resolvesAllTypes(uri(MODEL_FILE)));
+        Assertions.assertFalse(createProvider(MODEL.replace("return this;", "return Arrays.asList(this).get(0);"))
+            .resolvesAllTypes(uri(MODEL_FILE)));
+        Assertions.assertTrue(createProvider(MODEL.replace("return this;", "return Objects.requireNonNull(this);")
+            .replace("import java.util.List;", "import java.util.List;\nimport java.util.Objects;"))
+            .resolvesAllTypes(uri(MODEL_FILE)));
+        Assertions.assertFalse(createProvider(MODEL.replace("java.util.List", "java.util.*"))
+            .resolvesAllTypes(uri(MODEL_FILE)));
+    }
+
+    private static JavaParserSymbolProvider createProvider(String model) {
+        Map<String, String> files = new HashMap<>();
+        files.put(MODEL_FILE, model);
+        files.put("pom.xml", "<project/>");
+        return new JavaParserSymbolProvider(WORKSPACE, files);
+    }
+
+    private static String uri(String fileName) {
+        return WORKSPACE.resolve(fileName).toUri().toString();
+    }
+}
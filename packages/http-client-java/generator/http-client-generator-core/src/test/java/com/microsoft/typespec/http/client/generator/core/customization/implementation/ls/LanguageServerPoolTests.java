@@ -0,0 +1,271 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.customization.implementation.ls;
+
+import com.microsoft.typespec.http.client.generator.core.customization.Editor;
+import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LanguageServerPoolTests {
+    private static final String KEY = LanguageServerPool.getKey(null);
+    private static final Logger LOGGER = LoggerFactory.getLogger(LanguageServerPoolTests.class);
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testAcquireAndRelease() {
+        LanguageServerPool pool = createPool(2, 300);
+        Assertions.assertNull(pool.acquire(KEY));
+
+        FakeServer server1 = new FakeServer();
+        FakeServer server2 = new FakeServer();
+        pool.release(server1.pooledServer);
+        pool.release(server2.pooledServer);
+
+        // most recently used first
+        Assertions.assertSame(server2.pooledServer, pool.acquire(KEY));
+        Assertions.assertSame(server1.pooledServer, pool.acquire(KEY));
+        Assertions.assertNull(pool.acquire(KEY));
+        Assertions.assertNull(pool.acquire(LanguageServerPool.getKey("other")));
+        Assertions.assertTrue(server1.process.isAlive());
+        Assertions.assertTrue(server2.process.isAlive());
+        Assertions.assertEquals(1, server1.connection.healthChecks);
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testReleaseToFullPool() {
+        LanguageServerPool pool = createPool(1, 300);
+        FakeServer server1 = new FakeServer();
+        FakeServer server2 = new FakeServer();
+        pool.release(server1.pooledServer);
+        pool.release(server2.pooledServer);
+
+        Assertions.assertTrue(server1.process.isAlive());
+        Assertions.assertFalse(server2.process.isAlive());
+        Assertions.assertTrue(server2.connection.stopped);
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testReleaseDeadServer() {
+        LanguageServerPool pool = createPool(1, 300);
+        FakeServer server = new FakeServer();
+        server.process.destroy();
+        pool.release(server.pooledServer);
+
+        Assertions.assertTrue(server.connection.stopped);
+        Assertions.assertNull(pool.acquire(KEY));
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testHealthCheck() {
+        LanguageServerPool pool = createPool(3, 300);
+        FakeServer healthy = new FakeServer();
+        FakeServer dead = new FakeServer();
+        FakeServer unresponsive = new FakeServer();
+        unresponsive.connection.healthy = false;
+        pool.release(healthy.pooledServer);
+        pool.release(dead.pooledServer);
+        pool.release(unresponsive.pooledServer);
+        dead.process.destroy();
+
+        // unhealthy servers are shut down, until a healthy one is found
+        Assertions.assertSame(healthy.pooledServer, pool.acquire(KEY));
+        Assertions.assertFalse(unresponsive.process.isAlive());
+        Assertions.assertTrue(unresponsive.connection.stopped);
+        Assertions.assertTrue(dead.connection.stopped);
+        Assertions.assertEquals(0, dead.connection.healthChecks);
+        Assertions.assertTrue(healthy.process.isAlive());
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testEviction() throws InterruptedException {
+        LanguageServerPool pool = createPool(1, 0);
+        FakeServer server = new FakeServer();
+        pool.release(server.pooledServer);
+
+        for (int i = 0; i < 100 && server.process.isAlive(); i++) {
+            Thread.sleep(50);
+        }
+        Assertions.assertFalse(server.process.isAlive());
+        Assertions.assertNull(pool.acquire(KEY));
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+        Path rootDir = Files.createDirectory(tempDir.resolve("language-server-root"));
+        Files.writeString(Files.createDirectory(rootDir.resolve(".metadata")).resolve("log"), "log");
+        LanguageServerPool pool = new LanguageServerPool(2, 300, rootDir);
+        Assertions.assertEquals(rootDir.toUri().toString(), pool.getRootUri());
+
+        FakeServer idle = new FakeServer();
+        FakeServer inUse = new FakeServer();
+        pool.release(idle.pooledServer);
+        pool.shutdown();
+
+        Assertions.assertFalse(idle.process.isAlive());
+        Assertions.assertTrue(idle.connection.stopped);
+        Assertions.assertFalse(Files.exists(rootDir));
+
+        // a server released after the shutdown isn't kept
+        pool.release(inUse.pooledServer);
+        Assertions.assertFalse(inUse.process.isAlive());
+        Assertions.assertNull(pool.acquire(KEY));
+    }
+
+    @Test
+    public void testCustomizationOfSeveralLibrariesInOneJvm() throws Exception {
+        // the server started by the customization of an earlier library
+        LanguageServerPool pool = createPool(1, 300);
+        FakeServer server = new FakeServer();
+        pool.release(server.pooledServer);
+
+        String libraryA = customize(pool, "library-a");
+        String libraryB = customize(pool, "library-b");
+
+        // each library only switches the workspace folder of the same server, which is kept for the next library
+        Assertions.assertEquals(List.of("workspace/didChangeWorkspaceFolders added " + libraryA,
+            "workspace/didChangeWorkspaceFolders removed " + libraryA,
+            "workspace/didChangeWorkspaceFolders added " + libraryB,
+            "workspace/didChangeWorkspaceFolders removed " + libraryB), server.connection.notifications);
+        Assertions.assertEquals(2, server.connection.healthChecks);
+        Assertions.assertTrue(server.process.isAlive());
+        Assertions.assertSame(server.pooledServer, pool.acquire(KEY));
+
+        pool.shutdown();
+    }
+
+    private String customize(LanguageServerPool pool, String library) throws Exception {
+        Path workspaceDir = Files.createDirectory(tempDir.resolve(library));
+        Editor editor = new Editor(Collections.singletonMap("pom.xml", "<project/>"), workspaceDir);
+        try (EclipseLanguageClient languageClient
+            = new EclipseLanguageClient(null, workspaceDir.toString(), editor, LOGGER, pool)) {
+            languageClient.initialize();
+        }
+        Assertions.assertTrue(Files.exists(workspaceDir.resolve("pom.xml")));
+        return workspaceDir.toFile().toURI().toString();
+    }
+
+    private LanguageServerPool createPool(int maxIdleServers, long idleTimeoutInSeconds) {
+        try {
+            return new LanguageServerPool(maxIdleServers, idleTimeoutInSeconds,
+                Files.createTempDirectory(tempDir, "language-server-root"));
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static final class FakeServer {
+        private final FakeProcess process = new FakeProcess();
+        private final FakeConnection connection = new FakeConnection();
+        private final LanguageServerPool.PooledServer pooledServer
+            = new LanguageServerPool.PooledServer(KEY, new EclipseLanguageServerFacade(process), connection);
+    }
+
+    private static final class FakeProcess extends Process {
+        private volatile boolean alive = true;
+
+        @Override
+        public OutputStream getOutputStream() {
+            return new ByteArrayOutputStream();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public int waitFor() {
+            return 0;
+        }
+
+        @Override
+        public int exitValue() {
+            return 0;
+        }
+
+        @Override
+        public void destroy() {
+            alive = false;
+        }
+
+        @Override
+        public Process destroyForcibly() {
+            alive = false;
+            return this;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return alive;
+        }
+    }
+
+    private static final class FakeConnection extends Connection {
+        private volatile boolean healthy = true;
+        private volatile int healthChecks;
+        private volatile boolean stopped;
+        private final List<String> notifications = Collections.synchronizedList(new ArrayList<>());
+
+        private FakeConnection() {
+            super(new ByteArrayOutputStream(), new ByteArrayInputStream(new byte[0]));
+        }
+
+        @Override
+        public String requestWithSerializedObject(String method, String serializedObject) {
+            Assertions.assertEquals("workspace/symbol", method);
+            healthChecks++;
+            if (!healthy) {
+                throw new IllegalStateException("The server doesn't respond.");
+            }
+            return "[]";
+        }
+
+        @Override
+        public void notifyWithSerializedObject(String methodName, String serializedObject) {
+            if ("workspace/didChangeWorkspaceFolders".equals(methodName)) {
+                boolean added = !serializedObject.contains("\"added\":[]");
+                String uri = serializedObject.replaceAll(".*\"uri\":\"([^\"]*)\".*", "$1");
+                notifications.add(methodName + (added ? " added " : " removed ") + uri);
+            } else {
+                Assertions.assertEquals("exit", methodName);
+            }
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+            super.stop();
+        }
+    }
+}
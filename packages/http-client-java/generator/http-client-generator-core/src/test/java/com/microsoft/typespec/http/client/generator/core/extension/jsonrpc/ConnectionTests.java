@@ -0,0 +1,129 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionTests {
+    @Test
+    public void testNotificationsDoNotBlockOnOutput() throws InterruptedException {
+        CountDownLatch unblock = new CountDownLatch(1);
+        BlockingOutputStream output = new BlockingOutputStream(unblock);
+        Connection connection = new Connection(output, new ByteArrayInputStream(new byte[0]));
+
+        // The output is blocked, yet sending returns.
+        for (int i = 0; i < 100; i++) {
+            connection.notify("Message", "session", "line " + i);
+        }
+        Assertions.assertEquals(0, output.size());
+
+        unblock.countDown();
+        connection.flush();
+
+        String written = output.toString(StandardCharsets.UTF_8);
+        int previous = -1;
+        for (int i = 0; i < 100; i++) {
+            int index = written.indexOf("\"line " + i + "\"");
+            Assertions.assertTrue(index > previous, "Messages are written in order.");
+            previous = index;
+        }
+        Assertions.assertTrue(written.startsWith("Content-Length: "));
+    }
+
+    @Test
+    public void testConcurrentNotificationsAreNotInterleaved() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Connection connection = new Connection(output, new ByteArrayInputStream(new byte[0]));
+
+        // Same as the template rendering pool, which logs through the connection.
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            pool.submit(() -> IntStream.range(0, 2000)
+                .parallel()
+                .forEach(i -> connection.notify("Message", "session", "line " + i + " " + "x".repeat(i % 97))))
+                .get();
+        } finally {
+            pool.shutdown();
+        }
+        connection.flush();
+
+        byte[] written = output.toByteArray();
+        Set<String> lines = new HashSet<>();
+        int position = 0;
+        while (position < written.length) {
+            int headerEnd = indexOf(written, "\r\n\r\n", position);
+            String header = new String(written, position, headerEnd - position, StandardCharsets.US_ASCII);
+            Assertions.assertTrue(header.startsWith("Content-Length: "), header);
+            int length = Integer.parseInt(header.substring("Content-Length: ".length()));
+
+            String message = new String(written, headerEnd + 4, length, StandardCharsets.UTF_8);
+            Assertions.assertTrue(message.startsWith("{\"jsonrpc\":\"2.0\",\"method\":\"Message\""), message);
+            Assertions.assertTrue(message.endsWith("]}"), message);
+            int lineStart = message.indexOf("\"line ") + 1;
+            lines.add(message.substring(lineStart, message.indexOf(' ', lineStart + "line ".length())));
+            position = headerEnd + 4 + length;
+        }
+        Assertions.assertEquals(2000, lines.size());
+    }
+
+    private static int indexOf(byte[] bytes, String text, int from) {
+        byte[] target = text.getBytes(StandardCharsets.US_ASCII);
+        for (int i = from; i <= bytes.length - target.length; i++) {
+            int j = 0;
+            while (j < target.length && bytes[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("'" + text + "' not found after " + from);
+    }
+
+    @Test
+    public void testFlushReportsWriteError() {
+        Connection connection = new Connection(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        }, new ByteArrayInputStream(new byte[0]));
+
+        connection.notify("Message", "session", "text");
+        Assertions.assertThrows(RuntimeException.class, connection::flush);
+        Assertions.assertThrows(RuntimeException.class, () -> connection.notify("Message", "session", "text"));
+    }
+
+    private static final class BlockingOutputStream extends ByteArrayOutputStream {
+        private final CountDownLatch unblock;
+
+        private BlockingOutputStream(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            try {
+                if (!unblock.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Output not unblocked.");
+                }
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            super.write(b, off, len);
+        }
+    }
+}
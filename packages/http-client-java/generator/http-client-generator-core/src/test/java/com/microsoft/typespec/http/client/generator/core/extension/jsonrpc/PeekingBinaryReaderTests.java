@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.jsonrpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PeekingBinaryReaderTests {
+    @Test
+    public void testReadJsonValue() throws IOException {
+        String first = "{\"method\":\"a}\\\"{[\",\n\"params\":[1,{\"x\":\"é€\"}]}";
+        String second = "[\"b\",{}]";
+        PeekingBinaryReader reader = new PeekingBinaryReader(stream(first + "\r\n" + second + "\nContent-Length: 2"));
+
+        Assertions.assertEquals('{', reader.peekByte());
+        Assertions.assertEquals(first, reader.readJsonValue());
+        Assertions.assertEquals('[', reader.peekByte());
+        Assertions.assertEquals(second, reader.readJsonValue());
+        Assertions.assertEquals("Content-Length: 2", reader.readAsciiLine());
+        Assertions.assertEquals(-1, reader.peekByte());
+    }
+
+    @Test
+    public void testReadJsonValueByteByByte() throws IOException {
+        StringBuilder json = new StringBuilder("{\"values\":[");
+        for (int i = 0; i < 100_000; i++) {
+            json.append("{\"name\":\"välue ").append(i).append(" }\"},");
+        }
+        json.append("null]}");
+
+        PeekingBinaryReader reader = new PeekingBinaryReader(new OneByteInputStream(stream(json.toString())));
+        Assertions.assertEquals(json.toString(), reader.readJsonValue());
+    }
+
+    @Test
+    public void testReadJsonValueIncomplete() {
+        PeekingBinaryReader reader = new PeekingBinaryReader(stream("{\"a\":[1,2}"));
+        Assertions.assertThrows(EOFException.class, reader::readJsonValue);
+    }
+
+    @Test
+    public void testReadString() throws IOException {
+        String content = "{\"a\":\"é\"}";
+        int length = content.getBytes(StandardCharsets.UTF_8).length;
+        PeekingBinaryReader reader = new PeekingBinaryReader(
+            new OneByteInputStream(stream("Content-Length: " + length + "\r\n\r\n" + content + content)));
+
+        Assertions.assertEquals("Content-Length: " + length, reader.readAsciiLine());
+        Assertions.assertEquals("", reader.readAsciiLine());
+        Assertions.assertEquals(content, reader.readString(length));
+        Assertions.assertEquals(content, reader.readString(length));
+        Assertions.assertThrows(EOFException.class, () -> reader.readString(1));
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class OneByteInputStream extends InputStream {
+        private final InputStream input;
+
+        private OneByteInputStream(InputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return input.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return input.read(b, off, Math.min(len, 1));
+        }
+    }
+}
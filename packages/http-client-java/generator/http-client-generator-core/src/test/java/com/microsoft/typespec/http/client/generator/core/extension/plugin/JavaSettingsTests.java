@@ -0,0 +1,40 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaSettingsTests {
+    @AfterEach
+    public void clearSettings() {
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testCodeFormatter() {
+        new MockUnitJavagen();
+        JavaSettings.clear();
+        Assertions.assertEquals(JavaSettings.CodeFormatterMode.IN_PROCESS,
+            JavaSettings.getInstance().getCodeFormatter());
+
+        new MockUnitJavagen(Map.of("code-formatter", "spotless"));
+        JavaSettings.clear();
+        Assertions.assertEquals(JavaSettings.CodeFormatterMode.SPOTLESS,
+            JavaSettings.getInstance().getCodeFormatter());
+    }
+
+    @Test
+    public void testUnknownCodeFormatter() {
+        new MockUnitJavagen(Map.of("code-formatter", "spotles"));
+        JavaSettings.clear();
+
+        IllegalArgumentException exception
+            = Assertions.assertThrows(IllegalArgumentException.class, JavaSettings::getInstance);
+        Assertions.assertTrue(exception.getMessage().contains("'in-process' and 'spotless'"), exception.getMessage());
+    }
+}
@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.extension.plugin;
+
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.jsonrpc.Connection;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NewPluginTests {
+    @Test
+    public void testPrefetchSettings() {
+        MockConnection connection = new MockConnection(Map.of("", "{\"namespace\":\"com.azure.app\",\"azure-arm\":true,"
+            + "\"license-header\":null,\"input-file\":[\"a.json\",\"b.json\"],\"modelerfour\":{\"flatten-models\":true}}"));
+        MockPlugin plugin = new MockPlugin(connection);
+
+        Assertions.assertTrue(plugin.prefetchSettings());
+        Assertions.assertEquals(1, connection.requests);
+
+        Assertions.assertEquals("com.azure.app", plugin.getStringValue("namespace"));
+        Assertions.assertTrue(plugin.getBooleanValue("azure-arm", false));
+        Assertions.assertNull(plugin.getStringValue("license-header"));
+        Assertions.assertEquals("default", plugin.getStringValue("flavor", "default"));
+        Assertions.assertEquals(List.of("a.json", "b.json"),
+            plugin.getValueWithJsonReader("input-file", reader -> reader.readArray(JsonReader::getString)));
+        Assertions.assertEquals(Map.of("flatten-models", true),
+            plugin.getValueWithJsonReader("modelerfour", reader -> reader.readMap(JsonReader::readUntyped)));
+
+        Assertions.assertTrue(plugin.getSettingsJson().contains("\"modelerfour\":{\"flatten-models\":true}"));
+
+        Assertions.assertEquals(1, connection.requests);
+        Assertions.assertEquals(6, plugin.getSettingsSnapshotLookups());
+    }
+
+    @Test
+    public void testPrefetchSettingsNestedKey() {
+        MockConnection connection = new MockConnection(Map.of("", "{\"pipeline\":{\"modelerfour\":{\"flatten\":null},"
+            + "\"fluentgen\":{\"naming\":{\"override\":{\"Sku\":\"SKU\"},\"enabled\":true}}},"
+            + "\"a.b\":{\"c\":\"dotted\"}}"));
+        MockPlugin plugin = new MockPlugin(connection);
+
+        Assertions.assertTrue(plugin.prefetchSettings());
+        Assertions.assertEquals(Map.of("Sku", "SKU"),
+            plugin.getValueWithJsonReader("pipeline.fluentgen.naming.override",
+                reader -> reader.readMap(JsonReader::getString)));
+        Assertions.assertTrue(plugin.getBooleanValue("pipeline.fluentgen.naming.enabled", false));
+        Assertions.assertNull(plugin.getStringValue("pipeline.modelerfour.flatten"));
+        Assertions.assertNull(plugin.getStringValue("pipeline.fluentgen.missing"));
+        Assertions.assertEquals("dotted", plugin.getStringValue("a.b.c"));
+
+        Assertions.assertEquals(1, connection.requests);
+    }
+
+    @Test
+    public void testPrefetchSettingsNotSupported() {
+        MockConnection connection = new MockConnection(Map.of("namespace", "com.azure.app"));
+        MockPlugin plugin = new MockPlugin(connection);
+
+        Assertions.assertFalse(plugin.prefetchSettings());
+        Assertions.assertNull(plugin.getSettingsJson());
+        Assertions.assertEquals("com.azure.app", plugin.getStringValue("namespace"));
+        Assertions.assertEquals(3, connection.requests);
+        Assertions.assertEquals(0, plugin.getSettingsSnapshotLookups());
+    }
+
+    private static final class MockConnection extends Connection {
+        private final Map<String, String> values;
+        private int requests;
+
+        private MockConnection(Map<String, String> values) {
+            super(new ByteArrayOutputStream(), new ByteArrayInputStream(new byte[0]));
+            this.values = values;
+        }
+
+        @Override
+        public String request(String methodName, Object... values) {
+            Assertions.assertEquals("GetValue", methodName);
+            requests++;
+            return this.values.get((String) values[1]);
+        }
+    }
+
+    private static final class MockPlugin extends NewPlugin {
+        private MockPlugin(Connection connection) {
+            super(connection, "java", "session");
+        }
+
+        @Override
+        public boolean processInternal() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.model.javamodel;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JavaFileContentsTests {
+    @Test
+    public void testPreciseImports() {
+        JavaFileContents contents = new JavaFileContents(true);
+        contents.declarePackage("com.azure.app");
+        contents.line();
+        contents.declareImport(Arrays.asList("java.util.Map", "java.util.List", "java.lang.String"));
+        contents.declareImport("com.azure.core.annotation.Generated", "com.azure.app.models.Unused",
+            "java.io.IOException", "static java.util.Objects.requireNonNull");
+        contents.line("/**");
+        contents.line(" * @throws IOException never.");
+        contents.line(" */");
+        contents.line("@Generated");
+        contents.line("public final class Foo {");
+        contents.line("    private final List<String> values = requireNonNull(null, \"Map\");");
+        contents.line("    private final Object unused = values.Unused; // Map");
+        contents.line("}");
+
+        String expected = String.join("\n", "package com.azure.app;", "",
+            "import com.azure.core.annotation.Generated;", "import java.io.IOException;", "import java.util.List;",
+            "import static java.util.Objects.requireNonNull;", "", "/**", " * @throws IOException never.", " */",
+            "@Generated", "public final class Foo {",
+            "    private final List<String> values = requireNonNull(null, \"Map\");",
+            "    private final Object unused = values.Unused; // Map", "}");
+
+        Assertions.assertEquals(expected, contents.toString());
+    }
+
+    @Test
+    public void testImportsWithoutPreciseImports() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.declareImport("java.util.Map", "java.util.List");
+        contents.line("class Foo {}");
+
+        Assertions.assertEquals(String.join("\n", "import java.util.List;", "import java.util.Map;", "",
+            "class Foo {}"), contents.toString());
+    }
+
+    @Test
+    public void testIndentationAndComments() {
+        JavaFileContents contents = new JavaFileContents();
+        contents.block("class Foo", block -> {
+            block.javadocComment("Gets the value.");
+            block.line("int a;");
+            block.line();
+        });
+        contents.indent(() -> contents.lineComment("note"));
+        contents.text("trail");
+        Assertions.assertFalse(contents.contains("trail"));
+        contents.line("ing");
+
+        Assertions.assertEquals(String.join("\n", "class Foo {", "    /**", "     * Gets the value.", "     */",
+            "    int a;", "", "}", "    // note", "trailing"), contents.toString());
+        Assertions.assertTrue(contents.contains("int a;"));
+        Assertions.assertTrue(contents.contains("}"));
+        Assertions.assertTrue(contents.contains("trailing"));
+        Assertions.assertFalse(contents.contains("unknown"));
+        Assertions.assertFalse(contents.contains("}\n"));
+    }
+}
@@ -6,6 +6,7 @@ package com.microsoft.typespec.http.client.generator.core.partialupdate.util;
 
 import static com.github.javaparser.StaticJavaParser.parse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -686,4 +687,75 @@ public class PartialUpdateHandlerTest {
         Assertions.assertTrue(lines.contains("// @formatter:off"));
         Assertions.assertTrue(lines.contains("// @formatter:on"));
     }
+
+    @Test
+    public void testIsPartialUpdateNeeded() throws Exception {
+        String existingFileContent = Files.readString(Paths.get(
+            getClass().getClassLoader().getResource("partialupdate/StringOperationWithAddedMemberClient.java").toURI()));
+        String generatedFileContent = Files.readString(Paths
+            .get(getClass().getClassLoader().getResource("partialupdate/StringOperationGeneratedClient.java").toURI()));
+
+        assertTrue(
+            PartialUpdateHandler.isPartialUpdateNeeded("Client.java", generatedFileContent, existingFileContent));
+        // identical file
+        assertFalse(
+            PartialUpdateHandler.isPartialUpdateNeeded("Client.java", generatedFileContent, generatedFileContent));
+        // generated file without @Generated is not in scope of partial update
+        String generatedFileWithoutAnnotation = generatedFileContent.replace("@Generated", "");
+        assertFalse(PartialUpdateHandler.isPartialUpdateNeeded("Client.java", generatedFileWithoutAnnotation,
+            existingFileContent));
+        // package-info.java is always merged
+        assertTrue(PartialUpdateHandler.isPartialUpdateNeeded("package-info.java", "package com.azure;",
+            "/** doc */ package com.azure;"));
+    }
+
+    @Test
+    public void testValidateSkippedFile() throws Exception {
+        String generatedFileContent = Files.readString(Paths.get(getClass().getClassLoader()
+            .getResource("partialupdate/StringOperationWithDuplicateMethodGeneratedClient.java")
+            .toURI()));
+
+        // identical file isn't merged, but still validated
+        assertFalse(
+            PartialUpdateHandler.isPartialUpdateNeeded("Client.java", generatedFileContent, generatedFileContent));
+        Exception exception = assertThrows(RuntimeException.class,
+            () -> PartialUpdateHandler.validateGeneratedFile(generatedFileContent));
+        assertTrue(exception.getMessage().contains("Found duplicate methods in the generated file."));
+
+        // generated file without @Generated isn't merged, but still validated
+        String generatedFileWithoutAnnotation = generatedFileContent.replace("@Generated", "");
+        assertFalse(PartialUpdateHandler.isPartialUpdateNeeded("Client.java", generatedFileWithoutAnnotation, ""));
+        assertThrows(RuntimeException.class,
+            () -> PartialUpdateHandler.validateGeneratedFile(generatedFileWithoutAnnotation));
+
+        PartialUpdateHandler.validateGeneratedFile("package com.azure;");
+    }
+
+    @Test
+    public void testClassOrInterfaceFileWithOnlyGeneratedMembers() {
+        String existingFileContent = String.join("\n", "package com.azure;", "",
+            "import com.azure.core.annotation.Generated;", "import java.util.List;", "",
+            "public final class Client {", "    @Generated", "    public List<String> b() {", "        return null;",
+            "    }", "", "    @Generated", "    public void a() {", "    }", "}", "");
+        String generatedFileContent = String.join("\n", "package com.azure;", "",
+            "import com.azure.core.annotation.Generated;", "", "public final class Client {", "    @Generated",
+            "    public void a() {", "    }", "", "    @Generated", "    public void b() {", "    }", "",
+            "    @Generated", "    public void c() {", "    }", "}", "");
+
+        String output = PartialUpdateHandler.handlePartialUpdateForFile(generatedFileContent, existingFileContent);
+
+        CompilationUnit compilationUnit = parse(output);
+        // imports of the existing file are kept
+        assertTrue(compilationUnit.getImports().stream().anyMatch(i -> i.getNameAsString().equals("java.util.List")));
+        // members are in the order of the existing file, then the new generated members
+        assertEquals(List.of("b", "a", "c"),
+            compilationUnit.getTypes()
+                .get(0)
+                .getMethods()
+                .stream()
+                .map(m -> m.getNameAsString())
+                .collect(Collectors.toList()));
+        // the generated members replace the existing ones
+        assertEquals("void", compilationUnit.getTypes().get(0).getMethodsByName("b").get(0).getTypeAsString());
+    }
 }
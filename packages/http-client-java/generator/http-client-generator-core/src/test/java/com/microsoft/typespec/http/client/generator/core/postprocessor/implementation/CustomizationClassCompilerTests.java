@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import com.microsoft.typespec.http.client.generator.core.customization.Customization;
+import java.nio.file.Path;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CustomizationClassCompilerTests {
+    private static final String CUSTOMIZATION = String.join("\n",
+        "import com.microsoft.typespec.http.client.generator.core.customization.Customization;",
+        "import com.microsoft.typespec.http.client.generator.core.customization.LibraryCustomization;",
+        "import org.slf4j.Logger;", "", "public class MyCustomization extends Customization {",
+        "    @Override", "    public void customize(LibraryCustomization customization, Logger logger) {",
+        "        Runnable runnable = new Runnable() {", "            @Override",
+        "            public void run() {", "            }", "        };", "        runnable.run();", "    }", "}");
+
+    @Test
+    public void testCompileAndCache(@TempDir Path directory) throws Exception {
+        CustomizationClassCompiler compiler
+            = new CustomizationClassCompiler(ToolProvider.getSystemJavaCompiler(), directory, "v1");
+
+        Class<? extends Customization> customizationClass = compiler.loadClass("MyCustomization", CUSTOMIZATION);
+        Assertions.assertTrue(Customization.class.isAssignableFrom(customizationClass));
+        Assertions.assertNotNull(customizationClass.getConstructor().newInstance());
+        Assertions.assertEquals(0, compiler.getHits());
+        Assertions.assertEquals(1, compiler.getMisses());
+
+        // a new run loads the classes from the cache, including the anonymous class
+        CustomizationClassCompiler nextRun
+            = new CustomizationClassCompiler(ToolProvider.getSystemJavaCompiler(), directory, "v1");
+        customizationClass = nextRun.loadClass("MyCustomization", CUSTOMIZATION);
+        Assertions.assertEquals(1, nextRun.getHits());
+        Assertions.assertNotNull(Class.forName("MyCustomization$1", false, customizationClass.getClassLoader()));
+
+        // a different generator version compiles again
+        CustomizationClassCompiler otherVersion
+            = new CustomizationClassCompiler(ToolProvider.getSystemJavaCompiler(), directory, "v2");
+        otherVersion.loadClass("MyCustomization", CUSTOMIZATION);
+        Assertions.assertEquals(1, otherVersion.getMisses());
+    }
+
+    @Test
+    public void testCompileError(@TempDir Path directory) {
+        CustomizationClassCompiler compiler
+            = new CustomizationClassCompiler(ToolProvider.getSystemJavaCompiler(), directory, "v1");
+
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class,
+            () -> compiler.loadClass("MyCustomization", CUSTOMIZATION.replace("Runnable runnable", "Unknown runnable")));
+        Assertions.assertTrue(exception.getMessage().contains("line 8"), exception.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FormattedCodeCacheTests {
+
+    @Test
+    public void testHitAndMiss(@TempDir Path directory) {
+        FormattedCodeCache cache = new FormattedCodeCache(directory, 1024 * 1024, "v1");
+
+        Assertions.assertNull(cache.get("class A {}"));
+        cache.put("class A {}", "class A {\n}\n");
+        Assertions.assertEquals("class A {\n}\n", cache.get("class A {}"));
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(1, cache.getMisses());
+
+        // a different formatter version doesn't see the entry
+        FormattedCodeCache otherVersion = new FormattedCodeCache(directory, 1024 * 1024, "v2");
+        Assertions.assertNull(otherVersion.get("class A {}"));
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed(@TempDir Path directory) throws IOException {
+        FormattedCodeCache cache = new FormattedCodeCache(directory, 20, "v1");
+
+        cache.put("a", "0123456789");
+        cache.put("b", "0123456789");
+        cache.put("c", "0123456789");
+        // make "a" the least recently used entry
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.forEach(entry -> {
+                try {
+                    Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+                } catch (IOException ex) {
+                    throw new RuntimeException(ex);
+                }
+            });
+        }
+        cache.get("b");
+        cache.get("c");
+
+        Assertions.assertEquals(1, cache.evict());
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertNotNull(cache.get("b"));
+        Assertions.assertNotNull(cache.get("c"));
+    }
+}
@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.postprocessor.implementation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class JavaFormatterTests {
+    private static JavaFormatter formatter;
+
+    @BeforeAll
+    public static void setup() throws IOException {
+        try (InputStream profile = Files.newInputStream(Paths.get("../eclipse-format-azure-sdk-for-java.xml"))) {
+            formatter = new JavaFormatter(JavaFormatter.loadProfile(profile));
+        }
+    }
+
+    @Test
+    public void testFormat() {
+        String content = String.join("\n", "package com.azure.app;", "", "import java.util.Map;",
+            "import java.util.List;", "import java.lang.String;", "import com.azure.app.models.Unused;",
+            "import com.azure.core.annotation.Generated;", "import com.azure.app.SamePackage;",
+            "import java.io.IOException;", "import static java.util.Objects.requireNonNull;", "",
+            "public final class Foo {", "  @Generated", "  private List<String> values;", "",
+            "  /**", "   * Gets the values.", "   * @throws IOException never.", "   */",
+            "  public List<String>   getValues( ) throws RuntimeException {",
+            "return requireNonNull(values);", "  }", "}", "");
+
+        String expected = String.join("\n", "package com.azure.app;", "",
+            "import static java.util.Objects.requireNonNull;", "", "import com.azure.core.annotation.Generated;",
+            "import java.io.IOException;", "import java.util.List;", "", "public final class Foo {",
+            "    @Generated", "    private List<String> values;", "", "    /**", "     * Gets the values.",
+            "     * ", "     * @throws IOException never.", "     */",
+            "    public List<String> getValues() throws RuntimeException {", "        return requireNonNull(values);",
+            "    }", "}", "");
+
+        Assertions.assertEquals(expected, formatter.format("Foo.java", content));
+    }
+
+    @Test
+    public void testFormatWithoutImports() {
+        String content = String.join("\n", "package com.azure.app;", "", "import java.lang.String;", "",
+            "public final class Foo {", "}", "");
+
+        String expected = String.join("\n", "package com.azure.app;", "", "public final class Foo {", "}", "");
+
+        Assertions.assertEquals(expected, formatter.format("Foo.java", content));
+    }
+
+    @Test
+    public void testFormatWithPreciseImports() {
+        String content = String.join("\n", "package com.azure.app;", "", "import java.util.List;",
+            "import com.azure.core.annotation.Generated;", "import static java.util.Objects.requireNonNull;", "",
+            "@Generated", "public final class Foo {", "  private List<String> values = requireNonNull(null);", "}",
+            "");
+
+        String expected = String.join("\n", "package com.azure.app;", "",
+            "import static java.util.Objects.requireNonNull;", "", "import com.azure.core.annotation.Generated;",
+            "import java.util.List;", "", "@Generated", "public final class Foo {",
+            "    private List<String> values = requireNonNull(null);", "}", "");
+
+        Assertions.assertEquals(expected, formatter.format("Foo.java", content, true));
+        Assertions.assertEquals(expected, formatter.format("Foo.java", content, false));
+    }
+
+    @Test
+    public void testFormatWithPreciseImportsFallsBackForUnusedImport() {
+        String content = String.join("\n", "package com.azure.app;", "", "import java.util.Map;",
+            "import java.util.List;", "", "public final class Foo {", "  private List<String> values;", "}", "");
+
+        String expected = String.join("\n", "package com.azure.app;", "", "import java.util.List;", "",
+            "public final class Foo {", "    private List<String> values;", "}", "");
+
+        Assertions.assertEquals(expected, formatter.format("Foo.java", content, true));
+    }
+}
@@ -0,0 +1,107 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.preprocessor;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Language;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Languages;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schemas;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CodeModelSnapshotCacheTests {
+
+    @Test
+    public void testHitAndMiss(@TempDir Path directory) {
+        CodeModelSnapshotCache cache = new CodeModelSnapshotCache(directory, 16, "input1");
+        Assertions.assertNull(cache.get());
+
+        Assertions.assertTrue(cache.put(createCodeModel()));
+        CodeModel codeModel = cache.get();
+        Assertions.assertNotNull(codeModel);
+
+        // references between the objects of the code model are kept
+        ObjectSchema node = codeModel.getSchemas().getObjects().get(0);
+        Assertions.assertEquals("Node", node.getLanguage().getJava().getName());
+        Property next = node.getProperties().get(0);
+        Assertions.assertSame(node, next.getSchema());
+        Assertions.assertSame(node, next.getParentSchema());
+
+        // a different input doesn't see the snapshot
+        Assertions.assertNull(new CodeModelSnapshotCache(directory, 16, "input2").get());
+    }
+
+    @Test
+    public void testKeyOfSettings(@TempDir Path directory) {
+        System.setProperty("codegen.java.codemodel.cache.directory", directory.toString());
+        try {
+            String settings = "{\"namespace\":\"com.azure.app\",\"modelerfour\":{\"flatten-models\":true}}";
+            Assertions.assertTrue(CodeModelSnapshotCache.fromEnvironment("input", settings).put(createCodeModel()));
+            Assertions.assertNotNull(CodeModelSnapshotCache.fromEnvironment("input", settings).get());
+
+            // a setting in a JSON object, which isn't a simple setting, is part of the key
+            Assertions.assertNull(CodeModelSnapshotCache
+                .fromEnvironment("input", settings.replace("\"flatten-models\":true", "\"flatten-models\":false"))
+                .get());
+
+            // no cache without the settings
+            Assertions.assertNull(CodeModelSnapshotCache.fromEnvironment("input", null));
+        } finally {
+            System.clearProperty("codegen.java.codemodel.cache.directory");
+        }
+    }
+
+    @Test
+    public void testCorruptSnapshotIsMiss(@TempDir Path directory) throws IOException {
+        Files.writeString(directory.resolve("input1.bin"), "not a snapshot");
+        Assertions.assertNull(new CodeModelSnapshotCache(directory, 16, "input1").get());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed(@TempDir Path directory) throws IOException {
+        CodeModel codeModel = createCodeModel();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(new CodeModelSnapshotCache(directory, 2, "input" + i).put(codeModel));
+        }
+
+        try (Stream<Path> entries = Files.list(directory)) {
+            Assertions.assertEquals(2, entries.count());
+        }
+    }
+
+    private static CodeModel createCodeModel() {
+        ObjectSchema node = new ObjectSchema();
+        node.setLanguage(createLanguages("Node"));
+
+        Property next = new Property();
+        next.setLanguage(createLanguages("next"));
+        next.setSerializedName("next");
+        next.setSchema(node);
+        next.setParentSchema(node);
+        node.setProperties(List.of(next));
+
+        Schemas schemas = new Schemas();
+        schemas.setObjects(List.of(node));
+        CodeModel codeModel = new CodeModel();
+        codeModel.setSchemas(schemas);
+        return codeModel;
+    }
+
+    private static Languages createLanguages(String name) {
+        Language language = new Language();
+        language.setName(name);
+        Languages languages = new Languages();
+        languages.setJava(language);
+        languages.setDefault(language);
+        return languages;
+    }
+}
@@ -0,0 +1,269 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.core.util.BinaryData;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.TestCompiler;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConvenienceMethodTemplateBaseTests {
+
+    private static final ClassType WIDGET
+        = new ClassType.Builder().packageName("com.azure.mock.models").name("Widget").build();
+
+    private ClientModel widgetModel;
+
+    @BeforeEach
+    public void addModel() {
+        ClientModelProperty name = new ClientModelProperty.Builder().name("name")
+            .serializedName("name")
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .build();
+        widgetModel = new ClientModel.Builder().packageName(WIDGET.getPackage())
+            .name(WIDGET.getName())
+            .imports(Collections.emptyList())
+            .properties(Collections.singletonList(name))
+            .type(WIDGET)
+            .serializationFormats(new HashSet<>(Collections.singletonList("json")))
+            .build();
+        ClientModels.getInstance().addModel(widgetModel);
+    }
+
+    @AfterEach
+    public void clear() {
+        ClientModels.getInstance().clear();
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testFromJson() {
+        new MockUnitJavagen(Map.of("stream-style-convenience-serialization", true));
+        JavaSettings.clear();
+
+        Assertions.assertEquals("JsonSerializationHelper.fromJson(data, Widget::fromJson)",
+            ConvenienceMethodTemplateBase.expressionFromJson("data", WIDGET));
+        Assertions.assertEquals(
+            "JsonSerializationHelper.fromJson(data, jsonReader -> jsonReader.readArray(Widget::fromJson))",
+            ConvenienceMethodTemplateBase.expressionFromJson("data", new ListType(WIDGET)));
+        Assertions.assertEquals(
+            "JsonSerializationHelper.fromJson(data, jsonReader -> jsonReader.readMap("
+                + "jsonReader1 -> jsonReader1.readArray(jsonReader2 -> jsonReader2.getString())))",
+            ConvenienceMethodTemplateBase.expressionFromJson("data", new MapType(new ListType(ClassType.STRING))));
+
+        // not supported
+        Assertions.assertNull(ConvenienceMethodTemplateBase.expressionFromJson("data", ClassType.STRING));
+        Assertions.assertNull(
+            ConvenienceMethodTemplateBase.expressionFromJson("data", new ListType(ClassType.DATE_TIME)));
+    }
+
+    @Test
+    public void testToJson() {
+        new MockUnitJavagen(Map.of("stream-style-convenience-serialization", true));
+        JavaSettings.clear();
+
+        Assertions.assertEquals(
+            "JsonSerializationHelper.toJson(body, (jsonWriter, jsonValue) -> jsonWriter.writeJson(jsonValue))",
+            ConvenienceMethodTemplateBase.expressionToJson("body", WIDGET));
+        Assertions.assertEquals(
+            "JsonSerializationHelper.toJson(body, (jsonWriter, jsonValue) -> jsonWriter.writeMap(jsonValue, "
+                + "(jsonWriter1, jsonValue1) -> jsonWriter1.writeJson(jsonValue1)))",
+            ConvenienceMethodTemplateBase.expressionToJson("body", new MapType(WIDGET)));
+
+        // not supported
+        Assertions.assertNull(
+            ConvenienceMethodTemplateBase.expressionToJson("body", new ListType(ClassType.DATE_TIME)));
+    }
+
+    @Test
+    public void testDisabled() {
+        new MockUnitJavagen(Map.of("stream-style-convenience-serialization", false));
+        JavaSettings.clear();
+
+        Assertions.assertNull(ConvenienceMethodTemplateBase.expressionFromJson("data", new ListType(WIDGET)));
+        Assertions.assertNull(ConvenienceMethodTemplateBase.expressionToJson("body", WIDGET));
+    }
+
+    @Test
+    public void testCompile(@TempDir Path directory) throws Exception {
+        new MockUnitJavagen(Map.of("stream-style-convenience-serialization", true));
+        JavaSettings.clear();
+
+        // the expressions of each type, in a method which deserializes the JSON and serializes the value back, with
+        // the imports of the convenience methods
+        List<IType> types = Arrays.asList(WIDGET, new ListType(WIDGET), new MapType(WIDGET),
+            new MapType(new ListType(ClassType.STRING)), new ListType(new MapType(ClassType.INTEGER)));
+        List<String> lines = new ArrayList<>(Arrays.asList("package com.azure.mock;", "",
+            "import com.azure.core.util.BinaryData;", "import com.azure.json.JsonReader;",
+            "import com.azure.mock.implementation.JsonSerializationHelper;", "import com.azure.mock.models.Widget;",
+            "import java.util.List;", "import java.util.Map;", "", "public final class RoundTrip {"));
+        for (int i = 0; i < types.size(); i++) {
+            lines.add("    public static BinaryData roundTrip" + i + "(BinaryData data) {");
+            lines.add("        " + types.get(i) + " body = "
+                + ConvenienceMethodTemplateBase.expressionFromJson("data", types.get(i)) + ";");
+            lines.add("        return " + ConvenienceMethodTemplateBase.expressionToJson("body", types.get(i)) + ";");
+            lines.add("    }");
+        }
+        lines.add("}");
+
+        String helper = "package com.azure.mock.implementation;" + System.lineSeparator() + readHelper();
+        ClassLoader classLoader = TestCompiler.compile(directory, Map.of("Widget.java", writeModel(widgetModel),
+            "JsonSerializationHelper.java", helper, "RoundTrip.java", String.join(System.lineSeparator(), lines)));
+
+        // the methods aren't run, as BinaryData needs the Jackson excluded from the azure-core dependency, see
+        // testRoundTrip
+        Class<?> roundTrip = classLoader.loadClass("com.azure.mock.RoundTrip");
+        for (int i = 0; i < types.size(); i++) {
+            Assertions.assertNotNull(roundTrip.getMethod("roundTrip" + i, BinaryData.class));
+        }
+    }
+
+    @Test
+    public void testRoundTrip(@TempDir Path directory) throws Exception {
+        new MockUnitJavagen(Map.of("stream-style-convenience-serialization", true));
+        JavaSettings.clear();
+
+        ClientModel salmonModel = fishModel("Salmon", "Fish", "salmon", Collections.emptyList());
+        ClientModel fishModel = fishModel("Fish", null, "fish", Collections.singletonList(salmonModel));
+        ClientModels.getInstance().addModel(fishModel);
+        ClientModels.getInstance().addModel(salmonModel);
+        EnumType color = new EnumType.Builder().packageName(WIDGET.getPackage())
+            .name("Color")
+            .elementType(ClassType.STRING)
+            .values(Arrays.asList(new ClientEnumValue("RED", "red"), new ClientEnumValue("BLUE", "blue")))
+            .build();
+
+        // each JSON is read with the expression of the type and written back with the expression of the type
+        Map<IType, String> jsonByType = new LinkedHashMap<>();
+        jsonByType.put(WIDGET, "{\"name\":\"a\"}");
+        jsonByType.put(new ListType(WIDGET), "[{\"name\":\"a\"},null,{\"name\":\"b\"}]");
+        jsonByType.put(new MapType(WIDGET), "{\"a\":{\"name\":\"a\"},\"b\":null}");
+        jsonByType.put(new MapType(new ListType(ClassType.STRING)), "{\"a\":[\"x\",null],\"b\":[]}");
+        jsonByType.put(new ListType(new MapType(ClassType.INTEGER)), "[{\"a\":1,\"b\":null},null]");
+        jsonByType.put(new ListType(color), "[\"red\",null,\"blue\"]");
+        jsonByType.put(fishModel.getType(), "{\"length\":2,\"kind\":\"salmon\",\"wild\":true}");
+        jsonByType.put(new ListType(fishModel.getType()),
+            "[{\"length\":2,\"kind\":\"salmon\",\"wild\":false},null,{\"kind\":\"fish\",\"length\":1}]");
+
+        List<IType> types = new ArrayList<>(jsonByType.keySet());
+        List<String> lines = new ArrayList<>(Arrays.asList("package com.azure.mock;", "",
+            "import com.azure.json.JsonReader;", "import com.azure.mock.implementation.BinaryData;",
+            "import com.azure.mock.implementation.JsonSerializationHelper;", "import com.azure.mock.models.Color;",
+            "import com.azure.mock.models.Fish;", "import com.azure.mock.models.Widget;",
+            "import java.nio.charset.StandardCharsets;", "import java.util.List;", "import java.util.Map;", "",
+            "public final class RoundTrip {"));
+        for (int i = 0; i < types.size(); i++) {
+            lines.add("    public static String roundTrip" + i + "(String json) {");
+            lines.add("        BinaryData data = BinaryData.fromBytes(json.getBytes(StandardCharsets.UTF_8));");
+            lines.add("        " + types.get(i) + " body = "
+                + ConvenienceMethodTemplateBase.expressionFromJson("data", types.get(i)) + ";");
+            lines.add("        return " + ConvenienceMethodTemplateBase.expressionToJson("body", types.get(i))
+                + ".toString();");
+            lines.add("    }");
+        }
+        lines.add("}");
+
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("Widget.java", writeModel(widgetModel));
+        sources.put("Fish.java", writeModel(fishModel));
+        sources.put("Salmon.java", writeModel(salmonModel));
+        JavaFile colorFile = new JavaFile("src/main/java/com/azure/mock/models/Color.java");
+        colorFile.declarePackage(color.getPackage());
+        EnumTemplate.getInstance().write(color, colorFile);
+        sources.put("Color.java", colorFile.getContents().toString());
+        // the helper, with BinaryData of azure-core replaced by a stand-in which doesn't need Jackson
+        sources.put("JsonSerializationHelper.java", "package com.azure.mock.implementation;" + System.lineSeparator()
+            + readHelper().replace("import com.azure.core.util.BinaryData;", ""));
+        sources.put("BinaryData.java", String.join(System.lineSeparator(), "package com.azure.mock.implementation;",
+            "", "import java.nio.charset.StandardCharsets;", "", "public final class BinaryData {",
+            "    private final byte[] bytes;", "",
+            "    private BinaryData(byte[] bytes) {", "        this.bytes = bytes;", "    }", "",
+            "    public static BinaryData fromBytes(byte[] bytes) {", "        return new BinaryData(bytes);", "    }",
+            "", "    public byte[] toBytes() {", "        return bytes;", "    }", "", "    @Override",
+            "    public String toString() {", "        return new String(bytes, StandardCharsets.UTF_8);", "    }",
+            "}"));
+        sources.put("RoundTrip.java", String.join(System.lineSeparator(), lines));
+        ClassLoader classLoader = TestCompiler.compile(directory, sources);
+
+        Class<?> roundTrip = classLoader.loadClass("com.azure.mock.RoundTrip");
+        for (int i = 0; i < types.size(); i++) {
+            String json = jsonByType.get(types.get(i));
+            Assertions.assertEquals(json, roundTrip.getMethod("roundTrip" + i, String.class).invoke(null, json),
+                types.get(i).toString());
+        }
+    }
+
+    private static ClientModel fishModel(String name, String parentName, String kind, List<ClientModel> derived) {
+        ClientModelProperty discriminator = new ClientModelProperty.Builder().name("kind")
+            .serializedName("kind")
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .defaultValue(ClassType.STRING.defaultValueExpression(kind))
+            .readOnly(true)
+            .polymorphicDiscriminator(true)
+            .build();
+        // the property of Salmon is lost if the JSON is read as Fish
+        ClassType propertyType = parentName == null ? ClassType.INTEGER : ClassType.BOOLEAN;
+        ClientModelProperty property = new ClientModelProperty.Builder().name(parentName == null ? "length" : "wild")
+            .serializedName(parentName == null ? "length" : "wild")
+            .wireType(propertyType)
+            .clientType(propertyType)
+            .build();
+        return new ClientModel.Builder().packageName(WIDGET.getPackage())
+            .name(name)
+            .imports(Collections.emptyList())
+            .properties(Arrays.asList(discriminator, property))
+            .type(new ClassType.Builder().packageName(WIDGET.getPackage()).name(name).build())
+            .serializationFormats(new HashSet<>(Collections.singletonList("json")))
+            .polymorphic(true)
+            .polymorphicDiscriminator(discriminator)
+            .polymorphicDiscriminatorName("kind")
+            .serializedName(kind)
+            .parentModelName(parentName)
+            .derivedModels(derived)
+            .build();
+    }
+
+    private static String writeModel(ClientModel model) {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/mock/models/" + model.getName() + ".java");
+        javaFile.declarePackage(model.getPackage());
+        StreamSerializationModelTemplate.getInstance().write(model, javaFile);
+        return javaFile.getContents().toString();
+    }
+
+    private static String readHelper() throws IOException {
+        try (InputStream helper = ConvenienceMethodTemplateBaseTests.class.getClassLoader()
+            .getResourceAsStream(ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME + ".java")) {
+            return new String(helper.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.TestCompiler;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EnumTemplateTests {
+
+    @BeforeEach
+    public void setup() {
+        new MockUnitJavagen();
+        JavaSettings.clear();
+    }
+
+    @AfterEach
+    public void clearSettings() {
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testStringEnumSwitch() {
+        EnumType enumType = new EnumType.Builder().packageName("com.azure.mock.models")
+            .name("Color")
+            .elementType(ClassType.STRING)
+            .values(Arrays.asList(new ClientEnumValue("RED", "red"), new ClientEnumValue("BLUE", "blue"),
+                new ClientEnumValue("RED_UPPER_CASE", "RED")))
+            .build();
+
+        String contents = write(enumType);
+
+        Assertions.assertTrue(contents.contains("switch (value) {"), contents);
+        Assertions.assertTrue(contents.contains("case \"red\":"), contents);
+        Assertions.assertTrue(contents.contains("return RED;"), contents);
+        Assertions.assertTrue(contents.contains("case \"blue\":"), contents);
+        // differs in case from "red", left to the case-insensitive loop
+        Assertions.assertFalse(contents.contains("case \"RED\":"), contents);
+        Assertions.assertTrue(contents.contains("item.toString().equalsIgnoreCase(value)"), contents);
+    }
+
+    @Test
+    public void testStringEnumFromString(@TempDir Path directory) throws Exception {
+        EnumType color = new EnumType.Builder().packageName("com.azure.mock.models")
+            .name("Color")
+            .elementType(ClassType.STRING)
+            .values(Arrays.asList(new ClientEnumValue("RED", "red"), new ClientEnumValue("BLUE", "blue"),
+                new ClientEnumValue("RED_UPPER_CASE", "RED")))
+            .build();
+        // the same values, with the colliding values declared in the other order
+        EnumType shade = new EnumType.Builder().packageName("com.azure.mock.models")
+            .name("Shade")
+            .elementType(ClassType.STRING)
+            .values(Arrays.asList(new ClientEnumValue("RED_UPPER_CASE", "RED"), new ClientEnumValue("BLUE", "blue"),
+                new ClientEnumValue("RED", "red")))
+            .build();
+
+        ClassLoader classLoader
+            = TestCompiler.compile(directory, Map.of("Color.java", write(color), "Shade.java", write(shade)));
+        Method colorFromString
+            = classLoader.loadClass("com.azure.mock.models.Color").getMethod("fromString", String.class);
+        Method shadeFromString
+            = classLoader.loadClass("com.azure.mock.models.Shade").getMethod("fromString", String.class);
+
+        // exact values, in the switch
+        Assertions.assertEquals("RED", name(colorFromString, "red"));
+        Assertions.assertEquals("BLUE", name(colorFromString, "blue"));
+        Assertions.assertEquals("RED_UPPER_CASE", name(shadeFromString, "RED"));
+        // values differing in case, left to the case-insensitive loop
+        Assertions.assertEquals("BLUE", name(colorFromString, "Blue"));
+        Assertions.assertEquals("RED", name(colorFromString, "rEd"));
+        // values colliding case-insensitively are left to the loop, which returns the first declared value
+        Assertions.assertEquals("RED", name(colorFromString, "RED"));
+        Assertions.assertEquals("RED_UPPER_CASE", name(shadeFromString, "red"));
+        // unknown values
+        Assertions.assertNull(colorFromString.invoke(null, "green"));
+        Assertions.assertNull(colorFromString.invoke(null, (Object) null));
+    }
+
+    @Test
+    public void testIntEnumNoSwitch() {
+        EnumType enumType = new EnumType.Builder().packageName("com.azure.mock.models")
+            .name("Level")
+            .elementType(PrimitiveType.INT)
+            .values(Arrays.asList(new ClientEnumValue("ONE", "1"), new ClientEnumValue("TWO", "2")))
+            .build();
+
+        String contents = write(enumType);
+
+        Assertions.assertFalse(contents.contains("switch"), contents);
+        Assertions.assertTrue(contents.contains("item.toInt() == value"), contents);
+    }
+
+    private static String name(Method fromString, String value) throws ReflectiveOperationException {
+        return ((Enum<?>) fromString.invoke(null, value)).name();
+    }
+
+    private static String write(EnumType enumType) {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/mock/models/" + enumType.getName() + ".java");
+        javaFile.declarePackage(enumType.getPackage());
+        EnumTemplate.getInstance().write(enumType, javaFile);
+        return javaFile.getContents().toString();
+    }
+}
@@ -0,0 +1,395 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.TestCompiler;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StreamSerializationModelTemplateTests {
+
+    @AfterEach
+    public void clearSettings() {
+        ClientModels.getInstance().clear();
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testFieldNameIfChain() {
+        new MockUnitJavagen(Map.of("stream-style-field-switch", false));
+        JavaSettings.clear();
+
+        String contents = writeModel();
+
+        Assertions.assertTrue(contents.contains("if (\"name\".equals(fieldName)) {"), contents);
+        Assertions.assertTrue(contents.contains("} else if (\"count\".equals(fieldName)) {"), contents);
+        Assertions.assertFalse(contents.contains("switch (fieldName)"), contents);
+    }
+
+    @Test
+    public void testFieldNameSwitch() {
+        new MockUnitJavagen(Map.of("stream-style-field-switch", true));
+        JavaSettings.clear();
+
+        String contents = writeModel();
+
+        Assertions.assertTrue(contents.contains("switch (fieldName) {"), contents);
+        Assertions.assertTrue(contents.contains("case \"name\": {"), contents);
+        Assertions.assertTrue(contents.contains("case \"count\": {"), contents);
+        Assertions.assertTrue(contents.contains("default: {"), contents);
+        Assertions.assertTrue(contents.contains("reader.skipChildren();"), contents);
+        Assertions.assertFalse(contents.contains(".equals(fieldName)"), contents);
+    }
+
+    @Test
+    public void testFieldNameIfChainReaders(@TempDir Path directory) throws Exception {
+        assertFieldNameDispatchReaders(directory, false);
+    }
+
+    @Test
+    public void testFieldNameSwitchReaders(@TempDir Path directory) throws Exception {
+        assertFieldNameDispatchReaders(directory, true);
+    }
+
+    /**
+     * Compiles and runs the fromJson of models with flattened properties, additional properties and fromJsonShared,
+     * with the field name dispatch as an if chain or as a switch.
+     */
+    private static void assertFieldNameDispatchReaders(Path directory, boolean fieldSwitch) throws Exception {
+        new MockUnitJavagen(Map.of("stream-style-field-switch", fieldSwitch, "share-jsonserializable-code", true));
+        JavaSettings.clear();
+
+        List<ClientModel> models = new ArrayList<>(addAnimalModels());
+        models.add(flattenedModel("Gadget", true));
+        // only flattened properties, which the if chain used to follow with an unconditional unknown field fallback
+        models.add(flattenedModel("FlattenedOnly", false));
+        models.forEach(ClientModels.getInstance()::addModel);
+        for (ClientModel model : models) {
+            String contents = writeModel(model);
+            Assertions.assertEquals(fieldSwitch, contents.contains("switch (fieldName) {"), contents);
+        }
+        ClassLoader classLoader = compileModels(directory, models);
+
+        // flattened properties, nested, with unknown fields inside and outside the flattened object
+        assertModel(classLoader, "Gadget",
+            "{\"properties\":{\"color\":\"red\",\"extra\":1,\"size\":{\"count\":3}},\"name\":\"g\",\"other\":true}",
+            "Gadget", Map.of("getName", "g", "getColor", "red", "getCount", 3, "getAdditionalProperties",
+                Map.of("extra", 1, "other", true)));
+        // the flattened field isn't an object, it falls back to the additional properties
+        assertModel(classLoader, "Gadget", "{\"properties\":\"red\",\"name\":\"g\"}", "Gadget",
+            Map.of("getName", "g", "getAdditionalProperties", Map.of("properties", "red")));
+        assertModel(classLoader, "FlattenedOnly", "{\"properties\":{\"color\":\"blue\"},\"other\":1}",
+            "FlattenedOnly", Map.of("getColor", "blue", "getAdditionalProperties", Map.of("other", 1)));
+
+        // the properties of Animal, flattened one included, read by Animal.fromJsonShared before the switch of Dog
+        assertModel(classLoader, "Animal",
+            "{\"kind\":\"dog\",\"name\":\"rex\",\"properties\":{\"age\":4},\"unknown\":[{}],\"breed\":\"lab\"}",
+            "Dog", Map.of("getName", "rex", "getAge", 4, "getBreed", "lab"));
+        assertModel(classLoader, "Dog", "{\"breed\":\"pug\",\"name\":\"max\",\"kind\":\"dog\"}", "Dog",
+            Map.of("getName", "max", "getBreed", "pug", "getKind", "dog"));
+        assertModel(classLoader, "Animal", "{\"name\":\"tom\",\"kind\":\"cat\",\"properties\":{\"age\":2}}",
+            "Animal", Map.of("getName", "tom", "getAge", 2, "getKind", "cat"));
+    }
+
+    @Test
+    public void testPolymorphicBuffered() {
+        new MockUnitJavagen(Map.of("stream-style-discriminator-first", false));
+        JavaSettings.clear();
+
+        String fish = writeModel(addFishModels().get(0));
+
+        Assertions.assertTrue(fish.contains("try (JsonReader readerToUse = reader.bufferObject()) {"), fish);
+        Assertions.assertFalse(fish.contains("fromJsonDiscriminatorFirst"), fish);
+        Assertions.assertFalse(fish.contains("fromJsonAfterDiscriminator"), fish);
+    }
+
+    @Test
+    public void testPolymorphicDiscriminatorFirst() {
+        new MockUnitJavagen(Map.of("stream-style-discriminator-first", true));
+        JavaSettings.clear();
+
+        List<ClientModel> models = addFishModels();
+        String fish = writeModel(models.get(0));
+
+        Assertions.assertTrue(fish.contains("return jsonReader.readObject(reader -> {"), fish);
+        Assertions.assertTrue(fish.contains("return fromJsonDiscriminatorFirst(reader);"), fish);
+        Assertions.assertTrue(fish.contains("static Fish fromJsonDiscriminatorFirst(JsonReader reader)"), fish);
+        Assertions.assertTrue(fish.contains(
+            "if (reader.nextToken() == JsonToken.FIELD_NAME && \"kind\".equals(reader.getFieldName())) {"), fish);
+        Assertions.assertTrue(fish.contains("switch (discriminatorValue) {"), fish);
+        Assertions.assertTrue(fish.contains("case \"salmon\":"), fish);
+        Assertions.assertTrue(fish.contains("return Salmon.fromJsonAfterDiscriminator(reader);"), fish);
+        // different discriminator, dispatched on "sharktype" by Shark
+        Assertions.assertTrue(fish.contains("return Shark.fromJsonDiscriminatorFirst(reader);"), fish);
+        Assertions.assertFalse(fish.contains("Sawshark"), fish);
+        Assertions.assertTrue(fish.contains("return fromJsonAfterDiscriminator(reader);"), fish);
+        // fallback when the discriminator isn't the first field
+        Assertions.assertTrue(fish.contains("try (JsonReader readerToUse = bufferRemainingFields(reader)) {"), fish);
+        Assertions.assertTrue(fish.contains("private static JsonReader bufferRemainingFields(JsonReader reader)"),
+            fish);
+        Assertions.assertTrue(fish.contains("static Fish fromJsonAfterDiscriminator(JsonReader reader)"), fish);
+        Assertions.assertTrue(fish.contains("String fieldName = \"kind\";"), fish);
+        Assertions.assertTrue(fish.contains("while (true) {"), fish);
+
+        String shark = writeModel(models.get(2));
+        Assertions.assertTrue(shark.contains("\"sharktype\".equals(reader.getFieldName())"), shark);
+        Assertions.assertTrue(shark.contains("return Sawshark.fromJsonAfterDiscriminator(reader);"), shark);
+        Assertions.assertTrue(shark.contains("static Shark fromJsonAfterDiscriminator(JsonReader reader)"), shark);
+
+        String sawshark = writeModel(models.get(3));
+        Assertions.assertFalse(sawshark.contains("fromJsonDiscriminatorFirst"), sawshark);
+        Assertions.assertTrue(sawshark.contains("static Sawshark fromJsonAfterDiscriminator(JsonReader reader)"),
+            sawshark);
+        Assertions.assertTrue(sawshark.contains("String fieldName = \"sharktype\";"), sawshark);
+    }
+
+    @Test
+    public void testPolymorphicDiscriminatorFirstReaders(@TempDir Path directory) throws Exception {
+        new MockUnitJavagen(Map.of("stream-style-discriminator-first", true));
+        JavaSettings.clear();
+
+        ClassLoader classLoader = compileModels(directory, addFishModels());
+
+        // discriminator as the first field
+        assertFish(classLoader, "{\"kind\":\"salmon\",\"salmonLength\":2,\"fishLength\":1}", "Salmon",
+            Map.of("getSalmonLength", 2, "getFishLength", 1));
+        // discriminator not the first field, after a nested value
+        assertFish(classLoader,
+            "{\"tags\":{\"a\":[1,{\"b\":\"x\\\"y\"}]},\"fishLength\":1,\"kind\":\"salmon\",\"salmonLength\":2}",
+            "Salmon", Map.of("getSalmonLength", 2, "getFishLength", 1));
+        // no discriminator
+        assertFish(classLoader, "{\"fishLength\":1,\"other\":[null,true]}", "Fish", Map.of("getFishLength", 1));
+        assertFish(classLoader, "{}", "Fish", Map.of());
+        // unknown discriminator value
+        assertFish(classLoader, "{\"kind\":\"tuna\",\"fishLength\":1}", "Fish", Map.of("getFishLength", 1));
+        // the discriminator of Shark after the discriminator of Fish, first, not first, missing
+        assertFish(classLoader, "{\"kind\":\"shark\",\"sharktype\":\"sawshark\",\"sawsharkLength\":3}",
+            "Sawshark", Map.of("getSawsharkLength", 3));
+        assertFish(classLoader,
+            "{\"kind\":\"shark\",\"sharkLength\":4,\"sharktype\":\"sawshark\",\"sawsharkLength\":3}",
+            "Sawshark", Map.of("getSawsharkLength", 3, "getSharkLength", 4));
+        assertFish(classLoader, "{\"kind\":\"shark\",\"sharkLength\":4}", "Shark", Map.of("getSharkLength", 4));
+        // the discriminator of Fish as the only field
+        assertFish(classLoader, "{\"kind\":\"shark\"}", "Shark", Map.of());
+    }
+
+    /**
+     * Adds the models of the hierarchy Fish (kind) - Salmon, Shark (sharktype) - Sawshark.
+     *
+     * @return The Fish, Salmon, Shark and Sawshark models.
+     */
+    private static List<ClientModel> addFishModels() {
+        List<ClientModel> fishChildren = new ArrayList<>();
+        List<ClientModel> sharkChildren = new ArrayList<>();
+        ClientModel fish = polymorphicModel("Fish", null, "kind", "fish", fishChildren);
+        ClientModel salmon = polymorphicModel("Salmon", "Fish", "kind", "salmon", Collections.emptyList());
+        ClientModel shark = polymorphicModel("Shark", "Fish", "sharktype", "shark", sharkChildren);
+        ClientModel sawshark = polymorphicModel("Sawshark", "Shark", "sharktype", "sawshark", Collections.emptyList());
+        fishChildren.add(salmon);
+        fishChildren.add(shark);
+        sharkChildren.add(sawshark);
+
+        List<ClientModel> models = Arrays.asList(fish, salmon, shark, sawshark);
+        models.forEach(ClientModels.getInstance()::addModel);
+        return models;
+    }
+
+    /**
+     * Adds the models of the hierarchy Animal (kind) - Dog. Animal has a flattened property.
+     *
+     * @return The Animal and Dog models.
+     */
+    private static List<ClientModel> addAnimalModels() {
+        ClientModelProperty kind = new ClientModelProperty.Builder().name("kind")
+            .serializedName("kind")
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .defaultValue(ClassType.STRING.defaultValueExpression("animal"))
+            .readOnly(true)
+            .polymorphicDiscriminator(true)
+            .build();
+        ClientModelProperty dogKind = kind.newBuilder().defaultValue(ClassType.STRING.defaultValueExpression("dog"))
+            .build();
+        // the derived models are set first, as they decide whether Animal is a polymorphic parent
+        ClientModel dog = new ClientModel.Builder().packageName("com.azure.mock.models")
+            .name("Dog")
+            .imports(Collections.emptyList())
+            .properties(Arrays.asList(dogKind, property("breed", "breed", ClassType.STRING, false)))
+            .type(new ClassType.Builder().packageName("com.azure.mock.models").name("Dog").build())
+            .serializationFormats(new HashSet<>(Collections.singletonList("json")))
+            .polymorphic(true)
+            .polymorphicDiscriminator(dogKind)
+            .polymorphicDiscriminatorName("kind")
+            .serializedName("dog")
+            .parentModelName("Animal")
+            .derivedModels(Collections.emptyList())
+            .build();
+        ClientModel animal = new ClientModel.Builder().packageName("com.azure.mock.models")
+            .name("Animal")
+            .imports(Collections.emptyList())
+            .properties(Arrays.asList(kind, property("name", "name", ClassType.STRING, false),
+                property("age", "properties.age", ClassType.INTEGER, true)))
+            .type(new ClassType.Builder().packageName("com.azure.mock.models").name("Animal").build())
+            .serializationFormats(new HashSet<>(Collections.singletonList("json")))
+            .polymorphic(true)
+            .polymorphicDiscriminator(kind)
+            .polymorphicDiscriminatorName("kind")
+            .serializedName("animal")
+            .derivedModels(Collections.singletonList(dog))
+            .build();
+        return Arrays.asList(animal, dog);
+    }
+
+    /**
+     * Creates a model with the flattened properties "properties.color" and "properties.size.count", and additional
+     * properties.
+     *
+     * @param name The name of the model.
+     * @param withOtherProperties Whether the model has the property "name" and the nested flattened property.
+     * @return The model.
+     */
+    private static ClientModel flattenedModel(String name, boolean withOtherProperties) {
+        List<ClientModelProperty> properties = new ArrayList<>();
+        if (withOtherProperties) {
+            properties.add(property("name", "name", ClassType.STRING, false));
+        }
+        properties.add(property("color", "properties.color", ClassType.STRING, true));
+        if (withOtherProperties) {
+            properties.add(property("count", "properties.size.count", ClassType.INTEGER, true));
+        }
+        MapType additionalPropertiesType = new MapType(ClassType.OBJECT);
+        properties.add(new ClientModelProperty.Builder().name("additionalProperties")
+            .wireType(additionalPropertiesType)
+            .clientType(additionalPropertiesType)
+            .additionalProperties(true)
+            .build());
+        return new ClientModel.Builder().packageName("com.azure.mock.models")
+            .name(name)
+            .imports(Collections.emptyList())
+            .properties(properties)
+            .type(new ClassType.Builder().packageName("com.azure.mock.models").name(name).build())
+            .serializationFormats(new HashSet<>(Collections.singletonList("json")))
+            .needsFlatten(true)
+            .build();
+    }
+
+    private static ClientModelProperty property(String name, String serializedName, ClassType type,
+        boolean needsFlatten) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(serializedName)
+            .wireType(type)
+            .clientType(type)
+            .needsFlatten(needsFlatten)
+            .build();
+    }
+
+    private static ClientModel polymorphicModel(String name, String parentName, String discriminatorName,
+        String discriminatorValue, List<ClientModel> derivedModels) {
+        ClientModelProperty discriminator = new ClientModelProperty.Builder().name(discriminatorName)
+            .serializedName(discriminatorName)
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .defaultValue(ClassType.STRING.defaultValueExpression(discriminatorValue))
+            .readOnly(true)
+            .polymorphicDiscriminator(true)
+            .build();
+        ClientModelProperty length = new ClientModelProperty.Builder().name(name.toLowerCase() + "Length")
+            .serializedName(name.toLowerCase() + "Length")
+            .wireType(ClassType.INTEGER)
+            .clientType(ClassType.INTEGER)
+            .build();
+        return new ClientModel.Builder().packageName("com.azure.mock.models")
+            .name(name)
+            .imports(Collections.emptyList())
+            .properties(Arrays.asList(discriminator, length))
+            .type(new ClassType.Builder().packageName("com.azure.mock.models").name(name).build())
+            .serializationFormats(new HashSet<>(Collections.singletonList("json")))
+            .polymorphic(true)
+            .polymorphicDiscriminator(discriminator)
+            .polymorphicDiscriminatorName(discriminatorName)
+            .serializedName(discriminatorValue)
+            .parentModelName(parentName)
+            .derivedModels(derivedModels)
+            .build();
+    }
+
+    private static ClassLoader compileModels(Path directory, List<ClientModel> models) throws IOException {
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (ClientModel model : models) {
+            sources.put(model.getName() + ".java", writeModel(model));
+        }
+        return TestCompiler.compile(directory, sources);
+    }
+
+    private static void assertFish(ClassLoader classLoader, String json, String expectedModel,
+        Map<String, Object> expectedValues) throws Exception {
+        assertModel(classLoader, "Fish", json, expectedModel, expectedValues);
+    }
+
+    private static void assertModel(ClassLoader classLoader, String model, String json, String expectedModel,
+        Map<String, Object> expectedValues) throws Exception {
+        Object value;
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            value = classLoader.loadClass("com.azure.mock.models." + model)
+                .getMethod("fromJson", JsonReader.class)
+                .invoke(null, jsonReader);
+        }
+
+        Assertions.assertEquals("com.azure.mock.models." + expectedModel, value.getClass().getName(), json);
+        for (Map.Entry<String, Object> expectedValue : expectedValues.entrySet()) {
+            Assertions.assertEquals(expectedValue.getValue(),
+                value.getClass().getMethod(expectedValue.getKey()).invoke(value), json);
+        }
+    }
+
+    private static String writeModel() {
+        ClientModelProperty name = new ClientModelProperty.Builder().name("name")
+            .serializedName("name")
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .build();
+        ClientModelProperty count = new ClientModelProperty.Builder().name("count")
+            .serializedName("count")
+            .wireType(ClassType.INTEGER)
+            .clientType(ClassType.INTEGER)
+            .build();
+        ClientModel model = new ClientModel.Builder().packageName("com.azure.mock.models")
+            .name("Widget")
+            .imports(Collections.emptyList())
+            .properties(Arrays.asList(name, count))
+            .type(new ClassType.Builder().packageName("com.azure.mock.models").name("Widget").build())
+            .serializationFormats(new HashSet<>(Collections.singletonList("json")))
+            .build();
+
+        return writeModel(model);
+    }
+
+    private static String writeModel(ClientModel model) {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/mock/models/" + model.getName() + ".java");
+        javaFile.declarePackage(model.getPackage());
+        StreamSerializationModelTemplate.getInstance().write(model, javaFile);
+        return javaFile.getContents().toString();
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GenerationReportTests {
+    @TempDir
+    public Path tempDir;
+
+    @AfterEach
+    public void cleanup() {
+        GenerationReport.getInstance().clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReport() throws IOException {
+        GenerationReport report = GenerationReport.getInstance();
+        report.clear();
+
+        try (GenerationReport.Timer ignored = report.startPhase("map")) {
+            allocate();
+        }
+        try (GenerationReport.Timer ignored = report.startPhase("render")) {
+            for (int i = 0; i < 3; i++) {
+                try (GenerationReport.Timer ignored2 = report.startTemplate("ModelTemplate", "Model" + i + ".java")) {
+                    allocate();
+                }
+            }
+            try (GenerationReport.Timer ignored2 = report.startTemplate("EnumTemplate", "Color.java")) {
+                allocate();
+            }
+        }
+        try (GenerationReport.Timer ignored = report.startPhase("map")) {
+            allocate();
+        }
+
+        Path reportFile = tempDir.resolve("target/generation-report.json");
+        report.write(reportFile, 2);
+
+        Map<String, Object> json;
+        try (JsonReader jsonReader = JsonProviders.createReader(Files.readAllBytes(reportFile))) {
+            json = (Map<String, Object>) jsonReader.readUntyped();
+        }
+
+        List<Map<String, Object>> phases = (List<Map<String, Object>>) json.get("phases");
+        Assertions.assertEquals(2, phases.size());
+        Assertions.assertEquals("map", phases.get(0).get("name"));
+        Assertions.assertEquals(2, ((Number) phases.get(0).get("count")).intValue());
+        Assertions.assertEquals("render", phases.get(1).get("name"));
+
+        List<Map<String, Object>> templates = (List<Map<String, Object>>) json.get("slowestTemplates");
+        Assertions.assertEquals(2, templates.size());
+        Map<String, Object> modelTemplate = templates.stream()
+            .filter(template -> "ModelTemplate".equals(template.get("name")))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertEquals(3, ((Number) modelTemplate.get("count")).intValue());
+
+        Assertions.assertEquals(2, ((List<Object>) json.get("slowestFiles")).size());
+        long peakHeapBytes = ((Number) json.get("peakHeapBytes")).longValue();
+        Assertions.assertTrue(peakHeapBytes > 0);
+        // the pools peak at different times, so the sum of their peaks is at least the sampled peak
+        Assertions.assertTrue(((Number) json.get("heapPoolPeaksSumBytes")).longValue() >= peakHeapBytes);
+
+        if ((Boolean) json.get("allocationSupported")) {
+            Assertions.assertTrue(((Number) phases.get(0).get("allocatedBytes")).longValue() > 0);
+        }
+
+        report.clear();
+        Assertions.assertTrue(report.toJson(10).contains("\"phases\":[]"));
+        Assertions.assertTrue(report.toJson(10).contains("\"peakHeapBytes\":0"));
+    }
+
+    private static void allocate() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i);
+        }
+        Assertions.assertFalse(builder.toString().isEmpty());
+    }
+}
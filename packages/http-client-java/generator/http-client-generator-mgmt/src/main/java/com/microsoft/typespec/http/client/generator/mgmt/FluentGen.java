@@ -31,6 +31,7 @@ import com.microsoft.typespec.http.client.generator.core.postprocessor.Postproce
 import com.microsoft.typespec.http.client.generator.core.template.Templates;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.ExampleParser;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapper;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapperFactory;
@@ -50,6 +51,7 @@ import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -87,6 +89,7 @@ public class FluentGen extends Javagen {
     @Override
     public boolean processInternal() {
         this.clear();
+        GenerationReport.getInstance().clear();
 
         try {
             JavaSettings settings = JavaSettings.getInstance();
@@ -96,30 +99,39 @@ public class FluentGen extends Javagen {
             CodeModel codeModel = new FluentNamer(this, connection, pluginName, sessionId).processCodeModel();
 
             // Map code model to client model
-            Client client = this.handleMap(codeModel);
+            Client client;
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("map")) {
+                client = this.handleMap(codeModel);
+            }
+
+            FluentJavaPackage javaPackage;
+            List<JavaFile> javaFiles;
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("render")) {
+                // Write to templates
+                javaPackage = this.handleTemplate(client);
 
-            // Write to templates
-            FluentJavaPackage javaPackage = this.handleTemplate(client);
+                // Fluent Lite
+                this.handleFluentLite(codeModel, client, javaPackage);
 
-            // Fluent Lite
-            this.handleFluentLite(codeModel, client, javaPackage);
+                javaFiles = javaPackage.getJavaFiles();
+            }
 
             // Print to files
             logger.info("Write Java");
-            Postprocessor.writeToFiles(
-                javaPackage.getJavaFiles()
-                    .stream()
-                    .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())),
-                this, logger);
-
-            logger.info("Write Xml");
-            for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
-                writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null);
-            }
-            logger.info("Write Text");
-            for (TextFile textFile : javaPackage.getTextFiles()) {
-                writeFile(textFile.getFilePath(), textFile.getContents(), null);
+            Postprocessor.writeToFiles(javaFiles, this, logger);
+
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("write")) {
+                logger.info("Write Xml");
+                for (XmlFile xmlFile : javaPackage.getXmlFiles()) {
+                    writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null);
+                }
+                logger.info("Write Text");
+                for (TextFile textFile : javaPackage.getTextFiles()) {
+                    writeFile(textFile.getFilePath(), textFile.getContents(), null);
+                }
             }
+            logger.debug("Generation report: {}",
+                GenerationReport.getInstance().toJson(GenerationReport.DEFAULT_TOP_N));
             return true;
         } catch (Exception e) {
             logger.error("Failed to successfully run fluentgen plugin " + e, e);
@@ -14,6 +14,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.Plugin
 import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import com.microsoft.typespec.http.client.generator.mgmt.namer.FluentNamerFactory;
 import com.microsoft.typespec.http.client.generator.mgmt.transformer.FluentTransformer;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentJavaSettings;
@@ -54,24 +55,33 @@ public class FluentNamer extends Preprocessor {
 
         try {
 
-            Path codeModelFolder;
-            try {
-                codeModelFolder = FileUtils.createTempDirectory("code-model" + UUID.randomUUID());
-                logger.info("Created temp directory for code model: {}", codeModelFolder);
-            } catch (IOException ex) {
-                logger.error("Failed to create temp directory for code model.", ex);
-                throw new RuntimeException("Failed to create temp directory for code model.", ex);
+            Path codeModelFolder = null;
+            if (isCodeModelDumpEnabled()) {
+                try {
+                    codeModelFolder = FileUtils.createTempDirectory("code-model" + UUID.randomUUID());
+                    logger.info("Created temp directory for code model: {}", codeModelFolder);
+                } catch (IOException ex) {
+                    logger.error("Failed to create temp directory for code model.", ex);
+                    throw new RuntimeException("Failed to create temp directory for code model.", ex);
+                }
             }
 
-            CodeModel codeModel = getCodeModelAndWriteToTargetFolder(codeModelFolder);
+            CodeModel codeModel;
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("load")) {
+                codeModel = getCodeModelAndWriteToTargetFolder(codeModelFolder);
+            }
             // Do necessary transformation
-            codeModel = transform(codeModel);
+            try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("transform")) {
+                codeModel = transform(codeModel);
+            }
             // Write to local file (for debugging)
-            Yaml newYaml = createYaml();
-            String output = newYaml.dump(codeModel);
+            if (codeModelFolder != null) {
+                Yaml newYaml = createYaml();
+                String output = newYaml.dump(codeModel);
 
-            // Output updated code model
-            Files.writeString(codeModelFolder.resolve("code-model-fluentnamer-no-tags.yaml"), output);
+                // Output updated code model
+                Files.writeString(codeModelFolder.resolve("code-model-fluentnamer-no-tags.yaml"), output);
+            }
 
             return codeModel;
         } catch (Exception e) {
@@ -89,7 +99,9 @@ public class FluentNamer extends Preprocessor {
         // Read input file
         String file = readFile(files.get(0));
         // Write the input code model file to a local code model file to help debugging
-        Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
+        if (codeModelFolder != null) {
+            Files.writeString(codeModelFolder.resolve("code-model.yaml"), file);
+        }
         // Deserialize the input code model string to CodeModel object
         return loadCodeModel(file);
     }
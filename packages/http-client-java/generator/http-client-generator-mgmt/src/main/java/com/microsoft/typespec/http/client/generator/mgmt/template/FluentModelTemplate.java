@@ -24,7 +24,7 @@ public class FluentModelTemplate extends ModelTemplate {
 
     private static final FluentModelTemplate INSTANCE = new FluentModelTemplate();
 
-    private static ModelNamer modelNamer;
+    private static final ModelNamer MODEL_NAMER = new ModelNamer();
 
     protected FluentModelTemplate() {
     }
@@ -74,10 +74,7 @@ public class FluentModelTemplate extends ModelTemplate {
         if (FluentType.MANAGEMENT_ERROR.getName().equals(model.getParentModelName())) {
             // subclass of ManagementError
 
-            if (modelNamer == null) {
-                modelNamer = new ModelNamer();
-            }
-            return modelNamer.modelPropertyGetterName(property);
+            return MODEL_NAMER.modelPropertyGetterName(property);
 
             // disabled for now, as e.g.
             // https://github.com/Azure/azure-rest-api-specs/blob/8fa9b5051129dd4808c9be1f5b753af226b044db/specification/iothub/resource-manager/Microsoft.Devices/stable/2023-06-30/iothub.json#L298-L303
@@ -42,9 +42,11 @@ import com.azure.core.util.FluxUtil;
 import com.azure.core.util.UrlBuilder;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -695,8 +697,7 @@ public final class BasicClientImpl {
         return FluxUtil
             .withContext(context -> service.list(this.getEndpoint(), this.getServiceVersion().getVersion(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "value", "nextLink"));
     }
 
     /**
@@ -825,8 +826,7 @@ public final class BasicClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listSync(this.getEndpoint(), this.getServiceVersion().getVersion(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "value", "nextLink");
     }
 
     /**
@@ -1142,8 +1142,7 @@ public final class BasicClientImpl {
         final String accept = "application/json";
         return FluxUtil
             .withContext(context -> service.listNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "value", "nextLink"));
     }
 
     /**
@@ -1182,26 +1181,32 @@ public final class BasicClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "value", "nextLink");
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private PagedResponse<BinaryData> readPage(Response<BinaryData> res, String itemName, String nextLinkName) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader reader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (reader.nextToken() == JsonToken.START_OBJECT) {
+                while (reader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = reader.getFieldName();
+                    reader.nextToken();
+                    if (itemName.equals(fieldName) && reader.currentToken() == JsonToken.START_ARRAY) {
+                        values = reader.readArray(itemReader -> itemReader.isStartArrayOrObject()
+                            ? BinaryData.fromString(itemReader.readChildren())
+                            : BinaryData.fromObject(itemReader.readUntyped()));
+                    } else if (fieldName.equals(nextLinkName) && reader.currentToken() == JsonToken.STRING) {
+                        nextLink = reader.getString();
+                    } else {
+                        reader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink, null);
     }
 }
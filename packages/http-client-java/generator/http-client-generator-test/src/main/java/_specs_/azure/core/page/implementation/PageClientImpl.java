@@ -37,9 +37,11 @@ import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonToken;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -322,8 +324,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithPage(this.getEndpoint(), this.getServiceVersion().getVersion(),
                 accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "value", "nextLink"));
     }
 
     /**
@@ -396,8 +397,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithPageSync(this.getEndpoint(), this.getServiceVersion().getVersion(),
             accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "value", "nextLink");
     }
 
     /**
@@ -491,8 +491,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithParameters(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "value", "nextLink"));
     }
 
     /**
@@ -604,8 +603,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithParametersSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, bodyInput, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "value", "nextLink");
     }
 
     /**
@@ -698,8 +696,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModel(this.getEndpoint(),
                 this.getServiceVersion().getVersion(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "items", "nextLink"));
     }
 
     /**
@@ -772,8 +769,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelSync(this.getEndpoint(),
             this.getServiceVersion().getVersion(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "items", "nextLink");
     }
 
     /**
@@ -849,8 +845,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(
                 context -> service.listWithPageNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "value", "nextLink"));
     }
 
     /**
@@ -887,8 +882,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithPageNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "value", "nextLink");
     }
 
     /**
@@ -926,8 +920,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         return FluxUtil.withContext(
             context -> service.listWithParametersNext(nextLink, this.getEndpoint(), accept, requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "value", "nextLink"));
     }
 
     /**
@@ -964,8 +957,7 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res
             = service.listWithParametersNextSync(nextLink, this.getEndpoint(), accept, requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "value"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "value", "nextLink");
     }
 
     /**
@@ -1004,8 +996,7 @@ public final class PageClientImpl {
         return FluxUtil
             .withContext(context -> service.listWithCustomPageModelNext(nextLink, this.getEndpoint(), accept,
                 requestOptions, context))
-            .map(res -> new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-                getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null));
+            .map(res -> readPage(res, "items", "nextLink"));
     }
 
     /**
@@ -1043,26 +1034,32 @@ public final class PageClientImpl {
         final String accept = "application/json";
         Response<BinaryData> res = service.listWithCustomPageModelNextSync(nextLink, this.getEndpoint(), accept,
             requestOptions, Context.NONE);
-        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(),
-            getValues(res.getValue(), "items"), getNextLink(res.getValue(), "nextLink"), null);
+        return readPage(res, "items", "nextLink");
     }
 
-    private List<BinaryData> getValues(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            List<?> values = (List<?>) obj.get(path);
-            return values.stream().map(BinaryData::fromObject).collect(Collectors.toList());
-        } catch (RuntimeException e) {
-            return null;
-        }
-    }
-
-    private String getNextLink(BinaryData binaryData, String path) {
-        try {
-            Map<?, ?> obj = binaryData.toObject(Map.class);
-            return (String) obj.get(path);
-        } catch (RuntimeException e) {
-            return null;
+    private PagedResponse<BinaryData> readPage(Response<BinaryData> res, String itemName, String nextLinkName) {
+        List<BinaryData> values = null;
+        String nextLink = null;
+        try (JsonReader reader = JsonProviders.createReader(res.getValue().toBytes())) {
+            if (reader.nextToken() == JsonToken.START_OBJECT) {
+                while (reader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = reader.getFieldName();
+                    reader.nextToken();
+                    if (itemName.equals(fieldName) && reader.currentToken() == JsonToken.START_ARRAY) {
+                        values = reader.readArray(itemReader -> itemReader.isStartArrayOrObject()
+                            ? BinaryData.fromString(itemReader.readChildren())
+                            : BinaryData.fromObject(itemReader.readUntyped()));
+                    } else if (fieldName.equals(nextLinkName) && reader.currentToken() == JsonToken.STRING) {
+                        nextLink = reader.getString();
+                    } else {
+                        reader.skipChildren();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            values = null;
+            nextLink = null;
         }
+        return new PagedResponseBase<>(res.getRequest(), res.getStatusCode(), res.getHeaders(), values, nextLink, null);
     }
 }
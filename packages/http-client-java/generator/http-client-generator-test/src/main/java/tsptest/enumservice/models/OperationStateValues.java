@@ -42,6 +42,23 @@ public enum OperationStateValues {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "Running": {
+                return RUNNING;
+            }
+
+            case "Completed": {
+                return COMPLETED;
+            }
+
+            case "Failed": {
+                return FAILED;
+            }
+
+            default: {
+                break;
+            }
+        }
         OperationStateValues[] items = OperationStateValues.values();
         for (OperationStateValues item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
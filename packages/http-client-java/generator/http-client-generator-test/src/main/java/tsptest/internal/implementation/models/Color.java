@@ -42,6 +42,23 @@ public enum Color {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "Red": {
+                return RED;
+            }
+
+            case "Blue": {
+                return BLUE;
+            }
+
+            case "Green": {
+                return GREEN;
+            }
+
+            default: {
+                break;
+            }
+        }
         Color[] items = Color.values();
         for (Color item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -32,6 +32,15 @@ public enum ModelOptionalLiteral {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "optionalLiteral": {
+                return OPTIONAL_LITERAL;
+            }
+
+            default: {
+                break;
+            }
+        }
         ModelOptionalLiteral[] items = ModelOptionalLiteral.values();
         for (ModelOptionalLiteral item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -42,6 +42,23 @@ public enum RunObjectLastErrorCode {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "server_error": {
+                return SERVER_ERROR;
+            }
+
+            case "rate_limit_exceeded": {
+                return RATE_LIMIT_EXCEEDED;
+            }
+
+            case "invalid_prompt": {
+                return INVALID_PROMPT;
+            }
+
+            default: {
+                break;
+            }
+        }
         RunObjectLastErrorCode[] items = RunObjectLastErrorCode.values();
         for (RunObjectLastErrorCode item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
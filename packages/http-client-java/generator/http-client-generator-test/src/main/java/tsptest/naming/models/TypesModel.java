@@ -39,6 +39,19 @@ public enum TypesModel {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "Blob": {
+                return BLOB;
+            }
+
+            case "File": {
+                return FILE;
+            }
+
+            default: {
+                break;
+            }
+        }
         TypesModel[] items = TypesModel.values();
         for (TypesModel item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -42,6 +42,23 @@ public enum ResourceEnumValue {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "a": {
+                return A;
+            }
+
+            case "b": {
+                return B;
+            }
+
+            case "c": {
+                return C;
+            }
+
+            default: {
+                break;
+            }
+        }
         ResourceEnumValue[] items = ResourceEnumValue.values();
         for (ResourceEnumValue item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -62,6 +62,39 @@ public enum DaysOfWeekEnum {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "Monday": {
+                return MONDAY;
+            }
+
+            case "Tuesday": {
+                return TUESDAY;
+            }
+
+            case "Wednesday": {
+                return WEDNESDAY;
+            }
+
+            case "Thursday": {
+                return THURSDAY;
+            }
+
+            case "Friday": {
+                return FRIDAY;
+            }
+
+            case "Saturday": {
+                return SATURDAY;
+            }
+
+            case "Sunday": {
+                return SUNDAY;
+            }
+
+            default: {
+                break;
+            }
+        }
         DaysOfWeekEnum[] items = DaysOfWeekEnum.values();
         for (DaysOfWeekEnum item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
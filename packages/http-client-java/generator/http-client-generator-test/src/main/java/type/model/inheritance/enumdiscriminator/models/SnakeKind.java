@@ -32,6 +32,15 @@ public enum SnakeKind {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "cobra": {
+                return COBRA;
+            }
+
+            default: {
+                break;
+            }
+        }
         SnakeKind[] items = SnakeKind.values();
         for (SnakeKind item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
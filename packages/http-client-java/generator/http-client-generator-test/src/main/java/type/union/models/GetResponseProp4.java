@@ -42,6 +42,23 @@ public enum GetResponseProp4 {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "a": {
+                return A;
+            }
+
+            case "b": {
+                return B;
+            }
+
+            case "c": {
+                return C;
+            }
+
+            default: {
+                break;
+            }
+        }
         GetResponseProp4[] items = GetResponseProp4.values();
         for (GetResponseProp4 item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -37,6 +37,19 @@ public enum EnumV1 {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "enumMemberV1": {
+                return ENUM_MEMBER_V1;
+            }
+
+            case "enumMemberV2": {
+                return ENUM_MEMBER_V2;
+            }
+
+            default: {
+                break;
+            }
+        }
         EnumV1[] items = EnumV1.values();
         for (EnumV1 item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -32,6 +32,15 @@ public enum EnumV2 {
         if (value == null) {
             return null;
         }
+        switch (value) {
+            case "enumMember": {
+                return ENUM_MEMBER;
+            }
+
+            default: {
+                break;
+            }
+        }
         EnumV2[] items = EnumV2.values();
         for (EnumV2 item : items) {
             if (item.toString().equalsIgnoreCase(value)) {
@@ -7,27 +7,28 @@ import com.azure.core.util.Configuration;
 import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonProviders;
 import com.azure.json.JsonReader;
+import com.microsoft.typespec.http.client.generator.core.extension.base.util.JsonUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.AnnotatedPropertyUtils;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModelCustomConstructor;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
-import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
 import com.microsoft.typespec.http.client.generator.core.postprocessor.Postprocessor;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import com.microsoft.typespec.http.client.generator.fluent.TypeSpecFluentPlugin;
 import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,6 +44,7 @@ import org.yaml.snakeyaml.representer.Representer;
 public class Main {
     private static final Logger LOGGER = LoggerFactory.getLogger(Main.class);
     private static final String DEFAULT_OUTPUT_DIR = "http-client-generator-test/tsp-output/";
+    private static final String REPORT_PATH = "target/typespec-java/generation-report.json";
 
     private static Yaml yaml = null;
 
@@ -56,8 +58,13 @@ public class Main {
 
         LOGGER.info("Code model file: {}", inputYamlFileName);
 
+        GenerationReport.getInstance().clear();
+
         // load code-model.yaml
-        CodeModel codeModel = loadCodeModel(inputYamlFileName);
+        CodeModel codeModel;
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("load")) {
+            codeModel = loadCodeModel(inputYamlFileName);
+        }
 
         EmitterOptions emitterOptions = loadEmitterOptions(codeModel);
 
@@ -85,6 +92,7 @@ public class Main {
         } else {
             handleDPG(codeModel, emitterOptions, sdkIntegration, outputDir);
         }
+        writeGenerationReport(outputDir);
         // ensure the process exits as expected
         System.exit(0);
     }
@@ -99,23 +107,27 @@ public class Main {
         Client client = fluentPlugin.processClient(codeModel);
 
         // template
-        FluentJavaPackage javaPackage = fluentPlugin.processTemplates(codeModel, client);
+        FluentJavaPackage javaPackage;
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("render")) {
+            javaPackage = fluentPlugin.processTemplates(codeModel, client);
+        }
 
         // write
 
         // java files
-        Postprocessor.writeToFiles(
-            javaPackage.getJavaFiles()
-                .stream()
-                .collect(Collectors.toMap(JavaFile::getFilePath, file -> file.getContents().toString())),
-            fluentPlugin, fluentPlugin.getLogger());
-
-        // XML include POM
-        javaPackage.getXmlFiles()
-            .forEach(xmlFile -> fluentPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
-        // Others
-        javaPackage.getTextFiles()
-            .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+        Postprocessor.writeToFiles(javaPackage.getJavaFiles(), fluentPlugin, fluentPlugin.getLogger());
+
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("write")) {
+            // XML include POM
+            javaPackage.getXmlFiles()
+                .forEach(
+                    xmlFile -> fluentPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
+            // Others
+            javaPackage.getTextFiles()
+                .forEach(textFile -> fluentPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+
+            fluentPlugin.completeWriteFiles();
+        }
     }
 
     private static void handleDPG(CodeModel codeModel, EmitterOptions emitterOptions, boolean sdkIntegration,
@@ -127,59 +139,72 @@ public class Main {
         Client client = typeSpecPlugin.processClient(codeModel);
 
         // template
-        JavaPackage javaPackage = typeSpecPlugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+        JavaPackage javaPackage;
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("render")) {
+            javaPackage = typeSpecPlugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+        }
 
         LOGGER.info("Count of Java files: {}", javaPackage.getJavaFiles().size());
         LOGGER.info("Count of XML files: {}", javaPackage.getXmlFiles().size());
         LOGGER.info("Count of text files: {}", javaPackage.getTextFiles().size());
 
-        // handle partial update
-        Map<String, String> javaFiles = new ConcurrentHashMap<>();
         JavaSettings settings = JavaSettings.getInstance();
-        javaPackage.getJavaFiles()
-            .parallelStream()
-            .forEach(javaFile -> javaFiles.put(javaFile.getFilePath(), javaFile.getContents().toString()));
 
         // handle customization
         // write output
         // java files
-        new Postprocessor(typeSpecPlugin).postProcess(javaFiles);
-
-        // XML include POM
-        javaPackage.getXmlFiles()
-            .forEach(
-                xmlFile -> typeSpecPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
-        // Others
-        javaPackage.getTextFiles()
-            .forEach(textFile -> typeSpecPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
-        // resources
-        String artifactId = ClientModelUtil.getArtifactId();
-        if (settings.isBranded()) {
-            if (!CoreUtils.isNullOrEmpty(artifactId)) {
-                typeSpecPlugin.writeFile("src/main/resources/" + artifactId + ".properties",
-                    "name=${project.artifactId}\nversion=${project.version}\n", null);
+        new Postprocessor(typeSpecPlugin).postProcess(javaPackage.getJavaFiles());
+
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("write")) {
+            // XML include POM
+            javaPackage.getXmlFiles()
+                .forEach(
+                    xmlFile -> typeSpecPlugin.writeFile(xmlFile.getFilePath(), xmlFile.getContents().toString(), null));
+            // Others
+            javaPackage.getTextFiles()
+                .forEach(textFile -> typeSpecPlugin.writeFile(textFile.getFilePath(), textFile.getContents(), null));
+            // resources
+            String artifactId = ClientModelUtil.getArtifactId();
+            if (settings.isBranded()) {
+                if (!CoreUtils.isNullOrEmpty(artifactId)) {
+                    typeSpecPlugin.writeFile("src/main/resources/" + artifactId + ".properties",
+                        "name=${project.artifactId}\nversion=${project.version}\n", null);
+                }
             }
-        }
 
-        boolean includeApiViewProperties
-            = emitterOptions.includeApiViewProperties() != null && emitterOptions.includeApiViewProperties();
-        if (includeApiViewProperties && !CoreUtils.isNullOrEmpty(typeSpecPlugin.getCrossLanguageDefinitionMap())) {
-            String flavor = emitterOptions.getFlavor() == null ? "azure" : emitterOptions.getFlavor();
-            StringBuilder sb
-                = new StringBuilder("{\n  \"flavor\": \"" + flavor + "\", \n  \"CrossLanguageDefinitionId\": {\n");
-            AtomicBoolean first = new AtomicBoolean(true);
-            typeSpecPlugin.getCrossLanguageDefinitionMap().forEach((key, value) -> {
-                if (first.get()) {
-                    first.set(false);
-                } else {
-                    sb.append(",\n");
-                }
-                sb.append("    \"").append(key).append("\": \"").append(value).append("\"");
-            });
-            sb.append("\n  }\n}\n");
+            boolean includeApiViewProperties
+                = emitterOptions.includeApiViewProperties() != null && emitterOptions.includeApiViewProperties();
+            if (includeApiViewProperties && !CoreUtils.isNullOrEmpty(typeSpecPlugin.getCrossLanguageDefinitionMap())) {
+                String flavor = emitterOptions.getFlavor() == null ? "azure" : emitterOptions.getFlavor();
+                StringBuilder sb
+                    = new StringBuilder("{\n  \"flavor\": \"" + flavor + "\", \n  \"CrossLanguageDefinitionId\": {\n");
+                AtomicBoolean first = new AtomicBoolean(true);
+                typeSpecPlugin.getCrossLanguageDefinitionMap().forEach((key, value) -> {
+                    if (first.get()) {
+                        first.set(false);
+                    } else {
+                        sb.append(",\n");
+                    }
+                    sb.append("    \"").append(key).append("\": \"").append(value).append("\"");
+                });
+                sb.append("\n  }\n}\n");
 
-            typeSpecPlugin.writeFile("src/main/resources/META-INF/" + artifactId + "_apiview_properties.json",
-                sb.toString(), null);
+                typeSpecPlugin.writeFile("src/main/resources/META-INF/" + artifactId + "_apiview_properties.json",
+                    sb.toString(), null);
+            }
+
+            typeSpecPlugin.completeWriteFiles();
+        }
+    }
+
+    private static void writeGenerationReport(String outputDir) {
+        Path reportFile = Paths.get(outputDir, REPORT_PATH);
+        try {
+            GenerationReport.getInstance().write(reportFile, GenerationReport.DEFAULT_TOP_N);
+            LOGGER.info("Generation report: {}", reportFile);
+        } catch (RuntimeException e) {
+            // the report is diagnostic, failing to write it does not fail the generation
+            LOGGER.warn("Failed to write generation report to {}", reportFile, e);
         }
     }
 
@@ -222,11 +247,44 @@ public class Main {
         return options;
     }
 
-    private static CodeModel loadCodeModel(String filename) throws IOException {
-        String file = Files.readString(Paths.get(filename));
+    /**
+     * Loads the code model from a YAML or JSON file.
+     * <p>
+     * A JSON code model is streamed from the file, without reading it into a String first. YAML anchors and aliases
+     * are represented in JSON by "$id" and "$ref", see {@link JsonUtils#readWithReferences}.
+     *
+     * @param filename the code model file
+     * @return the code model
+     * @throws IOException if the file cannot be read
+     */
+    public static CodeModel loadCodeModel(String filename) throws IOException {
+        Path path = Paths.get(filename);
+        if (isJson(path)) {
+            try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path), 64 * 1024);
+                JsonReader jsonReader = JsonProviders.createReader(inputStream)) {
+                return JsonUtils.readWithReferences(jsonReader, CodeModel::fromJson);
+            }
+        }
+
+        String file = Files.readString(path);
         return getYaml().loadAs(file, CodeModel.class);
     }
 
+    private static boolean isJson(Path path) throws IOException {
+        if (path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+            return true;
+        }
+
+        // YAML code model never starts with '{', check the first non-whitespace character.
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            int c = inputStream.read();
+            while (c >= 0 && Character.isWhitespace(c)) {
+                c = inputStream.read();
+            }
+            return c == '{';
+        }
+    }
+
     private static Yaml getYaml() {
         if (yaml == null) {
             Representer representer = new Representer(new DumperOptions());
@@ -20,11 +20,11 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPac
 import com.microsoft.typespec.http.client.generator.core.preprocessor.Preprocessor;
 import com.microsoft.typespec.http.client.generator.core.preprocessor.tranformer.Transformer;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import com.microsoft.typespec.http.client.generator.mapper.TypeSpecMapperFactory;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
-import com.microsoft.typespec.http.client.generator.util.FileUtil;
+import com.microsoft.typespec.http.client.generator.util.IncrementalFileWriter;
 import com.microsoft.typespec.http.client.generator.util.ModelUtil;
-import java.io.File;
 import java.io.OutputStream;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -40,15 +40,21 @@ public class TypeSpecPlugin extends Javagen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecPlugin.class);
 
     private final EmitterOptions emitterOptions;
+    private final IncrementalFileWriter fileWriter;
 
     private final Map<String, String> crossLanguageDefinitionsMap = new TreeMap<>();
 
     public Client processClient(CodeModel codeModel) {
         // transform code model
-        codeModel = new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("transform")) {
+            codeModel = new Transformer().transform(Preprocessor.convertOptionalConstantsToEnum(codeModel));
+        }
 
         // map to client model
-        Client client = Mappers.getClientMapper().map(codeModel);
+        Client client;
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("map")) {
+            client = Mappers.getClientMapper().map(codeModel);
+        }
 
         client.getAsyncClients()
             .forEach(asyncClient -> crossLanguageDefinitionsMap.put(
@@ -164,6 +170,12 @@ public class TypeSpecPlugin extends Javagen {
             }
         }
 
+        // JsonSerializationHelper
+        if (settings.isStreamStyleConvenienceSerialization()) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.JSON_SERIALIZATION_HELPER_CLASS_NAME);
+        }
+
         // OperationLocationPollingStrategy
         if (ClientModelUtil.requireOperationLocationPollingStrategy(codeModel)) {
             javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
@@ -177,8 +189,14 @@ public class TypeSpecPlugin extends Javagen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        File outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
-        LOGGER.info("Write file: {}", outputFile.getAbsolutePath());
+        fileWriter.write(fileName, content);
+    }
+
+    /**
+     * Completes writing the output files. Stale Java files from the previous run are deleted.
+     */
+    public void completeWriteFiles() {
+        fileWriter.complete();
     }
 
     private static final Map<String, Object> SETTINGS_MAP = new HashMap<>();
@@ -232,6 +250,7 @@ public class TypeSpecPlugin extends Javagen {
     public TypeSpecPlugin(EmitterOptions options, boolean sdkIntegration) {
         super(new MockConnection(), "dummy", "dummy");
         this.emitterOptions = options;
+        this.fileWriter = new IncrementalFileWriter(options.getOutputDir(), sdkIntegration);
         SETTINGS_MAP.put("namespace", options.getNamespace());
         if (!CoreUtils.isNullOrEmpty(options.getOutputDir())) {
             SETTINGS_MAP.put("output-folder", options.getOutputDir());
@@ -13,13 +13,13 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.util.GenerationReport;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentGen;
 import com.microsoft.typespec.http.client.generator.mgmt.FluentNamer;
 import com.microsoft.typespec.http.client.generator.mgmt.mapper.FluentMapper;
 import com.microsoft.typespec.http.client.generator.mgmt.model.javamodel.FluentJavaPackage;
 import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
-import com.microsoft.typespec.http.client.generator.util.FileUtil;
-import java.io.File;
+import com.microsoft.typespec.http.client.generator.util.IncrementalFileWriter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,10 +29,12 @@ import org.slf4j.LoggerFactory;
 public class TypeSpecFluentPlugin extends FluentGen {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypeSpecFluentPlugin.class);
     private final EmitterOptions emitterOptions;
+    private final IncrementalFileWriter fileWriter;
 
     public TypeSpecFluentPlugin(EmitterOptions emitterOptions, boolean sdkIntegration) {
         super(new TypeSpecPlugin.MockConnection(), "dummy", "dummy");
         this.emitterOptions = emitterOptions;
+        this.fileWriter = new IncrementalFileWriter(emitterOptions.getOutputDir(), sdkIntegration);
         SETTINGS_MAP.put("namespace", emitterOptions.getNamespace());
         if (!CoreUtils.isNullOrEmpty(emitterOptions.getOutputDir())) {
             SETTINGS_MAP.put("output-folder", emitterOptions.getOutputDir());
@@ -69,8 +71,9 @@ public class TypeSpecFluentPlugin extends FluentGen {
     public Client processClient(CodeModel codeModel) {
 
         // call FluentGen.handleMap
-
-        return handleMap(codeModel);
+        try (GenerationReport.Timer ignored = GenerationReport.getInstance().startPhase("map")) {
+            return handleMap(codeModel);
+        }
     }
 
     public FluentJavaPackage processTemplates(CodeModel codeModel, Client client) {
@@ -81,8 +84,14 @@ public class TypeSpecFluentPlugin extends FluentGen {
 
     @Override
     public void writeFile(String fileName, String content, List<Object> sourceMap) {
-        File outputFile = FileUtil.writeToFile(emitterOptions.getOutputDir(), fileName, content);
-        LOGGER.info("Write file: {}", outputFile.getAbsolutePath());
+        fileWriter.write(fileName, content);
+    }
+
+    /**
+     * Completes writing the output files. Stale Java files from the previous run are deleted.
+     */
+    public void completeWriteFiles() {
+        fileWriter.complete();
     }
 
     @Override
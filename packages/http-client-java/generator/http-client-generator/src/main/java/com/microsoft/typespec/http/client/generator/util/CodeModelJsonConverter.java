@@ -0,0 +1,91 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+/**
+ * Converts a YAML code model to JSON.
+ * <p>
+ * An anchored mapping is written with its anchor as the "$id" field, and an alias to it is written as
+ * {@code {"$ref": "<anchor>"}}.
+ */
+public final class CodeModelJsonConverter {
+    private final Map<Node, String> writtenAnchors = new IdentityHashMap<>();
+
+    private CodeModelJsonConverter() {
+    }
+
+    /**
+     * Converts the YAML code model to JSON.
+     *
+     * @param yamlReader the reader of the YAML code model
+     * @param jsonStream the stream to write the JSON code model to
+     * @throws IOException if the code model cannot be read or written
+     */
+    public static void convert(Reader yamlReader, OutputStream jsonStream) throws IOException {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(50 * 1024 * 1024);
+        loaderOptions.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        loaderOptions.setNestingDepthLimit(Integer.MAX_VALUE);
+        Node root = new Yaml(loaderOptions).compose(yamlReader);
+
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(jsonStream)) {
+            new CodeModelJsonConverter().write(root, jsonWriter);
+        }
+    }
+
+    private void write(Node node, JsonWriter jsonWriter) throws IOException {
+        if (node instanceof MappingNode) {
+            String anchor = writtenAnchors.get(node);
+            if (anchor != null) {
+                jsonWriter.writeStartObject().writeStringField("$ref", anchor).writeEndObject();
+                return;
+            }
+
+            jsonWriter.writeStartObject();
+            if (node.getAnchor() != null) {
+                writtenAnchors.put(node, node.getAnchor());
+                jsonWriter.writeStringField("$id", node.getAnchor());
+            }
+            for (NodeTuple tuple : ((MappingNode) node).getValue()) {
+                jsonWriter.writeFieldName(((ScalarNode) tuple.getKeyNode()).getValue());
+                write(tuple.getValueNode(), jsonWriter);
+            }
+            jsonWriter.writeEndObject();
+        } else if (node instanceof SequenceNode) {
+            jsonWriter.writeStartArray();
+            for (Node item : ((SequenceNode) node).getValue()) {
+                write(item, jsonWriter);
+            }
+            jsonWriter.writeEndArray();
+        } else {
+            ScalarNode scalar = (ScalarNode) node;
+            Tag tag = scalar.getTag();
+            if (Tag.NULL.equals(tag)) {
+                jsonWriter.writeNull();
+            } else if (Tag.BOOL.equals(tag)) {
+                jsonWriter.writeBoolean(Boolean.parseBoolean(scalar.getValue()));
+            } else if (Tag.INT.equals(tag) || Tag.FLOAT.equals(tag)) {
+                jsonWriter.writeRawValue(scalar.getValue());
+            } else {
+                jsonWriter.writeString(scalar.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes generated files to the output directory, skipping files whose content is unchanged on disk.
+ * <p>
+ * Unchanged files keep their last modified time, so downstream builds and IDEs don't process them again. The writer
+ * records the generated files and their content hashes in a manifest. On {@link #complete()}, Java files that were
+ * generated by the previous run but not by this one are deleted, unless they were modified since.
+ * Other files, such as pom.xml or README.md, are never deleted, as they are only generated on the first run.
+ * <p>
+ * Some Java files, such as ReadmeSamples.java, are also only generated by an SDK integration run, which happens when
+ * the output directory doesn't have a project yet. The manifest records whether a file has been generated by a run
+ * without SDK integration. A run without SDK integration keeps the files that have only been generated with SDK
+ * integration, instead of deleting them, as their generator didn't run.
+ */
+public final class IncrementalFileWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalFileWriter.class);
+
+    static final String MANIFEST_PATH = "target/typespec-java/generated-files.txt";
+
+    // Origin of a file generated by a run without SDK integration, so its generator runs in every run.
+    private static final String ORIGIN_ALL = "all";
+    // Origin of a file only generated by runs with SDK integration so far.
+    private static final String ORIGIN_SDK_INTEGRATION = "sdk-integration";
+
+    private final Path outputDir;
+    private final boolean sdkIntegration;
+    private final Map<String, String> generatedFiles = new ConcurrentHashMap<>();
+
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private int deleted;
+
+    /**
+     * Creates a writer for the output directory, for a run with SDK integration, where all generators run.
+     *
+     * @param outputDir output directory, will create if not exist
+     */
+    public IncrementalFileWriter(String outputDir) {
+        this(outputDir, true);
+    }
+
+    /**
+     * Creates a writer for the output directory.
+     *
+     * @param outputDir output directory, will create if not exist
+     * @param sdkIntegration whether the run generates the files of SDK integration
+     */
+    public IncrementalFileWriter(String outputDir, boolean sdkIntegration) {
+        this.outputDir = Paths.get(outputDir).toAbsolutePath();
+        this.sdkIntegration = sdkIntegration;
+    }
+
+    /**
+     * Write given content to the given file under the output directory, unless the file already has the content.
+     *
+     * @param fileName filename, relative to the output directory
+     * @param content content to write to the file
+     * @return the file
+     */
+    public File write(String fileName, String content) {
+        Path outputFile = outputDir.resolve(fileName).normalize();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        generatedFiles.put(getManifestKey(outputFile), hash(bytes));
+
+        try {
+            if (Files.isRegularFile(outputFile) && Files.size(outputFile) == bytes.length
+                && Arrays.equals(Files.readAllBytes(outputFile), bytes)) {
+                skipped.incrementAndGet();
+                LOGGER.debug("Skip unchanged file: {}", outputFile);
+            } else {
+                Files.createDirectories(outputFile.getParent());
+                Files.write(outputFile, bytes);
+                written.incrementAndGet();
+                LOGGER.info("Write file: {}", outputFile);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return outputFile.toFile();
+    }
+
+    /**
+     * Deletes the stale Java files of the previous run, writes the manifest of this run, and logs the number of
+     * written, skipped and deleted files.
+     */
+    public void complete() {
+        Path manifest = outputDir.resolve(MANIFEST_PATH);
+        try {
+            Map<String, ManifestEntry> previousFiles = readManifest(manifest);
+            Map<String, ManifestEntry> currentFiles = new TreeMap<>();
+            generatedFiles.forEach((fileName, fileHash) -> {
+                ManifestEntry previousFile = previousFiles.get(fileName);
+                String origin = (!sdkIntegration || (previousFile != null && ORIGIN_ALL.equals(previousFile.origin)))
+                    ? ORIGIN_ALL
+                    : ORIGIN_SDK_INTEGRATION;
+                currentFiles.put(fileName, new ManifestEntry(fileHash, origin));
+            });
+
+            for (Map.Entry<String, ManifestEntry> previousFile : previousFiles.entrySet()) {
+                String fileName = previousFile.getKey();
+                if (generatedFiles.containsKey(fileName)) {
+                    continue;
+                }
+
+                if (!sdkIntegration && ORIGIN_SDK_INTEGRATION.equals(previousFile.getValue().origin)) {
+                    // The generator of the file didn't run, keep the file for the next run with SDK integration.
+                    currentFiles.put(fileName, previousFile.getValue());
+                } else if (fileName.endsWith(".java")) {
+                    Path staleFile = outputDir.resolve(fileName);
+                    // Only delete the file if it still has the content that was generated.
+                    if (Files.isRegularFile(staleFile)
+                        && previousFile.getValue().hash.equals(hash(Files.readAllBytes(staleFile)))) {
+                        Files.delete(staleFile);
+                        deleted++;
+                        LOGGER.info("Delete stale file: {}", staleFile);
+                    }
+                }
+            }
+
+            StringBuilder content = new StringBuilder();
+            currentFiles.forEach((fileName, entry) -> content.append(entry.hash)
+                .append(' ')
+                .append(entry.origin)
+                .append(' ')
+                .append(fileName)
+                .append('\n'));
+            Files.createDirectories(manifest.getParent());
+            Files.writeString(manifest, content.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        LOGGER.info("Output files: {} written, {} unchanged, {} deleted.", written.get(), skipped.get(), deleted);
+    }
+
+    /**
+     * Gets the number of files written.
+     *
+     * @return the number of files written
+     */
+    public int getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Gets the number of files skipped as unchanged.
+     *
+     * @return the number of files skipped as unchanged
+     */
+    public int getSkippedCount() {
+        return skipped.get();
+    }
+
+    /**
+     * Gets the number of stale files deleted.
+     *
+     * @return the number of stale files deleted
+     */
+    public int getDeletedCount() {
+        return deleted;
+    }
+
+    private String getManifestKey(Path file) {
+        return outputDir.relativize(file).toString().replace('\\', '/');
+    }
+
+    private static Map<String, ManifestEntry> readManifest(Path manifest) throws IOException {
+        Map<String, ManifestEntry> files = new HashMap<>();
+        if (Files.isRegularFile(manifest)) {
+            for (String line : Files.readAllLines(manifest)) {
+                // <hash> <origin> <file name>
+                String[] parts = line.split(" ", 3);
+                if (parts.length == 3) {
+                    files.put(parts[2], new ManifestEntry(parts[0], parts[1]));
+                }
+            }
+        }
+        return files;
+    }
+
+    private static final class ManifestEntry {
+        private final String hash;
+        private final String origin;
+
+        private ManifestEntry(String hash, String origin) {
+            this.hash = hash;
+            this.origin = origin;
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.AnySchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ArraySchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Property;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.StringSchema;
+import com.microsoft.typespec.http.client.generator.util.CodeModelJsonConverter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CodeModelJsonTests {
+    private static final String CODE_MODEL = String.join("\n", "info:", "  title: Sample", "schemas:", "  any:",
+        "    - &ref_0", "      type: any", "      language:", "        default:", "          name: any",
+        "          description: Anything", "  strings:", "    - &ref_1", "      type: string", "      language:",
+        "        default:", "          name: string", "          description: simple string", "  arrays:",
+        "    - &ref_2", "      type: array", "      elementType: &ref_3", "        type: object", "        language:",
+        "          default:", "            name: Node", "            description: A node", "        properties:",
+        "          - schema: *ref_1", "            serializedName: name", "            language:",
+        "              default:", "                name: name", "                description: ''",
+        "          - schema: *ref_0", "            serializedName: value", "            language:",
+        "              default:", "                name: value", "                description: ''",
+        "          - schema: *ref_2", "            serializedName: children", "            language:",
+        "              default:", "                name: children", "                description: ''",
+        "      language:", "        default:", "          name: NodeArray", "          description: ''", "  objects:",
+        "    - *ref_3", "language:", "  default:", "    name: Sample", "    description: ''", "");
+
+    // "type" after "$id", "type" after other fields, without "type", and references to each.
+    private static final String JSON_CODE_MODEL = String.join("", "{\"info\":{\"title\":\"Sample\"},",
+        "\"schemas\":{\"objects\":[{\"$id\":\"ref_0\",\"type\":\"object\",", language("Node"),
+        ",\"properties\":[", property("{\"$id\":\"ref_1\",\"type\":\"string\"," + language("string") + "}"),
+        ",", property("{\"$id\":\"ref_2\"," + language("Leaf") + ",\"type\":\"object\"}"), ",",
+        property("{\"$ref\":\"ref_0\"}"), ",", property("{" + language("any") + ",\"type\":\"any\"}"), "]}],",
+        "\"arrays\":[{\"type\":\"array\",\"elementType\":{\"$ref\":\"ref_2\"},", language("LeafArray"), "}],",
+        "\"streams\":[{\"$id\":\"ref_3\"}],\"unknowns\":[{\"$ref\":\"ref_3\"}]},", language("Sample"), "}");
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testLoadYamlAndJson() throws IOException {
+        Path yamlFile = tempDir.resolve("code-model.yaml");
+        Files.writeString(yamlFile, CODE_MODEL);
+        Path jsonFile = tempDir.resolve("code-model.json");
+        try (OutputStream outputStream = Files.newOutputStream(jsonFile)) {
+            CodeModelJsonConverter.convert(new StringReader(CODE_MODEL), outputStream);
+        }
+        Assertions.assertTrue(Files.readString(jsonFile).contains("\"$ref\""));
+
+        verify(Main.loadCodeModel(yamlFile.toString()));
+        verify(Main.loadCodeModel(jsonFile.toString()));
+    }
+
+    @Test
+    public void testYamlAndJsonRoundTrip() throws IOException, URISyntaxException {
+        Path yamlFile = Paths.get(CodeModelJsonTests.class.getResource("/rendering-code-model.yaml").toURI());
+        Path jsonFile = tempDir.resolve("rendering-code-model.json");
+        try (Reader reader = Files.newBufferedReader(yamlFile);
+            OutputStream outputStream = Files.newOutputStream(jsonFile)) {
+            CodeModelJsonConverter.convert(reader, outputStream);
+        }
+
+        CodeModel yamlCodeModel = Main.loadCodeModel(yamlFile.toString());
+        CodeModel jsonCodeModel = Main.loadCodeModel(jsonFile.toString());
+        Assertions.assertFalse(yamlCodeModel.getSchemas().getObjects().isEmpty());
+        Assertions.assertFalse(yamlCodeModel.getClients().get(0).getOperationGroups().get(0).getOperations().isEmpty());
+        assertSameGraph(yamlCodeModel, jsonCodeModel, "codeModel", new IdentityHashMap<>());
+    }
+
+    @Test
+    public void testLoadJsonSchemaFieldOrders() throws IOException {
+        Path jsonFile = tempDir.resolve("code-model.json");
+        Files.writeString(jsonFile, JSON_CODE_MODEL);
+        CodeModel codeModel = Main.loadCodeModel(jsonFile.toString());
+
+        ObjectSchema node = codeModel.getSchemas().getObjects().get(0);
+        List<Property> properties = node.getProperties();
+        Assertions.assertEquals(4, properties.size());
+        Assertions.assertInstanceOf(StringSchema.class, properties.get(0).getSchema());
+        Assertions.assertEquals("string", properties.get(0).getSchema().getLanguage().getDefault().getName());
+
+        ObjectSchema leaf = Assertions.assertInstanceOf(ObjectSchema.class, properties.get(1).getSchema());
+        Assertions.assertEquals("Leaf", leaf.getLanguage().getDefault().getName());
+        Assertions.assertSame(leaf, codeModel.getSchemas().getArrays().get(0).getElementType());
+
+        Assertions.assertSame(node, properties.get(2).getSchema());
+        Assertions.assertInstanceOf(AnySchema.class, properties.get(3).getSchema());
+        Assertions.assertEquals("any", properties.get(3).getSchema().getLanguage().getDefault().getName());
+
+        Assertions.assertSame(codeModel.getSchemas().getStreams().get(0), codeModel.getSchemas().getUnknowns().get(0));
+    }
+
+    private static String language(String name) {
+        return "\"language\":{\"default\":{\"name\":\"" + name + "\",\"description\":\"\"}}";
+    }
+
+    private static String property(String schema) {
+        return "{\"schema\":" + schema + ",\"serializedName\":\"p\"," + language("p") + "}";
+    }
+
+    private static void verify(CodeModel codeModel) {
+        Assertions.assertEquals("Sample", codeModel.getLanguage().getDefault().getName());
+
+        List<ObjectSchema> objects = codeModel.getSchemas().getObjects();
+        Assertions.assertEquals(1, objects.size());
+        ObjectSchema node = objects.get(0);
+        Assertions.assertEquals("Node", node.getLanguage().getDefault().getName());
+
+        ArraySchema array = codeModel.getSchemas().getArrays().get(0);
+        Assertions.assertSame(node, array.getElementType());
+
+        List<Property> properties = node.getProperties();
+        Assertions.assertEquals(3, properties.size());
+        Assertions.assertSame(codeModel.getSchemas().getStrings().get(0), properties.get(0).getSchema());
+        Assertions.assertInstanceOf(StringSchema.class, properties.get(0).getSchema());
+        Assertions.assertInstanceOf(AnySchema.class, properties.get(1).getSchema());
+        Assertions.assertSame(array, properties.get(2).getSchema());
+    }
+
+    // Compares the values of all fields, and that an object referenced from several places in one code model is
+    // referenced from the same places in the other.
+    private static void assertSameGraph(Object expected, Object actual, String path, Map<Object, Object> visited) {
+        if (expected == null || actual == null) {
+            Assertions.assertSame(expected, actual, path);
+            return;
+        }
+        if (expected instanceof String || expected instanceof Number || expected instanceof Boolean
+            || expected instanceof Enum || expected instanceof Collection && !(expected instanceof List)) {
+            Assertions.assertEquals(expected, actual, path);
+            return;
+        }
+        // the implementations of List and Map may differ
+        if (!(expected instanceof List && actual instanceof List || expected instanceof Map && actual instanceof Map)) {
+            Assertions.assertEquals(expected.getClass(), actual.getClass(), path);
+        }
+        if (visited.containsKey(expected)) {
+            Assertions.assertSame(visited.get(expected), actual, path);
+            return;
+        }
+        visited.put(expected, actual);
+
+        if (expected instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            Assertions.assertEquals(expectedList.size(), actualList.size(), path);
+            for (int i = 0; i < expectedList.size(); i++) {
+                assertSameGraph(expectedList.get(i), actualList.get(i), path + "[" + i + "]", visited);
+            }
+        } else if (expected instanceof Map) {
+            Map<?, ?> expectedMap = (Map<?, ?>) expected;
+            Map<?, ?> actualMap = (Map<?, ?>) actual;
+            Assertions.assertEquals(expectedMap.keySet(), actualMap.keySet(), path);
+            for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+                assertSameGraph(entry.getValue(), actualMap.get(entry.getKey()), path + "." + entry.getKey(), visited);
+            }
+        } else {
+            for (Class<?> clazz = expected.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    try {
+                        assertSameGraph(field.get(expected), field.get(actual), path + "." + field.getName(), visited);
+                    } catch (IllegalAccessException e) {
+                        throw new AssertionError(path + "." + field.getName(), e);
+                    }
+                }
+            }
+        }
+    }
+}
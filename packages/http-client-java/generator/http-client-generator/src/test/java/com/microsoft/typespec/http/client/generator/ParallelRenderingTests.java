@@ -0,0 +1,105 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.ReadValueCallback;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.CodeModel;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Client;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaPackage;
+import com.microsoft.typespec.http.client.generator.model.EmitterOptions;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+// JavaSettings, ClientModels and the YAML loader of Main are shared by the whole test JVM
+@Isolated
+public class ParallelRenderingTests {
+    @TempDir
+    public Path tempDir;
+
+    @AfterEach
+    public void cleanup() {
+        ClientModels.getInstance().clear();
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testParallelRenderingMatchesSerialRendering() throws IOException, URISyntaxException {
+        Assertions.assertEquals(1, renderingPlugin(0).getRenderingThreads(),
+            "parallel rendering is off by default");
+
+        List<JavaFile> serialFiles = render(1);
+        List<JavaFile> parallelFiles = render(4);
+
+        // models, enums, polymorphic models, clients, builder, implementation and package-info
+        Assertions.assertTrue(serialFiles.size() > 10, "rendered " + serialFiles.size() + " Java files");
+        Assertions.assertEquals(paths(serialFiles), paths(parallelFiles));
+        for (int i = 0; i < serialFiles.size(); i++) {
+            Assertions.assertEquals(serialFiles.get(i).getContents().toString(),
+                parallelFiles.get(i).getContents().toString(), serialFiles.get(i).getFilePath());
+        }
+    }
+
+    private List<JavaFile> render(int renderingThreads) throws IOException, URISyntaxException {
+        ClientModels.getInstance().clear();
+        JavaSettings.clear();
+
+        RenderingPlugin plugin = renderingPlugin(renderingThreads);
+        CodeModel codeModel = Main.loadCodeModel(
+            Paths.get(ParallelRenderingTests.class.getResource("/rendering-code-model.yaml").toURI()).toString());
+        Client client = plugin.processClient(codeModel);
+        JavaPackage javaPackage = plugin.processTemplates(codeModel, client, JavaSettings.getInstance());
+        return javaPackage.getJavaFiles();
+    }
+
+    private RenderingPlugin renderingPlugin(int renderingThreads) throws IOException {
+        String options = "{\"namespace\":\"com.rendering\",\"output-dir\":\""
+            + tempDir.toAbsolutePath().toString().replace('\\', '/') + "/\",\"flavor\":\"azure\"}";
+        try (JsonReader jsonReader = JsonProviders.createReader(options)) {
+            RenderingPlugin plugin = new RenderingPlugin(EmitterOptions.fromJson(jsonReader), renderingThreads);
+            // the constructor loads the settings before the rendering threads are set
+            JavaSettings.clear();
+            return plugin;
+        }
+    }
+
+    private static List<String> paths(List<JavaFile> javaFiles) {
+        return javaFiles.stream().map(JavaFile::getFilePath).collect(Collectors.toList());
+    }
+
+    private static final class RenderingPlugin extends TypeSpecPlugin {
+        private final int renderingThreads;
+
+        private RenderingPlugin(EmitterOptions options, int renderingThreads) {
+            super(options, false);
+            this.renderingThreads = renderingThreads;
+        }
+
+        private int getRenderingThreads() {
+            return JavaSettings.getInstance().getRenderingThreads();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getValue(String key, ReadValueCallback<String, T> converter) {
+            if ("rendering-threads".equals(key) && renderingThreads > 0) {
+                return (T) String.valueOf(renderingThreads);
+            }
+            return super.getValue(key, converter);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IncrementalFileWriterTests {
+    @Test
+    public void testSkipUnchangedAndDeleteStale(@TempDir Path outputDir) throws IOException {
+        IncrementalFileWriter writer = new IncrementalFileWriter(outputDir.toString());
+        writer.write("src/main/java/Foo.java", "class Foo {}");
+        writer.write("src/main/java/Bar.java", "class Bar {}");
+        writer.write("src/main/java/Edited.java", "class Edited {}");
+        writer.write("pom.xml", "<project/>");
+        writer.complete();
+        Assertions.assertEquals(4, writer.getWrittenCount());
+
+        Path foo = outputDir.resolve("src/main/java/Foo.java");
+        FileTime fooTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(foo, fooTime);
+        Files.writeString(outputDir.resolve("src/main/java/Edited.java"), "class Edited { int edited; }");
+
+        // Second run, Foo is unchanged, Bar is changed, Edited and pom.xml are no longer generated.
+        writer = new IncrementalFileWriter(outputDir.toString());
+        writer.write("src/main/java/Foo.java", "class Foo {}");
+        writer.write("src/main/java/Bar.java", "class Bar { }");
+        writer.complete();
+
+        Assertions.assertEquals(1, writer.getWrittenCount());
+        Assertions.assertEquals(1, writer.getSkippedCount());
+        Assertions.assertEquals(0, writer.getDeletedCount());
+        Assertions.assertEquals(fooTime, Files.getLastModifiedTime(foo));
+        Assertions.assertEquals("class Bar { }", Files.readString(outputDir.resolve("src/main/java/Bar.java")));
+        // Edited by hand, and not a Java file, so neither is deleted.
+        Assertions.assertTrue(Files.exists(outputDir.resolve("src/main/java/Edited.java")));
+        Assertions.assertTrue(Files.exists(outputDir.resolve("pom.xml")));
+
+        // Third run, Bar is no longer generated and is deleted.
+        writer = new IncrementalFileWriter(outputDir.toString());
+        writer.write("src/main/java/Foo.java", "class Foo {}");
+        writer.complete();
+
+        Assertions.assertEquals(1, writer.getDeletedCount());
+        Assertions.assertFalse(Files.exists(outputDir.resolve("src/main/java/Bar.java")));
+    }
+
+    @Test
+    public void testKeepFilesOfSdkIntegration(@TempDir Path outputDir) throws IOException {
+        Path readmeSamples = outputDir.resolve("src/samples/java/ReadmeSamples.java");
+        Path foo = outputDir.resolve("src/main/java/Foo.java");
+
+        // First run, into an empty directory, with SDK integration.
+        IncrementalFileWriter writer = new IncrementalFileWriter(outputDir.toString(), true);
+        writer.write("src/main/java/Foo.java", "class Foo {}");
+        writer.write("src/main/java/Bar.java", "class Bar {}");
+        writer.write("src/samples/java/ReadmeSamples.java", "class ReadmeSamples {}");
+        writer.complete();
+
+        // Second run, without SDK integration, ReadmeSamples isn't generated, and is kept.
+        writer = new IncrementalFileWriter(outputDir.toString(), false);
+        writer.write("src/main/java/Foo.java", "class Foo {}");
+        writer.write("src/main/java/Bar.java", "class Bar {}");
+        writer.complete();
+
+        Assertions.assertEquals(0, writer.getDeletedCount());
+        Assertions.assertTrue(Files.exists(readmeSamples));
+
+        // Third run, without SDK integration, Bar is no longer generated and is deleted, ReadmeSamples is still kept.
+        writer = new IncrementalFileWriter(outputDir.toString(), false);
+        writer.write("src/main/java/Foo.java", "class Foo {}");
+        writer.complete();
+
+        Assertions.assertEquals(1, writer.getDeletedCount());
+        Assertions.assertFalse(Files.exists(outputDir.resolve("src/main/java/Bar.java")));
+        Assertions.assertTrue(Files.exists(readmeSamples));
+        Assertions.assertTrue(Files.exists(foo));
+
+        // Fourth run, with SDK integration, all generators run, so ReadmeSamples is deleted when not generated.
+        writer = new IncrementalFileWriter(outputDir.toString(), true);
+        writer.write("src/main/java/Foo.java", "class Foo {}");
+        writer.complete();
+
+        Assertions.assertEquals(1, writer.getDeletedCount());
+        Assertions.assertFalse(Files.exists(readmeSamples));
+        Assertions.assertTrue(Files.exists(foo));
+    }
+}